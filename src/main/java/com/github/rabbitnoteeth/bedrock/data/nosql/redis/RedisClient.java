@@ -1,57 +1,260 @@
 package com.github.rabbitnoteeth.bedrock.data.nosql.redis;
 
+import com.github.rabbitnoteeth.bedrock.data.nosql.redis.async.BoundedVirtualThreadExecutor;
+import com.github.rabbitnoteeth.bedrock.data.nosql.redis.async.RedisAsyncCommands;
+import com.github.rabbitnoteeth.bedrock.data.nosql.redis.batch.BatchLoader;
+import com.github.rabbitnoteeth.bedrock.data.nosql.redis.binary.RedisBinaryCommands;
+import com.github.rabbitnoteeth.bedrock.data.nosql.redis.cache.NearCache;
+import com.github.rabbitnoteeth.bedrock.data.nosql.redis.cache.NearCacheStats;
+import com.github.rabbitnoteeth.bedrock.data.nosql.redis.cache.SingleFlightLoader;
+import com.github.rabbitnoteeth.bedrock.data.nosql.redis.codec.Codec;
 import com.github.rabbitnoteeth.bedrock.data.nosql.redis.commands.*;
+import com.github.rabbitnoteeth.bedrock.data.nosql.redis.compression.CompressionStats;
+import com.github.rabbitnoteeth.bedrock.data.nosql.redis.compression.ValueCompressor;
+import com.github.rabbitnoteeth.bedrock.data.nosql.redis.counter.CoalescingCounter;
 import com.github.rabbitnoteeth.bedrock.data.nosql.redis.exception.RedisClientException;
+import com.github.rabbitnoteeth.bedrock.data.nosql.redis.entity.ReadPreference;
+import com.github.rabbitnoteeth.bedrock.data.nosql.redis.executor.AutoPipeliningCommandExecutor;
+import com.github.rabbitnoteeth.bedrock.data.nosql.redis.executor.InstrumentedCommandExecutor;
+import com.github.rabbitnoteeth.bedrock.data.nosql.redis.executor.ReadRoutingCommandExecutor;
+import com.github.rabbitnoteeth.bedrock.data.nosql.redis.executor.SlotRoutingCommandExecutor;
+import com.github.rabbitnoteeth.bedrock.data.nosql.redis.hotkey.HotKeyDetector;
+import com.github.rabbitnoteeth.bedrock.data.nosql.redis.metrics.ClientMetricsSnapshot;
+import com.github.rabbitnoteeth.bedrock.data.nosql.redis.metrics.CommandMetrics;
+import com.github.rabbitnoteeth.bedrock.data.nosql.redis.metrics.PoolSnapshot;
+import com.github.rabbitnoteeth.bedrock.data.nosql.redis.metrics.SlowCommandLog;
+import com.github.rabbitnoteeth.bedrock.data.nosql.redis.metrics.TimedClusterConnectionProvider;
+import com.github.rabbitnoteeth.bedrock.data.nosql.redis.metrics.TimedConnectionProvider;
+import com.github.rabbitnoteeth.bedrock.data.nosql.redis.pipeline.RedisPipeline;
+import com.github.rabbitnoteeth.bedrock.data.nosql.redis.scan.ParallelScanOptions;
+import com.github.rabbitnoteeth.bedrock.data.nosql.redis.scan.ParallelScanner;
+import com.github.rabbitnoteeth.bedrock.data.nosql.redis.scan.ScanProgress;
+import com.github.rabbitnoteeth.bedrock.data.nosql.redis.scan.ScanSource;
+import com.github.rabbitnoteeth.bedrock.data.nosql.redis.script.ScriptCommands;
+import com.github.rabbitnoteeth.bedrock.data.nosql.redis.transaction.RedisTransaction;
+import com.github.rabbitnoteeth.bedrock.data.nosql.redis.transaction.TransactionRunner;
+import com.github.rabbitnoteeth.bedrock.data.nosql.redis.transaction.TransactionStats;
+import com.github.rabbitnoteeth.bedrock.data.nosql.redis.typed.RedisTypedCommands;
 import org.apache.commons.pool2.impl.GenericObjectPoolConfig;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import redis.clients.jedis.AbstractPipeline;
+import redis.clients.jedis.BuilderFactory;
+import redis.clients.jedis.ClusterPipeline;
+import redis.clients.jedis.CommandArguments;
+import redis.clients.jedis.CommandObject;
+import redis.clients.jedis.CommandObjects;
 import redis.clients.jedis.Connection;
-import redis.clients.jedis.JedisPooled;
+import redis.clients.jedis.ConnectionPool;
+import redis.clients.jedis.DefaultJedisClientConfig;
+import redis.clients.jedis.HostAndPort;
+import redis.clients.jedis.JedisClientConfig;
+import redis.clients.jedis.JedisPubSub;
+import redis.clients.jedis.Pipeline;
+import redis.clients.jedis.Protocol;
+import redis.clients.jedis.UnifiedJedis;
+import redis.clients.jedis.exceptions.JedisException;
+import redis.clients.jedis.executors.ClusterCommandExecutor;
+import redis.clients.jedis.executors.CommandExecutor;
+import redis.clients.jedis.executors.DefaultCommandExecutor;
+import redis.clients.jedis.params.ScanParams;
+import redis.clients.jedis.providers.ClusterConnectionProvider;
+import redis.clients.jedis.providers.ConnectionProvider;
+import redis.clients.jedis.providers.PooledConnectionProvider;
+import redis.clients.jedis.resps.ScanResult;
+import redis.clients.jedis.util.Pool;
+import redis.clients.jedis.util.SafeEncoder;
 
-public class RedisClient {
+import java.io.Closeable;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+public class RedisClient implements Closeable {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(RedisClient.class);
+    private static final CommandObjects COMMAND_OBJECTS = new CommandObjects();
+    private static final ScanCommand<String> SCAN = (cursor, params, type) -> type == null
+        ? COMMAND_OBJECTS.scan(cursor, params) : COMMAND_OBJECTS.scan(cursor, params, type);
+    private static final ScanCommand<byte[]> BINARY_SCAN = (cursor, params, type) -> type == null
+        ? COMMAND_OBJECTS.scan(SafeEncoder.encode(cursor), params)
+        : COMMAND_OBJECTS.scan(SafeEncoder.encode(cursor), params, SafeEncoder.encode(type));
     private final String id;
     private final RedisClientConfig config;
-    private final JedisPooled jedis;
+    private final HostAndPort hostAndPort;
+    private final JedisClientConfig clientConfig;
+    private final ConnectionProvider provider;
+    private final CommandMetrics metrics;
+    private final SlowCommandLog slowLog;
+    private final HotKeyDetector hotKeys;
+    private ReadRoutingCommandExecutor readRouter;
+    private final UnifiedJedis jedis;
+    private final ValueCompressor compressor;
+    private final NearCache nearCache;
     private final KeyCommands keyCommands;
     private final StringCommands stringCommands;
     private final ListCommands listCommands;
     private final HashCommands hashCommands;
     private final SetCommands setCommands;
     private final ZSetCommands zSetCommands;
+    private final ScriptCommands scriptCommands;
+    private final TransactionRunner transactionRunner;
+    private final CoalescingCounter counter;
+    private final RedisBinaryCommands binaryCommands;
+    private final SingleFlightLoader singleFlightLoader;
+    private final BatchLoader batchLoader;
+    private final BoundedVirtualThreadExecutor asyncExecutor;
+    private final RedisAsyncCommands asyncCommands;
 
     public RedisClient(String id, RedisClientConfig config) throws RedisClientException {
         this.id = id;
         this.config = config;
+        this.hostAndPort = new HostAndPort(config.getHost(), config.getPort());
+        this.clientConfig = DefaultJedisClientConfig.builder()
+            .timeoutMillis(config.getConnectTimeout())
+            .user(config.getUsername())
+            .password(config.getPassword())
+            .database(config.getDatabase())
+            .build();
+        this.metrics = config.isMetrics() ? new CommandMetrics() : null;
+        this.slowLog = config.isSlowLog()
+            ? new SlowCommandLog(config.getSlowLogThresholdMicros(), config.getSlowLogSampleRate(), config.getSlowLogCapacity())
+            : null;
+        this.hotKeys = config.isHotKeyDetection()
+            ? new HotKeyDetector(config.getHotKeySampleRate(), config.getHotKeyTopK(), config.getHotKeyShareThreshold(),
+            config.getHotKeyDecayIntervalMillis())
+            : null;
+        this.provider = this.initProvider();
         this.jedis = this.init();
-        this.keyCommands = new KeyCommands(this.jedis);
-        this.stringCommands = new StringCommands(this.jedis);
+        this.compressor = config.isCompressionEnabled()
+            ? new ValueCompressor(config.getCompressionThreshold(), config.getCompressionLevel(), config.getCompressionDictionary())
+            : null;
+        this.nearCache = config.isNearCache()
+            ? new NearCache(id, this.hostAndPort, this.clientConfig, config.getNearCacheMaxEntries(), config.getNearCacheMaxBytes(), config.getNearCachePrefixes(),
+            config.isNearCacheHotKeysOnly() ? this.hotKeys::isHot : null)
+            : null;
+        // in cluster mode multi-key commands are always split by slot
+        ArgumentChunker chunker = config.getMultiKeyChunkSize() > 0 || config.isCluster()
+            ? new ArgumentChunker(config.getMultiKeyChunkSize(), config.isCluster(), this::openPipeline)
+            : null;
+        this.keyCommands = new KeyCommands(this.jedis, this.nearCache, chunker);
+        this.stringCommands = new StringCommands(this.jedis, this.compressor, this.nearCache, chunker);
         this.listCommands = new ListCommands(this.jedis);
-        this.hashCommands = new HashCommands(this.jedis);
-        this.setCommands = new SetCommands(this.jedis);
+        this.hashCommands = new HashCommands(this.jedis, this.compressor, this.nearCache);
+        this.setCommands = new SetCommands(this.jedis, chunker);
         this.zSetCommands = new ZSetCommands(this.jedis);
+        this.scriptCommands = new ScriptCommands(this.jedis, this.nearCache);
+        this.transactionRunner = new TransactionRunner(this.provider, this.nearCache, config.getTransactionMaxAttempts(),
+            config.getTransactionBackoffMillis(), config.getTransactionMaxBackoffMillis());
+        this.counter = config.isCoalescingCounter()
+            ? new CoalescingCounter(id, this::openPipeline, config.getCounterFlushIntervalMillis(), config.getCounterFlushThreshold())
+            : null;
+        this.binaryCommands = new RedisBinaryCommands(this.jedis);
+        this.singleFlightLoader = new SingleFlightLoader(this.stringCommands, config.getEarlyRefreshBeta());
+        this.batchLoader = config.isBatchLoading()
+            ? new BatchLoader(id, this.stringCommands, this::openPipeline, this.compressor,
+            config.getBatchLoadingWindowMicros(), config.getBatchLoadingMaxSize())
+            : null;
+        // in auto pipelining mode concurrency is bounded by the shared batches rather than by the pool
+        int asyncConcurrency = config.isAutoPipelining()
+            ? config.getAutoPipeliningConnections() * config.getAutoPipeliningBatchSize()
+            : config.getMaxTotal();
+        this.asyncExecutor = new BoundedVirtualThreadExecutor(id, asyncConcurrency);
+        this.asyncCommands = new RedisAsyncCommands(this.keyCommands, this.stringCommands, this.listCommands,
+            this.hashCommands, this.setCommands, this.zSetCommands, this.asyncExecutor);
     }
 
-    private JedisPooled init() throws RedisClientException {
+    private ConnectionProvider initProvider() throws RedisClientException {
         try {
             LOGGER.info("Start create RedisClient with id [{}]", this.id);
-            GenericObjectPoolConfig<Connection> poolConfig = new GenericObjectPoolConfig<>();
-            poolConfig.setMaxTotal(this.config.getMaxTotal());
-            poolConfig.setMaxIdle(this.config.getMaxIdle());
-            poolConfig.setMinIdle(this.config.getMinIdle());
-            JedisPooled jedis = new JedisPooled(poolConfig, this.config.getHost(), this.config.getPort(), this.config.getConnectTimeout(),
-                this.config.getUsername(), this.config.getPassword(), this.config.getDatabase());
-            if (LOGGER.isDebugEnabled()) {
-                LOGGER.debug("Succeed in creating JedisPooled");
+            GenericObjectPoolConfig<Connection> poolConfig = poolConfig();
+            ConnectionProvider provider;
+            if (this.config.isCluster()) {
+                Set<HostAndPort> nodes = new LinkedHashSet<>();
+                for (String node : this.config.getClusterNodes()) {
+                    nodes.add(HostAndPort.from(node));
+                }
+                provider = this.slowLog == null
+                    ? new ClusterConnectionProvider(nodes, this.clientConfig, poolConfig)
+                    : new TimedClusterConnectionProvider(nodes, this.clientConfig, poolConfig);
+                if (LOGGER.isDebugEnabled()) {
+                    LOGGER.debug("Succeed in creating cluster connection pools");
+                }
+            } else {
+                provider = new PooledConnectionProvider(this.hostAndPort, this.clientConfig, poolConfig);
+                if (LOGGER.isDebugEnabled()) {
+                    LOGGER.debug("Succeed in creating connection pool");
+                }
+            }
+            return provider;
+        } catch (Throwable e) {
+            throw new RedisClientException("Failed to init RedisClient with id [" + this.id + "]", e);
+        }
+    }
+
+    private GenericObjectPoolConfig<Connection> poolConfig() {
+        GenericObjectPoolConfig<Connection> poolConfig = new GenericObjectPoolConfig<>();
+        poolConfig.setMaxTotal(this.config.getMaxTotal());
+        poolConfig.setMaxIdle(this.config.getMaxIdle());
+        poolConfig.setMinIdle(this.config.getMinIdle());
+        return poolConfig;
+    }
+
+    private UnifiedJedis init() throws RedisClientException {
+        try {
+            UnifiedJedis jedis;
+            if (this.config.isCluster()) {
+                int maxAttempts = this.config.getClusterMaxAttempts();
+                CommandExecutor executor = new SlotRoutingCommandExecutor(new ClusterCommandExecutor(
+                    (ClusterConnectionProvider) this.provider, maxAttempts, Duration.ofMillis((long) maxAttempts * this.config.getConnectTimeout())));
+                jedis = new UnifiedJedis(instrumented(executor));
+            } else {
+                CommandExecutor executor = new DefaultCommandExecutor(
+                    this.slowLog == null ? this.provider : new TimedConnectionProvider(this.provider));
+                if (this.config.isAutoPipelining()) {
+                    executor = new AutoPipeliningCommandExecutor(this.id, this.hostAndPort, this.clientConfig, executor,
+                        this.config.getAutoPipeliningConnections(), this.config.getAutoPipeliningBatchSize(),
+                        this.config.getAutoPipeliningFlushIntervalMicros());
+                    if (LOGGER.isDebugEnabled()) {
+                        LOGGER.debug("Succeed in creating auto pipelining executor");
+                    }
+                }
+                if (!this.config.getReplicaNodes().isEmpty()) {
+                    List<HostAndPort> replicas = new ArrayList<>();
+                    for (String replica : this.config.getReplicaNodes()) {
+                        replicas.add(HostAndPort.from(replica));
+                    }
+                    this.readRouter = new ReadRoutingCommandExecutor(this.id, executor, this.hostAndPort, replicas, this.clientConfig,
+                        poolConfig(), this.slowLog != null, this.config.getReadPreference(), this.config.getReplicaProbeIntervalMillis());
+                    executor = this.readRouter;
+                    if (LOGGER.isDebugEnabled()) {
+                        LOGGER.debug("Succeed in creating replica pools");
+                    }
+                }
+                jedis = new UnifiedJedis(instrumented(executor));
             }
             LOGGER.info("Succeed in creating RedisClient with id [{}]", this.id);
             return jedis;
         } catch (Throwable e) {
+            closeProvider();
             throw new RedisClientException("Failed to init RedisClient with id [" + this.id + "]", e);
         }
     }
 
+    private CommandExecutor instrumented(CommandExecutor executor) {
+        if (this.metrics == null && this.slowLog == null && this.hotKeys == null) {
+            return executor;
+        }
+        return new InstrumentedCommandExecutor(executor, this.metrics, this.slowLog, this.hotKeys);
+    }
+
     public KeyCommands key() {
         return this.keyCommands;
     }
@@ -75,4 +278,272 @@ public class RedisClient {
     public ZSetCommands zset() {
         return this.zSetCommands;
     }
+
+    public ScriptCommands script() {
+        return this.scriptCommands;
+    }
+
+    /**
+     * Run the body in an optimistic transaction on the watched keys, retried with a jittered backoff while EXEC is
+     * aborted by a concurrent modification. In cluster mode all the keys must hash to the same slot.
+     *
+     * @see RedisTransaction
+     */
+    public <T> T transaction(List<String> keys, Function<RedisTransaction, T> body) {
+        return this.transactionRunner.execute(keys, body);
+    }
+
+    public TransactionStats transactionStats() {
+        return this.transactionRunner.getStats();
+    }
+
+    public RedisBinaryCommands binary() {
+        return this.binaryCommands;
+    }
+
+    /**
+     * Get the value of the key, or load and write it with the given ttl when missing. Concurrent callers missing the
+     * same key share one load, and keys are reloaded by one caller shortly before they expire.
+     *
+     * @see SingleFlightLoader
+     */
+    public String getOrLoad(String key, long ttlSeconds, Supplier<String> loader) {
+        return this.singleFlightLoader.getOrLoad(key, ttlSeconds, loader);
+    }
+
+    /**
+     * Statistics of the value compression, or {@code null} when compression is not enabled for this client.
+     */
+    public CompressionStats compressionStats() {
+        return this.compressor == null ? null : this.compressor.getStats();
+    }
+
+    /**
+     * Statistics of the near cache, or {@code null} when the near cache is not enabled for this client.
+     */
+    public NearCacheStats nearCacheStats() {
+        return this.nearCache == null ? null : this.nearCache.getStats();
+    }
+
+    /**
+     * Latency and errors of the commands run so far and the state of the connection pool, or {@code null} when
+     * metrics are not enabled for this client. Commands sent through {@link #pipeline()} are not recorded.
+     */
+    public ClientMetricsSnapshot metrics() {
+        if (this.metrics == null) {
+            return null;
+        }
+        return new ClientMetricsSnapshot(this.id, this.metrics.snapshot(), poolSnapshot());
+    }
+
+    /**
+     * The most recent commands slower than the configured threshold, or {@code null} when the slow log is not enabled
+     * for this client. Commands sent through {@link #pipeline()} are not recorded.
+     */
+    public SlowCommandLog slowLog() {
+        return this.slowLog;
+    }
+
+    /**
+     * The hottest keys accessed through the command groups, or {@code null} when hot key detection is not enabled for
+     * this client. Keys accessed through {@link #pipeline()} are not counted.
+     */
+    public HotKeyDetector hotKeys() {
+        return this.hotKeys;
+    }
+
+    private PoolSnapshot poolSnapshot() {
+        Collection<? extends Pool<Connection>> pools = this.provider instanceof ClusterConnectionProvider cluster
+            ? cluster.getNodes().values()
+            : List.of(((PooledConnectionProvider) this.provider).getPool());
+        long borrowed = 0;
+        long weightedWait = 0;
+        long maxWait = 0;
+        int active = 0;
+        int idle = 0;
+        int waiters = 0;
+        for (Pool<Connection> pool : pools) {
+            borrowed += pool.getBorrowedCount();
+            weightedWait += pool.getMeanBorrowWaitDuration().toMillis() * pool.getBorrowedCount();
+            maxWait = Math.max(maxWait, pool.getMaxBorrowWaitDuration().toMillis());
+            active += pool.getNumActive();
+            idle += pool.getNumIdle();
+            waiters += pool.getNumWaiters();
+        }
+        return new PoolSnapshot(borrowed, borrowed == 0 ? 0 : weightedWait / borrowed, maxWait, active, idle, waiters);
+    }
+
+    /**
+     * Command groups whose keys and values are converted by the given codec, the returned view is cheap and can be
+     * cached by the caller.
+     */
+    public <K, V> RedisTypedCommands<K, V> typed(Codec<K, V> codec) {
+        return new RedisTypedCommands<>(this.jedis, codec);
+    }
+
+    /**
+     * Point reads batched with the reads of concurrent callers, or {@code null} when batch loading is not enabled for
+     * this client.
+     */
+    public BatchLoader batch() {
+        return this.batchLoader;
+    }
+
+    /**
+     * Increments coalesced locally and written once per flush, or {@code null} when the coalescing counter is not
+     * enabled for this client.
+     */
+    public CoalescingCounter counter() {
+        return this.counter;
+    }
+
+    /**
+     * Run the reads issued by the calling thread with the given read preference instead of the configured one. Async
+     * commands run on other threads and keep the configured preference.
+     */
+    public <T> T withReadPreference(ReadPreference readPreference, Supplier<T> reads) {
+        if (this.readRouter == null) {
+            return reads.get();
+        }
+        return this.readRouter.withPreference(readPreference, reads);
+    }
+
+    public RedisAsyncCommands async() {
+        return this.asyncCommands;
+    }
+
+    /**
+     * Walk the whole keyspace with several cursors at once and call the handler for every key from the worker
+     * threads, blocks until the scan is done. In cluster mode every primary is walked by its own cursor.
+     *
+     * @throws IllegalArgumentException in cluster mode with more than one scan per node
+     * @see ParallelScanner
+     */
+    public ScanProgress scanKeyspace(ParallelScanOptions options, Consumer<String> handler) {
+        return parallelScanner(options, SCAN).run(handler);
+    }
+
+    /**
+     * Same as {@link #scanKeyspace(ParallelScanOptions, Consumer)} but hands whole SCAN pages to the handler, so
+     * that it can pipeline its commands per page.
+     */
+    public ScanProgress scanKeyspacePages(ParallelScanOptions options, Consumer<List<String>> handler) {
+        return parallelScanner(options, SCAN).runPages(handler);
+    }
+
+    /**
+     * Same as {@link #scanKeyspacePages(ParallelScanOptions, Consumer)} with the keys as returned by the server, for
+     * keys that are not valid UTF-8.
+     */
+    public ScanProgress scanKeyspaceBinaryPages(ParallelScanOptions options, Consumer<List<byte[]>> handler) {
+        return parallelScanner(options, BINARY_SCAN).runPages(handler);
+    }
+
+    private <K> ParallelScanner<K> parallelScanner(ParallelScanOptions options, ScanCommand<K> scan) {
+        // cluster nodes encode the slot in the cursor, splitting the reversed cursor space would skip slots
+        if (this.config.isCluster() && options.getScansPerNode() > 1) {
+            throw new IllegalArgumentException("Cluster mode walks every primary with a single cursor, scansPerNode must be 1");
+        }
+        return new ParallelScanner<>(this.id, scanSources(scan), options);
+    }
+
+    private <K> List<ScanSource<K>> scanSources(ScanCommand<K> scan) {
+        if (!(this.provider instanceof ClusterConnectionProvider cluster)) {
+            return List.of((cursor, params, type) -> this.jedis.executeCommand(scan.build(cursor, params, type)));
+        }
+        Map<String, ConnectionPool> pools = cluster.getNodes();
+        String nodes;
+        try (Connection connection = pools.values().iterator().next().getResource()) {
+            nodes = connection.executeCommand(new CommandObject<>(new CommandArguments(Protocol.Command.CLUSTER).add("NODES"), BuilderFactory.STRING));
+        }
+        List<ScanSource<K>> sources = new ArrayList<>();
+        for (String line : nodes.split("\n")) {
+            // <id> <ip:port@cport[,hostname]> <flags> ...
+            String[] fields = line.trim().split(" ");
+            if (fields.length < 3 || !fields[2].contains("master") || fields[2].contains("fail") || fields[2].contains("noaddr")) {
+                continue;
+            }
+            String node = fields[1].split("[@,]")[0];
+            ConnectionPool pool = pools.get(node);
+            if (pool == null) {
+                throw new JedisException("no connection pool for primary [" + node + "], the cluster topology is changing");
+            }
+            sources.add((cursor, params, type) -> {
+                try (Connection connection = pool.getResource()) {
+                    return connection.executeCommand(scan.build(cursor, params, type));
+                }
+            });
+        }
+        return sources;
+    }
+
+    /**
+     * Builds the SCAN command of one page.
+     */
+    @FunctionalInterface
+    private interface ScanCommand<K> {
+
+        CommandObject<ScanResult<K>> build(String cursor, ScanParams params, String type);
+    }
+
+    /**
+     * Open a pipeline on a dedicated pooled connection, or on one connection per node in cluster mode. The caller
+     * must close it to release the connections.
+     */
+    public RedisPipeline pipeline() {
+        return new RedisPipeline(openPipeline());
+    }
+
+    private AbstractPipeline openPipeline() {
+        if (this.provider instanceof ClusterConnectionProvider cluster) {
+            return new ClusterPipeline(cluster);
+        }
+        return new Pipeline(this.provider.getConnection(), true);
+    }
+
+    private void closeProvider() {
+        try {
+            this.provider.close();
+        } catch (Exception e) {
+            LOGGER.warn("Failed to close connection provider of RedisClient with id [{}]", this.id, e);
+        }
+    }
+
+    /**
+     * Execute a command built by any {@link redis.clients.jedis.CommandObjects} on this client.
+     */
+    public <T> T executeCommand(CommandObject<T> commandObject) {
+        return this.jedis.executeCommand(commandObject);
+    }
+
+    public long publish(String channel, String message) {
+        return this.jedis.publish(channel, message);
+    }
+
+    /**
+     * Subscribe on a dedicated connection outside the pool, blocks until the subscriber has unsubscribed from every
+     * channel or the connection is lost.
+     */
+    public void subscribe(JedisPubSub pubSub, String... channels) {
+        try (Connection connection = new Connection(this.hostAndPort, this.clientConfig)) {
+            pubSub.proceed(connection, channels);
+        }
+    }
+
+    @Override
+    public void close() {
+        LOGGER.info("Start close RedisClient with id [{}]", this.id);
+        if (this.counter != null) {
+            this.counter.close();
+        }
+        if (this.batchLoader != null) {
+            this.batchLoader.close();
+        }
+        this.asyncExecutor.close();
+        if (this.nearCache != null) {
+            this.nearCache.close();
+        }
+        this.jedis.close();
+        closeProvider();
+    }
 }
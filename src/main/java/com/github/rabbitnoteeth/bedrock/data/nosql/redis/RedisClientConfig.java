@@ -1,10 +1,14 @@
 package com.github.rabbitnoteeth.bedrock.data.nosql.redis;
 
+import com.github.rabbitnoteeth.bedrock.data.nosql.redis.entity.ReadPreference;
 import com.github.rabbitnoteeth.bedrock.data.nosql.redis.exception.RedisClientException;
 import com.github.rabbitnoteeth.bedrock.util.validation.ValidationUtils;
 import com.github.rabbitnoteeth.bedrock.util.validation.annotation.Validate;
 import com.github.rabbitnoteeth.bedrock.util.validation.entity.Rule;
 
+import java.util.List;
+import java.util.zip.Deflater;
+
 public class RedisClientConfig {
 
     private final String host;
@@ -16,17 +20,89 @@ public class RedisClientConfig {
     private final int maxTotal;
     private final int maxIdle;
     private final int minIdle;
+    private final boolean autoPipelining;
+    private final int autoPipeliningConnections;
+    private final int autoPipeliningBatchSize;
+    private final long autoPipeliningFlushIntervalMicros;
+    private final int compressionThreshold;
+    private final int compressionLevel;
+    private final byte[] compressionDictionary;
+    private final boolean nearCache;
+    private final int nearCacheMaxEntries;
+    private final long nearCacheMaxBytes;
+    private final List<String> nearCachePrefixes;
+    private final double earlyRefreshBeta;
+    private final boolean batchLoading;
+    private final long batchLoadingWindowMicros;
+    private final int batchLoadingMaxSize;
+    private final int multiKeyChunkSize;
+    private final List<String> clusterNodes;
+    private final int clusterMaxAttempts;
+    private final List<String> replicaNodes;
+    private final ReadPreference readPreference;
+    private final long replicaProbeIntervalMillis;
+    private final boolean metrics;
+    private final long slowLogThresholdMicros;
+    private final double slowLogSampleRate;
+    private final int slowLogCapacity;
+    private final double hotKeySampleRate;
+    private final int hotKeyTopK;
+    private final double hotKeyShareThreshold;
+    private final long hotKeyDecayIntervalMillis;
+    private final boolean nearCacheHotKeysOnly;
+    private final int transactionMaxAttempts;
+    private final long transactionBackoffMillis;
+    private final long transactionMaxBackoffMillis;
+    private final boolean coalescingCounter;
+    private final long counterFlushIntervalMillis;
+    private final long counterFlushThreshold;
 
-    private RedisClientConfig(String host, int port, String username, String password, int connectTimeout, int database, int maxTotal, int maxIdle, int minIdle) {
-        this.host = host;
-        this.port = port;
-        this.username = username;
-        this.password = password;
-        this.connectTimeout = connectTimeout;
-        this.database = database;
-        this.maxTotal = maxTotal;
-        this.maxIdle = maxIdle;
-        this.minIdle = minIdle;
+    private RedisClientConfig(Builder builder) {
+        this.host = builder.host;
+        this.port = builder.port;
+        this.username = builder.username;
+        this.password = builder.password;
+        this.connectTimeout = builder.connectTimeout;
+        this.database = builder.database;
+        this.maxTotal = builder.maxTotal;
+        this.maxIdle = builder.maxIdle;
+        this.minIdle = builder.minIdle;
+        this.autoPipelining = builder.autoPipelining;
+        this.autoPipeliningConnections = builder.autoPipeliningConnections;
+        this.autoPipeliningBatchSize = builder.autoPipeliningBatchSize;
+        this.autoPipeliningFlushIntervalMicros = builder.autoPipeliningFlushIntervalMicros;
+        this.compressionThreshold = builder.compressionThreshold;
+        this.compressionLevel = builder.compressionLevel;
+        this.compressionDictionary = builder.compressionDictionary;
+        this.nearCache = builder.nearCache;
+        this.nearCacheMaxEntries = builder.nearCacheMaxEntries;
+        this.nearCacheMaxBytes = builder.nearCacheMaxBytes;
+        this.nearCachePrefixes = List.copyOf(builder.nearCachePrefixes);
+        this.earlyRefreshBeta = builder.earlyRefreshBeta;
+        this.batchLoading = builder.batchLoading;
+        this.batchLoadingWindowMicros = builder.batchLoadingWindowMicros;
+        this.batchLoadingMaxSize = builder.batchLoadingMaxSize;
+        this.multiKeyChunkSize = builder.multiKeyChunkSize;
+        this.clusterNodes = List.copyOf(builder.clusterNodes);
+        this.clusterMaxAttempts = builder.clusterMaxAttempts;
+        this.replicaNodes = List.copyOf(builder.replicaNodes);
+        this.readPreference = builder.readPreference;
+        this.replicaProbeIntervalMillis = builder.replicaProbeIntervalMillis;
+        this.metrics = builder.metrics;
+        this.slowLogThresholdMicros = builder.slowLogThresholdMicros;
+        this.slowLogSampleRate = builder.slowLogSampleRate;
+        this.slowLogCapacity = builder.slowLogCapacity;
+        this.hotKeySampleRate = builder.hotKeySampleRate;
+        this.hotKeyTopK = builder.hotKeyTopK;
+        this.hotKeyShareThreshold = builder.hotKeyShareThreshold;
+        this.hotKeyDecayIntervalMillis = builder.hotKeyDecayIntervalMillis;
+        this.nearCacheHotKeysOnly = builder.nearCacheHotKeysOnly;
+        this.transactionMaxAttempts = builder.transactionMaxAttempts;
+        this.transactionBackoffMillis = builder.transactionBackoffMillis;
+        this.transactionMaxBackoffMillis = builder.transactionMaxBackoffMillis;
+        this.coalescingCounter = builder.coalescingCounter;
+        this.counterFlushIntervalMillis = builder.counterFlushIntervalMillis;
+        this.counterFlushThreshold = builder.counterFlushThreshold;
     }
 
     public String getHost() {
@@ -65,12 +141,193 @@ public class RedisClientConfig {
         return connectTimeout;
     }
 
+    public boolean isAutoPipelining() {
+        return autoPipelining;
+    }
+
+    public int getAutoPipeliningConnections() {
+        return autoPipeliningConnections;
+    }
+
+    public int getAutoPipeliningBatchSize() {
+        return autoPipeliningBatchSize;
+    }
+
+    public long getAutoPipeliningFlushIntervalMicros() {
+        return autoPipeliningFlushIntervalMicros;
+    }
+
+    public boolean isCompressionEnabled() {
+        return compressionThreshold >= 0;
+    }
+
+    public int getCompressionThreshold() {
+        return compressionThreshold;
+    }
+
+    public int getCompressionLevel() {
+        return compressionLevel;
+    }
+
+    public byte[] getCompressionDictionary() {
+        return compressionDictionary;
+    }
+
+    public boolean isNearCache() {
+        return nearCache;
+    }
+
+    public int getNearCacheMaxEntries() {
+        return nearCacheMaxEntries;
+    }
+
+    public long getNearCacheMaxBytes() {
+        return nearCacheMaxBytes;
+    }
+
+    public List<String> getNearCachePrefixes() {
+        return nearCachePrefixes;
+    }
+
+    public double getEarlyRefreshBeta() {
+        return earlyRefreshBeta;
+    }
+
+    public boolean isBatchLoading() {
+        return batchLoading;
+    }
+
+    public long getBatchLoadingWindowMicros() {
+        return batchLoadingWindowMicros;
+    }
+
+    public int getBatchLoadingMaxSize() {
+        return batchLoadingMaxSize;
+    }
+
+    public int getMultiKeyChunkSize() {
+        return multiKeyChunkSize;
+    }
+
+    public boolean isCluster() {
+        return !clusterNodes.isEmpty();
+    }
+
+    public List<String> getClusterNodes() {
+        return clusterNodes;
+    }
+
+    public int getClusterMaxAttempts() {
+        return clusterMaxAttempts;
+    }
+
+    public List<String> getReplicaNodes() {
+        return replicaNodes;
+    }
+
+    public ReadPreference getReadPreference() {
+        return readPreference;
+    }
+
+    public long getReplicaProbeIntervalMillis() {
+        return replicaProbeIntervalMillis;
+    }
+
+    public boolean isMetrics() {
+        return metrics;
+    }
+
+    public boolean isSlowLog() {
+        return slowLogThresholdMicros > 0;
+    }
+
+    public long getSlowLogThresholdMicros() {
+        return slowLogThresholdMicros;
+    }
+
+    public double getSlowLogSampleRate() {
+        return slowLogSampleRate;
+    }
+
+    public int getSlowLogCapacity() {
+        return slowLogCapacity;
+    }
+
+    public boolean isHotKeyDetection() {
+        return hotKeySampleRate > 0;
+    }
+
+    public double getHotKeySampleRate() {
+        return hotKeySampleRate;
+    }
+
+    public int getHotKeyTopK() {
+        return hotKeyTopK;
+    }
+
+    public double getHotKeyShareThreshold() {
+        return hotKeyShareThreshold;
+    }
+
+    public long getHotKeyDecayIntervalMillis() {
+        return hotKeyDecayIntervalMillis;
+    }
+
+    public boolean isNearCacheHotKeysOnly() {
+        return nearCacheHotKeysOnly;
+    }
+
+    public int getTransactionMaxAttempts() {
+        return transactionMaxAttempts;
+    }
+
+    public long getTransactionBackoffMillis() {
+        return transactionBackoffMillis;
+    }
+
+    public long getTransactionMaxBackoffMillis() {
+        return transactionMaxBackoffMillis;
+    }
+
+    public boolean isCoalescingCounter() {
+        return coalescingCounter;
+    }
+
+    public long getCounterFlushIntervalMillis() {
+        return counterFlushIntervalMillis;
+    }
+
+    public long getCounterFlushThreshold() {
+        return counterFlushThreshold;
+    }
+
     public static class Builder {
         private static final int DEFAULT_MAX_TOTAL = 8;
         private static final int DEFAULT_MAX_IDLE = 8;
         private static final int DEFAULT_MIN_IDLE = 0;
         private static final int DEFAULT_DATABASE = 0;
         private static final int DEFAULT_CONNECT_TIMEOUT = 30000;
+        private static final int DEFAULT_AUTO_PIPELINING_CONNECTIONS = 2;
+        private static final int DEFAULT_AUTO_PIPELINING_BATCH_SIZE = 128;
+        private static final long DEFAULT_AUTO_PIPELINING_FLUSH_INTERVAL_MICROS = 0;
+        private static final int DEFAULT_COMPRESSION_THRESHOLD = -1;
+        private static final int DEFAULT_COMPRESSION_LEVEL = Deflater.DEFAULT_COMPRESSION;
+        private static final int DEFAULT_NEAR_CACHE_MAX_ENTRIES = 10000;
+        private static final long DEFAULT_NEAR_CACHE_MAX_BYTES = 64L * 1024 * 1024;
+        private static final double DEFAULT_EARLY_REFRESH_BETA = 1.0;
+        private static final long DEFAULT_BATCH_LOADING_WINDOW_MICROS = 50;
+        private static final int DEFAULT_BATCH_LOADING_MAX_SIZE = 256;
+        private static final int DEFAULT_CLUSTER_MAX_ATTEMPTS = 5;
+        private static final long DEFAULT_REPLICA_PROBE_INTERVAL_MILLIS = 1000;
+        private static final int DEFAULT_SLOW_LOG_CAPACITY = 1024;
+        private static final int DEFAULT_HOT_KEY_TOP_K = 32;
+        private static final double DEFAULT_HOT_KEY_SHARE_THRESHOLD = 0.01;
+        private static final long DEFAULT_HOT_KEY_DECAY_INTERVAL_MILLIS = 10000;
+        private static final int DEFAULT_TRANSACTION_MAX_ATTEMPTS = 10;
+        private static final long DEFAULT_TRANSACTION_BACKOFF_MILLIS = 1;
+        private static final long DEFAULT_TRANSACTION_MAX_BACKOFF_MILLIS = 50;
+        private static final long DEFAULT_COUNTER_FLUSH_INTERVAL_MILLIS = 1000;
+        private static final long DEFAULT_COUNTER_FLUSH_THRESHOLD = 100000;
 
         @Validate(rule = Rule.NOT_BLANK, message = "host can not be blank")
         private String host;
@@ -83,6 +340,42 @@ public class RedisClientConfig {
         private int maxTotal = DEFAULT_MAX_TOTAL;
         private int maxIdle = DEFAULT_MAX_IDLE;
         private int minIdle = DEFAULT_MIN_IDLE;
+        private boolean autoPipelining;
+        private int autoPipeliningConnections = DEFAULT_AUTO_PIPELINING_CONNECTIONS;
+        private int autoPipeliningBatchSize = DEFAULT_AUTO_PIPELINING_BATCH_SIZE;
+        private long autoPipeliningFlushIntervalMicros = DEFAULT_AUTO_PIPELINING_FLUSH_INTERVAL_MICROS;
+        private int compressionThreshold = DEFAULT_COMPRESSION_THRESHOLD;
+        private int compressionLevel = DEFAULT_COMPRESSION_LEVEL;
+        private byte[] compressionDictionary;
+        private boolean nearCache;
+        private int nearCacheMaxEntries = DEFAULT_NEAR_CACHE_MAX_ENTRIES;
+        private long nearCacheMaxBytes = DEFAULT_NEAR_CACHE_MAX_BYTES;
+        private List<String> nearCachePrefixes = List.of();
+        private double earlyRefreshBeta = DEFAULT_EARLY_REFRESH_BETA;
+        private boolean batchLoading;
+        private long batchLoadingWindowMicros = DEFAULT_BATCH_LOADING_WINDOW_MICROS;
+        private int batchLoadingMaxSize = DEFAULT_BATCH_LOADING_MAX_SIZE;
+        private int multiKeyChunkSize;
+        private List<String> clusterNodes = List.of();
+        private int clusterMaxAttempts = DEFAULT_CLUSTER_MAX_ATTEMPTS;
+        private List<String> replicaNodes = List.of();
+        private ReadPreference readPreference = ReadPreference.PRIMARY;
+        private long replicaProbeIntervalMillis = DEFAULT_REPLICA_PROBE_INTERVAL_MILLIS;
+        private boolean metrics;
+        private long slowLogThresholdMicros;
+        private double slowLogSampleRate = 1.0;
+        private int slowLogCapacity = DEFAULT_SLOW_LOG_CAPACITY;
+        private double hotKeySampleRate;
+        private int hotKeyTopK = DEFAULT_HOT_KEY_TOP_K;
+        private double hotKeyShareThreshold = DEFAULT_HOT_KEY_SHARE_THRESHOLD;
+        private long hotKeyDecayIntervalMillis = DEFAULT_HOT_KEY_DECAY_INTERVAL_MILLIS;
+        private boolean nearCacheHotKeysOnly;
+        private int transactionMaxAttempts = DEFAULT_TRANSACTION_MAX_ATTEMPTS;
+        private long transactionBackoffMillis = DEFAULT_TRANSACTION_BACKOFF_MILLIS;
+        private long transactionMaxBackoffMillis = DEFAULT_TRANSACTION_MAX_BACKOFF_MILLIS;
+        private boolean coalescingCounter;
+        private long counterFlushIntervalMillis = DEFAULT_COUNTER_FLUSH_INTERVAL_MILLIS;
+        private long counterFlushThreshold = DEFAULT_COUNTER_FLUSH_THRESHOLD;
 
         public Builder setHost(String host) {
             this.host = host;
@@ -129,10 +422,366 @@ public class RedisClientConfig {
             return this;
         }
 
+        /**
+         * Route the commands of all threads through a few shared connections, commands queued by concurrent callers
+         * are written in one batch and every caller still receives its own reply. Blocking commands keep using the pool.
+         */
+        public Builder setAutoPipelining(boolean autoPipelining) {
+            this.autoPipelining = autoPipelining;
+            return this;
+        }
+
+        /**
+         * Number of shared connections used by auto pipelining, each one is served by its own flushing thread.
+         */
+        public Builder setAutoPipeliningConnections(int autoPipeliningConnections) {
+            this.autoPipeliningConnections = autoPipeliningConnections;
+            return this;
+        }
+
+        /**
+         * Maximum number of commands written in one flush, a batch is flushed as soon as it reaches this size.
+         */
+        public Builder setAutoPipeliningBatchSize(int autoPipeliningBatchSize) {
+            this.autoPipeliningBatchSize = autoPipeliningBatchSize;
+            return this;
+        }
+
+        /**
+         * How long a flush waits for more commands before writing a partial batch, 0 writes whatever is queued as
+         * soon as the connection is free.
+         */
+        public Builder setAutoPipeliningFlushIntervalMicros(long autoPipeliningFlushIntervalMicros) {
+            this.autoPipeliningFlushIntervalMicros = autoPipeliningFlushIntervalMicros;
+            return this;
+        }
+
+        /**
+         * Values of the string and hash commands whose encoded size reaches the threshold are deflated before being
+         * written, a negative threshold disables compression. Only {@code string()} and {@code hash()} compress and
+         * decompress, {@code binary()}, {@code typed()}, {@code pipeline()}, transactions and scripts read and write
+         * values as stored and see the compressed bytes.
+         */
+        public Builder setCompressionThreshold(int compressionThreshold) {
+            this.compressionThreshold = compressionThreshold;
+            return this;
+        }
+
+        /**
+         * Deflater level from 0 to 9, defaults to {@link Deflater#DEFAULT_COMPRESSION}.
+         */
+        public Builder setCompressionLevel(int compressionLevel) {
+            this.compressionLevel = compressionLevel;
+            return this;
+        }
+
+        /**
+         * Preset dictionary, usually produced by
+         * {@link com.github.rabbitnoteeth.bedrock.data.nosql.redis.compression.CompressionDictionary#train(java.util.Collection)}.
+         * Every client reading the values must be configured with the same dictionary.
+         */
+        public Builder setCompressionDictionary(byte[] compressionDictionary) {
+            this.compressionDictionary = compressionDictionary;
+            return this;
+        }
+
+        /**
+         * Keep the values read by {@code string().get} and {@code hash().getAll} in process, redis reports every
+         * change of a cached key through client side caching ({@code CLIENT TRACKING}, redis 6 or later).
+         */
+        public Builder setNearCache(boolean nearCache) {
+            this.nearCache = nearCache;
+            return this;
+        }
+
+        public Builder setNearCacheMaxEntries(int nearCacheMaxEntries) {
+            this.nearCacheMaxEntries = nearCacheMaxEntries;
+            return this;
+        }
+
+        /**
+         * Bound of the estimated heap size of the cached keys and values.
+         */
+        public Builder setNearCacheMaxBytes(long nearCacheMaxBytes) {
+            this.nearCacheMaxBytes = nearCacheMaxBytes;
+            return this;
+        }
+
+        /**
+         * Only track keys starting with one of the prefixes, the server then sends invalidations for those keys only.
+         * Empty tracks every key.
+         */
+        public Builder setNearCachePrefixes(List<String> nearCachePrefixes) {
+            this.nearCachePrefixes = nearCachePrefixes;
+            return this;
+        }
+
+        /**
+         * How eagerly {@link RedisClient#getOrLoad} refreshes keys before they expire, above 1 refreshes earlier and
+         * 0 only loads after expiry.
+         */
+        public Builder setEarlyRefreshBeta(double earlyRefreshBeta) {
+            this.earlyRefreshBeta = earlyRefreshBeta;
+            return this;
+        }
+
+        /**
+         * Enable {@link RedisClient#batch()}, which merges the point reads of concurrent callers into multi-key
+         * commands.
+         */
+        public Builder setBatchLoading(boolean batchLoading) {
+            this.batchLoading = batchLoading;
+            return this;
+        }
+
+        /**
+         * How long the batch loader waits for more reads after the first one of a batch.
+         */
+        public Builder setBatchLoadingWindowMicros(long batchLoadingWindowMicros) {
+            this.batchLoadingWindowMicros = batchLoadingWindowMicros;
+            return this;
+        }
+
+        public Builder setBatchLoadingMaxSize(int batchLoadingMaxSize) {
+            this.batchLoadingMaxSize = batchLoadingMaxSize;
+            return this;
+        }
+
+        /**
+         * Split mget, del, unlink and set add calls with more arguments than this into chunks sent over one pipeline,
+         * the call is then no longer atomic. 0 sends every call as a single command.
+         */
+        public Builder setMultiKeyChunkSize(int multiKeyChunkSize) {
+            this.multiKeyChunkSize = multiKeyChunkSize;
+            return this;
+        }
+
+        /**
+         * Seed nodes of a redis cluster as {@code host:port}, the rest of the topology is discovered from them. When
+         * set the client runs in cluster mode and host and port default to the first node.
+         */
+        public Builder setClusterNodes(List<String> clusterNodes) {
+            this.clusterNodes = clusterNodes;
+            return this;
+        }
+
+        /**
+         * How many times a cluster command is sent before giving up, redirections and connection failures included.
+         */
+        public Builder setClusterMaxAttempts(int clusterMaxAttempts) {
+            this.clusterMaxAttempts = clusterMaxAttempts;
+            return this;
+        }
+
+        /**
+         * Replicas of the primary as {@code host:port}, read-only commands are routed to them according to the read
+         * preference. They share the pool settings and credentials of the primary.
+         */
+        public Builder setReplicaNodes(List<String> replicaNodes) {
+            this.replicaNodes = replicaNodes;
+            return this;
+        }
+
+        /**
+         * Default read preference of the client, can be overridden per call with
+         * {@link RedisClient#withReadPreference}. Cursor based scans always read from the primary, KEYS and DUMP
+         * served by a lagging replica may be stale.
+         */
+        public Builder setReadPreference(ReadPreference readPreference) {
+            this.readPreference = readPreference;
+            return this;
+        }
+
+        /**
+         * How often every node is pinged to measure its round trip and health.
+         */
+        public Builder setReplicaProbeIntervalMillis(long replicaProbeIntervalMillis) {
+            this.replicaProbeIntervalMillis = replicaProbeIntervalMillis;
+            return this;
+        }
+
+        /**
+         * Record the latency and errors of every command, disabled by default.
+         */
+        public Builder setMetrics(boolean metrics) {
+            this.metrics = metrics;
+            return this;
+        }
+
+        /**
+         * Commands taking at least this long on the client side are kept in the slow log, 0 disables the slow log.
+         */
+        public Builder setSlowLogThresholdMicros(long slowLogThresholdMicros) {
+            this.slowLogThresholdMicros = slowLogThresholdMicros;
+            return this;
+        }
+
+        /**
+         * Fraction of the slow commands kept in the slow log, between 0 exclusive and 1.
+         */
+        public Builder setSlowLogSampleRate(double slowLogSampleRate) {
+            this.slowLogSampleRate = slowLogSampleRate;
+            return this;
+        }
+
+        /**
+         * Number of most recent slow commands kept, rounded up to a power of two.
+         */
+        public Builder setSlowLogCapacity(int slowLogCapacity) {
+            this.slowLogCapacity = slowLogCapacity;
+            return this;
+        }
+
+        /**
+         * Fraction of the key accesses counted by the hot key detector, 0 disables the detection.
+         */
+        public Builder setHotKeySampleRate(double hotKeySampleRate) {
+            this.hotKeySampleRate = hotKeySampleRate;
+            return this;
+        }
+
+        /**
+         * Number of hottest keys tracked by name.
+         */
+        public Builder setHotKeyTopK(int hotKeyTopK) {
+            this.hotKeyTopK = hotKeyTopK;
+            return this;
+        }
+
+        /**
+         * Share of the sampled accesses above which a key is reported to the hot key listeners.
+         */
+        public Builder setHotKeyShareThreshold(double hotKeyShareThreshold) {
+            this.hotKeyShareThreshold = hotKeyShareThreshold;
+            return this;
+        }
+
+        /**
+         * Interval between two halvings of the access counts.
+         */
+        public Builder setHotKeyDecayIntervalMillis(long hotKeyDecayIntervalMillis) {
+            this.hotKeyDecayIntervalMillis = hotKeyDecayIntervalMillis;
+            return this;
+        }
+
+        /**
+         * Only admit the current hottest keys into the near cache, requires the near cache and the hot key detection.
+         */
+        public Builder setNearCacheHotKeysOnly(boolean nearCacheHotKeysOnly) {
+            this.nearCacheHotKeysOnly = nearCacheHotKeysOnly;
+            return this;
+        }
+
+        /**
+         * Attempts of an optimistic transaction before giving up, the first one included.
+         */
+        public Builder setTransactionMaxAttempts(int transactionMaxAttempts) {
+            this.transactionMaxAttempts = transactionMaxAttempts;
+            return this;
+        }
+
+        /**
+         * Backoff cap after the first aborted attempt, doubled after every further abort, 0 retries immediately.
+         */
+        public Builder setTransactionBackoffMillis(long transactionBackoffMillis) {
+            this.transactionBackoffMillis = transactionBackoffMillis;
+            return this;
+        }
+
+        /**
+         * Upper bound of the backoff between two attempts of an optimistic transaction.
+         */
+        public Builder setTransactionMaxBackoffMillis(long transactionMaxBackoffMillis) {
+            this.transactionMaxBackoffMillis = transactionMaxBackoffMillis;
+            return this;
+        }
+
+        /**
+         * Enable {@link RedisClient#counter()}, which sums increments locally and writes them in one pipeline per flush.
+         */
+        public Builder setCoalescingCounter(boolean coalescingCounter) {
+            this.coalescingCounter = coalescingCounter;
+            return this;
+        }
+
+        /**
+         * Maximum delay before a coalesced increment is written.
+         */
+        public Builder setCounterFlushIntervalMillis(long counterFlushIntervalMillis) {
+            this.counterFlushIntervalMillis = counterFlushIntervalMillis;
+            return this;
+        }
+
+        /**
+         * Number of pending increments triggering a flush before the interval has elapsed.
+         */
+        public Builder setCounterFlushThreshold(long counterFlushThreshold) {
+            this.counterFlushThreshold = counterFlushThreshold;
+            return this;
+        }
+
         public RedisClientConfig build() throws RedisClientException {
             try {
+                if (!clusterNodes.isEmpty() && (host == null || host.isBlank())) {
+                    String seed = clusterNodes.get(0);
+                    int separator = seed.lastIndexOf(':');
+                    host = seed.substring(0, separator);
+                    port = Integer.parseInt(seed.substring(separator + 1));
+                }
                 ValidationUtils.validate(this);
-                return new RedisClientConfig(host, port, username, password, connectTimeout, database, maxTotal, maxIdle, minIdle);
+                if (autoPipeliningConnections <= 0 || autoPipeliningBatchSize <= 0 || autoPipeliningFlushIntervalMicros < 0) {
+                    throw new IllegalArgumentException("auto pipelining connections and batch size must be positive, flush interval can not be negative");
+                }
+                if (compressionLevel != Deflater.DEFAULT_COMPRESSION && (compressionLevel < Deflater.NO_COMPRESSION || compressionLevel > Deflater.BEST_COMPRESSION)) {
+                    throw new IllegalArgumentException("compression level must be between 0 and 9");
+                }
+                if (nearCacheMaxEntries <= 0 || nearCacheMaxBytes <= 0) {
+                    throw new IllegalArgumentException("near cache max entries and max bytes must be positive");
+                }
+                if (earlyRefreshBeta < 0) {
+                    throw new IllegalArgumentException("early refresh beta can not be negative");
+                }
+                if (batchLoadingWindowMicros < 0 || batchLoadingMaxSize <= 0) {
+                    throw new IllegalArgumentException("batch loading window can not be negative and max size must be positive");
+                }
+                if (multiKeyChunkSize < 0) {
+                    throw new IllegalArgumentException("multi key chunk size can not be negative");
+                }
+                if (!clusterNodes.isEmpty()) {
+                    if (autoPipelining || nearCache || database != 0) {
+                        throw new IllegalArgumentException("auto pipelining, near cache and database selection are not supported in cluster mode");
+                    }
+                    if (clusterMaxAttempts <= 0) {
+                        throw new IllegalArgumentException("cluster max attempts must be positive");
+                    }
+                }
+                if (!replicaNodes.isEmpty()) {
+                    if (!clusterNodes.isEmpty() || nearCache) {
+                        // a near cache filled from a lagging replica could keep a value older than its last invalidation
+                        throw new IllegalArgumentException("replica reads are not supported in cluster mode nor with the near cache");
+                    }
+                    if (readPreference == null || replicaProbeIntervalMillis <= 0) {
+                        throw new IllegalArgumentException("read preference can not be null and replica probe interval must be positive");
+                    }
+                }
+                if (slowLogThresholdMicros < 0 || !(slowLogSampleRate > 0 && slowLogSampleRate <= 1)
+                    || slowLogCapacity <= 0 || slowLogCapacity > 1 << 20) {
+                    throw new IllegalArgumentException("slow log threshold can not be negative, sample rate must be in (0, 1] and capacity in [1, 2^20]");
+                }
+                if (hotKeySampleRate < 0 || hotKeySampleRate > 1 || hotKeyTopK <= 0 || hotKeyShareThreshold <= 0
+                    || hotKeyShareThreshold > 1 || hotKeyDecayIntervalMillis <= 0) {
+                    throw new IllegalArgumentException("hot key sample rate and share threshold must be in [0, 1], top k and decay interval must be positive");
+                }
+                if (nearCacheHotKeysOnly && (!nearCache || hotKeySampleRate == 0)) {
+                    throw new IllegalArgumentException("near cache hot keys only requires the near cache and the hot key detection");
+                }
+                if (transactionMaxAttempts <= 0 || transactionBackoffMillis < 0 || transactionMaxBackoffMillis < transactionBackoffMillis) {
+                    throw new IllegalArgumentException("transaction max attempts must be positive and the backoff must be in [0, max backoff]");
+                }
+                if (counterFlushIntervalMillis <= 0 || counterFlushThreshold <= 0) {
+                    throw new IllegalArgumentException("counter flush interval and threshold must be positive");
+                }
+                return new RedisClientConfig(this);
             } catch (Throwable e) {
                 throw new RedisClientException(e);
             }
@@ -151,6 +800,42 @@ public class RedisClientConfig {
             ", maxTotal=" + maxTotal +
             ", maxIdle=" + maxIdle +
             ", minIdle=" + minIdle +
+            ", autoPipelining=" + autoPipelining +
+            ", autoPipeliningConnections=" + autoPipeliningConnections +
+            ", autoPipeliningBatchSize=" + autoPipeliningBatchSize +
+            ", autoPipeliningFlushIntervalMicros=" + autoPipeliningFlushIntervalMicros +
+            ", compressionThreshold=" + compressionThreshold +
+            ", compressionLevel=" + compressionLevel +
+            ", compressionDictionary=" + (compressionDictionary == null ? null : compressionDictionary.length + " bytes") +
+            ", nearCache=" + nearCache +
+            ", nearCacheMaxEntries=" + nearCacheMaxEntries +
+            ", nearCacheMaxBytes=" + nearCacheMaxBytes +
+            ", nearCachePrefixes=" + nearCachePrefixes +
+            ", earlyRefreshBeta=" + earlyRefreshBeta +
+            ", batchLoading=" + batchLoading +
+            ", batchLoadingWindowMicros=" + batchLoadingWindowMicros +
+            ", batchLoadingMaxSize=" + batchLoadingMaxSize +
+            ", multiKeyChunkSize=" + multiKeyChunkSize +
+            ", clusterNodes=" + clusterNodes +
+            ", clusterMaxAttempts=" + clusterMaxAttempts +
+            ", replicaNodes=" + replicaNodes +
+            ", readPreference=" + readPreference +
+            ", replicaProbeIntervalMillis=" + replicaProbeIntervalMillis +
+            ", metrics=" + metrics +
+            ", slowLogThresholdMicros=" + slowLogThresholdMicros +
+            ", slowLogSampleRate=" + slowLogSampleRate +
+            ", slowLogCapacity=" + slowLogCapacity +
+            ", hotKeySampleRate=" + hotKeySampleRate +
+            ", hotKeyTopK=" + hotKeyTopK +
+            ", hotKeyShareThreshold=" + hotKeyShareThreshold +
+            ", hotKeyDecayIntervalMillis=" + hotKeyDecayIntervalMillis +
+            ", nearCacheHotKeysOnly=" + nearCacheHotKeysOnly +
+            ", transactionMaxAttempts=" + transactionMaxAttempts +
+            ", transactionBackoffMillis=" + transactionBackoffMillis +
+            ", transactionMaxBackoffMillis=" + transactionMaxBackoffMillis +
+            ", coalescingCounter=" + coalescingCounter +
+            ", counterFlushIntervalMillis=" + counterFlushIntervalMillis +
+            ", counterFlushThreshold=" + counterFlushThreshold +
             '}';
     }
 }
@@ -1,10 +1,13 @@
 package com.github.rabbitnoteeth.bedrock.data.nosql.redis;
 
 import com.github.rabbitnoteeth.bedrock.data.nosql.redis.exception.RedisClientException;
+import com.github.rabbitnoteeth.bedrock.data.nosql.redis.metrics.ClientMetricsSnapshot;
+import com.github.rabbitnoteeth.bedrock.data.nosql.redis.metrics.PrometheusFormat;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.Map;
+import java.util.TreeMap;
 import java.util.concurrent.ConcurrentHashMap;
 
 public class RedisClientManager {
@@ -37,4 +40,25 @@ public class RedisClientManager {
         return redisClient;
     }
 
+    /**
+     * Metrics of every registered client with metrics enabled, by client id.
+     */
+    public static Map<String, ClientMetricsSnapshot> metricsSnapshot() {
+        Map<String, ClientMetricsSnapshot> snapshot = new TreeMap<>();
+        CLIENT_MAP.forEach((id, client) -> {
+            ClientMetricsSnapshot metrics = client.metrics();
+            if (metrics != null) {
+                snapshot.put(id, metrics);
+            }
+        });
+        return snapshot;
+    }
+
+    /**
+     * {@link #metricsSnapshot()} in the Prometheus text exposition format.
+     */
+    public static String metricsText() {
+        return PrometheusFormat.format(metricsSnapshot());
+    }
+
 }
@@ -0,0 +1,177 @@
+package com.github.rabbitnoteeth.bedrock.data.nosql.redis;
+
+import com.github.rabbitnoteeth.bedrock.data.nosql.redis.commands.*;
+import com.github.rabbitnoteeth.bedrock.data.nosql.redis.exception.RedisClientException;
+import com.github.rabbitnoteeth.bedrock.data.nosql.redis.sharding.ConsistentHashRing;
+import com.github.rabbitnoteeth.bedrock.data.nosql.redis.sharding.ShardedCommandExecutor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import redis.clients.jedis.UnifiedJedis;
+
+import java.io.Closeable;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Spreads keys over independent Redis instances with a consistent hash ring, see {@link ConsistentHashRing}.
+ * <p>
+ * The command groups route every command to the shard of its keys, see {@link ShardedCommandExecutor}. A command
+ * whose keys belong to different shards fails, unless the keys share a hash tag; MGET, MSET, DEL, UNLINK, EXISTS and
+ * TOUCH, from the groups or from the shortcuts below, instead split their keys by shard and run one command per shard
+ * in parallel. Commands without key have to be run on one of the {@link #shards()}.
+ */
+public class ShardedRedisClient implements Closeable {
+
+    public static final int DEFAULT_VIRTUAL_NODES = 160;
+    private static final Logger LOGGER = LoggerFactory.getLogger(ShardedRedisClient.class);
+    private final String id;
+    private final List<RedisClient> shards;
+    private final ConsistentHashRing ring;
+    private final UnifiedJedis jedis;
+    private final ExecutorService executor;
+    private final KeyCommands keyCommands;
+    private final StringCommands stringCommands;
+    private final ListCommands listCommands;
+    private final HashCommands hashCommands;
+    private final SetCommands setCommands;
+    private final ZSetCommands zSetCommands;
+
+    public ShardedRedisClient(String id, List<RedisClientConfig> configs) throws RedisClientException {
+        this(id, configs, DEFAULT_VIRTUAL_NODES);
+    }
+
+    /**
+     * @param configs      one config per shard, a shard is identified on the ring by its host, port and database so
+     *                     the order of the configs does not matter
+     * @param virtualNodes points of every shard on the ring, more points spread the keys more evenly
+     */
+    public ShardedRedisClient(String id, List<RedisClientConfig> configs, int virtualNodes) throws RedisClientException {
+        this.id = id;
+        LOGGER.info("Start create ShardedRedisClient with id [{}]", id);
+        List<String> names = validate(configs, virtualNodes);
+        List<RedisClient> clients = new ArrayList<>(configs.size());
+        try {
+            for (int i = 0; i < configs.size(); i++) {
+                clients.add(new RedisClient(id + "-" + names.get(i), configs.get(i)));
+            }
+        } catch (RedisClientException e) {
+            clients.forEach(RedisClient::close);
+            throw e;
+        }
+        this.shards = Collections.unmodifiableList(clients);
+        this.ring = new ConsistentHashRing(names, virtualNodes);
+        this.executor = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name(id + "-shard-", 0).factory());
+        this.jedis = new UnifiedJedis(new ShardedCommandExecutor(this.shards, this.ring, this.executor));
+        this.keyCommands = new KeyCommands(this.jedis);
+        this.stringCommands = new StringCommands(this.jedis);
+        this.listCommands = new ListCommands(this.jedis);
+        this.hashCommands = new HashCommands(this.jedis);
+        this.setCommands = new SetCommands(this.jedis);
+        this.zSetCommands = new ZSetCommands(this.jedis);
+        LOGGER.info("Succeed in creating ShardedRedisClient with id [{}] over {} shards", id, names.size());
+    }
+
+    private List<String> validate(List<RedisClientConfig> configs, int virtualNodes) throws RedisClientException {
+        try {
+            if (configs == null || configs.isEmpty()) {
+                throw new IllegalArgumentException("at least one shard config is required");
+            }
+            if (virtualNodes <= 0) {
+                throw new IllegalArgumentException("virtualNodes must be greater than 0");
+            }
+            List<String> names = new ArrayList<>(configs.size());
+            for (RedisClientConfig config : configs) {
+                if (config.isCluster()) {
+                    throw new IllegalArgumentException("a shard can not be a cluster");
+                }
+                // values are written through the sharded command groups, which do not compress
+                if (config.isCompressionEnabled()) {
+                    throw new IllegalArgumentException("compression is not supported by sharded clients");
+                }
+                String name = config.getHost() + ":" + config.getPort() + "/" + config.getDatabase();
+                if (names.contains(name)) {
+                    throw new IllegalArgumentException("duplicate shard [" + name + "]");
+                }
+                names.add(name);
+            }
+            return names;
+        } catch (IllegalArgumentException e) {
+            throw new RedisClientException("Failed to init ShardedRedisClient with id [" + this.id + "]", e);
+        }
+    }
+
+    public KeyCommands key() {
+        return this.keyCommands;
+    }
+
+    public StringCommands string() {
+        return this.stringCommands;
+    }
+
+    public ListCommands list() {
+        return this.listCommands;
+    }
+
+    public HashCommands hash() {
+        return this.hashCommands;
+    }
+
+    public SetCommands set() {
+        return this.setCommands;
+    }
+
+    public ZSetCommands zset() {
+        return this.zSetCommands;
+    }
+
+    /**
+     * The client of the shard owning the key, for commands and features not available on the sharded client.
+     */
+    public RedisClient shard(String key) {
+        return this.shards.get(this.ring.shardOf(key));
+    }
+
+    /**
+     * The clients of every shard, in the order of the configs.
+     */
+    public List<RedisClient> shards() {
+        return this.shards;
+    }
+
+    /**
+     * Values of the keys in the order of the keys, read with one MGET per shard.
+     */
+    public List<String> mget(String... keys) {
+        return this.stringCommands.mget(keys);
+    }
+
+    /**
+     * Set alternating keys and values with one MSET per shard, the shards are not updated atomically as a whole.
+     */
+    public String mset(String... keysvalues) {
+        return this.stringCommands.mset(keysvalues);
+    }
+
+    public long del(String... keys) {
+        return this.keyCommands.del(keys);
+    }
+
+    public long unlink(String... keys) {
+        return this.keyCommands.unlink(keys);
+    }
+
+    public long exists(String... keys) {
+        return this.keyCommands.exists(keys);
+    }
+
+    @Override
+    public void close() {
+        LOGGER.info("Start close ShardedRedisClient with id [{}]", this.id);
+        this.executor.close();
+        this.jedis.close();
+        this.shards.forEach(RedisClient::close);
+    }
+}
@@ -0,0 +1,11 @@
+package com.github.rabbitnoteeth.bedrock.data.nosql.redis.analysis;
+
+import com.github.rabbitnoteeth.bedrock.data.nosql.redis.entity.ValueType;
+
+/**
+ * @param bytes       memory used by the key and its value, estimated from samples for large aggregates
+ * @param length      number of elements, or bytes for a string, -1 for streams
+ * @param idleSeconds seconds since the last access, -1 when the server tracks access frequency instead
+ */
+public record KeyInfo(String key, ValueType type, String encoding, long bytes, long length, long idleSeconds) {
+}
@@ -0,0 +1,257 @@
+package com.github.rabbitnoteeth.bedrock.data.nosql.redis.analysis;
+
+import com.github.rabbitnoteeth.bedrock.data.nosql.redis.RedisClient;
+import com.github.rabbitnoteeth.bedrock.data.nosql.redis.entity.ValueType;
+import com.github.rabbitnoteeth.bedrock.data.nosql.redis.exception.RedisClientException;
+import com.github.rabbitnoteeth.bedrock.data.nosql.redis.pipeline.RedisPipeline;
+import com.github.rabbitnoteeth.bedrock.data.nosql.redis.scan.ParallelScanOptions;
+import com.github.rabbitnoteeth.bedrock.data.nosql.redis.scan.ScanProgress;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import redis.clients.jedis.Response;
+import redis.clients.jedis.exceptions.JedisDataException;
+import redis.clients.jedis.exceptions.JedisException;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Walks the keyspace and reports the memory used per key prefix, with the biggest keys, size histograms and the keys
+ * idle for long. Every scanned page is inspected with two pipelines: MEMORY USAGE, TYPE, OBJECT ENCODING and OBJECT
+ * IDLETIME, then the length command of each type. Memory is bounded by the number of prefixes and top keys whatever
+ * the size of the keyspace, and the inspection commands are rate limited so that the analyzer can run in production.
+ * Keys of module types are not reported.
+ */
+public final class KeyspaceAnalyzer {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(KeyspaceAnalyzer.class);
+    private static final String OTHER_PREFIX = "(other)";
+    private static final int COMMANDS_PER_KEY = 5;
+
+    private final RedisClient client;
+    private final String separator;
+    private final int prefixDepth;
+    private final int maxPrefixes;
+    private final int topKeys;
+    private final long coldIdleSeconds;
+    private final int memorySamples;
+    private final int opsPerSecond;
+
+    private KeyspaceAnalyzer(RedisClient client, Builder builder) {
+        this.client = client;
+        this.separator = builder.separator;
+        this.prefixDepth = builder.prefixDepth;
+        this.maxPrefixes = builder.maxPrefixes;
+        this.topKeys = builder.topKeys;
+        this.coldIdleSeconds = builder.coldIdleSeconds;
+        this.memorySamples = builder.memorySamples;
+        this.opsPerSecond = builder.opsPerSecond;
+    }
+
+    /**
+     * Analyze the keys selected by the scan options, blocks until the whole keyspace has been walked.
+     */
+    public KeyspaceReport analyze(ParallelScanOptions options) {
+        LOGGER.info("Start analyze keyspace");
+        RateLimiter limiter = new RateLimiter(opsPerSecond);
+        Map<String, PrefixReport> prefixes = new HashMap<>();
+        ScanProgress progress = client.scanKeyspacePages(options, page -> {
+            try {
+                limiter.acquire(page.size() * COMMANDS_PER_KEY);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new JedisException("interrupted while waiting for the rate limit", e);
+            }
+            List<KeyInfo> keys = inspect(page);
+            synchronized (prefixes) {
+                for (KeyInfo key : keys) {
+                    String prefix = prefixOf(key.key());
+                    PrefixReport report = prefixes.get(prefix);
+                    if (report == null) {
+                        if (prefixes.size() >= maxPrefixes) {
+                            prefix = OTHER_PREFIX;
+                        }
+                        report = prefixes.computeIfAbsent(prefix, p -> new PrefixReport(p, topKeys, coldIdleSeconds));
+                    }
+                    report.add(key);
+                }
+            }
+        });
+        List<PrefixReport> reports = new ArrayList<>(prefixes.values());
+        reports.sort(Comparator.comparingLong(PrefixReport::getBytes).reversed());
+        LOGGER.info("Succeed in analyzing keyspace: {} prefixes, {}", reports.size(), progress);
+        return new KeyspaceReport(reports, progress);
+    }
+
+    private List<KeyInfo> inspect(List<String> page) {
+        List<KeyInfo> keys = new ArrayList<>(page.size());
+        try (RedisPipeline pipeline = client.pipeline()) {
+            List<Response<Long>> memory = new ArrayList<>(page.size());
+            List<Response<String>> types = new ArrayList<>(page.size());
+            List<Response<String>> encodings = new ArrayList<>(page.size());
+            List<Response<Long>> idleTimes = new ArrayList<>(page.size());
+            for (String key : page) {
+                memory.add(pipeline.key().memoryUsage(key, memorySamples));
+                types.add(pipeline.key().type(key));
+                encodings.add(pipeline.key().objectEncoding(key));
+                idleTimes.add(pipeline.key().objectIdletime(key));
+            }
+            pipeline.sync();
+            List<ValueType> valueTypes = new ArrayList<>(page.size());
+            List<Response<Long>> lengths = new ArrayList<>(page.size());
+            for (int i = 0; i < page.size(); i++) {
+                ValueType type = valueType(types.get(i).get());
+                valueTypes.add(type);
+                lengths.add(type == null ? null : length(pipeline, page.get(i), type));
+            }
+            pipeline.sync();
+            for (int i = 0; i < page.size(); i++) {
+                Long bytes = memory.get(i).get();
+                // deleted since the scan, or of a module type
+                if (bytes == null || valueTypes.get(i) == null) {
+                    continue;
+                }
+                Response<Long> length = lengths.get(i);
+                keys.add(new KeyInfo(page.get(i), valueTypes.get(i), encodings.get(i).get(), bytes,
+                    length == null ? -1 : length.get(), idleSeconds(idleTimes.get(i))));
+            }
+        }
+        return keys;
+    }
+
+    private static ValueType valueType(String type) {
+        try {
+            ValueType valueType = ValueType.valueOf(type.toUpperCase(Locale.ROOT));
+            return valueType == ValueType.NONE ? null : valueType;
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private static Response<Long> length(RedisPipeline pipeline, String key, ValueType type) {
+        return switch (type) {
+            case STRING -> pipeline.string().strlen(key);
+            case LIST -> pipeline.list().len(key);
+            case HASH -> pipeline.hash().len(key);
+            case SET -> pipeline.set().card(key);
+            case ZSET -> pipeline.zset().card(key);
+            default -> null;
+        };
+    }
+
+    private static long idleSeconds(Response<Long> idleTime) {
+        try {
+            Long seconds = idleTime.get();
+            return seconds == null ? -1 : seconds;
+        } catch (JedisDataException e) {
+            // idle time is not tracked under an LFU eviction policy
+            return -1;
+        }
+    }
+
+    private String prefixOf(String key) {
+        int end = -1;
+        for (int depth = 0; depth < prefixDepth; depth++) {
+            int next = key.indexOf(separator, end + 1);
+            if (next < 0) {
+                break;
+            }
+            end = next;
+        }
+        return end < 0 ? "" : key.substring(0, end);
+    }
+
+    public static class Builder {
+        private static final String DEFAULT_SEPARATOR = ":";
+        private static final int DEFAULT_MAX_PREFIXES = 1000;
+        private static final int DEFAULT_TOP_KEYS = 10;
+        private static final long DEFAULT_COLD_IDLE_SECONDS = 7 * 24 * 3600;
+        private static final int DEFAULT_MEMORY_SAMPLES = 5;
+        private static final int DEFAULT_OPS_PER_SECOND = 10000;
+
+        private String separator = DEFAULT_SEPARATOR;
+        private int prefixDepth = 1;
+        private int maxPrefixes = DEFAULT_MAX_PREFIXES;
+        private int topKeys = DEFAULT_TOP_KEYS;
+        private long coldIdleSeconds = DEFAULT_COLD_IDLE_SECONDS;
+        private int memorySamples = DEFAULT_MEMORY_SAMPLES;
+        private int opsPerSecond = DEFAULT_OPS_PER_SECOND;
+
+        /**
+         * Separator of the key segments.
+         */
+        public Builder setSeparator(String separator) {
+            this.separator = separator;
+            return this;
+        }
+
+        /**
+         * Number of leading segments forming the prefix of a key.
+         */
+        public Builder setPrefixDepth(int prefixDepth) {
+            this.prefixDepth = prefixDepth;
+            return this;
+        }
+
+        /**
+         * Prefixes reported separately, the keys of further prefixes are reported together.
+         */
+        public Builder setMaxPrefixes(int maxPrefixes) {
+            this.maxPrefixes = maxPrefixes;
+            return this;
+        }
+
+        /**
+         * Number of biggest keys kept per prefix.
+         */
+        public Builder setTopKeys(int topKeys) {
+            this.topKeys = topKeys;
+            return this;
+        }
+
+        /**
+         * Keys idle for at least this long are reported as cold.
+         */
+        public Builder setColdIdleSeconds(long coldIdleSeconds) {
+            this.coldIdleSeconds = coldIdleSeconds;
+            return this;
+        }
+
+        /**
+         * Elements sampled by MEMORY USAGE for aggregates, 0 samples every element.
+         */
+        public Builder setMemorySamples(int memorySamples) {
+            this.memorySamples = memorySamples;
+            return this;
+        }
+
+        /**
+         * Maximum number of inspection commands sent per second, 0 for no limit.
+         */
+        public Builder setOpsPerSecond(int opsPerSecond) {
+            this.opsPerSecond = opsPerSecond;
+            return this;
+        }
+
+        public KeyspaceAnalyzer build(RedisClient client) throws RedisClientException {
+            try {
+                if (client == null || separator == null || separator.isEmpty()) {
+                    throw new IllegalArgumentException("client and separator can not be empty");
+                }
+                if (prefixDepth <= 0 || maxPrefixes <= 0 || topKeys <= 0) {
+                    throw new IllegalArgumentException("prefix depth, max prefixes and top keys must be positive");
+                }
+                if (coldIdleSeconds < 0 || memorySamples < 0 || opsPerSecond < 0) {
+                    throw new IllegalArgumentException("cold idle seconds, memory samples and ops per second can not be negative");
+                }
+                return new KeyspaceAnalyzer(client, this);
+            } catch (Throwable e) {
+                throw new RedisClientException(e);
+            }
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package com.github.rabbitnoteeth.bedrock.data.nosql.redis.analysis;
+
+import com.github.rabbitnoteeth.bedrock.data.nosql.redis.scan.ScanProgress;
+
+import java.util.List;
+
+public final class KeyspaceReport {
+
+    private final List<PrefixReport> prefixes;
+    private final ScanProgress scan;
+
+    KeyspaceReport(List<PrefixReport> prefixes, ScanProgress scan) {
+        this.prefixes = prefixes;
+        this.scan = scan;
+    }
+
+    /**
+     * Reports of every prefix, the prefixes using the most memory first.
+     */
+    public List<PrefixReport> getPrefixes() {
+        return prefixes;
+    }
+
+    public ScanProgress getScan() {
+        return scan;
+    }
+
+    /**
+     * Human readable summary: one line per prefix followed by its biggest keys.
+     */
+    public String format() {
+        StringBuilder builder = new StringBuilder();
+        builder.append(String.format("%-40s %12s %16s %12s %16s%n", "prefix", "keys", "bytes", "cold keys", "cold bytes"));
+        for (PrefixReport prefix : prefixes) {
+            builder.append(String.format("%-40s %12d %16d %12d %16d%n", prefix.getPrefix(), prefix.getKeys(),
+                prefix.getBytes(), prefix.getColdKeys(), prefix.getColdBytes()));
+            for (KeyInfo key : prefix.getBiggestKeys()) {
+                builder.append(String.format("    %-60s %-8s %-12s %14d bytes %12d elements %10d s idle%n", key.key(),
+                    key.type(), key.encoding(), key.bytes(), key.length(), key.idleSeconds()));
+            }
+        }
+        return builder.toString();
+    }
+
+    @Override
+    public String toString() {
+        return "KeyspaceReport{" +
+            "prefixes=" + prefixes +
+            ", scan=" + scan +
+            '}';
+    }
+}
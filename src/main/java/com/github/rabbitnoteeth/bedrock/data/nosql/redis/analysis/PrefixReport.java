@@ -0,0 +1,142 @@
+package com.github.rabbitnoteeth.bedrock.data.nosql.redis.analysis;
+
+import com.github.rabbitnoteeth.bedrock.data.nosql.redis.entity.ValueType;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+/**
+ * Aggregates of the keys sharing a prefix. Sizes are counted in power of two buckets: bucket {@code i} holds the
+ * values from {@code 2^(i-1)} to {@code 2^i - 1}, bucket 0 holds zero.
+ */
+public final class PrefixReport {
+
+    private static final Comparator<KeyInfo> BY_BYTES = Comparator.comparingLong(KeyInfo::bytes);
+
+    private final String prefix;
+    private final int topKeys;
+    private final long coldIdleSeconds;
+    private final Map<ValueType, Long> types = new EnumMap<>(ValueType.class);
+    private final long[] bytesHistogram = new long[Long.SIZE + 1];
+    private final long[] lengthHistogram = new long[Long.SIZE + 1];
+    private final PriorityQueue<KeyInfo> biggest;
+    private final PriorityQueue<KeyInfo> biggestCold;
+    private long keys;
+    private long bytes;
+    private long coldKeys;
+    private long coldBytes;
+
+    PrefixReport(String prefix, int topKeys, long coldIdleSeconds) {
+        this.prefix = prefix;
+        this.topKeys = topKeys;
+        this.coldIdleSeconds = coldIdleSeconds;
+        this.biggest = new PriorityQueue<>(topKeys + 1, BY_BYTES);
+        this.biggestCold = new PriorityQueue<>(topKeys + 1, BY_BYTES);
+    }
+
+    void add(KeyInfo key) {
+        keys++;
+        bytes += key.bytes();
+        types.merge(key.type(), 1L, Long::sum);
+        bytesHistogram[bucket(key.bytes())]++;
+        if (key.length() >= 0) {
+            lengthHistogram[bucket(key.length())]++;
+        }
+        offer(biggest, key);
+        if (key.idleSeconds() >= coldIdleSeconds) {
+            coldKeys++;
+            coldBytes += key.bytes();
+            offer(biggestCold, key);
+        }
+    }
+
+    private void offer(PriorityQueue<KeyInfo> top, KeyInfo key) {
+        if (top.size() < topKeys) {
+            top.add(key);
+        } else if (top.peek().bytes() < key.bytes()) {
+            top.poll();
+            top.add(key);
+        }
+    }
+
+    private static int bucket(long value) {
+        return Long.SIZE - Long.numberOfLeadingZeros(value);
+    }
+
+    public String getPrefix() {
+        return prefix;
+    }
+
+    public long getKeys() {
+        return keys;
+    }
+
+    public long getBytes() {
+        return bytes;
+    }
+
+    public Map<ValueType, Long> getTypes() {
+        return Map.copyOf(types);
+    }
+
+    public long[] getBytesHistogram() {
+        return bytesHistogram.clone();
+    }
+
+    /**
+     * Histogram of the number of elements of the aggregates and of the length of the strings.
+     */
+    public long[] getLengthHistogram() {
+        return lengthHistogram.clone();
+    }
+
+    /**
+     * The biggest keys, biggest first.
+     */
+    public List<KeyInfo> getBiggestKeys() {
+        return sorted(biggest);
+    }
+
+    /**
+     * Keys idle for at least the cold threshold.
+     */
+    public long getColdKeys() {
+        return coldKeys;
+    }
+
+    public long getColdBytes() {
+        return coldBytes;
+    }
+
+    /**
+     * The biggest cold keys, biggest first.
+     */
+    public List<KeyInfo> getBiggestColdKeys() {
+        return sorted(biggestCold);
+    }
+
+    private static List<KeyInfo> sorted(PriorityQueue<KeyInfo> top) {
+        List<KeyInfo> keys = new ArrayList<>(top);
+        keys.sort(BY_BYTES.reversed());
+        return keys;
+    }
+
+    @Override
+    public String toString() {
+        return "PrefixReport{" +
+            "prefix='" + prefix + '\'' +
+            ", keys=" + keys +
+            ", bytes=" + bytes +
+            ", types=" + types +
+            ", coldKeys=" + coldKeys +
+            ", coldBytes=" + coldBytes +
+            ", bytesHistogram=" + Arrays.toString(bytesHistogram) +
+            ", lengthHistogram=" + Arrays.toString(lengthHistogram) +
+            '}';
+    }
+}
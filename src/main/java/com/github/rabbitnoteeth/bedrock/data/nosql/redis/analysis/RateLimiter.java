@@ -0,0 +1,36 @@
+package com.github.rabbitnoteeth.bedrock.data.nosql.redis.analysis;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Spaces out permits evenly at a fixed rate. A request larger than one second of permits is granted at once and
+ * delays the following requests instead.
+ */
+final class RateLimiter {
+
+    private final double nanosPerPermit;
+    private long nextFreeNanos = System.nanoTime();
+
+    /**
+     * @param permitsPerSecond 0 for no limit
+     */
+    RateLimiter(int permitsPerSecond) {
+        this.nanosPerPermit = permitsPerSecond == 0 ? 0 : 1e9 / permitsPerSecond;
+    }
+
+    void acquire(int permits) throws InterruptedException {
+        if (nanosPerPermit == 0) {
+            return;
+        }
+        long wait;
+        synchronized (this) {
+            long now = System.nanoTime();
+            long start = Math.max(now, nextFreeNanos);
+            nextFreeNanos = start + (long) (permits * nanosPerPermit);
+            wait = start - now;
+        }
+        if (wait > 0) {
+            TimeUnit.NANOSECONDS.sleep(wait);
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package com.github.rabbitnoteeth.bedrock.data.nosql.redis.async;
+
+import com.github.rabbitnoteeth.bedrock.data.nosql.redis.commands.HashCommands;
+import redis.clients.jedis.params.ScanParams;
+import redis.clients.jedis.resps.ScanResult;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+/**
+ * Non-blocking counterpart of {@link HashCommands}, every command runs on the client's bounded virtual thread executor.
+ */
+public class AsyncHashCommands {
+
+    private final HashCommands commands;
+    private final Executor executor;
+
+    public AsyncHashCommands(HashCommands commands, Executor executor) {
+        this.commands = commands;
+        this.executor = executor;
+    }
+
+    public CompletableFuture<Long> set(String key, String field, String value) {
+        return AsyncSupport.supply(() -> commands.set(key, field, value), executor);
+    }
+
+    public CompletableFuture<Long> set(String key, Map<String, String> hash) {
+        return AsyncSupport.supply(() -> commands.set(key, hash), executor);
+    }
+
+    public CompletableFuture<String> get(String key, String field) {
+        return AsyncSupport.supply(() -> commands.get(key, field), executor);
+    }
+
+    public CompletableFuture<Long> setnx(String key, String field, String value) {
+        return AsyncSupport.supply(() -> commands.setnx(key, field, value), executor);
+    }
+
+    public CompletableFuture<String> mset(String key, Map<String, String> hash) {
+        return AsyncSupport.supply(() -> commands.mset(key, hash), executor);
+    }
+
+    public CompletableFuture<List<String>> mget(String key, String... fields) {
+        return AsyncSupport.supply(() -> commands.mget(key, fields), executor);
+    }
+
+    public CompletableFuture<Long> incrBy(String key, String field, long value) {
+        return AsyncSupport.supply(() -> commands.incrBy(key, field, value), executor);
+    }
+
+    public CompletableFuture<Double> incrByFloat(String key, String field, double value) {
+        return AsyncSupport.supply(() -> commands.incrByFloat(key, field, value), executor);
+    }
+
+    public CompletableFuture<Boolean> exists(String key, String field) {
+        return AsyncSupport.supply(() -> commands.exists(key, field), executor);
+    }
+
+    public CompletableFuture<Long> del(String key, String... field) {
+        return AsyncSupport.supply(() -> commands.del(key, field), executor);
+    }
+
+    public CompletableFuture<Long> len(String key) {
+        return AsyncSupport.supply(() -> commands.len(key), executor);
+    }
+
+    public CompletableFuture<Set<String>> keys(String key) {
+        return AsyncSupport.supply(() -> commands.keys(key), executor);
+    }
+
+    public CompletableFuture<List<String>> vals(String key) {
+        return AsyncSupport.supply(() -> commands.vals(key), executor);
+    }
+
+    public CompletableFuture<Map<String, String>> getAll(String key) {
+        return AsyncSupport.supply(() -> commands.getAll(key), executor);
+    }
+
+    public CompletableFuture<String> randfield(String key) {
+        return AsyncSupport.supply(() -> commands.randfield(key), executor);
+    }
+
+    public CompletableFuture<List<String>> randfield(String key, long count) {
+        return AsyncSupport.supply(() -> commands.randfield(key, count), executor);
+    }
+
+    public CompletableFuture<List<Map.Entry<String, String>>> randfieldWithValues(String key, long count) {
+        return AsyncSupport.supply(() -> commands.randfieldWithValues(key, count), executor);
+    }
+
+    public CompletableFuture<ScanResult<Map.Entry<String, String>>> scan(String key, String cursor) {
+        return AsyncSupport.supply(() -> commands.scan(key, cursor), executor);
+    }
+
+    public CompletableFuture<ScanResult<Map.Entry<String, String>>> scan(String key, String cursor, ScanParams params) {
+        return AsyncSupport.supply(() -> commands.scan(key, cursor, params), executor);
+    }
+
+    public CompletableFuture<Long> strlen(String key, String field) {
+        return AsyncSupport.supply(() -> commands.strlen(key, field), executor);
+    }
+
+}
@@ -0,0 +1,214 @@
+package com.github.rabbitnoteeth.bedrock.data.nosql.redis.async;
+
+import com.github.rabbitnoteeth.bedrock.data.nosql.redis.commands.KeyCommands;
+import com.github.rabbitnoteeth.bedrock.data.nosql.redis.entity.ValueType;
+import redis.clients.jedis.args.ExpiryOption;
+import redis.clients.jedis.params.MigrateParams;
+import redis.clients.jedis.params.RestoreParams;
+import redis.clients.jedis.params.ScanParams;
+import redis.clients.jedis.params.SortingParams;
+import redis.clients.jedis.resps.ScanResult;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+/**
+ * Non-blocking counterpart of {@link KeyCommands}, every command runs on the client's bounded virtual thread executor.
+ */
+public class AsyncKeyCommands {
+
+    private final KeyCommands commands;
+    private final Executor executor;
+
+    public AsyncKeyCommands(KeyCommands commands, Executor executor) {
+        this.commands = commands;
+        this.executor = executor;
+    }
+
+    public CompletableFuture<Boolean> exists(String key) {
+        return AsyncSupport.supply(() -> commands.exists(key), executor);
+    }
+
+    public CompletableFuture<Long> exists(String... keys) {
+        return AsyncSupport.supply(() -> commands.exists(keys), executor);
+    }
+
+    public CompletableFuture<Long> persist(String key) {
+        return AsyncSupport.supply(() -> commands.persist(key), executor);
+    }
+
+    public CompletableFuture<ValueType> valueType(String key) {
+        return AsyncSupport.supply(() -> commands.valueType(key), executor);
+    }
+
+    public CompletableFuture<byte[]> dump(String key) {
+        return AsyncSupport.supply(() -> commands.dump(key), executor);
+    }
+
+    public CompletableFuture<String> restore(String key, long ttl, byte[] serializedValue) {
+        return AsyncSupport.supply(() -> commands.restore(key, ttl, serializedValue), executor);
+    }
+
+    public CompletableFuture<String> restore(String key, long ttl, byte[] serializedValue, RestoreParams params) {
+        return AsyncSupport.supply(() -> commands.restore(key, ttl, serializedValue, params), executor);
+    }
+
+    public CompletableFuture<Long> expire(String key, long seconds) {
+        return AsyncSupport.supply(() -> commands.expire(key, seconds), executor);
+    }
+
+    public CompletableFuture<Long> expire(String key, long seconds, ExpiryOption expiryOption) {
+        return AsyncSupport.supply(() -> commands.expire(key, seconds, expiryOption), executor);
+    }
+
+    public CompletableFuture<Long> pexpire(String key, long milliseconds) {
+        return AsyncSupport.supply(() -> commands.pexpire(key, milliseconds), executor);
+    }
+
+    public CompletableFuture<Long> pexpire(String key, long milliseconds, ExpiryOption expiryOption) {
+        return AsyncSupport.supply(() -> commands.pexpire(key, milliseconds, expiryOption), executor);
+    }
+
+    public CompletableFuture<Long> expireTime(String key) {
+        return AsyncSupport.supply(() -> commands.expireTime(key), executor);
+    }
+
+    public CompletableFuture<Long> pexpireTime(String key) {
+        return AsyncSupport.supply(() -> commands.pexpireTime(key), executor);
+    }
+
+    public CompletableFuture<Long> expireAt(String key, long unixTime) {
+        return AsyncSupport.supply(() -> commands.expireAt(key, unixTime), executor);
+    }
+
+    public CompletableFuture<Long> expireAt(String key, long unixTime, ExpiryOption expiryOption) {
+        return AsyncSupport.supply(() -> commands.expireAt(key, unixTime, expiryOption), executor);
+    }
+
+    public CompletableFuture<Long> pexpireAt(String key, long millisecondsTimestamp) {
+        return AsyncSupport.supply(() -> commands.pexpireAt(key, millisecondsTimestamp), executor);
+    }
+
+    public CompletableFuture<Long> pexpireAt(String key, long millisecondsTimestamp, ExpiryOption expiryOption) {
+        return AsyncSupport.supply(() -> commands.pexpireAt(key, millisecondsTimestamp, expiryOption), executor);
+    }
+
+    public CompletableFuture<Long> ttl(String key) {
+        return AsyncSupport.supply(() -> commands.ttl(key), executor);
+    }
+
+    public CompletableFuture<Long> pttl(String key) {
+        return AsyncSupport.supply(() -> commands.pttl(key), executor);
+    }
+
+    public CompletableFuture<Long> touch(String key) {
+        return AsyncSupport.supply(() -> commands.touch(key), executor);
+    }
+
+    public CompletableFuture<Long> touch(String... keys) {
+        return AsyncSupport.supply(() -> commands.touch(keys), executor);
+    }
+
+    public CompletableFuture<List<String>> sort(String key) {
+        return AsyncSupport.supply(() -> commands.sort(key), executor);
+    }
+
+    public CompletableFuture<Long> sort(String key, String dstkey) {
+        return AsyncSupport.supply(() -> commands.sort(key, dstkey), executor);
+    }
+
+    public CompletableFuture<List<String>> sort(String key, SortingParams sortingParameters) {
+        return AsyncSupport.supply(() -> commands.sort(key, sortingParameters), executor);
+    }
+
+    public CompletableFuture<Long> sort(String key, SortingParams sortingParameters, String dstkey) {
+        return AsyncSupport.supply(() -> commands.sort(key, sortingParameters, dstkey), executor);
+    }
+
+    public CompletableFuture<List<String>> sortReadonly(String key, SortingParams sortingParams) {
+        return AsyncSupport.supply(() -> commands.sortReadonly(key, sortingParams), executor);
+    }
+
+    public CompletableFuture<Long> del(String key) {
+        return AsyncSupport.supply(() -> commands.del(key), executor);
+    }
+
+    public CompletableFuture<Long> del(String... keys) {
+        return AsyncSupport.supply(() -> commands.del(keys), executor);
+    }
+
+    public CompletableFuture<Long> unlink(String key) {
+        return AsyncSupport.supply(() -> commands.unlink(key), executor);
+    }
+
+    public CompletableFuture<Long> unlink(String... keys) {
+        return AsyncSupport.supply(() -> commands.unlink(keys), executor);
+    }
+
+    public CompletableFuture<Boolean> copy(String srcKey, String dstKey, boolean replace) {
+        return AsyncSupport.supply(() -> commands.copy(srcKey, dstKey, replace), executor);
+    }
+
+    public CompletableFuture<String> rename(String oldkey, String newkey) {
+        return AsyncSupport.supply(() -> commands.rename(oldkey, newkey), executor);
+    }
+
+    public CompletableFuture<Long> renamenx(String oldkey, String newkey) {
+        return AsyncSupport.supply(() -> commands.renamenx(oldkey, newkey), executor);
+    }
+
+    public CompletableFuture<Long> memoryUsage(String key) {
+        return AsyncSupport.supply(() -> commands.memoryUsage(key), executor);
+    }
+
+    public CompletableFuture<Long> memoryUsage(String key, int samples) {
+        return AsyncSupport.supply(() -> commands.memoryUsage(key, samples), executor);
+    }
+
+    public CompletableFuture<Long> objectRefcount(String key) {
+        return AsyncSupport.supply(() -> commands.objectRefcount(key), executor);
+    }
+
+    public CompletableFuture<String> objectEncoding(String key) {
+        return AsyncSupport.supply(() -> commands.objectEncoding(key), executor);
+    }
+
+    public CompletableFuture<Long> objectIdletime(String key) {
+        return AsyncSupport.supply(() -> commands.objectIdletime(key), executor);
+    }
+
+    public CompletableFuture<Long> objectFreq(String key) {
+        return AsyncSupport.supply(() -> commands.objectFreq(key), executor);
+    }
+
+    public CompletableFuture<String> migrate(String host, int port, String key, int timeout) {
+        return AsyncSupport.supply(() -> commands.migrate(host, port, key, timeout), executor);
+    }
+
+    public CompletableFuture<String> migrate(String host, int port, int timeout, MigrateParams params, String... keys) {
+        return AsyncSupport.supply(() -> commands.migrate(host, port, timeout, params, keys), executor);
+    }
+
+    public CompletableFuture<Set<String>> keys(String pattern) {
+        return AsyncSupport.supply(() -> commands.keys(pattern), executor);
+    }
+
+    public CompletableFuture<ScanResult<String>> scan(String cursor) {
+        return AsyncSupport.supply(() -> commands.scan(cursor), executor);
+    }
+
+    public CompletableFuture<ScanResult<String>> scan(String cursor, ScanParams params) {
+        return AsyncSupport.supply(() -> commands.scan(cursor, params), executor);
+    }
+
+    public CompletableFuture<ScanResult<String>> scan(String cursor, ScanParams params, String type) {
+        return AsyncSupport.supply(() -> commands.scan(cursor, params, type), executor);
+    }
+
+    public CompletableFuture<String> randomKey() {
+        return AsyncSupport.supply(() -> commands.randomKey(), executor);
+    }
+
+}
@@ -0,0 +1,162 @@
+package com.github.rabbitnoteeth.bedrock.data.nosql.redis.async;
+
+import com.github.rabbitnoteeth.bedrock.data.nosql.redis.commands.ListCommands;
+import redis.clients.jedis.args.ListDirection;
+import redis.clients.jedis.args.ListPosition;
+import redis.clients.jedis.params.LPosParams;
+import redis.clients.jedis.util.KeyValue;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+/**
+ * Non-blocking counterpart of {@link ListCommands}, every command runs on the client's bounded virtual thread executor.
+ */
+public class AsyncListCommands {
+
+    private final ListCommands commands;
+    private final Executor executor;
+
+    public AsyncListCommands(ListCommands commands, Executor executor) {
+        this.commands = commands;
+        this.executor = executor;
+    }
+
+    public CompletableFuture<Long> rpush(String key, String... strings) {
+        return AsyncSupport.supply(() -> commands.rpush(key, strings), executor);
+    }
+
+    public CompletableFuture<Long> lpush(String key, String... strings) {
+        return AsyncSupport.supply(() -> commands.lpush(key, strings), executor);
+    }
+
+    public CompletableFuture<Long> len(String key) {
+        return AsyncSupport.supply(() -> commands.len(key), executor);
+    }
+
+    public CompletableFuture<List<String>> range(String key, long start, long stop) {
+        return AsyncSupport.supply(() -> commands.range(key, start, stop), executor);
+    }
+
+    public CompletableFuture<String> trim(String key, long start, long stop) {
+        return AsyncSupport.supply(() -> commands.trim(key, start, stop), executor);
+    }
+
+    public CompletableFuture<String> index(String key, long index) {
+        return AsyncSupport.supply(() -> commands.index(key, index), executor);
+    }
+
+    public CompletableFuture<String> set(String key, long index, String value) {
+        return AsyncSupport.supply(() -> commands.set(key, index, value), executor);
+    }
+
+    public CompletableFuture<Long> rem(String key, long count, String value) {
+        return AsyncSupport.supply(() -> commands.rem(key, count, value), executor);
+    }
+
+    public CompletableFuture<String> lpop(String key) {
+        return AsyncSupport.supply(() -> commands.lpop(key), executor);
+    }
+
+    public CompletableFuture<List<String>> lpop(String key, int count) {
+        return AsyncSupport.supply(() -> commands.lpop(key, count), executor);
+    }
+
+    public CompletableFuture<Long> pos(String key, String element) {
+        return AsyncSupport.supply(() -> commands.pos(key, element), executor);
+    }
+
+    public CompletableFuture<Long> pos(String key, String element, LPosParams params) {
+        return AsyncSupport.supply(() -> commands.pos(key, element, params), executor);
+    }
+
+    public CompletableFuture<List<Long>> pos(String key, String element, LPosParams params, long count) {
+        return AsyncSupport.supply(() -> commands.pos(key, element, params, count), executor);
+    }
+
+    public CompletableFuture<String> rpop(String key) {
+        return AsyncSupport.supply(() -> commands.rpop(key), executor);
+    }
+
+    public CompletableFuture<List<String>> rpop(String key, int count) {
+        return AsyncSupport.supply(() -> commands.rpop(key, count), executor);
+    }
+
+    public CompletableFuture<Long> insert(String key, ListPosition where, String pivot, String value) {
+        return AsyncSupport.supply(() -> commands.insert(key, where, pivot, value), executor);
+    }
+
+    public CompletableFuture<Long> lpushx(String key, String... strings) {
+        return AsyncSupport.supply(() -> commands.lpushx(key, strings), executor);
+    }
+
+    public CompletableFuture<Long> rpushx(String key, String... strings) {
+        return AsyncSupport.supply(() -> commands.rpushx(key, strings), executor);
+    }
+
+    public CompletableFuture<List<String>> blpop(int timeout, String... keys) {
+        return AsyncSupport.supply(() -> commands.blpop(timeout, keys), executor);
+    }
+
+    public CompletableFuture<List<String>> blpop(int timeout, String key) {
+        return AsyncSupport.supply(() -> commands.blpop(timeout, key), executor);
+    }
+
+    public CompletableFuture<KeyValue<String, String>> blpop(double timeout, String... keys) {
+        return AsyncSupport.supply(() -> commands.blpop(timeout, keys), executor);
+    }
+
+    public CompletableFuture<KeyValue<String, String>> blpop(double timeout, String key) {
+        return AsyncSupport.supply(() -> commands.blpop(timeout, key), executor);
+    }
+
+    public CompletableFuture<List<String>> brpop(int timeout, String... keys) {
+        return AsyncSupport.supply(() -> commands.brpop(timeout, keys), executor);
+    }
+
+    public CompletableFuture<List<String>> brpop(int timeout, String key) {
+        return AsyncSupport.supply(() -> commands.brpop(timeout, key), executor);
+    }
+
+    public CompletableFuture<KeyValue<String, String>> brpop(double timeout, String... keys) {
+        return AsyncSupport.supply(() -> commands.brpop(timeout, keys), executor);
+    }
+
+    public CompletableFuture<KeyValue<String, String>> brpop(double timeout, String key) {
+        return AsyncSupport.supply(() -> commands.brpop(timeout, key), executor);
+    }
+
+    public CompletableFuture<String> rpoplpush(String srckey, String dstkey) {
+        return AsyncSupport.supply(() -> commands.rpoplpush(srckey, dstkey), executor);
+    }
+
+    public CompletableFuture<String> brpoplpush(String source, String destination, int timeout) {
+        return AsyncSupport.supply(() -> commands.brpoplpush(source, destination, timeout), executor);
+    }
+
+    public CompletableFuture<String> move(String srcKey, String dstKey, ListDirection from, ListDirection to) {
+        return AsyncSupport.supply(() -> commands.move(srcKey, dstKey, from, to), executor);
+    }
+
+    public CompletableFuture<String> bmove(String srcKey, String dstKey, ListDirection from, ListDirection to, double timeout) {
+        return AsyncSupport.supply(() -> commands.bmove(srcKey, dstKey, from, to, timeout), executor);
+    }
+
+    public CompletableFuture<KeyValue<String, List<String>>> lmpop(ListDirection direction, String... keys) {
+        return AsyncSupport.supply(() -> commands.lmpop(direction, keys), executor);
+    }
+
+    public CompletableFuture<KeyValue<String, List<String>>> lmpop(ListDirection direction, int count, String... keys) {
+        return AsyncSupport.supply(() -> commands.lmpop(direction, count, keys), executor);
+    }
+
+    public CompletableFuture<KeyValue<String, List<String>>> blmpop(double timeout, ListDirection direction, String... keys) {
+        return AsyncSupport.supply(() -> commands.blmpop(timeout, direction, keys), executor);
+    }
+
+    public CompletableFuture<KeyValue<String, List<String>>> blmpop(double timeout, ListDirection direction, int count, String... keys) {
+        return AsyncSupport.supply(() -> commands.blmpop(timeout, direction, count, keys), executor);
+    }
+
+}
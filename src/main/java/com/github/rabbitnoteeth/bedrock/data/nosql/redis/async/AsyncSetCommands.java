@@ -0,0 +1,105 @@
+package com.github.rabbitnoteeth.bedrock.data.nosql.redis.async;
+
+import com.github.rabbitnoteeth.bedrock.data.nosql.redis.commands.SetCommands;
+import redis.clients.jedis.params.ScanParams;
+import redis.clients.jedis.resps.ScanResult;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+/**
+ * Non-blocking counterpart of {@link SetCommands}, every command runs on the client's bounded virtual thread executor.
+ */
+public class AsyncSetCommands {
+
+    private final SetCommands commands;
+    private final Executor executor;
+
+    public AsyncSetCommands(SetCommands commands, Executor executor) {
+        this.commands = commands;
+        this.executor = executor;
+    }
+
+    public CompletableFuture<Long> add(String key, String... members) {
+        return AsyncSupport.supply(() -> commands.add(key, members), executor);
+    }
+
+    public CompletableFuture<Set<String>> members(String key) {
+        return AsyncSupport.supply(() -> commands.members(key), executor);
+    }
+
+    public CompletableFuture<Long> rem(String key, String... members) {
+        return AsyncSupport.supply(() -> commands.rem(key, members), executor);
+    }
+
+    public CompletableFuture<String> pop(String key) {
+        return AsyncSupport.supply(() -> commands.pop(key), executor);
+    }
+
+    public CompletableFuture<Set<String>> pop(String key, long count) {
+        return AsyncSupport.supply(() -> commands.pop(key, count), executor);
+    }
+
+    public CompletableFuture<Long> card(String key) {
+        return AsyncSupport.supply(() -> commands.card(key), executor);
+    }
+
+    public CompletableFuture<Boolean> ismember(String key, String member) {
+        return AsyncSupport.supply(() -> commands.ismember(key, member), executor);
+    }
+
+    public CompletableFuture<List<Boolean>> mismember(String key, String... members) {
+        return AsyncSupport.supply(() -> commands.mismember(key, members), executor);
+    }
+
+    public CompletableFuture<String> randmember(String key) {
+        return AsyncSupport.supply(() -> commands.randmember(key), executor);
+    }
+
+    public CompletableFuture<List<String>> randmember(String key, int count) {
+        return AsyncSupport.supply(() -> commands.randmember(key, count), executor);
+    }
+
+    public CompletableFuture<ScanResult<String>> scan(String key, String cursor) {
+        return AsyncSupport.supply(() -> commands.scan(key, cursor), executor);
+    }
+
+    public CompletableFuture<ScanResult<String>> scan(String key, String cursor, ScanParams params) {
+        return AsyncSupport.supply(() -> commands.scan(key, cursor, params), executor);
+    }
+
+    public CompletableFuture<Set<String>> diff(String... keys) {
+        return AsyncSupport.supply(() -> commands.diff(keys), executor);
+    }
+
+    public CompletableFuture<Set<String>> inter(String... keys) {
+        return AsyncSupport.supply(() -> commands.inter(keys), executor);
+    }
+
+    public CompletableFuture<Long> interstore(String dstkey, String... keys) {
+        return AsyncSupport.supply(() -> commands.interstore(dstkey, keys), executor);
+    }
+
+    public CompletableFuture<Long> intercard(String... keys) {
+        return AsyncSupport.supply(() -> commands.intercard(keys), executor);
+    }
+
+    public CompletableFuture<Long> intercard(int limit, String... keys) {
+        return AsyncSupport.supply(() -> commands.intercard(limit, keys), executor);
+    }
+
+    public CompletableFuture<Set<String>> union(String... keys) {
+        return AsyncSupport.supply(() -> commands.union(keys), executor);
+    }
+
+    public CompletableFuture<Long> unionstore(String dstkey, String... keys) {
+        return AsyncSupport.supply(() -> commands.unionstore(dstkey, keys), executor);
+    }
+
+    public CompletableFuture<Long> move(String srckey, String dstkey, String member) {
+        return AsyncSupport.supply(() -> commands.move(srckey, dstkey, member), executor);
+    }
+
+}
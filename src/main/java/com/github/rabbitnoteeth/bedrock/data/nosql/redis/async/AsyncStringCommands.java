@@ -0,0 +1,126 @@
+package com.github.rabbitnoteeth.bedrock.data.nosql.redis.async;
+
+import com.github.rabbitnoteeth.bedrock.data.nosql.redis.commands.StringCommands;
+import redis.clients.jedis.params.GetExParams;
+import redis.clients.jedis.params.LCSParams;
+import redis.clients.jedis.params.SetParams;
+import redis.clients.jedis.resps.LCSMatchResult;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+/**
+ * Non-blocking counterpart of {@link StringCommands}, every command runs on the client's bounded virtual thread executor.
+ */
+public class AsyncStringCommands {
+
+    private final StringCommands commands;
+    private final Executor executor;
+
+    public AsyncStringCommands(StringCommands commands, Executor executor) {
+        this.commands = commands;
+        this.executor = executor;
+    }
+
+    public CompletableFuture<String> set(String key, String value) {
+        return AsyncSupport.supply(() -> commands.set(key, value), executor);
+    }
+
+    public CompletableFuture<String> set(String key, String value, SetParams params) {
+        return AsyncSupport.supply(() -> commands.set(key, value, params), executor);
+    }
+
+    public CompletableFuture<String> get(String key) {
+        return AsyncSupport.supply(() -> commands.get(key), executor);
+    }
+
+    public CompletableFuture<String> setGet(String key, String value) {
+        return AsyncSupport.supply(() -> commands.setGet(key, value), executor);
+    }
+
+    public CompletableFuture<String> setGet(String key, String value, SetParams params) {
+        return AsyncSupport.supply(() -> commands.setGet(key, value, params), executor);
+    }
+
+    public CompletableFuture<String> getDel(String key) {
+        return AsyncSupport.supply(() -> commands.getDel(key), executor);
+    }
+
+    public CompletableFuture<String> getEx(String key, GetExParams params) {
+        return AsyncSupport.supply(() -> commands.getEx(key, params), executor);
+    }
+
+    public CompletableFuture<Long> setrange(String key, long offset, String value) {
+        return AsyncSupport.supply(() -> commands.setrange(key, offset, value), executor);
+    }
+
+    public CompletableFuture<String> getrange(String key, long startOffset, long endOffset) {
+        return AsyncSupport.supply(() -> commands.getrange(key, startOffset, endOffset), executor);
+    }
+
+    public CompletableFuture<String> getSet(String key, String value) {
+        return AsyncSupport.supply(() -> commands.getSet(key, value), executor);
+    }
+
+    public CompletableFuture<Long> setnx(String key, String value) {
+        return AsyncSupport.supply(() -> commands.setnx(key, value), executor);
+    }
+
+    public CompletableFuture<String> setex(String key, long seconds, String value) {
+        return AsyncSupport.supply(() -> commands.setex(key, seconds, value), executor);
+    }
+
+    public CompletableFuture<String> psetex(String key, long milliseconds, String value) {
+        return AsyncSupport.supply(() -> commands.psetex(key, milliseconds, value), executor);
+    }
+
+    public CompletableFuture<List<String>> mget(String... keys) {
+        return AsyncSupport.supply(() -> commands.mget(keys), executor);
+    }
+
+    public CompletableFuture<String> mset(String... keysvalues) {
+        return AsyncSupport.supply(() -> commands.mset(keysvalues), executor);
+    }
+
+    public CompletableFuture<Long> msetnx(String... keysvalues) {
+        return AsyncSupport.supply(() -> commands.msetnx(keysvalues), executor);
+    }
+
+    public CompletableFuture<Long> incr(String key) {
+        return AsyncSupport.supply(() -> commands.incr(key), executor);
+    }
+
+    public CompletableFuture<Long> incrBy(String key, long increment) {
+        return AsyncSupport.supply(() -> commands.incrBy(key, increment), executor);
+    }
+
+    public CompletableFuture<Double> incrByFloat(String key, double increment) {
+        return AsyncSupport.supply(() -> commands.incrByFloat(key, increment), executor);
+    }
+
+    public CompletableFuture<Long> decr(String key) {
+        return AsyncSupport.supply(() -> commands.decr(key), executor);
+    }
+
+    public CompletableFuture<Long> decrBy(String key, long decrement) {
+        return AsyncSupport.supply(() -> commands.decrBy(key, decrement), executor);
+    }
+
+    public CompletableFuture<Long> append(String key, String value) {
+        return AsyncSupport.supply(() -> commands.append(key, value), executor);
+    }
+
+    public CompletableFuture<String> substr(String key, int start, int end) {
+        return AsyncSupport.supply(() -> commands.substr(key, start, end), executor);
+    }
+
+    public CompletableFuture<Long> strlen(String key) {
+        return AsyncSupport.supply(() -> commands.strlen(key), executor);
+    }
+
+    public CompletableFuture<LCSMatchResult> lcs(String keyA, String keyB, LCSParams params) {
+        return AsyncSupport.supply(() -> commands.lcs(keyA, keyB, params), executor);
+    }
+
+}
@@ -0,0 +1,27 @@
+package com.github.rabbitnoteeth.bedrock.data.nosql.redis.async;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Supplier;
+
+/**
+ * Starts the commands of the async groups.
+ */
+final class AsyncSupport {
+
+    private AsyncSupport() {
+    }
+
+    /**
+     * Run the command on the executor, a command rejected because the client is closed is returned as a failed
+     * future instead of throwing to the caller.
+     */
+    static <T> CompletableFuture<T> supply(Supplier<T> command, Executor executor) {
+        try {
+            return CompletableFuture.supplyAsync(command, executor);
+        } catch (RejectedExecutionException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+}
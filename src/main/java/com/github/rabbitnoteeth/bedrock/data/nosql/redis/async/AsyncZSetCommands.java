@@ -0,0 +1,340 @@
+package com.github.rabbitnoteeth.bedrock.data.nosql.redis.async;
+
+import com.github.rabbitnoteeth.bedrock.data.nosql.redis.commands.ZSetCommands;
+import redis.clients.jedis.args.SortedSetOption;
+import redis.clients.jedis.params.ScanParams;
+import redis.clients.jedis.params.ZAddParams;
+import redis.clients.jedis.params.ZIncrByParams;
+import redis.clients.jedis.params.ZParams;
+import redis.clients.jedis.params.ZRangeParams;
+import redis.clients.jedis.resps.ScanResult;
+import redis.clients.jedis.resps.Tuple;
+import redis.clients.jedis.util.KeyValue;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+/**
+ * Non-blocking counterpart of {@link ZSetCommands}, every command runs on the client's bounded virtual thread executor.
+ */
+public class AsyncZSetCommands {
+
+    private final ZSetCommands commands;
+    private final Executor executor;
+
+    public AsyncZSetCommands(ZSetCommands commands, Executor executor) {
+        this.commands = commands;
+        this.executor = executor;
+    }
+
+    public CompletableFuture<Long> add(String key, double score, String member) {
+        return AsyncSupport.supply(() -> commands.add(key, score, member), executor);
+    }
+
+    public CompletableFuture<Long> add(String key, double score, String member, ZAddParams params) {
+        return AsyncSupport.supply(() -> commands.add(key, score, member, params), executor);
+    }
+
+    public CompletableFuture<Long> add(String key, Map<String, Double> scoreMembers) {
+        return AsyncSupport.supply(() -> commands.add(key, scoreMembers), executor);
+    }
+
+    public CompletableFuture<Long> add(String key, Map<String, Double> scoreMembers, ZAddParams params) {
+        return AsyncSupport.supply(() -> commands.add(key, scoreMembers, params), executor);
+    }
+
+    public CompletableFuture<Double> addIncr(String key, double score, String member, ZAddParams params) {
+        return AsyncSupport.supply(() -> commands.addIncr(key, score, member, params), executor);
+    }
+
+    public CompletableFuture<Long> rem(String key, String... members) {
+        return AsyncSupport.supply(() -> commands.rem(key, members), executor);
+    }
+
+    public CompletableFuture<Double> incrby(String key, double increment, String member) {
+        return AsyncSupport.supply(() -> commands.incrby(key, increment, member), executor);
+    }
+
+    public CompletableFuture<Double> incrby(String key, double increment, String member, ZIncrByParams params) {
+        return AsyncSupport.supply(() -> commands.incrby(key, increment, member, params), executor);
+    }
+
+    public CompletableFuture<Long> rank(String key, String member) {
+        return AsyncSupport.supply(() -> commands.rank(key, member), executor);
+    }
+
+    public CompletableFuture<Long> revrank(String key, String member) {
+        return AsyncSupport.supply(() -> commands.revrank(key, member), executor);
+    }
+
+    public CompletableFuture<KeyValue<Long, Double>> rankWithScore(String key, String member) {
+        return AsyncSupport.supply(() -> commands.rankWithScore(key, member), executor);
+    }
+
+    public CompletableFuture<KeyValue<Long, Double>> revrankWithScore(String key, String member) {
+        return AsyncSupport.supply(() -> commands.revrankWithScore(key, member), executor);
+    }
+
+    public CompletableFuture<List<String>> range(String key, long start, long stop) {
+        return AsyncSupport.supply(() -> commands.range(key, start, stop), executor);
+    }
+
+    public CompletableFuture<List<String>> revrange(String key, long start, long stop) {
+        return AsyncSupport.supply(() -> commands.revrange(key, start, stop), executor);
+    }
+
+    public CompletableFuture<List<Tuple>> rangeWithScores(String key, long start, long stop) {
+        return AsyncSupport.supply(() -> commands.rangeWithScores(key, start, stop), executor);
+    }
+
+    public CompletableFuture<List<Tuple>> revrangeWithScores(String key, long start, long stop) {
+        return AsyncSupport.supply(() -> commands.revrangeWithScores(key, start, stop), executor);
+    }
+
+    public CompletableFuture<List<String>> range(String key, ZRangeParams zRangeParams) {
+        return AsyncSupport.supply(() -> commands.range(key, zRangeParams), executor);
+    }
+
+    public CompletableFuture<List<Tuple>> rangeWithScores(String key, ZRangeParams zRangeParams) {
+        return AsyncSupport.supply(() -> commands.rangeWithScores(key, zRangeParams), executor);
+    }
+
+    public CompletableFuture<Long> rangestore(String dest, String src, ZRangeParams zRangeParams) {
+        return AsyncSupport.supply(() -> commands.rangestore(dest, src, zRangeParams), executor);
+    }
+
+    public CompletableFuture<String> randmember(String key) {
+        return AsyncSupport.supply(() -> commands.randmember(key), executor);
+    }
+
+    public CompletableFuture<List<String>> randmember(String key, long count) {
+        return AsyncSupport.supply(() -> commands.randmember(key, count), executor);
+    }
+
+    public CompletableFuture<List<Tuple>> randmemberWithScores(String key, long count) {
+        return AsyncSupport.supply(() -> commands.randmemberWithScores(key, count), executor);
+    }
+
+    public CompletableFuture<Long> card(String key) {
+        return AsyncSupport.supply(() -> commands.card(key), executor);
+    }
+
+    public CompletableFuture<Double> score(String key, String member) {
+        return AsyncSupport.supply(() -> commands.score(key, member), executor);
+    }
+
+    public CompletableFuture<List<Double>> mscore(String key, String... members) {
+        return AsyncSupport.supply(() -> commands.mscore(key, members), executor);
+    }
+
+    public CompletableFuture<Tuple> popmax(String key) {
+        return AsyncSupport.supply(() -> commands.popmax(key), executor);
+    }
+
+    public CompletableFuture<List<Tuple>> popmax(String key, int count) {
+        return AsyncSupport.supply(() -> commands.popmax(key, count), executor);
+    }
+
+    public CompletableFuture<Tuple> popmin(String key) {
+        return AsyncSupport.supply(() -> commands.popmin(key), executor);
+    }
+
+    public CompletableFuture<List<Tuple>> popmin(String key, int count) {
+        return AsyncSupport.supply(() -> commands.popmin(key, count), executor);
+    }
+
+    public CompletableFuture<Long> count(String key, double min, double max) {
+        return AsyncSupport.supply(() -> commands.count(key, min, max), executor);
+    }
+
+    public CompletableFuture<Long> count(String key, String min, String max) {
+        return AsyncSupport.supply(() -> commands.count(key, min, max), executor);
+    }
+
+    public CompletableFuture<List<String>> rangeByScore(String key, double min, double max) {
+        return AsyncSupport.supply(() -> commands.rangeByScore(key, min, max), executor);
+    }
+
+    public CompletableFuture<List<String>> rangeByScore(String key, String min, String max) {
+        return AsyncSupport.supply(() -> commands.rangeByScore(key, min, max), executor);
+    }
+
+    public CompletableFuture<List<String>> revrangeByScore(String key, double max, double min) {
+        return AsyncSupport.supply(() -> commands.revrangeByScore(key, max, min), executor);
+    }
+
+    public CompletableFuture<List<String>> rangeByScore(String key, double min, double max, int offset, int count) {
+        return AsyncSupport.supply(() -> commands.rangeByScore(key, min, max, offset, count), executor);
+    }
+
+    public CompletableFuture<List<String>> revrangeByScore(String key, String max, String min) {
+        return AsyncSupport.supply(() -> commands.revrangeByScore(key, max, min), executor);
+    }
+
+    public CompletableFuture<List<String>> rangeByScore(String key, String min, String max, int offset, int count) {
+        return AsyncSupport.supply(() -> commands.rangeByScore(key, min, max, offset, count), executor);
+    }
+
+    public CompletableFuture<List<String>> revrangeByScore(String key, double max, double min, int offset, int count) {
+        return AsyncSupport.supply(() -> commands.revrangeByScore(key, max, min, offset, count), executor);
+    }
+
+    public CompletableFuture<List<Tuple>> rangeByScoreWithScores(String key, double min, double max) {
+        return AsyncSupport.supply(() -> commands.rangeByScoreWithScores(key, min, max), executor);
+    }
+
+    public CompletableFuture<List<Tuple>> revrangeByScoreWithScores(String key, double max, double min) {
+        return AsyncSupport.supply(() -> commands.revrangeByScoreWithScores(key, max, min), executor);
+    }
+
+    public CompletableFuture<List<Tuple>> rangeByScoreWithScores(String key, double min, double max, int offset, int count) {
+        return AsyncSupport.supply(() -> commands.rangeByScoreWithScores(key, min, max, offset, count), executor);
+    }
+
+    public CompletableFuture<List<String>> revrangeByScore(String key, String max, String min, int offset, int count) {
+        return AsyncSupport.supply(() -> commands.revrangeByScore(key, max, min, offset, count), executor);
+    }
+
+    public CompletableFuture<List<Tuple>> rangeByScoreWithScores(String key, String min, String max) {
+        return AsyncSupport.supply(() -> commands.rangeByScoreWithScores(key, min, max), executor);
+    }
+
+    public CompletableFuture<List<Tuple>> revrangeByScoreWithScores(String key, String max, String min) {
+        return AsyncSupport.supply(() -> commands.revrangeByScoreWithScores(key, max, min), executor);
+    }
+
+    public CompletableFuture<List<Tuple>> rangeByScoreWithScores(String key, String min, String max, int offset, int count) {
+        return AsyncSupport.supply(() -> commands.rangeByScoreWithScores(key, min, max, offset, count), executor);
+    }
+
+    public CompletableFuture<List<Tuple>> revrangeByScoreWithScores(String key, double max, double min, int offset, int count) {
+        return AsyncSupport.supply(() -> commands.revrangeByScoreWithScores(key, max, min, offset, count), executor);
+    }
+
+    public CompletableFuture<List<Tuple>> revrangeByScoreWithScores(String key, String max, String min, int offset, int count) {
+        return AsyncSupport.supply(() -> commands.revrangeByScoreWithScores(key, max, min, offset, count), executor);
+    }
+
+    public CompletableFuture<Long> remrangeByRank(String key, long start, long stop) {
+        return AsyncSupport.supply(() -> commands.remrangeByRank(key, start, stop), executor);
+    }
+
+    public CompletableFuture<Long> remrangeByScore(String key, double min, double max) {
+        return AsyncSupport.supply(() -> commands.remrangeByScore(key, min, max), executor);
+    }
+
+    public CompletableFuture<Long> remrangeByScore(String key, String min, String max) {
+        return AsyncSupport.supply(() -> commands.remrangeByScore(key, min, max), executor);
+    }
+
+    public CompletableFuture<Long> lexcount(String key, String min, String max) {
+        return AsyncSupport.supply(() -> commands.lexcount(key, min, max), executor);
+    }
+
+    public CompletableFuture<List<String>> rangeByLex(String key, String min, String max) {
+        return AsyncSupport.supply(() -> commands.rangeByLex(key, min, max), executor);
+    }
+
+    public CompletableFuture<List<String>> rangeByLex(String key, String min, String max, int offset, int count) {
+        return AsyncSupport.supply(() -> commands.rangeByLex(key, min, max, offset, count), executor);
+    }
+
+    public CompletableFuture<List<String>> revrangeByLex(String key, String max, String min) {
+        return AsyncSupport.supply(() -> commands.revrangeByLex(key, max, min), executor);
+    }
+
+    public CompletableFuture<List<String>> revrangeByLex(String key, String max, String min, int offset, int count) {
+        return AsyncSupport.supply(() -> commands.revrangeByLex(key, max, min, offset, count), executor);
+    }
+
+    public CompletableFuture<Long> remrangeByLex(String key, String min, String max) {
+        return AsyncSupport.supply(() -> commands.remrangeByLex(key, min, max), executor);
+    }
+
+    public CompletableFuture<ScanResult<Tuple>> scan(String key, String cursor) {
+        return AsyncSupport.supply(() -> commands.scan(key, cursor), executor);
+    }
+
+    public CompletableFuture<ScanResult<Tuple>> scan(String key, String cursor, ScanParams params) {
+        return AsyncSupport.supply(() -> commands.scan(key, cursor, params), executor);
+    }
+
+    public CompletableFuture<KeyValue<String, Tuple>> bpopmax(double timeout, String... keys) {
+        return AsyncSupport.supply(() -> commands.bpopmax(timeout, keys), executor);
+    }
+
+    public CompletableFuture<KeyValue<String, Tuple>> bpopmin(double timeout, String... keys) {
+        return AsyncSupport.supply(() -> commands.bpopmin(timeout, keys), executor);
+    }
+
+    public CompletableFuture<List<String>> diff(String... keys) {
+        return AsyncSupport.supply(() -> commands.diff(keys), executor);
+    }
+
+    public CompletableFuture<List<Tuple>> diffWithScores(String... keys) {
+        return AsyncSupport.supply(() -> commands.diffWithScores(keys), executor);
+    }
+
+    public CompletableFuture<Long> diffstore(String dstkey, String... keys) {
+        return AsyncSupport.supply(() -> commands.diffstore(dstkey, keys), executor);
+    }
+
+    public CompletableFuture<List<String>> inter(ZParams params, String... keys) {
+        return AsyncSupport.supply(() -> commands.inter(params, keys), executor);
+    }
+
+    public CompletableFuture<List<Tuple>> interWithScores(ZParams params, String... keys) {
+        return AsyncSupport.supply(() -> commands.interWithScores(params, keys), executor);
+    }
+
+    public CompletableFuture<Long> interstore(String dstkey, String... sets) {
+        return AsyncSupport.supply(() -> commands.interstore(dstkey, sets), executor);
+    }
+
+    public CompletableFuture<Long> interstore(String dstkey, ZParams params, String... sets) {
+        return AsyncSupport.supply(() -> commands.interstore(dstkey, params, sets), executor);
+    }
+
+    public CompletableFuture<Long> intercard(String... keys) {
+        return AsyncSupport.supply(() -> commands.intercard(keys), executor);
+    }
+
+    public CompletableFuture<Long> intercard(long limit, String... keys) {
+        return AsyncSupport.supply(() -> commands.intercard(limit, keys), executor);
+    }
+
+    public CompletableFuture<List<String>> union(ZParams params, String... keys) {
+        return AsyncSupport.supply(() -> commands.union(params, keys), executor);
+    }
+
+    public CompletableFuture<List<Tuple>> unionWithScores(ZParams params, String... keys) {
+        return AsyncSupport.supply(() -> commands.unionWithScores(params, keys), executor);
+    }
+
+    public CompletableFuture<Long> unionstore(String dstkey, String... sets) {
+        return AsyncSupport.supply(() -> commands.unionstore(dstkey, sets), executor);
+    }
+
+    public CompletableFuture<Long> unionstore(String dstkey, ZParams params, String... sets) {
+        return AsyncSupport.supply(() -> commands.unionstore(dstkey, params, sets), executor);
+    }
+
+    public CompletableFuture<KeyValue<String, List<Tuple>>> mpop(SortedSetOption option, String... keys) {
+        return AsyncSupport.supply(() -> commands.mpop(option, keys), executor);
+    }
+
+    public CompletableFuture<KeyValue<String, List<Tuple>>> mpop(SortedSetOption option, int count, String... keys) {
+        return AsyncSupport.supply(() -> commands.mpop(option, count, keys), executor);
+    }
+
+    public CompletableFuture<KeyValue<String, List<Tuple>>> bmpop(double timeout, SortedSetOption option, String... keys) {
+        return AsyncSupport.supply(() -> commands.bmpop(timeout, option, keys), executor);
+    }
+
+    public CompletableFuture<KeyValue<String, List<Tuple>>> bmpop(double timeout, SortedSetOption option, int count, String... keys) {
+        return AsyncSupport.supply(() -> commands.bmpop(timeout, option, count, keys), executor);
+    }
+
+}
@@ -0,0 +1,38 @@
+package com.github.rabbitnoteeth.bedrock.data.nosql.redis.async;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+
+/**
+ * Runs every task on its own virtual thread while allowing at most {@code maxConcurrency} of them to talk to
+ * redis at the same time, excess tasks park cheaply on the semaphore instead of piling up on the connection pool.
+ */
+public final class BoundedVirtualThreadExecutor implements Executor, AutoCloseable {
+
+    private final ExecutorService delegate;
+    private final Semaphore permits;
+
+    public BoundedVirtualThreadExecutor(String name, int maxConcurrency) {
+        this.delegate = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name(name + "-async-", 0).factory());
+        this.permits = new Semaphore(maxConcurrency);
+    }
+
+    @Override
+    public void execute(Runnable task) {
+        delegate.execute(() -> {
+            permits.acquireUninterruptibly();
+            try {
+                task.run();
+            } finally {
+                permits.release();
+            }
+        });
+    }
+
+    @Override
+    public void close() {
+        delegate.shutdown();
+    }
+}
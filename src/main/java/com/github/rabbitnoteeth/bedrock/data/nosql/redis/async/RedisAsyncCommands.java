@@ -0,0 +1,53 @@
+package com.github.rabbitnoteeth.bedrock.data.nosql.redis.async;
+
+import com.github.rabbitnoteeth.bedrock.data.nosql.redis.commands.*;
+
+import java.util.concurrent.Executor;
+
+/**
+ * Entry point of the {@link java.util.concurrent.CompletableFuture} based command groups, independent commands
+ * issued through it are sent concurrently instead of one after another.
+ */
+public final class RedisAsyncCommands {
+
+    private final AsyncKeyCommands keyCommands;
+    private final AsyncStringCommands stringCommands;
+    private final AsyncListCommands listCommands;
+    private final AsyncHashCommands hashCommands;
+    private final AsyncSetCommands setCommands;
+    private final AsyncZSetCommands zSetCommands;
+
+    public RedisAsyncCommands(KeyCommands keyCommands, StringCommands stringCommands, ListCommands listCommands,
+                              HashCommands hashCommands, SetCommands setCommands, ZSetCommands zSetCommands, Executor executor) {
+        this.keyCommands = new AsyncKeyCommands(keyCommands, executor);
+        this.stringCommands = new AsyncStringCommands(stringCommands, executor);
+        this.listCommands = new AsyncListCommands(listCommands, executor);
+        this.hashCommands = new AsyncHashCommands(hashCommands, executor);
+        this.setCommands = new AsyncSetCommands(setCommands, executor);
+        this.zSetCommands = new AsyncZSetCommands(zSetCommands, executor);
+    }
+
+    public AsyncKeyCommands key() {
+        return this.keyCommands;
+    }
+
+    public AsyncStringCommands string() {
+        return this.stringCommands;
+    }
+
+    public AsyncListCommands list() {
+        return this.listCommands;
+    }
+
+    public AsyncHashCommands hash() {
+        return this.hashCommands;
+    }
+
+    public AsyncSetCommands set() {
+        return this.setCommands;
+    }
+
+    public AsyncZSetCommands zset() {
+        return this.zSetCommands;
+    }
+}
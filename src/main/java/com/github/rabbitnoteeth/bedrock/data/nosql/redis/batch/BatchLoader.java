@@ -0,0 +1,207 @@
+package com.github.rabbitnoteeth.bedrock.data.nosql.redis.batch;
+
+import com.github.rabbitnoteeth.bedrock.data.nosql.redis.commands.StringCommands;
+import com.github.rabbitnoteeth.bedrock.data.nosql.redis.compression.ValueCompressor;
+import redis.clients.jedis.AbstractPipeline;
+import redis.clients.jedis.Response;
+import redis.clients.jedis.exceptions.JedisException;
+import redis.clients.jedis.util.SafeEncoder;
+
+import java.io.Closeable;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Gathers the point reads issued by concurrent callers within a short window and sends them together: the GETs as
+ * one MGET, the HGETs grouped by key as HMGETs written in one pipeline. Each caller keeps a single key API and gets
+ * its own reply, identical reads in a window are sent once. Batches are sent from virtual threads so collecting the
+ * next window does not wait for the previous round trip.
+ */
+public final class BatchLoader implements Closeable {
+
+    private final StringCommands strings;
+    private final Supplier<? extends AbstractPipeline> pipelines;
+    private final ValueCompressor compressor;
+    private final long windowNanos;
+    private final int maxBatchSize;
+    private final BlockingQueue<Read> queue = new LinkedBlockingQueue<>();
+    private final ExecutorService dispatcher = Executors.newVirtualThreadPerTaskExecutor();
+    private final Thread collector;
+    private volatile boolean closed;
+
+    public BatchLoader(String name, StringCommands strings, Supplier<? extends AbstractPipeline> pipelines, ValueCompressor compressor,
+                       long windowMicros, int maxBatchSize) {
+        this.strings = strings;
+        this.pipelines = pipelines;
+        this.compressor = compressor;
+        this.windowNanos = TimeUnit.MICROSECONDS.toNanos(windowMicros);
+        this.maxBatchSize = maxBatchSize;
+        this.collector = Thread.ofPlatform().name(name + "-batch-loader").daemon().start(this::collect);
+    }
+
+    public String get(String key) {
+        return join(getAsync(key));
+    }
+
+    public String hget(String key, String field) {
+        return join(hgetAsync(key, field));
+    }
+
+    public CompletableFuture<String> getAsync(String key) {
+        return submit(new Read(key, null));
+    }
+
+    public CompletableFuture<String> hgetAsync(String key, String field) {
+        return submit(new Read(key, field));
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+        collector.interrupt();
+        try {
+            collector.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        dispatcher.close();
+        failQueued();
+    }
+
+    private CompletableFuture<String> submit(Read read) {
+        if (closed) {
+            read.completeExceptionally(new JedisException("batch loader is closed"));
+            return read;
+        }
+        queue.add(read);
+        if (closed) {
+            failQueued();
+        }
+        return read;
+    }
+
+    private void collect() {
+        while (!closed) {
+            List<Read> batch = new ArrayList<>();
+            try {
+                batch.add(queue.take());
+                long deadline = System.nanoTime() + windowNanos;
+                while (batch.size() < maxBatchSize) {
+                    long remaining = deadline - System.nanoTime();
+                    Read next = remaining > 0 ? queue.poll(remaining, TimeUnit.NANOSECONDS) : queue.poll();
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                }
+            } catch (InterruptedException e) {
+                // closing, reads already taken are still sent
+            }
+            if (!batch.isEmpty()) {
+                dispatcher.execute(() -> dispatch(batch));
+            }
+        }
+    }
+
+    private void dispatch(List<Read> batch) {
+        Map<String, List<Read>> gets = new LinkedHashMap<>();
+        Map<String, Map<String, List<Read>>> hgets = new LinkedHashMap<>();
+        for (Read read : batch) {
+            if (read.field == null) {
+                gets.computeIfAbsent(read.key, key -> new ArrayList<>(1)).add(read);
+            } else {
+                hgets.computeIfAbsent(read.key, key -> new LinkedHashMap<>())
+                    .computeIfAbsent(read.field, field -> new ArrayList<>(1)).add(read);
+            }
+        }
+        if (!gets.isEmpty()) {
+            dispatchGets(gets);
+        }
+        if (!hgets.isEmpty()) {
+            dispatchHgets(hgets);
+        }
+    }
+
+    private void dispatchGets(Map<String, List<Read>> gets) {
+        try {
+            List<String> values = strings.mget(gets.keySet().toArray(new String[0]));
+            int i = 0;
+            for (List<Read> reads : gets.values()) {
+                complete(reads, values.get(i++));
+            }
+        } catch (RuntimeException e) {
+            gets.values().forEach(reads -> fail(reads, e));
+        }
+    }
+
+    private void dispatchHgets(Map<String, Map<String, List<Read>>> hgets) {
+        try (AbstractPipeline pipeline = pipelines.get()) {
+            Map<String, Response<List<byte[]>>> responses = new HashMap<>(hgets.size() * 2);
+            hgets.forEach((key, fields) -> responses.put(key, pipeline.hmget(SafeEncoder.encode(key),
+                SafeEncoder.encodeMany(fields.keySet().toArray(new String[0])))));
+            pipeline.sync();
+            hgets.forEach((key, fields) -> {
+                List<byte[]> values = responses.get(key).get();
+                int i = 0;
+                for (List<Read> reads : fields.values()) {
+                    byte[] value = values.get(i++);
+                    complete(reads, compressor != null ? compressor.decompressString(value) : value == null ? null : SafeEncoder.encode(value));
+                }
+            });
+        } catch (RuntimeException e) {
+            hgets.values().forEach(fields -> fields.values().forEach(reads -> fail(reads, e)));
+        }
+    }
+
+    private void failQueued() {
+        Read read;
+        while ((read = queue.poll()) != null) {
+            read.completeExceptionally(new JedisException("batch loader is closed"));
+        }
+    }
+
+    private static void complete(List<Read> reads, String value) {
+        for (Read read : reads) {
+            read.complete(value);
+        }
+    }
+
+    private static void fail(List<Read> reads, RuntimeException e) {
+        for (Read read : reads) {
+            read.completeExceptionally(e);
+        }
+    }
+
+    private static String join(CompletableFuture<String> read) {
+        try {
+            return read.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new JedisException(e.getCause());
+        }
+    }
+
+    private static final class Read extends CompletableFuture<String> {
+
+        private final String key;
+        private final String field;
+
+        private Read(String key, String field) {
+            this.key = key;
+            this.field = field;
+        }
+    }
+}
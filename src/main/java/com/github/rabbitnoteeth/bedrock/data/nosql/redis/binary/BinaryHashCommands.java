@@ -0,0 +1,141 @@
+package com.github.rabbitnoteeth.bedrock.data.nosql.redis.binary;
+
+import redis.clients.jedis.UnifiedJedis;
+import redis.clients.jedis.params.ScanParams;
+import redis.clients.jedis.resps.ScanResult;
+
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Binary-safe counterpart of {@link com.github.rabbitnoteeth.bedrock.data.nosql.redis.commands.HashCommands}, keys and values
+ * are passed to the connection as they are. {@link ByteBuffer} overloads only copy when the buffer does not expose
+ * its whole backing array.
+ */
+public class BinaryHashCommands {
+
+    private final UnifiedJedis jedis;
+
+    public BinaryHashCommands(UnifiedJedis jedis) {
+        this.jedis = jedis;
+    }
+
+    public long set(byte[] key, byte[] field, byte[] value) {
+        return jedis.hset(key, field, value);
+    }
+
+    public long set(byte[] key, Map<byte[], byte[]> hash) {
+        return jedis.hset(key, hash);
+    }
+
+    public byte[] get(byte[] key, byte[] field) {
+        return jedis.hget(key, field);
+    }
+
+    public long setnx(byte[] key, byte[] field, byte[] value) {
+        return jedis.hsetnx(key, field, value);
+    }
+
+    public String mset(byte[] key, Map<byte[], byte[]> hash) {
+        return jedis.hmset(key, hash);
+    }
+
+    public List<byte[]> mget(byte[] key, byte[]... fields) {
+        return jedis.hmget(key, fields);
+    }
+
+    public long incrBy(byte[] key, byte[] field, long value) {
+        return jedis.hincrBy(key, field, value);
+    }
+
+    public double incrByFloat(byte[] key, byte[] field, double value) {
+        return jedis.hincrByFloat(key, field, value);
+    }
+
+    public boolean exists(byte[] key, byte[] field) {
+        return jedis.hexists(key, field);
+    }
+
+    public long del(byte[] key, byte[]... field) {
+        return jedis.hdel(key, field);
+    }
+
+    public long len(byte[] key) {
+        return jedis.hlen(key);
+    }
+
+    public Set<byte[]> keys(byte[] key) {
+        return jedis.hkeys(key);
+    }
+
+    public List<byte[]> vals(byte[] key) {
+        return jedis.hvals(key);
+    }
+
+    public Map<byte[], byte[]> getAll(byte[] key) {
+        return jedis.hgetAll(key);
+    }
+
+    public byte[] randfield(byte[] key) {
+        return jedis.hrandfield(key);
+    }
+
+    public List<byte[]> randfield(byte[] key, long count) {
+        return jedis.hrandfield(key, count);
+    }
+
+    public List<Map.Entry<byte[], byte[]>> randfieldWithValues(byte[] key, long count) {
+        return jedis.hrandfieldWithValues(key, count);
+    }
+
+    public ScanResult<Map.Entry<byte[], byte[]>> scan(byte[] key, byte[] cursor) {
+        return scan(key, cursor, new ScanParams());
+    }
+
+    public ScanResult<Map.Entry<byte[], byte[]>> scan(byte[] key, byte[] cursor, ScanParams params) {
+        return jedis.hscan(key, cursor, params);
+    }
+
+    public long strlen(byte[] key, byte[] field) {
+        return jedis.hstrlen(key, field);
+    }
+
+    public long set(ByteBuffer key, ByteBuffer field, ByteBuffer value) {
+        return set(ByteBuffers.bytes(key), ByteBuffers.bytes(field), ByteBuffers.bytes(value));
+    }
+
+    public ByteBuffer get(ByteBuffer key, ByteBuffer field) {
+        return ByteBuffers.wrap(get(ByteBuffers.bytes(key), ByteBuffers.bytes(field)));
+    }
+
+    public long setnx(ByteBuffer key, ByteBuffer field, ByteBuffer value) {
+        return setnx(ByteBuffers.bytes(key), ByteBuffers.bytes(field), ByteBuffers.bytes(value));
+    }
+
+    public long incrBy(ByteBuffer key, ByteBuffer field, long value) {
+        return incrBy(ByteBuffers.bytes(key), ByteBuffers.bytes(field), value);
+    }
+
+    public double incrByFloat(ByteBuffer key, ByteBuffer field, double value) {
+        return incrByFloat(ByteBuffers.bytes(key), ByteBuffers.bytes(field), value);
+    }
+
+    public boolean exists(ByteBuffer key, ByteBuffer field) {
+        return exists(ByteBuffers.bytes(key), ByteBuffers.bytes(field));
+    }
+
+    public long len(ByteBuffer key) {
+        return len(ByteBuffers.bytes(key));
+    }
+
+    public ByteBuffer randfield(ByteBuffer key) {
+        return ByteBuffers.wrap(randfield(ByteBuffers.bytes(key)));
+    }
+
+    public long strlen(ByteBuffer key, ByteBuffer field) {
+        return strlen(ByteBuffers.bytes(key), ByteBuffers.bytes(field));
+    }
+
+}
@@ -0,0 +1,217 @@
+package com.github.rabbitnoteeth.bedrock.data.nosql.redis.binary;
+
+import redis.clients.jedis.UnifiedJedis;
+import redis.clients.jedis.args.ListDirection;
+import redis.clients.jedis.args.ListPosition;
+import redis.clients.jedis.params.LPosParams;
+import redis.clients.jedis.util.KeyValue;
+
+import java.nio.ByteBuffer;
+import java.util.List;
+
+/**
+ * Binary-safe counterpart of {@link com.github.rabbitnoteeth.bedrock.data.nosql.redis.commands.ListCommands}, keys and values
+ * are passed to the connection as they are. {@link ByteBuffer} overloads only copy when the buffer does not expose
+ * its whole backing array.
+ */
+public class BinaryListCommands {
+
+    private final UnifiedJedis jedis;
+
+    public BinaryListCommands(UnifiedJedis jedis) {
+        this.jedis = jedis;
+    }
+
+    public long rpush(byte[] key, byte[]... strings) {
+        return jedis.rpush(key, strings);
+    }
+
+    public long lpush(byte[] key, byte[]... strings) {
+        return jedis.lpush(key, strings);
+    }
+
+    public long len(byte[] key) {
+        return jedis.llen(key);
+    }
+
+    public List<byte[]> range(byte[] key, long start, long stop) {
+        return jedis.lrange(key, start, stop);
+    }
+
+    public String trim(byte[] key, long start, long stop) {
+        return jedis.ltrim(key, start, stop);
+    }
+
+    public byte[] index(byte[] key, long index) {
+        return jedis.lindex(key, index);
+    }
+
+    public String set(byte[] key, long index, byte[] value) {
+        return jedis.lset(key, index, value);
+    }
+
+    public long rem(byte[] key, long count, byte[] value) {
+        return jedis.lrem(key, count, value);
+    }
+
+    public byte[] lpop(byte[] key) {
+        return jedis.lpop(key);
+    }
+
+    public List<byte[]> lpop(byte[] key, int count) {
+        return jedis.lpop(key, count);
+    }
+
+    public Long pos(byte[] key, byte[] element) {
+        return jedis.lpos(key, element);
+    }
+
+    public Long pos(byte[] key, byte[] element, LPosParams params) {
+        return jedis.lpos(key, element, params);
+    }
+
+    public List<Long> pos(byte[] key, byte[] element, LPosParams params, long count) {
+        return jedis.lpos(key, element, params, count);
+    }
+
+    public byte[] rpop(byte[] key) {
+        return jedis.rpop(key);
+    }
+
+    public List<byte[]> rpop(byte[] key, int count) {
+        return jedis.rpop(key, count);
+    }
+
+    public long insert(byte[] key, ListPosition where, byte[] pivot, byte[] value) {
+        return jedis.linsert(key, where, pivot, value);
+    }
+
+    public long lpushx(byte[] key, byte[]... strings) {
+        return jedis.lpushx(key, strings);
+    }
+
+    public long rpushx(byte[] key, byte[]... strings) {
+        return jedis.rpushx(key, strings);
+    }
+
+    public List<byte[]> blpop(int timeout, byte[]... keys) {
+        return jedis.blpop(timeout, keys);
+    }
+
+    public List<byte[]> blpop(int timeout, byte[] key) {
+        return jedis.blpop(timeout, key);
+    }
+
+    public KeyValue<byte[], byte[]> blpop(double timeout, byte[]... keys) {
+        return jedis.blpop(timeout, keys);
+    }
+
+    public KeyValue<byte[], byte[]> blpop(double timeout, byte[] key) {
+        return jedis.blpop(timeout, key);
+    }
+
+    public List<byte[]> brpop(int timeout, byte[]... keys) {
+        return jedis.brpop(timeout, keys);
+    }
+
+    public List<byte[]> brpop(int timeout, byte[] key) {
+        return jedis.brpop(timeout, key);
+    }
+
+    public KeyValue<byte[], byte[]> brpop(double timeout, byte[]... keys) {
+        return jedis.brpop(timeout, keys);
+    }
+
+    public KeyValue<byte[], byte[]> brpop(double timeout, byte[] key) {
+        return jedis.brpop(timeout, key);
+    }
+
+    public byte[] rpoplpush(byte[] srckey, byte[] dstkey) {
+        return jedis.rpoplpush(srckey, dstkey);
+    }
+
+    public byte[] brpoplpush(byte[] source, byte[] destination, int timeout) {
+        return jedis.brpoplpush(source, destination, timeout);
+    }
+
+    public byte[] move(byte[] srcKey, byte[] dstKey, ListDirection from, ListDirection to) {
+        return jedis.lmove(srcKey, dstKey, from, to);
+    }
+
+    public byte[] bmove(byte[] srcKey, byte[] dstKey, ListDirection from, ListDirection to, double timeout) {
+        return jedis.blmove(srcKey, dstKey, from, to, timeout);
+    }
+
+    public KeyValue<byte[], List<byte[]>> lmpop(ListDirection direction, byte[]... keys) {
+        return jedis.lmpop(direction, keys);
+    }
+
+    public KeyValue<byte[], List<byte[]>> lmpop(ListDirection direction, int count, byte[]... keys) {
+        return jedis.lmpop(direction, count, keys);
+    }
+
+    public KeyValue<byte[], List<byte[]>> blmpop(double timeout, ListDirection direction, byte[]... keys) {
+        return jedis.blmpop(timeout, direction, keys);
+    }
+
+    public KeyValue<byte[], List<byte[]>> blmpop(double timeout, ListDirection direction, int count, byte[]... keys) {
+        return jedis.blmpop(timeout, direction, count, keys);
+    }
+
+    public long len(ByteBuffer key) {
+        return len(ByteBuffers.bytes(key));
+    }
+
+    public String trim(ByteBuffer key, long start, long stop) {
+        return trim(ByteBuffers.bytes(key), start, stop);
+    }
+
+    public ByteBuffer index(ByteBuffer key, long index) {
+        return ByteBuffers.wrap(index(ByteBuffers.bytes(key), index));
+    }
+
+    public String set(ByteBuffer key, long index, ByteBuffer value) {
+        return set(ByteBuffers.bytes(key), index, ByteBuffers.bytes(value));
+    }
+
+    public long rem(ByteBuffer key, long count, ByteBuffer value) {
+        return rem(ByteBuffers.bytes(key), count, ByteBuffers.bytes(value));
+    }
+
+    public ByteBuffer lpop(ByteBuffer key) {
+        return ByteBuffers.wrap(lpop(ByteBuffers.bytes(key)));
+    }
+
+    public Long pos(ByteBuffer key, ByteBuffer element) {
+        return pos(ByteBuffers.bytes(key), ByteBuffers.bytes(element));
+    }
+
+    public Long pos(ByteBuffer key, ByteBuffer element, LPosParams params) {
+        return pos(ByteBuffers.bytes(key), ByteBuffers.bytes(element), params);
+    }
+
+    public ByteBuffer rpop(ByteBuffer key) {
+        return ByteBuffers.wrap(rpop(ByteBuffers.bytes(key)));
+    }
+
+    public long insert(ByteBuffer key, ListPosition where, ByteBuffer pivot, ByteBuffer value) {
+        return insert(ByteBuffers.bytes(key), where, ByteBuffers.bytes(pivot), ByteBuffers.bytes(value));
+    }
+
+    public ByteBuffer rpoplpush(ByteBuffer srckey, ByteBuffer dstkey) {
+        return ByteBuffers.wrap(rpoplpush(ByteBuffers.bytes(srckey), ByteBuffers.bytes(dstkey)));
+    }
+
+    public ByteBuffer brpoplpush(ByteBuffer source, ByteBuffer destination, int timeout) {
+        return ByteBuffers.wrap(brpoplpush(ByteBuffers.bytes(source), ByteBuffers.bytes(destination), timeout));
+    }
+
+    public ByteBuffer move(ByteBuffer srcKey, ByteBuffer dstKey, ListDirection from, ListDirection to) {
+        return ByteBuffers.wrap(move(ByteBuffers.bytes(srcKey), ByteBuffers.bytes(dstKey), from, to));
+    }
+
+    public ByteBuffer bmove(ByteBuffer srcKey, ByteBuffer dstKey, ListDirection from, ListDirection to, double timeout) {
+        return ByteBuffers.wrap(bmove(ByteBuffers.bytes(srcKey), ByteBuffers.bytes(dstKey), from, to, timeout));
+    }
+
+}
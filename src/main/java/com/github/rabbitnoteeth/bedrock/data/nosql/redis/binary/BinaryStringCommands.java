@@ -0,0 +1,209 @@
+package com.github.rabbitnoteeth.bedrock.data.nosql.redis.binary;
+
+import redis.clients.jedis.UnifiedJedis;
+import redis.clients.jedis.params.GetExParams;
+import redis.clients.jedis.params.LCSParams;
+import redis.clients.jedis.params.SetParams;
+import redis.clients.jedis.resps.LCSMatchResult;
+
+import java.nio.ByteBuffer;
+import java.util.List;
+
+/**
+ * Binary-safe counterpart of {@link com.github.rabbitnoteeth.bedrock.data.nosql.redis.commands.StringCommands}, keys and values
+ * are passed to the connection as they are. {@link ByteBuffer} overloads only copy when the buffer does not expose
+ * its whole backing array.
+ */
+public class BinaryStringCommands {
+
+    private final UnifiedJedis jedis;
+
+    public BinaryStringCommands(UnifiedJedis jedis) {
+        this.jedis = jedis;
+    }
+
+    public String set(byte[] key, byte[] value) {
+        return jedis.set(key, value);
+    }
+
+    public String set(byte[] key, byte[] value, SetParams params) {
+        return jedis.set(key, value, params);
+    }
+
+    public byte[] get(byte[] key) {
+        return jedis.get(key);
+    }
+
+    public byte[] setGet(byte[] key, byte[] value) {
+        return jedis.setGet(key, value);
+    }
+
+    public byte[] setGet(byte[] key, byte[] value, SetParams params) {
+        return jedis.setGet(key, value, params);
+    }
+
+    public byte[] getDel(byte[] key) {
+        return jedis.getDel(key);
+    }
+
+    public byte[] getEx(byte[] key, GetExParams params) {
+        return jedis.getEx(key, params);
+    }
+
+    public long setrange(byte[] key, long offset, byte[] value) {
+        return jedis.setrange(key, offset, value);
+    }
+
+    public byte[] getrange(byte[] key, long startOffset, long endOffset) {
+        return jedis.getrange(key, startOffset, endOffset);
+    }
+
+    public byte[] getSet(byte[] key, byte[] value) {
+        return jedis.getSet(key, value);
+    }
+
+    public long setnx(byte[] key, byte[] value) {
+        return jedis.setnx(key, value);
+    }
+
+    public String setex(byte[] key, long seconds, byte[] value) {
+        return jedis.setex(key, seconds, value);
+    }
+
+    public String psetex(byte[] key, long milliseconds, byte[] value) {
+        return jedis.psetex(key, milliseconds, value);
+    }
+
+    public List<byte[]> mget(byte[]... keys) {
+        return jedis.mget(keys);
+    }
+
+    public String mset(byte[]... keysvalues) {
+        return jedis.mset(keysvalues);
+    }
+
+    public long msetnx(byte[]... keysvalues) {
+        return jedis.msetnx(keysvalues);
+    }
+
+    public long incr(byte[] key) {
+        return jedis.incr(key);
+    }
+
+    public long incrBy(byte[] key, long increment) {
+        return jedis.incrBy(key, increment);
+    }
+
+    public double incrByFloat(byte[] key, double increment) {
+        return jedis.incrByFloat(key, increment);
+    }
+
+    public long decr(byte[] key) {
+        return jedis.decr(key);
+    }
+
+    public long decrBy(byte[] key, long decrement) {
+        return jedis.decrBy(key, decrement);
+    }
+
+    public long append(byte[] key, byte[] value) {
+        return jedis.append(key, value);
+    }
+
+    public byte[] substr(byte[] key, int start, int end) {
+        return jedis.substr(key, start, end);
+    }
+
+    public long strlen(byte[] key) {
+        return jedis.strlen(key);
+    }
+
+    public LCSMatchResult lcs(byte[] keyA, byte[] keyB, LCSParams params) {
+        return jedis.lcs(keyA, keyB, params);
+    }
+
+    public String set(ByteBuffer key, ByteBuffer value) {
+        return set(ByteBuffers.bytes(key), ByteBuffers.bytes(value));
+    }
+
+    public String set(ByteBuffer key, ByteBuffer value, SetParams params) {
+        return set(ByteBuffers.bytes(key), ByteBuffers.bytes(value), params);
+    }
+
+    public ByteBuffer get(ByteBuffer key) {
+        return ByteBuffers.wrap(get(ByteBuffers.bytes(key)));
+    }
+
+    public ByteBuffer setGet(ByteBuffer key, ByteBuffer value) {
+        return ByteBuffers.wrap(setGet(ByteBuffers.bytes(key), ByteBuffers.bytes(value)));
+    }
+
+    public ByteBuffer setGet(ByteBuffer key, ByteBuffer value, SetParams params) {
+        return ByteBuffers.wrap(setGet(ByteBuffers.bytes(key), ByteBuffers.bytes(value), params));
+    }
+
+    public ByteBuffer getDel(ByteBuffer key) {
+        return ByteBuffers.wrap(getDel(ByteBuffers.bytes(key)));
+    }
+
+    public ByteBuffer getEx(ByteBuffer key, GetExParams params) {
+        return ByteBuffers.wrap(getEx(ByteBuffers.bytes(key), params));
+    }
+
+    public long setrange(ByteBuffer key, long offset, ByteBuffer value) {
+        return setrange(ByteBuffers.bytes(key), offset, ByteBuffers.bytes(value));
+    }
+
+    public ByteBuffer getrange(ByteBuffer key, long startOffset, long endOffset) {
+        return ByteBuffers.wrap(getrange(ByteBuffers.bytes(key), startOffset, endOffset));
+    }
+
+    public ByteBuffer getSet(ByteBuffer key, ByteBuffer value) {
+        return ByteBuffers.wrap(getSet(ByteBuffers.bytes(key), ByteBuffers.bytes(value)));
+    }
+
+    public long setnx(ByteBuffer key, ByteBuffer value) {
+        return setnx(ByteBuffers.bytes(key), ByteBuffers.bytes(value));
+    }
+
+    public String setex(ByteBuffer key, long seconds, ByteBuffer value) {
+        return setex(ByteBuffers.bytes(key), seconds, ByteBuffers.bytes(value));
+    }
+
+    public String psetex(ByteBuffer key, long milliseconds, ByteBuffer value) {
+        return psetex(ByteBuffers.bytes(key), milliseconds, ByteBuffers.bytes(value));
+    }
+
+    public long incr(ByteBuffer key) {
+        return incr(ByteBuffers.bytes(key));
+    }
+
+    public long incrBy(ByteBuffer key, long increment) {
+        return incrBy(ByteBuffers.bytes(key), increment);
+    }
+
+    public double incrByFloat(ByteBuffer key, double increment) {
+        return incrByFloat(ByteBuffers.bytes(key), increment);
+    }
+
+    public long decr(ByteBuffer key) {
+        return decr(ByteBuffers.bytes(key));
+    }
+
+    public long decrBy(ByteBuffer key, long decrement) {
+        return decrBy(ByteBuffers.bytes(key), decrement);
+    }
+
+    public long append(ByteBuffer key, ByteBuffer value) {
+        return append(ByteBuffers.bytes(key), ByteBuffers.bytes(value));
+    }
+
+    public ByteBuffer substr(ByteBuffer key, int start, int end) {
+        return ByteBuffers.wrap(substr(ByteBuffers.bytes(key), start, end));
+    }
+
+    public long strlen(ByteBuffer key) {
+        return strlen(ByteBuffers.bytes(key));
+    }
+
+}
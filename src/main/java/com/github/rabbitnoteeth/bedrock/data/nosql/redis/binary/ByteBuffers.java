@@ -0,0 +1,29 @@
+package com.github.rabbitnoteeth.bedrock.data.nosql.redis.binary;
+
+import java.nio.ByteBuffer;
+
+final class ByteBuffers {
+
+    private ByteBuffers() {
+    }
+
+    /**
+     * Hand out the backing array of a heap buffer that spans it completely, only partial views and direct
+     * buffers are copied. The buffer position is left untouched.
+     */
+    static byte[] bytes(ByteBuffer buffer) {
+        if (buffer == null) {
+            return null;
+        }
+        if (buffer.hasArray() && buffer.arrayOffset() == 0 && buffer.position() == 0 && buffer.remaining() == buffer.array().length) {
+            return buffer.array();
+        }
+        byte[] bytes = new byte[buffer.remaining()];
+        buffer.duplicate().get(bytes);
+        return bytes;
+    }
+
+    static ByteBuffer wrap(byte[] bytes) {
+        return bytes == null ? null : ByteBuffer.wrap(bytes);
+    }
+}
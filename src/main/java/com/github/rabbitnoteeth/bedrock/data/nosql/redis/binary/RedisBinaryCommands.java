@@ -0,0 +1,33 @@
+package com.github.rabbitnoteeth.bedrock.data.nosql.redis.binary;
+
+import redis.clients.jedis.UnifiedJedis;
+
+/**
+ * Entry point of the binary-safe command groups, values such as protobuf or msgpack payloads are stored and
+ * returned without being converted to {@link String}. Values are read and written as stored, compression configured
+ * on the client is bypassed.
+ */
+public final class RedisBinaryCommands {
+
+    private final BinaryStringCommands stringCommands;
+    private final BinaryListCommands listCommands;
+    private final BinaryHashCommands hashCommands;
+
+    public RedisBinaryCommands(UnifiedJedis jedis) {
+        this.stringCommands = new BinaryStringCommands(jedis);
+        this.listCommands = new BinaryListCommands(jedis);
+        this.hashCommands = new BinaryHashCommands(jedis);
+    }
+
+    public BinaryStringCommands string() {
+        return this.stringCommands;
+    }
+
+    public BinaryListCommands list() {
+        return this.listCommands;
+    }
+
+    public BinaryHashCommands hash() {
+        return this.hashCommands;
+    }
+}
@@ -0,0 +1,40 @@
+package com.github.rabbitnoteeth.bedrock.data.nosql.redis.cache;
+
+final class HeapTier implements LocalTier {
+
+    private final TinyLfuCache<String> cache;
+
+    HeapTier(int maximumSize, long expireAfterWriteNanos) {
+        this.cache = new TinyLfuCache<>(maximumSize, expireAfterWriteNanos);
+    }
+
+    @Override
+    public String get(String key) {
+        return cache.get(key);
+    }
+
+    @Override
+    public void put(String key, String value) {
+        cache.put(key, value);
+    }
+
+    @Override
+    public void invalidate(String key) {
+        cache.invalidate(key);
+    }
+
+    @Override
+    public void clear() {
+        cache.clear();
+    }
+
+    @Override
+    public int size() {
+        return cache.size();
+    }
+
+    @Override
+    public long evictions() {
+        return cache.evictions();
+    }
+}
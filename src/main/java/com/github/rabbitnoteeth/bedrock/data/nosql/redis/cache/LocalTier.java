@@ -0,0 +1,19 @@
+package com.github.rabbitnoteeth.bedrock.data.nosql.redis.cache;
+
+/**
+ * Storage of the local tier of a {@link TieredCache}.
+ */
+interface LocalTier {
+
+    String get(String key);
+
+    void put(String key, String value);
+
+    void invalidate(String key);
+
+    void clear();
+
+    int size();
+
+    long evictions();
+}
@@ -0,0 +1,318 @@
+package com.github.rabbitnoteeth.bedrock.data.nosql.redis.cache;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import redis.clients.jedis.Connection;
+import redis.clients.jedis.HostAndPort;
+import redis.clients.jedis.JedisClientConfig;
+import redis.clients.jedis.Protocol;
+import redis.clients.jedis.exceptions.JedisException;
+import redis.clients.jedis.util.SafeEncoder;
+
+import java.io.Closeable;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * In-process cache of string values and whole hashes kept coherent by redis client side caching. A subscriber
+ * connection enables {@code CLIENT TRACKING} in broadcasting mode with the invalidation messages redirected to itself,
+ * then subscribes to them, every key reported there is dropped. Tracking lives and dies with that single connection,
+ * which is exempt from the idle timeout once subscribed, so a lost connection can not leave the cache without
+ * invalidations. While the subscriber is not connected the cache is bypassed, and it is cleared whenever the
+ * subscription is (re)established since messages may have been missed.
+ * <p>
+ * A read installs a loading marker before going to redis and only replaces that marker with the value, so an
+ * invalidation racing with the read wins. Entries are evicted with a clock (second chance) policy once either
+ * the entry count or the estimated byte size exceeds its bound.
+ */
+public final class NearCache implements Closeable {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(NearCache.class);
+    private static final String INVALIDATE_CHANNEL = "__redis__:invalidate";
+    private static final long RECONNECT_DELAY_MILLIS = 1000;
+    private static final int ENTRY_OVERHEAD = 64;
+
+    private final HostAndPort hostAndPort;
+    private final JedisClientConfig clientConfig;
+    private final int maxEntries;
+    private final long maxBytes;
+    private final List<String> prefixes;
+    private final Predicate<String> admission;
+    private final Map<String, Object> entries = new ConcurrentHashMap<>();
+    private final Queue<Entry> clock = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger size = new AtomicInteger();
+    private final AtomicLong bytes = new AtomicLong();
+    private final ReentrantLock evictionLock = new ReentrantLock();
+    private final NearCacheStats stats = new NearCacheStats();
+    private final Thread listener;
+    private volatile boolean active;
+    private volatile boolean closed;
+    private volatile Connection subscriber;
+
+    public NearCache(String name, HostAndPort hostAndPort, JedisClientConfig clientConfig, int maxEntries, long maxBytes, List<String> prefixes) {
+        this(name, hostAndPort, clientConfig, maxEntries, maxBytes, prefixes, null);
+    }
+
+    /**
+     * @param admission keys worth caching, null to cache every key read through the cache
+     */
+    public NearCache(String name, HostAndPort hostAndPort, JedisClientConfig clientConfig, int maxEntries, long maxBytes, List<String> prefixes,
+                     Predicate<String> admission) {
+        this.admission = admission;
+        this.hostAndPort = hostAndPort;
+        this.clientConfig = clientConfig;
+        this.maxEntries = maxEntries;
+        this.maxBytes = maxBytes;
+        this.prefixes = prefixes;
+        this.listener = Thread.ofPlatform().name(name + "-near-cache").daemon().start(this::listen);
+    }
+
+    public String get(String key, Function<String, String> loader) {
+        return get(key, Kind.STRING, loader);
+    }
+
+    public Map<String, String> getAll(String key, Function<String, Map<String, String>> loader) {
+        return get(key, Kind.HASH, loader);
+    }
+
+    /**
+     * Drop the key locally, used after writes issued by this client so that it reads its own writes without waiting
+     * for the invalidation message.
+     */
+    public void invalidate(String key) {
+        remove(key);
+    }
+
+    public void clear() {
+        for (String key : entries.keySet()) {
+            remove(key);
+        }
+    }
+
+    public NearCacheStats getStats() {
+        return stats;
+    }
+
+    public int size() {
+        return size.get();
+    }
+
+    public long estimatedBytes() {
+        return bytes.get();
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+        active = false;
+        Connection connection = subscriber;
+        if (connection != null) {
+            connection.close();
+        }
+        listener.interrupt();
+        clear();
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> T get(String key, Kind kind, Function<String, T> loader) {
+        if (!active) {
+            return loader.apply(key);
+        }
+        Object current = entries.get(key);
+        if (current instanceof Entry entry && entry.kind == kind) {
+            entry.referenced = true;
+            stats.recordHit();
+            return (T) entry.value;
+        }
+        stats.recordMiss();
+        if (admission != null && !admission.test(key)) {
+            return loader.apply(key);
+        }
+        Loading loading = new Loading();
+        boolean installed;
+        if (current == null) {
+            installed = entries.putIfAbsent(key, loading) == null;
+        } else if (current instanceof Entry && entries.replace(key, current, loading)) {
+            release((Entry) current);
+            installed = true;
+        } else {
+            // another thread is already loading this key, do not race it for the slot
+            installed = false;
+        }
+        if (!installed) {
+            return loader.apply(key);
+        }
+        T value;
+        try {
+            value = loader.apply(key);
+        } catch (RuntimeException e) {
+            entries.remove(key, loading);
+            throw e;
+        }
+        if (value == null) {
+            entries.remove(key, loading);
+            return null;
+        }
+        Entry entry = new Entry(key, kind, value, weigh(key, value));
+        if (entries.replace(key, loading, entry)) {
+            size.incrementAndGet();
+            bytes.addAndGet(entry.weight);
+            clock.offer(entry);
+            evictIfNeeded();
+        }
+        return value;
+    }
+
+    private void remove(String key) {
+        Object removed = entries.remove(key);
+        if (removed instanceof Entry entry) {
+            release(entry);
+        }
+    }
+
+    private void release(Entry entry) {
+        entry.removed = true;
+        size.decrementAndGet();
+        bytes.addAndGet(-entry.weight);
+    }
+
+    private boolean overLimits() {
+        return size.get() > maxEntries || bytes.get() > maxBytes;
+    }
+
+    private void evictIfNeeded() {
+        if (!overLimits() || !evictionLock.tryLock()) {
+            return;
+        }
+        try {
+            while (overLimits()) {
+                Entry entry = clock.poll();
+                if (entry == null) {
+                    return;
+                }
+                if (entry.removed) {
+                    continue;
+                }
+                if (entry.referenced) {
+                    entry.referenced = false;
+                    clock.offer(entry);
+                    continue;
+                }
+                if (entries.remove(entry.key, entry)) {
+                    release(entry);
+                    stats.recordEviction();
+                }
+            }
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    private void listen() {
+        while (!closed) {
+            try (Connection connection = new Connection(hostAndPort, clientConfig)) {
+                subscriber = connection;
+                connection.sendCommand(Protocol.Command.CLIENT, "ID");
+                long id = (Long) connection.getOne();
+                List<String> args = new ArrayList<>(List.of("TRACKING", "ON", "REDIRECT", String.valueOf(id), "BCAST"));
+                for (String prefix : prefixes) {
+                    args.add("PREFIX");
+                    args.add(prefix);
+                }
+                // redirecting to itself, the messages are delivered once the connection subscribes below
+                connection.sendCommand(Protocol.Command.CLIENT, args.toArray(new String[0]));
+                connection.getOne();
+                connection.setTimeoutInfinite();
+                connection.sendCommand(Protocol.Command.SUBSCRIBE, INVALIDATE_CHANNEL);
+                connection.getOne();
+                // anything cached before this point may have missed its invalidation
+                clear();
+                active = true;
+                LOGGER.info("Near cache is tracking [{}] with subscriber client id [{}]", hostAndPort, id);
+                while (!closed) {
+                    onMessage(connection.getOne());
+                }
+            } catch (JedisException | ClassCastException e) {
+                active = false;
+                clear();
+                if (closed) {
+                    return;
+                }
+                LOGGER.warn("Near cache lost its invalidation connection to [{}], cache is bypassed until it reconnects", hostAndPort, e);
+                try {
+                    Thread.sleep(RECONNECT_DELAY_MILLIS);
+                } catch (InterruptedException interrupted) {
+                    return;
+                }
+            } finally {
+                subscriber = null;
+            }
+        }
+    }
+
+    private void onMessage(Object reply) {
+        if (!(reply instanceof List<?> message) || message.size() < 3 || !"message".equals(SafeEncoder.encode((byte[]) message.get(0)))) {
+            return;
+        }
+        Object keys = message.get(2);
+        if (keys == null) {
+            // FLUSHALL / FLUSHDB
+            clear();
+            return;
+        }
+        if (keys instanceof List<?> list) {
+            for (Object key : list) {
+                remove(SafeEncoder.encode((byte[]) key));
+                stats.recordInvalidation();
+            }
+        } else if (keys instanceof byte[] key) {
+            remove(SafeEncoder.encode(key));
+            stats.recordInvalidation();
+        }
+    }
+
+    private static int weigh(String key, Object value) {
+        int weight = ENTRY_OVERHEAD + key.length() * 2;
+        if (value instanceof String string) {
+            return weight + string.length() * 2;
+        }
+        for (Map.Entry<?, ?> field : ((Map<?, ?>) value).entrySet()) {
+            weight += ENTRY_OVERHEAD + ((String) field.getKey()).length() * 2 + ((String) field.getValue()).length() * 2;
+        }
+        return weight;
+    }
+
+    private enum Kind {
+        STRING,
+        HASH
+    }
+
+    private static final class Loading {
+    }
+
+    private static final class Entry {
+
+        private final String key;
+        private final Kind kind;
+        private final Object value;
+        private final int weight;
+        private volatile boolean referenced;
+        private volatile boolean removed;
+
+        private Entry(String key, Kind kind, Object value, int weight) {
+            this.key = key;
+            this.kind = kind;
+            this.value = value;
+            this.weight = weight;
+        }
+    }
+}
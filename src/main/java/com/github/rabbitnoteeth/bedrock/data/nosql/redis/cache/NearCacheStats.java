@@ -0,0 +1,63 @@
+package com.github.rabbitnoteeth.bedrock.data.nosql.redis.cache;
+
+import java.util.concurrent.atomic.LongAdder;
+
+public final class NearCacheStats {
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder invalidations = new LongAdder();
+
+    void recordHit() {
+        hits.increment();
+    }
+
+    void recordMiss() {
+        misses.increment();
+    }
+
+    void recordEviction() {
+        evictions.increment();
+    }
+
+    void recordInvalidation() {
+        invalidations.increment();
+    }
+
+    public long getHits() {
+        return hits.sum();
+    }
+
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    public long getEvictions() {
+        return evictions.sum();
+    }
+
+    /**
+     * Entries dropped because the server reported a change of their key.
+     */
+    public long getInvalidations() {
+        return invalidations.sum();
+    }
+
+    public double getHitRatio() {
+        long hit = hits.sum();
+        long total = hit + misses.sum();
+        return total == 0 ? 0 : (double) hit / total;
+    }
+
+    @Override
+    public String toString() {
+        return "NearCacheStats{" +
+            "hits=" + getHits() +
+            ", misses=" + getMisses() +
+            ", evictions=" + getEvictions() +
+            ", invalidations=" + getInvalidations() +
+            ", hitRatio=" + getHitRatio() +
+            '}';
+    }
+}
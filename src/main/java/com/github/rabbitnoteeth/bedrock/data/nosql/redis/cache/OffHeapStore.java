@@ -0,0 +1,252 @@
+package com.github.rabbitnoteeth.bedrock.data.nosql.redis.cache;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.concurrent.locks.StampedLock;
+
+/**
+ * Slab allocator over direct byte buffers. The budget is split into slabs which are handed to size classes (powers
+ * of two from 64 bytes to the slab size) on demand and cut into chunks of that class. A chunk holds a 4 byte length
+ * followed by the bytes, its address packs the slab index in the high and the offset in the low 32 bits.
+ * <p>
+ * Allocating and freeing take the write lock, readers copy optimistically and retry under the read lock when a
+ * writer interfered. A slab whose chunks are all free goes back to the shared pool when a class runs out of room,
+ * so memory is not stuck in a size class that is no longer used.
+ */
+final class OffHeapStore {
+
+    private static final int MIN_CHUNK_SHIFT = 6;
+    private static final int HEADER_BYTES = Integer.BYTES;
+    private static final int UNASSIGNED = -1;
+
+    private final StampedLock lock = new StampedLock();
+    private final int slabSize;
+    private final ByteBuffer[] slabs;
+    private final int[] slabClass;
+    private final int[] slabLive;
+    private final Deque<Integer> freeSlabs = new ArrayDeque<>();
+    private final SizeClass[] classes;
+    private int allocatedSlabs;
+    private long usedBytes;
+
+    /**
+     * @param slabSize power of two between 4KB and 1GB
+     */
+    OffHeapStore(long capacity, int slabSize) {
+        int count = (int) Math.max(1, capacity / slabSize);
+        this.slabSize = slabSize;
+        this.slabs = new ByteBuffer[count];
+        this.slabClass = new int[count];
+        this.slabLive = new int[count];
+        this.classes = new SizeClass[Integer.numberOfTrailingZeros(slabSize) - MIN_CHUNK_SHIFT + 1];
+        for (int i = 0; i < classes.length; i++) {
+            classes[i] = new SizeClass(1 << (i + MIN_CHUNK_SHIFT));
+        }
+        Arrays.fill(slabClass, UNASSIGNED);
+    }
+
+    long capacity() {
+        return (long) slabs.length * slabSize;
+    }
+
+    /**
+     * Size of the chunk that holds a value of the given length, or -1 when it does not fit in a slab.
+     */
+    int chunkSize(int length) {
+        int index = classIndex(length);
+        return index < 0 ? -1 : classes[index].chunkSize;
+    }
+
+    int chunkSize(long address) {
+        return classes[slabClass[slabOf(address)]].chunkSize;
+    }
+
+    long usedBytes() {
+        long stamp = lock.readLock();
+        try {
+            return usedBytes;
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    /**
+     * Copy the bytes into a free chunk.
+     *
+     * @return the address of the chunk, or -1 when there is no room left for its size class
+     */
+    long store(byte[] bytes) {
+        int index = classIndex(bytes.length);
+        if (index < 0) {
+            return -1;
+        }
+        long stamp = lock.writeLock();
+        try {
+            long address = allocate(classes[index], index);
+            if (address < 0) {
+                return -1;
+            }
+            ByteBuffer slab = slabs[slabOf(address)];
+            int offset = offsetOf(address);
+            slab.putInt(offset, bytes.length);
+            slab.put(offset + HEADER_BYTES, bytes);
+            slabLive[slabOf(address)]++;
+            usedBytes += classes[index].chunkSize;
+            return address;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    void free(long address) {
+        long stamp = lock.writeLock();
+        try {
+            int slab = slabOf(address);
+            SizeClass sizeClass = classes[slabClass[slab]];
+            sizeClass.push(address);
+            slabLive[slab]--;
+            usedBytes -= sizeClass.chunkSize;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    long tryOptimisticRead() {
+        return lock.tryOptimisticRead();
+    }
+
+    boolean validate(long stamp) {
+        return lock.validate(stamp);
+    }
+
+    long readLock() {
+        return lock.readLock();
+    }
+
+    void unlockRead(long stamp) {
+        lock.unlockRead(stamp);
+    }
+
+    /**
+     * Copy the bytes of a chunk. Under an optimistic read the chunk may be reused concurrently, the result is then
+     * garbage or null and must be discarded when the stamp does not validate.
+     */
+    byte[] read(long address) {
+        int slabIndex = slabOf(address);
+        if (slabIndex >= slabs.length) {
+            return null;
+        }
+        ByteBuffer slab = slabs[slabIndex];
+        int offset = offsetOf(address);
+        if (slab == null || offset + HEADER_BYTES > slab.capacity()) {
+            return null;
+        }
+        int length = slab.getInt(offset);
+        if (length < 0 || offset + HEADER_BYTES + length > slab.capacity()) {
+            return null;
+        }
+        byte[] bytes = new byte[length];
+        slab.get(offset + HEADER_BYTES, bytes);
+        return bytes;
+    }
+
+    private long allocate(SizeClass sizeClass, int index) {
+        if (sizeClass.free > 0) {
+            return sizeClass.pop();
+        }
+        if (sizeClass.slab < 0 || sizeClass.nextOffset + sizeClass.chunkSize > slabSize) {
+            int slab = takeSlab();
+            if (slab < 0) {
+                return -1;
+            }
+            slabClass[slab] = index;
+            sizeClass.slab = slab;
+            sizeClass.nextOffset = 0;
+        }
+        long address = addressOf(sizeClass.slab, sizeClass.nextOffset);
+        sizeClass.nextOffset += sizeClass.chunkSize;
+        return address;
+    }
+
+    private int takeSlab() {
+        if (!freeSlabs.isEmpty()) {
+            return freeSlabs.pop();
+        }
+        if (allocatedSlabs < slabs.length) {
+            slabs[allocatedSlabs] = ByteBuffer.allocateDirect(slabSize);
+            return allocatedSlabs++;
+        }
+        return reclaimEmptySlab();
+    }
+
+    private int reclaimEmptySlab() {
+        for (int slab = 0; slab < allocatedSlabs; slab++) {
+            if (slabLive[slab] == 0 && slabClass[slab] != UNASSIGNED) {
+                SizeClass owner = classes[slabClass[slab]];
+                owner.removeSlab(slab);
+                if (owner.slab == slab) {
+                    owner.slab = -1;
+                }
+                slabClass[slab] = UNASSIGNED;
+                return slab;
+            }
+        }
+        return -1;
+    }
+
+    private int classIndex(int length) {
+        int chunk = Math.max(length + HEADER_BYTES, 1 << MIN_CHUNK_SHIFT);
+        if (chunk > slabSize) {
+            return -1;
+        }
+        return 32 - Integer.numberOfLeadingZeros(chunk - 1) - MIN_CHUNK_SHIFT;
+    }
+
+    private static long addressOf(int slab, int offset) {
+        return ((long) slab << 32) | (offset & 0xFFFFFFFFL);
+    }
+
+    private static int slabOf(long address) {
+        return (int) (address >>> 32);
+    }
+
+    private static int offsetOf(long address) {
+        return (int) address;
+    }
+
+    private static final class SizeClass {
+
+        private final int chunkSize;
+        private long[] freeChunks = new long[16];
+        private int free;
+        private int slab = -1;
+        private int nextOffset;
+
+        private SizeClass(int chunkSize) {
+            this.chunkSize = chunkSize;
+        }
+
+        private void push(long address) {
+            if (free == freeChunks.length) {
+                freeChunks = Arrays.copyOf(freeChunks, free * 2);
+            }
+            freeChunks[free++] = address;
+        }
+
+        private long pop() {
+            return freeChunks[--free];
+        }
+
+        private void removeSlab(int slab) {
+            int kept = 0;
+            for (int i = 0; i < free; i++) {
+                if (slabOf(freeChunks[i]) != slab) {
+                    freeChunks[kept++] = freeChunks[i];
+                }
+            }
+            free = kept;
+        }
+    }
+}
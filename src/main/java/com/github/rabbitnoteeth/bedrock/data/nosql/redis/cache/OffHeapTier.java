@@ -0,0 +1,89 @@
+package com.github.rabbitnoteeth.bedrock.data.nosql.redis.cache;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Local tier keeping the values UTF-8 encoded in an {@link OffHeapStore}, the heap only holds the policy index of
+ * keys to chunk addresses. The index is bounded by the bytes of the chunks so that it evicts before the slabs are
+ * full, when a size class still runs out of room the policy victims are evicted until the value fits.
+ */
+final class OffHeapTier implements LocalTier {
+
+    private static final int MAX_EVICTIONS_PER_STORE = 64;
+
+    private final OffHeapStore store;
+    private final TinyLfuCache<Long> index;
+
+    OffHeapTier(int expectedSize, long capacity, int slabSize, long expireAfterWriteNanos) {
+        this.store = new OffHeapStore(capacity, slabSize);
+        this.index = new TinyLfuCache<>(expectedSize, store.capacity(), expireAfterWriteNanos,
+            address -> store.chunkSize(address), store::free);
+    }
+
+    @Override
+    public String get(String key) {
+        // records the access and drops the entry when expired
+        if (index.get(key) == null) {
+            return null;
+        }
+        long stamp = store.tryOptimisticRead();
+        byte[] bytes = read(key);
+        if (!store.validate(stamp)) {
+            stamp = store.readLock();
+            try {
+                bytes = read(key);
+            } finally {
+                store.unlockRead(stamp);
+            }
+        }
+        return bytes == null ? null : new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public void put(String key, String value) {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        if (store.chunkSize(bytes.length) < 0) {
+            index.invalidate(key);
+            return;
+        }
+        long address = store.store(bytes);
+        for (int i = 0; address < 0 && i < MAX_EVICTIONS_PER_STORE && index.evictOne(); i++) {
+            address = store.store(bytes);
+        }
+        if (address < 0) {
+            // the stale value must not survive a failed replacement
+            index.invalidate(key);
+            return;
+        }
+        index.put(key, address);
+    }
+
+    @Override
+    public void invalidate(String key) {
+        index.invalidate(key);
+    }
+
+    @Override
+    public void clear() {
+        index.clear();
+    }
+
+    @Override
+    public int size() {
+        return index.size();
+    }
+
+    @Override
+    public long evictions() {
+        return index.evictions();
+    }
+
+    long usedBytes() {
+        return store.usedBytes();
+    }
+
+    private byte[] read(String key) {
+        Long address = index.peek(key);
+        return address == null ? null : store.read(address);
+    }
+}
@@ -0,0 +1,114 @@
+package com.github.rabbitnoteeth.bedrock.data.nosql.redis.cache;
+
+import com.github.rabbitnoteeth.bedrock.data.nosql.redis.commands.StringCommands;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Read-through loading where concurrent callers missing the same key wait for a single load, which is written back
+ * once. Keys are refreshed ahead of their expiry with probabilistic early expiration (XFetch): a reader recomputes
+ * when {@code -delta * beta * ln(random) >= remaining ttl}, delta being the duration of the last load of the key,
+ * so that popular keys are refreshed by one caller shortly before they expire instead of all callers at once after.
+ * <p>
+ * As in XFetch the delta and the expiry are kept next to the value, here in a bounded per process cache filled by the
+ * loads of this node, so a hit costs no more than the GET (and nothing when the near cache serves it). A key loaded
+ * by another node is only refreshed early once this node loaded it, and a key rewritten by another node with a later
+ * expiry may be refreshed by this node once before its recorded expiry is updated.
+ */
+public final class SingleFlightLoader {
+
+    private static final int MAX_TRACKED_KEYS = 10000;
+    private static final long LOAD_RETENTION_NANOS = TimeUnit.DAYS.toNanos(1);
+
+    private final StringCommands strings;
+    private final double beta;
+    private final Map<String, CompletableFuture<String>> flights = new ConcurrentHashMap<>();
+    private final TinyLfuCache<Load> loads = new TinyLfuCache<>(MAX_TRACKED_KEYS, LOAD_RETENTION_NANOS);
+
+    /**
+     * @param beta weight of the early refresh, above 1 favours earlier refreshes, 0 disables them
+     */
+    public SingleFlightLoader(StringCommands strings, double beta) {
+        this.strings = strings;
+        this.beta = beta;
+    }
+
+    public String getOrLoad(String key, long ttlSeconds, Supplier<String> loader) {
+        String value = strings.get(key);
+        if (value == null) {
+            return load(key, ttlSeconds, loader, true);
+        }
+        if (shouldRefreshEarly(key) && !flights.containsKey(key)) {
+            String refreshed = load(key, ttlSeconds, loader, false);
+            return refreshed == null ? value : refreshed;
+        }
+        return value;
+    }
+
+    private boolean shouldRefreshEarly(String key) {
+        if (beta <= 0) {
+            return false;
+        }
+        Load load = loads.get(key);
+        if (load == null) {
+            return false;
+        }
+        long ttlNanos = load.expiresAtNanos() - System.nanoTime();
+        double gap = -load.deltaNanos() * beta * Math.log(ThreadLocalRandom.current().nextDouble());
+        return gap >= ttlNanos;
+    }
+
+    private String load(String key, long ttlSeconds, Supplier<String> loader, boolean missed) {
+        CompletableFuture<String> flight = new CompletableFuture<>();
+        CompletableFuture<String> inFlight = flights.putIfAbsent(key, flight);
+        if (inFlight != null) {
+            return join(inFlight);
+        }
+        try {
+            // a flight may have completed between our read and taking over, its value is then already written
+            String value = missed ? strings.get(key) : null;
+            if (value == null) {
+                long start = System.nanoTime();
+                value = loader.get();
+                long written = System.nanoTime();
+                if (value != null) {
+                    strings.setex(key, ttlSeconds, value);
+                    loads.put(key, new Load(written - start, written + TimeUnit.SECONDS.toNanos(ttlSeconds)));
+                } else {
+                    loads.invalidate(key);
+                }
+            }
+            flight.complete(value);
+            return value;
+        } catch (RuntimeException | Error e) {
+            flight.completeExceptionally(e);
+            throw e;
+        } finally {
+            flights.remove(key, flight);
+        }
+    }
+
+    /**
+     * Duration of the last load of a key by this node and the expiry it was written with, both on the
+     * {@link System#nanoTime()} scale.
+     */
+    private record Load(long deltaNanos, long expiresAtNanos) {
+    }
+
+    private static String join(CompletableFuture<String> flight) {
+        try {
+            return flight.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+}
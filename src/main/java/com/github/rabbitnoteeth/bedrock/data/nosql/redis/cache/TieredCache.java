@@ -0,0 +1,301 @@
+package com.github.rabbitnoteeth.bedrock.data.nosql.redis.cache;
+
+import com.github.rabbitnoteeth.bedrock.data.nosql.redis.RedisClient;
+import com.github.rabbitnoteeth.bedrock.data.nosql.redis.exception.RedisClientException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import redis.clients.jedis.JedisPubSub;
+import redis.clients.jedis.exceptions.JedisException;
+
+import java.io.Closeable;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Two level cache of string values: a bounded W-TinyLFU cache in process in front of redis, kept on heap or in
+ * off-heap slabs. Reads check the local
+ * tier, then redis, and fill the tiers they missed. Writes go to redis with the configured ttl and publish the key
+ * on the invalidation channel so that the other nodes drop their local copy.
+ * <p>
+ * The local tier is bypassed while the invalidation subscription is not established, and cleared whenever it is
+ * (re)established since invalidations may have been missed in between. Like {@link NearCache}, a read installs a
+ * loading marker before going to redis and only fills the local tier while its marker is still there, so an
+ * invalidation racing with the read wins.
+ */
+public final class TieredCache implements Closeable {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(TieredCache.class);
+    private static final long RESUBSCRIBE_DELAY_MILLIS = 1000;
+
+    private final RedisClient client;
+    private final String channel;
+    private final long ttlSeconds;
+    private final String nodeId = UUID.randomUUID().toString();
+    private final LocalTier local;
+    private final ConcurrentHashMap<String, Object> loading = new ConcurrentHashMap<>();
+    private final TieredCacheStats stats;
+    private final InvalidationListener listener = new InvalidationListener();
+    private final Thread subscriber;
+    private volatile boolean active;
+    private volatile boolean closed;
+
+    private TieredCache(RedisClient client, Builder builder) {
+        this.client = client;
+        this.channel = builder.channel;
+        this.ttlSeconds = builder.ttlSeconds;
+        long expireAfterWriteNanos = TimeUnit.MILLISECONDS.toNanos(builder.localTtlMillis);
+        this.local = builder.offHeapCapacity > 0
+            ? new OffHeapTier(builder.maximumSize, builder.offHeapCapacity, builder.offHeapSlabSize, expireAfterWriteNanos)
+            : new HeapTier(builder.maximumSize, expireAfterWriteNanos);
+        this.stats = new TieredCacheStats(this.local);
+        this.subscriber = Thread.ofPlatform().name("tiered-cache-" + this.channel).daemon().start(this::subscribe);
+    }
+
+    public String get(String key) {
+        return get(key, null);
+    }
+
+    /**
+     * Read through both tiers, when the key is in neither the loader is called and its non null result written to
+     * both tiers.
+     */
+    public String get(String key, Function<String, String> loader) {
+        if (active) {
+            String value = local.get(key);
+            if (value != null) {
+                stats.recordLocalHit();
+                return value;
+            }
+        }
+        // another thread already loading this key keeps the slot, this read then does not fill the local tier
+        Object marker = new Object();
+        boolean installed = active && loading.putIfAbsent(key, marker) == null;
+        String value;
+        try {
+            value = client.string().get(key);
+        } catch (RuntimeException e) {
+            if (installed) {
+                loading.remove(key, marker);
+            }
+            throw e;
+        }
+        if (value != null) {
+            stats.recordRedisHit();
+            if (installed) {
+                fill(key, marker, value);
+            }
+            return value;
+        }
+        if (installed) {
+            loading.remove(key, marker);
+        }
+        stats.recordMiss();
+        if (loader == null) {
+            return null;
+        }
+        value = loader.apply(key);
+        if (value != null) {
+            put(key, value);
+        }
+        return value;
+    }
+
+    public void put(String key, String value) {
+        if (ttlSeconds > 0) {
+            client.string().setex(key, ttlSeconds, value);
+        } else {
+            client.string().set(key, value);
+        }
+        // a read of the previous value must not fill the local tier after this write
+        loading.remove(key);
+        if (active) {
+            local.put(key, value);
+        }
+        publish(key);
+    }
+
+    public void invalidate(String key) {
+        client.key().del(key);
+        invalidateLocal(key);
+        publish(key);
+    }
+
+    public TieredCacheStats getStats() {
+        return stats;
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+        active = false;
+        if (listener.isSubscribed()) {
+            try {
+                listener.unsubscribe();
+            } catch (JedisException e) {
+                LOGGER.warn("Failed to unsubscribe tiered cache from channel [{}]", channel, e);
+            }
+        }
+        subscriber.interrupt();
+        clearLocal();
+    }
+
+    /**
+     * Put the value read from redis in the local tier unless an invalidation removed the marker meanwhile, the
+     * check and the put hold the marker's lock so that an invalidation can not slip in between.
+     */
+    private void fill(String key, Object marker, String value) {
+        loading.computeIfPresent(key, (k, current) -> {
+            if (current != marker) {
+                return current;
+            }
+            if (active) {
+                local.put(k, value);
+            }
+            return null;
+        });
+    }
+
+    private void invalidateLocal(String key) {
+        loading.remove(key);
+        local.invalidate(key);
+    }
+
+    private void clearLocal() {
+        loading.clear();
+        local.clear();
+    }
+
+    private void publish(String key) {
+        client.publish(channel, nodeId + ' ' + key);
+    }
+
+    private void subscribe() {
+        while (!closed) {
+            try {
+                client.subscribe(listener, channel);
+            } catch (JedisException e) {
+                LOGGER.warn("Tiered cache lost its subscription to channel [{}], local tier is bypassed until it resubscribes", channel, e);
+            }
+            active = false;
+            clearLocal();
+            if (closed) {
+                return;
+            }
+            try {
+                Thread.sleep(RESUBSCRIBE_DELAY_MILLIS);
+            } catch (InterruptedException e) {
+                return;
+            }
+        }
+    }
+
+    private final class InvalidationListener extends JedisPubSub {
+
+        @Override
+        public void onSubscribe(String channel, int subscribedChannels) {
+            if (closed) {
+                unsubscribe();
+                return;
+            }
+            clearLocal();
+            active = true;
+        }
+
+        @Override
+        public void onMessage(String channel, String message) {
+            int separator = message.indexOf(' ');
+            if (separator < 0 || separator == nodeId.length() && message.startsWith(nodeId)) {
+                // malformed, or published by this node
+                return;
+            }
+            invalidateLocal(message.substring(separator + 1));
+            stats.recordRemoteInvalidation();
+        }
+    }
+
+    public static class Builder {
+        private static final String DEFAULT_CHANNEL = "bedrock:tiered-cache:invalidate";
+        private static final int DEFAULT_MAXIMUM_SIZE = 10000;
+        private static final long DEFAULT_TTL_SECONDS = 3600;
+        private static final long DEFAULT_LOCAL_TTL_MILLIS = 60000;
+        private static final int DEFAULT_OFF_HEAP_SLAB_SIZE = 1024 * 1024;
+        private static final int MIN_OFF_HEAP_SLAB_SIZE = 4096;
+
+        private String channel = DEFAULT_CHANNEL;
+        private int maximumSize = DEFAULT_MAXIMUM_SIZE;
+        private long ttlSeconds = DEFAULT_TTL_SECONDS;
+        private long localTtlMillis = DEFAULT_LOCAL_TTL_MILLIS;
+        private long offHeapCapacity;
+        private int offHeapSlabSize = DEFAULT_OFF_HEAP_SLAB_SIZE;
+
+        /**
+         * Pub/sub channel of the invalidations, caches sharing keys must use the same channel.
+         */
+        public Builder setChannel(String channel) {
+            this.channel = channel;
+            return this;
+        }
+
+        /**
+         * Maximum number of entries of the local tier, in off-heap mode the expected number of entries since the
+         * tier is bounded by {@link #setOffHeapCapacity(long)}.
+         */
+        public Builder setMaximumSize(int maximumSize) {
+            this.maximumSize = maximumSize;
+            return this;
+        }
+
+        /**
+         * Ttl of the values written to redis, 0 writes them without expiry.
+         */
+        public Builder setTtlSeconds(long ttlSeconds) {
+            this.ttlSeconds = ttlSeconds;
+            return this;
+        }
+
+        /**
+         * Local entries expire this long after being written, which bounds the staleness when an invalidation is lost.
+         */
+        public Builder setLocalTtlMillis(long localTtlMillis) {
+            this.localTtlMillis = localTtlMillis;
+            return this;
+        }
+
+        /**
+         * Keep the local values in direct memory slabs of this total size instead of on heap, 0 keeps them on heap.
+         * Values larger than a slab are not cached locally.
+         */
+        public Builder setOffHeapCapacity(long offHeapCapacity) {
+            this.offHeapCapacity = offHeapCapacity;
+            return this;
+        }
+
+        /**
+         * Size of the off-heap slabs, a power of two of at least 4KB.
+         */
+        public Builder setOffHeapSlabSize(int offHeapSlabSize) {
+            this.offHeapSlabSize = offHeapSlabSize;
+            return this;
+        }
+
+        public TieredCache build(RedisClient client) throws RedisClientException {
+            try {
+                if (client == null || channel == null || channel.isBlank()) {
+                    throw new IllegalArgumentException("client and channel can not be blank");
+                }
+                if (maximumSize <= 0 || ttlSeconds < 0 || localTtlMillis <= 0) {
+                    throw new IllegalArgumentException("maximum size and local ttl must be positive, ttl can not be negative");
+                }
+                if (offHeapCapacity < 0 || offHeapSlabSize < MIN_OFF_HEAP_SLAB_SIZE || Integer.bitCount(offHeapSlabSize) != 1
+                    || offHeapCapacity > 0 && offHeapCapacity < offHeapSlabSize) {
+                    throw new IllegalArgumentException("off heap slab size must be a power of two of at least 4KB and no larger than the off heap capacity");
+                }
+                return new TieredCache(client, this);
+            } catch (Throwable e) {
+                throw new RedisClientException(e);
+            }
+        }
+    }
+}
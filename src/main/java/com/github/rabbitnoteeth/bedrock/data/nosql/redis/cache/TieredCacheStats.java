@@ -0,0 +1,82 @@
+package com.github.rabbitnoteeth.bedrock.data.nosql.redis.cache;
+
+import java.util.concurrent.atomic.LongAdder;
+
+public final class TieredCacheStats {
+
+    private final LongAdder localHits = new LongAdder();
+    private final LongAdder redisHits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder remoteInvalidations = new LongAdder();
+    private final LocalTier local;
+
+    TieredCacheStats(LocalTier local) {
+        this.local = local;
+    }
+
+    void recordLocalHit() {
+        localHits.increment();
+    }
+
+    void recordRedisHit() {
+        redisHits.increment();
+    }
+
+    void recordMiss() {
+        misses.increment();
+    }
+
+    void recordRemoteInvalidation() {
+        remoteInvalidations.increment();
+    }
+
+    public long getLocalHits() {
+        return localHits.sum();
+    }
+
+    public long getRedisHits() {
+        return redisHits.sum();
+    }
+
+    /**
+     * Reads found in neither tier.
+     */
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    public long getLocalEvictions() {
+        return local.evictions();
+    }
+
+    /**
+     * Invalidations published by other nodes and applied to the local tier.
+     */
+    public long getRemoteInvalidations() {
+        return remoteInvalidations.sum();
+    }
+
+    public int getLocalSize() {
+        return local.size();
+    }
+
+    /**
+     * Bytes of the slab chunks in use, 0 when the local tier is kept on heap.
+     */
+    public long getLocalOffHeapBytes() {
+        return local instanceof OffHeapTier offHeap ? offHeap.usedBytes() : 0;
+    }
+
+    @Override
+    public String toString() {
+        return "TieredCacheStats{" +
+            "localHits=" + getLocalHits() +
+            ", redisHits=" + getRedisHits() +
+            ", misses=" + getMisses() +
+            ", localEvictions=" + getLocalEvictions() +
+            ", remoteInvalidations=" + getRemoteInvalidations() +
+            ", localSize=" + getLocalSize() +
+            ", localOffHeapBytes=" + getLocalOffHeapBytes() +
+            '}';
+    }
+}
@@ -0,0 +1,347 @@
+package com.github.rabbitnoteeth.bedrock.data.nosql.redis.cache;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.function.ToIntFunction;
+
+/**
+ * Bounded in-process cache with a W-TinyLFU policy: new entries enter a small LRU window (1% of the capacity),
+ * entries leaving the window compete with the eldest entry of the main space and only the one with the higher
+ * estimated frequency stays. The main space is a segmented LRU with a probation and a protected (80%) segment.
+ * The capacity is a total weight, an entry weighs 1 unless a weigher is given.
+ * <p>
+ * Lookups are lock free, the access is recorded only when the policy lock is free so that hot reads never queue
+ * behind each other. Writes and removals always take the lock, the removal listener is called under it for every
+ * value leaving the cache, replaced values included.
+ */
+final class TinyLfuCache<V> {
+
+    private static final byte WINDOW = 0;
+    private static final byte PROBATION = 1;
+    private static final byte PROTECTED = 2;
+    private static final byte REMOVED = 3;
+
+    private final Map<String, Node<V>> data = new ConcurrentHashMap<>();
+    private final ReentrantLock lock = new ReentrantLock();
+    private final AccessQueue<V> window = new AccessQueue<>();
+    private final AccessQueue<V> probation = new AccessQueue<>();
+    private final AccessQueue<V> protectedQueue = new AccessQueue<>();
+    private final FrequencySketch sketch;
+    private final long maximumWeight;
+    private final long maxWindow;
+    private final long maxProtected;
+    private final long expireAfterWriteNanos;
+    private final ToIntFunction<V> weigher;
+    private final Consumer<V> removalListener;
+    private final LongAdder evictions = new LongAdder();
+    private long weight;
+
+    TinyLfuCache(int maximumSize, long expireAfterWriteNanos) {
+        this(maximumSize, maximumSize, expireAfterWriteNanos, value -> 1, value -> {
+        });
+    }
+
+    /**
+     * @param expectedSize expected number of entries, sizes the frequency sketch
+     */
+    TinyLfuCache(int expectedSize, long maximumWeight, long expireAfterWriteNanos, ToIntFunction<V> weigher, Consumer<V> removalListener) {
+        this.maximumWeight = maximumWeight;
+        this.maxWindow = Math.max(1, maximumWeight / 100);
+        this.maxProtected = (long) ((maximumWeight - maxWindow) * 0.8);
+        this.expireAfterWriteNanos = expireAfterWriteNanos;
+        this.weigher = weigher;
+        this.removalListener = removalListener;
+        this.sketch = new FrequencySketch(expectedSize);
+    }
+
+    V get(String key) {
+        Node<V> node = data.get(key);
+        if (node == null) {
+            return null;
+        }
+        if (node.expireAt - System.nanoTime() <= 0) {
+            remove(key, node);
+            return null;
+        }
+        if (lock.tryLock()) {
+            try {
+                if (node.queue != REMOVED) {
+                    onAccess(node);
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+        return node.value;
+    }
+
+    /**
+     * Current value without recording an access nor checking the expiry.
+     */
+    V peek(String key) {
+        Node<V> node = data.get(key);
+        return node == null ? null : node.value;
+    }
+
+    /**
+     * @return false when the value alone is heavier than the capacity, it is then handed to the removal listener
+     */
+    boolean put(String key, V value) {
+        int valueWeight = weigher.applyAsInt(value);
+        long expireAt = System.nanoTime() + expireAfterWriteNanos;
+        lock.lock();
+        try {
+            Node<V> node = data.get(key);
+            if (valueWeight > maximumWeight) {
+                if (node != null) {
+                    data.remove(key);
+                    unlink(node);
+                }
+                removalListener.accept(value);
+                return false;
+            }
+            if (node != null) {
+                V old = node.value;
+                node.value = value;
+                node.expireAt = expireAt;
+                weight += valueWeight - node.weight;
+                resize(node, valueWeight);
+                removalListener.accept(old);
+                onAccess(node);
+            } else {
+                node = new Node<>(key, FrequencySketch.spread(key.hashCode()), value, expireAt, valueWeight);
+                data.put(key, node);
+                sketch.increment(node.hash);
+                node.queue = WINDOW;
+                window.addLast(node);
+                weight += valueWeight;
+            }
+            evict();
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    void invalidate(String key) {
+        lock.lock();
+        try {
+            Node<V> node = data.remove(key);
+            if (node != null) {
+                unlink(node);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Evict the entry the policy would evict next, used by storages that run out of room before the weight bound.
+     *
+     * @return false when the cache is empty
+     */
+    boolean evictOne() {
+        lock.lock();
+        try {
+            Node<V> victim = probation.first();
+            if (victim == null) {
+                victim = protectedQueue.first();
+            }
+            if (victim == null) {
+                victim = window.first();
+            }
+            if (victim == null) {
+                return false;
+            }
+            evict(victim);
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    void clear() {
+        lock.lock();
+        try {
+            for (Node<V> node : data.values()) {
+                unlink(node);
+            }
+            data.clear();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    int size() {
+        return data.size();
+    }
+
+    long evictions() {
+        return evictions.sum();
+    }
+
+    private void remove(String key, Node<V> node) {
+        lock.lock();
+        try {
+            if (data.remove(key, node)) {
+                unlink(node);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void onAccess(Node<V> node) {
+        sketch.increment(node.hash);
+        switch (node.queue) {
+            case WINDOW -> window.moveToLast(node);
+            case PROBATION -> {
+                probation.remove(node);
+                node.queue = PROTECTED;
+                protectedQueue.addLast(node);
+                while (protectedQueue.weight > maxProtected) {
+                    Node<V> demoted = protectedQueue.pollFirst();
+                    demoted.queue = PROBATION;
+                    probation.addLast(demoted);
+                }
+            }
+            case PROTECTED -> protectedQueue.moveToLast(node);
+            default -> {
+            }
+        }
+    }
+
+    private void evict() {
+        while (window.weight > maxWindow && window.first() != null) {
+            Node<V> candidate = window.pollFirst();
+            candidate.queue = PROBATION;
+            probation.addLast(candidate);
+        }
+        while (weight > maximumWeight) {
+            Node<V> victim = probation.first();
+            Node<V> candidate = probation.last();
+            if (victim == null) {
+                // everything left is either protected or in the window
+                victim = protectedQueue.first() != null ? protectedQueue.first() : window.first();
+                candidate = victim;
+            }
+            if (victim != candidate && sketch.frequency(candidate.hash) > sketch.frequency(victim.hash)) {
+                evict(victim);
+            } else {
+                evict(candidate);
+            }
+        }
+    }
+
+    private void evict(Node<V> node) {
+        data.remove(node.key, node);
+        unlink(node);
+        evictions.increment();
+    }
+
+    private void unlink(Node<V> node) {
+        switch (node.queue) {
+            case WINDOW -> window.remove(node);
+            case PROBATION -> probation.remove(node);
+            case PROTECTED -> protectedQueue.remove(node);
+            default -> {
+                return;
+            }
+        }
+        node.queue = REMOVED;
+        weight -= node.weight;
+        removalListener.accept(node.value);
+    }
+
+    private void resize(Node<V> node, int newWeight) {
+        switch (node.queue) {
+            case WINDOW -> window.weight += newWeight - node.weight;
+            case PROBATION -> probation.weight += newWeight - node.weight;
+            case PROTECTED -> protectedQueue.weight += newWeight - node.weight;
+            default -> {
+            }
+        }
+        node.weight = newWeight;
+    }
+
+    private static final class Node<V> {
+
+        private final String key;
+        private final int hash;
+        private volatile V value;
+        private volatile long expireAt;
+        private int weight;
+        private byte queue;
+        private Node<V> prev;
+        private Node<V> next;
+
+        private Node(String key, int hash, V value, long expireAt, int weight) {
+            this.key = key;
+            this.hash = hash;
+            this.value = value;
+            this.expireAt = expireAt;
+            this.weight = weight;
+        }
+    }
+
+    private static final class AccessQueue<V> {
+
+        private Node<V> head;
+        private Node<V> tail;
+        private long weight;
+
+        private Node<V> first() {
+            return head;
+        }
+
+        private Node<V> last() {
+            return tail;
+        }
+
+        private void addLast(Node<V> node) {
+            node.prev = tail;
+            node.next = null;
+            if (tail == null) {
+                head = node;
+            } else {
+                tail.next = node;
+            }
+            tail = node;
+            weight += node.weight;
+        }
+
+        private Node<V> pollFirst() {
+            Node<V> node = head;
+            if (node != null) {
+                remove(node);
+            }
+            return node;
+        }
+
+        private void moveToLast(Node<V> node) {
+            if (node != tail) {
+                remove(node);
+                addLast(node);
+            }
+        }
+
+        private void remove(Node<V> node) {
+            if (node.prev == null) {
+                head = node.next;
+            } else {
+                node.prev.next = node.next;
+            }
+            if (node.next == null) {
+                tail = node.prev;
+            } else {
+                node.next.prev = node.prev;
+            }
+            node.prev = null;
+            node.next = null;
+            weight -= node.weight;
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package com.github.rabbitnoteeth.bedrock.data.nosql.redis.codec;
+
+public final class ByteArrayCodec implements Codec<byte[], byte[]> {
+
+    public static final ByteArrayCodec INSTANCE = new ByteArrayCodec();
+
+    private ByteArrayCodec() {
+    }
+
+    @Override
+    public byte[] encodeKey(byte[] key) {
+        return key;
+    }
+
+    @Override
+    public byte[] decodeKey(byte[] bytes) {
+        return bytes;
+    }
+
+    @Override
+    public byte[] encodeValue(byte[] value) {
+        return value;
+    }
+
+    @Override
+    public byte[] decodeValue(byte[] bytes) {
+        return bytes;
+    }
+}
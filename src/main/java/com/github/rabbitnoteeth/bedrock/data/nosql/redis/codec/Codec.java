@@ -0,0 +1,20 @@
+package com.github.rabbitnoteeth.bedrock.data.nosql.redis.codec;
+
+/**
+ * Converts keys and values to the bytes sent to redis and back. Implementations encode straight to bytes, no
+ * intermediate {@link String} should be produced for values that are not text.
+ *
+ * @param <K> key type, also used for hash fields
+ * @param <V> value type
+ */
+public interface Codec<K, V> {
+
+    byte[] encodeKey(K key);
+
+    K decodeKey(byte[] bytes);
+
+    byte[] encodeValue(V value);
+
+    V decodeValue(byte[] bytes);
+
+}
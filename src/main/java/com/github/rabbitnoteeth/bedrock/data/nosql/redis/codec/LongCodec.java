@@ -0,0 +1,82 @@
+package com.github.rabbitnoteeth.bedrock.data.nosql.redis.codec;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * UTF-8 keys with {@code long} values stored in the decimal form redis uses for INCR, digits are written to and
+ * parsed from the byte array directly.
+ */
+public final class LongCodec implements Codec<String, Long> {
+
+    public static final LongCodec INSTANCE = new LongCodec();
+
+    private LongCodec() {
+    }
+
+    @Override
+    public byte[] encodeKey(String key) {
+        return StringCodec.encode(key);
+    }
+
+    @Override
+    public String decodeKey(byte[] bytes) {
+        return StringCodec.decode(bytes);
+    }
+
+    @Override
+    public byte[] encodeValue(Long value) {
+        if (value == null) {
+            return null;
+        }
+        long v = value;
+        if (v == Long.MIN_VALUE) {
+            return "-9223372036854775808".getBytes(StandardCharsets.US_ASCII);
+        }
+        boolean negative = v < 0;
+        if (negative) {
+            v = -v;
+        }
+        int digits = 1;
+        for (long n = v / 10; n > 0; n /= 10) {
+            digits++;
+        }
+        byte[] bytes = new byte[negative ? digits + 1 : digits];
+        for (int i = bytes.length - 1; i >= bytes.length - digits; i--) {
+            bytes[i] = (byte) ('0' + v % 10);
+            v /= 10;
+        }
+        if (negative) {
+            bytes[0] = '-';
+        }
+        return bytes;
+    }
+
+    @Override
+    public Long decodeValue(byte[] bytes) {
+        if (bytes == null) {
+            return null;
+        }
+        if (bytes.length == 0) {
+            throw new NumberFormatException("empty value is not a long");
+        }
+        boolean negative = bytes[0] == '-';
+        int start = negative ? 1 : 0;
+        if (start == bytes.length) {
+            throw new NumberFormatException("value is not a long");
+        }
+        long result = 0;
+        try {
+            for (int i = start; i < bytes.length; i++) {
+                int digit = bytes[i] - '0';
+                if (digit < 0 || digit > 9) {
+                    throw new NumberFormatException("value is not a long");
+                }
+                // accumulate negatively so that Long.MIN_VALUE can be parsed
+                result = Math.subtractExact(Math.multiplyExact(result, 10), digit);
+            }
+            return negative ? result : Math.negateExact(result);
+        } catch (ArithmeticException e) {
+            throw new NumberFormatException("value is out of long range");
+        }
+    }
+}
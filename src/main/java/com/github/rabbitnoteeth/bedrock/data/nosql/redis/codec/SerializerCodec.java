@@ -0,0 +1,78 @@
+package com.github.rabbitnoteeth.bedrock.data.nosql.redis.codec;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+/**
+ * UTF-8 keys with values produced by a {@link ValueSerializer}. Values are serialized into a per-thread buffer
+ * that is reused between calls, so the only allocation per write is the exact sized array handed to the
+ * connection.
+ *
+ * @param <V> value type
+ */
+public final class SerializerCodec<V> implements Codec<String, V> {
+
+    private static final int INITIAL_BUFFER_SIZE = 512;
+    private static final int MAX_RETAINED_BUFFER_SIZE = 64 * 1024;
+    private static final ThreadLocal<PooledOutputStream> BUFFER = ThreadLocal.withInitial(PooledOutputStream::new);
+
+    private final ValueSerializer<V> serializer;
+
+    public SerializerCodec(ValueSerializer<V> serializer) {
+        this.serializer = serializer;
+    }
+
+    @Override
+    public byte[] encodeKey(String key) {
+        return StringCodec.encode(key);
+    }
+
+    @Override
+    public String decodeKey(byte[] bytes) {
+        return StringCodec.decode(bytes);
+    }
+
+    @Override
+    public byte[] encodeValue(V value) {
+        if (value == null) {
+            return null;
+        }
+        PooledOutputStream output = BUFFER.get();
+        try {
+            serializer.serialize(value, output);
+            return output.toByteArray();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to serialize value", e);
+        } finally {
+            output.release();
+        }
+    }
+
+    @Override
+    public V decodeValue(byte[] bytes) {
+        if (bytes == null) {
+            return null;
+        }
+        try {
+            return serializer.deserialize(new ByteArrayInputStream(bytes));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to deserialize value", e);
+        }
+    }
+
+    private static final class PooledOutputStream extends ByteArrayOutputStream {
+
+        private PooledOutputStream() {
+            super(INITIAL_BUFFER_SIZE);
+        }
+
+        private void release() {
+            if (buf.length > MAX_RETAINED_BUFFER_SIZE) {
+                buf = new byte[INITIAL_BUFFER_SIZE];
+            }
+            reset();
+        }
+    }
+}
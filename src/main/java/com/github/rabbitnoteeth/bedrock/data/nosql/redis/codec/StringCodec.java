@@ -0,0 +1,39 @@
+package com.github.rabbitnoteeth.bedrock.data.nosql.redis.codec;
+
+import java.nio.charset.StandardCharsets;
+
+public final class StringCodec implements Codec<String, String> {
+
+    public static final StringCodec UTF8 = new StringCodec();
+
+    private StringCodec() {
+    }
+
+    @Override
+    public byte[] encodeKey(String key) {
+        return encode(key);
+    }
+
+    @Override
+    public String decodeKey(byte[] bytes) {
+        return decode(bytes);
+    }
+
+    @Override
+    public byte[] encodeValue(String value) {
+        return encode(value);
+    }
+
+    @Override
+    public String decodeValue(byte[] bytes) {
+        return decode(bytes);
+    }
+
+    static byte[] encode(String value) {
+        return value == null ? null : value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    static String decode(byte[] bytes) {
+        return bytes == null ? null : new String(bytes, StandardCharsets.UTF_8);
+    }
+}
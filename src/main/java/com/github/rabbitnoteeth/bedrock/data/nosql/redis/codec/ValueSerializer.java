@@ -0,0 +1,19 @@
+package com.github.rabbitnoteeth.bedrock.data.nosql.redis.codec;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+/**
+ * Serializer SPI for {@link SerializerCodec}, protobuf or msgpack writers can write to the pooled output and read
+ * from the reply bytes without any intermediate representation.
+ *
+ * @param <V> value type
+ */
+public interface ValueSerializer<V> {
+
+    void serialize(V value, OutputStream output) throws IOException;
+
+    V deserialize(InputStream input) throws IOException;
+
+}
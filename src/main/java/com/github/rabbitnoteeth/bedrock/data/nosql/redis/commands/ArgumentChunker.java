@@ -0,0 +1,181 @@
+package com.github.rabbitnoteeth.bedrock.data.nosql.redis.commands;
+
+import redis.clients.jedis.AbstractPipeline;
+import redis.clients.jedis.Response;
+import redis.clients.jedis.util.JedisClusterCRC16;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.BiFunction;
+import java.util.function.Supplier;
+
+/**
+ * Splits the arguments of a multi-key or multi-member command into chunks sent as separate commands in one pipeline,
+ * so that the server never spends long on a single command nor builds a huge reply. In cluster mode the keys are
+ * first grouped by hash slot, the cluster pipeline then sends the groups of each node in parallel. The chunks are
+ * no longer applied atomically as a whole, so commands whose atomicity or server side evaluation matters (MSET,
+ * EXISTS, the set algebra) are only split by slot, when the cluster forces it.
+ */
+public final class ArgumentChunker {
+
+    private static final int SLOTS = 16384;
+
+    private final int chunkSize;
+    private final boolean slotAware;
+    private final Supplier<? extends AbstractPipeline> pipelines;
+
+    /**
+     * @param chunkSize maximum number of keys or members of a chunk, 0 for no limit
+     * @param slotAware whether keys must be grouped by cluster hash slot
+     */
+    public ArgumentChunker(int chunkSize, boolean slotAware, Supplier<? extends AbstractPipeline> pipelines) {
+        this.chunkSize = chunkSize;
+        this.slotAware = slotAware;
+        this.pipelines = pipelines;
+    }
+
+    /**
+     * Split members of a single key, which always live in one slot.
+     *
+     * @return the chunks, or null when the members can be sent as one command
+     */
+    public List<Chunk> splitMembers(String[] members) {
+        if (chunkSize <= 0 || members.length <= chunkSize) {
+            return null;
+        }
+        return contiguous(members, 1, chunkSize);
+    }
+
+    /**
+     * Split keys by slot and by chunk size.
+     *
+     * @return the chunks, or null when the keys can be sent as one command
+     */
+    public List<Chunk> splitKeys(String[] keys) {
+        return split(keys, 1, chunkSize);
+    }
+
+    /**
+     * Split keys by slot only, outside cluster mode the keys are always sent as one command.
+     *
+     * @return the chunks, or null when the keys can be sent as one command
+     */
+    public List<Chunk> splitSlots(String[] keys) {
+        return split(keys, 1, 0);
+    }
+
+    /**
+     * Split alternating keys and values by slot only, the pairs stay together.
+     *
+     * @return the chunks, or null when the pairs can be sent as one command
+     */
+    public List<Chunk> splitPairs(String[] keysvalues) {
+        return split(keysvalues, 2, 0);
+    }
+
+    /**
+     * @return the reply of every chunk, in chunk order
+     */
+    public <T> List<T> execute(List<Chunk> chunks, BiFunction<AbstractPipeline, String[], Response<T>> command) {
+        try (AbstractPipeline pipeline = pipelines.get()) {
+            List<Response<T>> responses = new ArrayList<>(chunks.size());
+            for (Chunk chunk : chunks) {
+                responses.add(command.apply(pipeline, chunk.arguments()));
+            }
+            pipeline.sync();
+            List<T> replies = new ArrayList<>(responses.size());
+            for (Response<T> response : responses) {
+                replies.add(response.get());
+            }
+            return replies;
+        }
+    }
+
+    /**
+     * Sum of the integer replies of every chunk.
+     */
+    public long sum(List<Chunk> chunks, BiFunction<AbstractPipeline, String[], Response<Long>> command) {
+        long total = 0;
+        for (Long reply : execute(chunks, command)) {
+            total += reply;
+        }
+        return total;
+    }
+
+    /**
+     * @param limit maximum number of keys (or pairs) of a chunk, 0 for no limit
+     */
+    private List<Chunk> split(String[] arguments, int stride, int limit) {
+        int count = arguments.length / stride;
+        if (!slotAware) {
+            return limit <= 0 || count <= limit ? null : contiguous(arguments, stride, limit);
+        }
+        // counting sort of the key positions by slot, slots keep the order of their first key
+        int[] slots = new int[count];
+        int[] sizes = new int[SLOTS];
+        int[] order = new int[Math.min(count, SLOTS)];
+        int groups = 0;
+        for (int i = 0; i < count; i++) {
+            int slot = JedisClusterCRC16.getSlot(arguments[i * stride]);
+            slots[i] = slot;
+            if (sizes[slot]++ == 0) {
+                order[groups++] = slot;
+            }
+        }
+        if (groups == 1 && (limit <= 0 || count <= limit)) {
+            return null;
+        }
+        int[] starts = new int[SLOTS];
+        int offset = 0;
+        for (int g = 0; g < groups; g++) {
+            starts[order[g]] = offset;
+            offset += sizes[order[g]];
+        }
+        int[] positions = new int[count];
+        int[] next = Arrays.copyOf(starts, SLOTS);
+        for (int i = 0; i < count; i++) {
+            positions[next[slots[i]]++] = i;
+        }
+        List<Chunk> chunks = new ArrayList<>(groups);
+        for (int g = 0; g < groups; g++) {
+            int from = starts[order[g]];
+            int to = from + sizes[order[g]];
+            int step = limit <= 0 ? to - from : limit;
+            for (int start = from; start < to; start += step) {
+                int end = Math.min(to, start + step);
+                chunks.add(chunk(arguments, stride, Arrays.copyOfRange(positions, start, end)));
+            }
+        }
+        return chunks;
+    }
+
+    private static List<Chunk> contiguous(String[] arguments, int stride, int limit) {
+        int count = arguments.length / stride;
+        List<Chunk> chunks = new ArrayList<>((count + limit - 1) / limit);
+        for (int from = 0; from < count; from += limit) {
+            int to = Math.min(count, from + limit);
+            int[] positions = new int[to - from];
+            for (int i = 0; i < positions.length; i++) {
+                positions[i] = from + i;
+            }
+            chunks.add(new Chunk(Arrays.copyOfRange(arguments, from * stride, to * stride), positions));
+        }
+        return chunks;
+    }
+
+    private static Chunk chunk(String[] arguments, int stride, int[] positions) {
+        String[] chunk = new String[positions.length * stride];
+        for (int i = 0; i < positions.length; i++) {
+            System.arraycopy(arguments, positions[i] * stride, chunk, i * stride, stride);
+        }
+        return new Chunk(chunk, positions);
+    }
+
+    /**
+     * @param arguments the arguments sent by the chunk
+     * @param positions index in the original call of each key (or pair) of the chunk
+     */
+    public record Chunk(String[] arguments, int[] positions) {
+    }
+}
@@ -1,52 +1,91 @@
 package com.github.rabbitnoteeth.bedrock.data.nosql.redis.commands;
 
-import redis.clients.jedis.JedisPooled;
+import com.github.rabbitnoteeth.bedrock.data.nosql.redis.cache.NearCache;
+import com.github.rabbitnoteeth.bedrock.data.nosql.redis.compression.ValueCompressor;
+import redis.clients.jedis.UnifiedJedis;
 import redis.clients.jedis.params.ScanParams;
 import redis.clients.jedis.resps.ScanResult;
+import redis.clients.jedis.util.SafeEncoder;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
-
+import java.util.stream.Stream;
+
+/**
+ * When a {@link ValueCompressor} is configured field values are transparently compressed on write and
+ * decompressed on read, {@link #strlen(String, String)} then reports the stored length.
+ * <p>
+ * When a {@link NearCache} is configured {@link #getAll(String)} is served from it and returns unmodifiable maps.
+ */
 public class HashCommands {
 
-    private final JedisPooled jedis;
+    private final UnifiedJedis jedis;
+    private final ValueCompressor compressor;
+    private final NearCache nearCache;
+
+    public HashCommands(UnifiedJedis jedis) {
+        this(jedis, null, null);
+    }
 
-    public HashCommands(JedisPooled jedis) {
+    public HashCommands(UnifiedJedis jedis, ValueCompressor compressor, NearCache nearCache) {
         this.jedis = jedis;
+        this.compressor = compressor;
+        this.nearCache = nearCache;
     }
 
     public long set(String key, String field, String value) {
-        return jedis.hset(key, field, value);
+        if (compressor == null) {
+            return invalidated(key, jedis.hset(key, field, value));
+        }
+        return invalidated(key, jedis.hset(SafeEncoder.encode(key), SafeEncoder.encode(field), compressor.compress(value)));
     }
 
     public long set(String key, Map<String, String> hash) {
-        return jedis.hset(key, hash);
+        if (compressor == null) {
+            return invalidated(key, jedis.hset(key, hash));
+        }
+        return invalidated(key, jedis.hset(SafeEncoder.encode(key), compressHash(hash)));
     }
 
     public String get(String key, String field) {
-        return jedis.hget(key, field);
+        if (compressor == null) {
+            return jedis.hget(key, field);
+        }
+        return compressor.decompressString(jedis.hget(SafeEncoder.encode(key), SafeEncoder.encode(field)));
     }
 
     public long setnx(String key, String field, String value) {
-        return jedis.hsetnx(key, field, value);
+        if (compressor == null) {
+            return invalidated(key, jedis.hsetnx(key, field, value));
+        }
+        return invalidated(key, jedis.hsetnx(SafeEncoder.encode(key), SafeEncoder.encode(field), compressor.compress(value)));
     }
 
     public String mset(String key, Map<String, String> hash) {
-        return jedis.hmset(key, hash);
+        if (compressor == null) {
+            return invalidated(key, jedis.hmset(key, hash));
+        }
+        return invalidated(key, jedis.hmset(SafeEncoder.encode(key), compressHash(hash)));
     }
 
     public List<String> mget(String key, String... fields) {
-        return jedis.hmget(key, fields);
+        if (compressor == null) {
+            return jedis.hmget(key, fields);
+        }
+        return decompressList(jedis.hmget(SafeEncoder.encode(key), SafeEncoder.encodeMany(fields)));
     }
 
     public long incrBy(String key, String field, long value) {
-        return jedis.hincrBy(key, field, value);
+        return invalidated(key, jedis.hincrBy(key, field, value));
     }
 
     public double incrByFloat(String key, String field, double value) {
-        return jedis.hincrByFloat(key, field, value);
+        return invalidated(key, jedis.hincrByFloat(key, field, value));
     }
 
     public boolean exists(String key, String field) {
@@ -54,7 +93,7 @@ public class HashCommands {
     }
 
     public long del(String key, String... field) {
-        return jedis.hdel(key, field);
+        return invalidated(key, jedis.hdel(key, field));
     }
 
     public long len(String key) {
@@ -66,11 +105,28 @@ public class HashCommands {
     }
 
     public List<String> vals(String key) {
-        return jedis.hvals(key);
+        if (compressor == null) {
+            return jedis.hvals(key);
+        }
+        return decompressList(jedis.hvals(SafeEncoder.encode(key)));
     }
 
     public Map<String, String> getAll(String key) {
-        return jedis.hgetAll(key);
+        if (nearCache != null) {
+            // the cached map is shared by all callers
+            return nearCache.getAll(key, k -> Collections.unmodifiableMap(load(k)));
+        }
+        return load(key);
+    }
+
+    private Map<String, String> load(String key) {
+        if (compressor == null) {
+            return jedis.hgetAll(key);
+        }
+        Map<byte[], byte[]> hash = jedis.hgetAll(SafeEncoder.encode(key));
+        Map<String, String> result = new LinkedHashMap<>(hash.size() * 2);
+        hash.forEach((field, value) -> result.put(SafeEncoder.encode(field), compressor.decompressString(value)));
+        return result;
     }
 
     public String randfield(String key) {
@@ -82,7 +138,15 @@ public class HashCommands {
     }
 
     public List<Map.Entry<String, String>> randfieldWithValues(String key, long count) {
-        return jedis.hrandfieldWithValues(key, count);
+        if (compressor == null) {
+            return jedis.hrandfieldWithValues(key, count);
+        }
+        List<Map.Entry<byte[], byte[]>> entries = jedis.hrandfieldWithValues(SafeEncoder.encode(key), count);
+        List<Map.Entry<String, String>> result = new ArrayList<>(entries.size());
+        for (Map.Entry<byte[], byte[]> entry : entries) {
+            result.add(Map.entry(SafeEncoder.encode(entry.getKey()), compressor.decompressString(entry.getValue())));
+        }
+        return result;
     }
 
     public ScanResult<Map.Entry<String, String>> scan(String key, String cursor) {
@@ -90,11 +154,66 @@ public class HashCommands {
     }
 
     public ScanResult<Map.Entry<String, String>> scan(String key, String cursor, ScanParams params) {
-        return jedis.hscan(key, cursor, params);
+        if (compressor == null) {
+            return jedis.hscan(key, cursor, params);
+        }
+        ScanResult<Map.Entry<byte[], byte[]>> result = jedis.hscan(SafeEncoder.encode(key), SafeEncoder.encode(cursor), params);
+        List<Map.Entry<String, String>> entries = new ArrayList<>(result.getResult().size());
+        for (Map.Entry<byte[], byte[]> entry : result.getResult()) {
+            entries.add(Map.entry(SafeEncoder.encode(entry.getKey()), compressor.decompressString(entry.getValue())));
+        }
+        return new ScanResult<>(result.getCursor(), entries);
+    }
+
+    /**
+     * Lazily iterate the fields and values with HSCAN, fetching the next page while the current one is consumed.
+     * Close the stream when it is not consumed to the end.
+     *
+     * @param pattern glob-style pattern, or {@code null} for every field
+     * @param count   hint of the number of fields per page, 0 for the server default
+     */
+    public Stream<Map.Entry<String, String>> scanStream(String key, String pattern, int count) {
+        ScanParams params = ScanIterator.scanParams(pattern, count);
+        return new ScanIterator<>(cursor -> scan(key, cursor, params)).stream();
     }
 
     public long strlen(String key, String field) {
         return jedis.hstrlen(key, field);
     }
 
+    private <T> T invalidated(String key, T reply) {
+        if (nearCache != null) {
+            nearCache.invalidate(key);
+        }
+        return reply;
+    }
+
+    private long invalidated(String key, long reply) {
+        if (nearCache != null) {
+            nearCache.invalidate(key);
+        }
+        return reply;
+    }
+
+    private double invalidated(String key, double reply) {
+        if (nearCache != null) {
+            nearCache.invalidate(key);
+        }
+        return reply;
+    }
+
+    private Map<byte[], byte[]> compressHash(Map<String, String> hash) {
+        Map<byte[], byte[]> result = new LinkedHashMap<>(hash.size() * 2);
+        hash.forEach((field, value) -> result.put(SafeEncoder.encode(field), compressor.compress(value)));
+        return result;
+    }
+
+    private List<String> decompressList(List<byte[]> values) {
+        List<String> result = new ArrayList<>(values.size());
+        for (byte[] value : values) {
+            result.add(compressor.decompressString(value));
+        }
+        return result;
+    }
+
 }
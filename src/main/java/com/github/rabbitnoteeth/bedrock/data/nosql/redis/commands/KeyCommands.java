@@ -1,7 +1,8 @@
 package com.github.rabbitnoteeth.bedrock.data.nosql.redis.commands;
 
+import com.github.rabbitnoteeth.bedrock.data.nosql.redis.cache.NearCache;
 import com.github.rabbitnoteeth.bedrock.data.nosql.redis.entity.ValueType;
-import redis.clients.jedis.JedisPooled;
+import redis.clients.jedis.UnifiedJedis;
 import redis.clients.jedis.args.ExpiryOption;
 import redis.clients.jedis.params.MigrateParams;
 import redis.clients.jedis.params.RestoreParams;
@@ -11,13 +12,27 @@ import redis.clients.jedis.resps.ScanResult;
 
 import java.util.List;
 import java.util.Set;
+import java.util.stream.Stream;
 
 public class KeyCommands {
 
-    private final JedisPooled jedis;
+    private final UnifiedJedis jedis;
+    private final NearCache nearCache;
+    private final ArgumentChunker chunker;
 
-    public KeyCommands(JedisPooled jedis) {
+    public KeyCommands(UnifiedJedis jedis) {
+        this(jedis, null, null);
+    }
+
+    /**
+     * Keys removed, renamed or restored through this group are dropped from the near cache right away, del and unlink
+     * calls with many keys or keys of several cluster slots and exists calls with keys of several cluster slots are
+     * split by the chunker. Both may be null.
+     */
+    public KeyCommands(UnifiedJedis jedis, NearCache nearCache, ArgumentChunker chunker) {
         this.jedis = jedis;
+        this.nearCache = nearCache;
+        this.chunker = chunker;
     }
 
 
@@ -44,6 +59,10 @@ public class KeyCommands {
      * @return The number of keys that exist from those specified as {@code keys}.
      */
     public long exists(String... keys) {
+        List<ArgumentChunker.Chunk> chunks = chunker == null ? null : chunker.splitSlots(keys);
+        if (chunks != null) {
+            return chunker.sum(chunks, (pipeline, chunk) -> pipeline.exists(chunk));
+        }
         return jedis.exists(keys);
     }
 
@@ -105,7 +124,7 @@ public class KeyCommands {
      * @return OK
      */
     public String restore(String key, long ttl, byte[] serializedValue) {
-        return jedis.restore(key, ttl, serializedValue);
+        return invalidatedReply(jedis.restore(key, ttl, serializedValue), key);
     }
 
     /**
@@ -124,7 +143,7 @@ public class KeyCommands {
      * @return OK
      */
     public String restore(String key, long ttl, byte[] serializedValue, RestoreParams params) {
-        return jedis.restore(key, ttl, serializedValue, params);
+        return invalidatedReply(jedis.restore(key, ttl, serializedValue, params), key);
     }
 
     /**
@@ -496,7 +515,7 @@ public class KeyCommands {
      * @return 1 if the key was removed, 0 if the key does not exist
      */
     public long del(String key) {
-        return jedis.del(key);
+        return invalidated(jedis.del(key), key);
     }
 
     /**
@@ -508,7 +527,11 @@ public class KeyCommands {
      * @return An integer greater than 0 if one or more keys were removed, 0 if none of the specified keys existed
      */
     public long del(String... keys) {
-        return jedis.del(keys);
+        List<ArgumentChunker.Chunk> chunks = chunker == null ? null : chunker.splitKeys(keys);
+        if (chunks != null) {
+            return invalidated(chunker.sum(chunks, (pipeline, chunk) -> pipeline.del(chunk)), keys);
+        }
+        return invalidated(jedis.del(keys), keys);
     }
 
     /**
@@ -527,7 +550,7 @@ public class KeyCommands {
      * @return The number of keys that were unlinked
      */
     public long unlink(String key) {
-        return jedis.unlink(key);
+        return invalidated(jedis.unlink(key), key);
     }
 
     /**
@@ -538,7 +561,11 @@ public class KeyCommands {
      * @see redis.clients.jedis.commands.KeyCommands#unlink(String)
      */
     public long unlink(String... keys) {
-        return jedis.unlink(keys);
+        List<ArgumentChunker.Chunk> chunks = chunker == null ? null : chunker.splitKeys(keys);
+        if (chunks != null) {
+            return invalidated(chunker.sum(chunks, (pipeline, chunk) -> pipeline.unlink(chunk)), keys);
+        }
+        return invalidated(jedis.unlink(keys), keys);
     }
 
     /**
@@ -551,7 +578,7 @@ public class KeyCommands {
      * @return {@code true} if source was copied, {@code false} otherwise
      */
     public boolean copy(String srcKey, String dstKey, boolean replace) {
-        return jedis.copy(srcKey, dstKey, replace);
+        return invalidatedReply(jedis.copy(srcKey, dstKey, replace), dstKey);
     }
 
     /**
@@ -566,7 +593,7 @@ public class KeyCommands {
      * @return OK
      */
     public String rename(String oldkey, String newkey) {
-        return jedis.rename(oldkey, newkey);
+        return invalidatedReply(jedis.rename(oldkey, newkey), oldkey, newkey);
     }
 
     /**
@@ -580,7 +607,7 @@ public class KeyCommands {
      * @return 1 if the key was renamed, 0 if the target key already exist
      */
     public long renamenx(String oldkey, String newkey) {
-        return jedis.renamenx(oldkey, newkey);
+        return invalidated(jedis.renamenx(oldkey, newkey), oldkey, newkey);
     }
 
     /**
@@ -725,6 +752,8 @@ public class KeyCommands {
      * Time complexity: O(n) (with n being the number of keys in the DB, and assuming keys and pattern
      * of limited length)
      *
+     * Use {@link #scanStream(String, String, int)} to walk large keyspaces.
+     *
      * @param pattern
      * @return List of keys matching the pattern.
      */
@@ -744,6 +773,20 @@ public class KeyCommands {
         return jedis.scan(cursor, params, type);
     }
 
+    /**
+     * Lazily iterate the keys with SCAN, fetching the next page while the current one is consumed. Unlike
+     * {@link #keys(String)} the server only does bounded work per call and the client only holds two pages. Close the
+     * stream when it is not consumed to the end.
+     *
+     * @param pattern glob-style pattern, or {@code null} for every key
+     * @param type    type of the keys, or {@code null} for every type
+     * @param count   hint of the number of keys per page, 0 for the server default
+     */
+    public Stream<String> scanStream(String pattern, String type, int count) {
+        ScanParams params = ScanIterator.scanParams(pattern, count);
+        return new ScanIterator<String>(cursor -> type == null ? jedis.scan(cursor, params) : jedis.scan(cursor, params, type)).stream();
+    }
+
     /**
      * <b><a href="http://redis.io/commands/randomkey">RandomKey Command</a></b>
      * Return a randomly selected key from the currently selected DB.
@@ -756,4 +799,21 @@ public class KeyCommands {
         return jedis.randomKey();
     }
 
+    private <T> T invalidatedReply(T reply, String... keys) {
+        if (nearCache != null) {
+            for (String key : keys) {
+                nearCache.invalidate(key);
+            }
+        }
+        return reply;
+    }
+
+    private long invalidated(long reply, String... keys) {
+        if (nearCache != null) {
+            for (String key : keys) {
+                nearCache.invalidate(key);
+            }
+        }
+        return reply;
+    }
 }
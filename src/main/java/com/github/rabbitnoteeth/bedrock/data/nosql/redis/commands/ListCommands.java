@@ -1,6 +1,6 @@
 package com.github.rabbitnoteeth.bedrock.data.nosql.redis.commands;
 
-import redis.clients.jedis.JedisPooled;
+import redis.clients.jedis.UnifiedJedis;
 import redis.clients.jedis.args.ListDirection;
 import redis.clients.jedis.args.ListPosition;
 import redis.clients.jedis.params.LPosParams;
@@ -10,9 +10,9 @@ import java.util.List;
 
 public class ListCommands {
 
-    private final JedisPooled jedis;
+    private final UnifiedJedis jedis;
 
-    public ListCommands(JedisPooled jedis) {
+    public ListCommands(UnifiedJedis jedis) {
         this.jedis = jedis;
     }
 
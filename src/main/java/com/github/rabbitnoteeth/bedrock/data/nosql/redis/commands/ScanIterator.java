@@ -0,0 +1,119 @@
+package com.github.rabbitnoteeth.bedrock.data.nosql.redis.commands;
+
+import redis.clients.jedis.params.ScanParams;
+import redis.clients.jedis.resps.ScanResult;
+
+import java.io.Closeable;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Lazy iteration over the pages of a SCAN family command. At most one page is held besides the current one: as soon
+ * as a page is handed out the next one is requested on a virtual thread, so the round trip overlaps with the
+ * consumption of the current page. Like the commands themselves an element may be returned more than once.
+ * <p>
+ * Not thread safe. Close the iterator, or the stream, when leaving early to drop the page being prefetched.
+ */
+public final class ScanIterator<T> implements Iterator<T>, Closeable {
+
+    private static final ExecutorService PREFETCH = Executors.newThreadPerTaskExecutor(
+        Thread.ofVirtual().name("redis-scan-prefetch-", 0).factory());
+
+    private final Function<String, ScanResult<T>> scanner;
+    private Iterator<T> page = Collections.emptyIterator();
+    private CompletableFuture<ScanResult<T>> next;
+    private boolean started;
+    private boolean finished;
+
+    /**
+     * @param scanner runs the command from the given cursor
+     */
+    public ScanIterator(Function<String, ScanResult<T>> scanner) {
+        this.scanner = scanner;
+    }
+
+    @Override
+    public boolean hasNext() {
+        while (!page.hasNext()) {
+            if (finished) {
+                return false;
+            }
+            ScanResult<T> result;
+            if (!started) {
+                started = true;
+                result = scanner.apply(ScanParams.SCAN_POINTER_START);
+            } else {
+                result = await(next);
+            }
+            if (result.isCompleteIteration()) {
+                finished = true;
+                next = null;
+            } else {
+                String cursor = result.getCursor();
+                next = CompletableFuture.supplyAsync(() -> scanner.apply(cursor), PREFETCH);
+            }
+            page = result.getResult().iterator();
+        }
+        return true;
+    }
+
+    @Override
+    public T next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        return page.next();
+    }
+
+    private ScanResult<T> await(CompletableFuture<ScanResult<T>> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            finished = true;
+            next = null;
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    static ScanParams scanParams(String pattern, int count) {
+        ScanParams params = new ScanParams();
+        if (pattern != null) {
+            params.match(pattern);
+        }
+        if (count > 0) {
+            params.count(count);
+        }
+        return params;
+    }
+
+    /**
+     * A sequential stream over the remaining elements, closing the stream closes this iterator.
+     */
+    public Stream<T> stream() {
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(this, Spliterator.ORDERED | Spliterator.NONNULL), false)
+            .onClose(this::close);
+    }
+
+    @Override
+    public void close() {
+        finished = true;
+        page = Collections.emptyIterator();
+        if (next != null) {
+            next.cancel(false);
+            next = null;
+        }
+    }
+}
@@ -1,19 +1,32 @@
 package com.github.rabbitnoteeth.bedrock.data.nosql.redis.commands;
 
-import redis.clients.jedis.JedisPooled;
+import redis.clients.jedis.UnifiedJedis;
 import redis.clients.jedis.commands.ListCommands;
 import redis.clients.jedis.params.ScanParams;
 import redis.clients.jedis.resps.ScanResult;
 
+import java.util.Arrays;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.stream.Stream;
 
 public class SetCommands {
 
-    private final JedisPooled jedis;
+    private final UnifiedJedis jedis;
+    private final ArgumentChunker chunker;
 
-    public SetCommands(JedisPooled jedis) {
+    public SetCommands(UnifiedJedis jedis) {
+        this(jedis, null);
+    }
+
+    /**
+     * @param chunker splits {@link #add(String, String...)} calls with many members and the diff, inter and union of
+     *                sets in several cluster slots, may be null
+     */
+    public SetCommands(UnifiedJedis jedis, ArgumentChunker chunker) {
         this.jedis = jedis;
+        this.chunker = chunker;
     }
 
     /**
@@ -29,6 +42,10 @@ public class SetCommands {
      * already present in the set
      */
     public long add(String key, String... members) {
+        List<ArgumentChunker.Chunk> chunks = chunker == null ? null : chunker.splitMembers(members);
+        if (chunks != null) {
+            return chunker.sum(chunks, (pipeline, chunk) -> pipeline.sadd(key, chunk));
+        }
         return jedis.sadd(key, members);
     }
 
@@ -172,6 +189,18 @@ public class SetCommands {
         return jedis.sscan(key, cursor, params);
     }
 
+    /**
+     * Lazily iterate the members with SSCAN, fetching the next page while the current one is consumed. Close the
+     * stream when it is not consumed to the end.
+     *
+     * @param pattern glob-style pattern, or {@code null} for every member
+     * @param count   hint of the number of members per page, 0 for the server default
+     */
+    public Stream<String> scanStream(String key, String pattern, int count) {
+        ScanParams params = ScanIterator.scanParams(pattern, count);
+        return new ScanIterator<String>(cursor -> jedis.sscan(key, cursor, params)).stream();
+    }
+
     /**
      * Return the difference between the Sets stored at {@code keys}
      * <p>
@@ -192,6 +221,12 @@ public class SetCommands {
      * @return The members of a set resulting from the difference between the sets
      */
     public Set<String> diff(String... keys) {
+        List<ArgumentChunker.Chunk> chunks = chunker == null || keys.length < 2 ? null : chunker.splitSlots(keys);
+        if (chunks != null) {
+            Set<String> result = jedis.smembers(keys[0]);
+            result.removeAll(union(Arrays.copyOfRange(keys, 1, keys.length)));
+            return result;
+        }
         return jedis.sdiff(keys);
     }
 
@@ -224,6 +259,18 @@ public class SetCommands {
      * @return A set with members of the resulting set
      */
     public Set<String> inter(String... keys) {
+        List<ArgumentChunker.Chunk> chunks = chunker == null ? null : chunker.splitSlots(keys);
+        if (chunks != null) {
+            Set<String> result = null;
+            for (Set<String> members : chunker.execute(chunks, (pipeline, chunk) -> pipeline.sinter(chunk))) {
+                if (result == null) {
+                    result = members;
+                } else {
+                    result.retainAll(members);
+                }
+            }
+            return result;
+        }
         return jedis.sinter(keys);
     }
 
@@ -285,6 +332,14 @@ public class SetCommands {
      * @return A set with members of the resulting set
      */
     public Set<String> union(String... keys) {
+        List<ArgumentChunker.Chunk> chunks = chunker == null ? null : chunker.splitSlots(keys);
+        if (chunks != null) {
+            Set<String> result = new HashSet<>();
+            for (Set<String> members : chunker.execute(chunks, (pipeline, chunk) -> pipeline.sunion(chunk))) {
+                result.addAll(members);
+            }
+            return result;
+        }
         return jedis.sunion(keys);
     }
 
@@ -1,20 +1,48 @@
 package com.github.rabbitnoteeth.bedrock.data.nosql.redis.commands;
 
-import redis.clients.jedis.JedisPooled;
+import com.github.rabbitnoteeth.bedrock.data.nosql.redis.cache.NearCache;
+import com.github.rabbitnoteeth.bedrock.data.nosql.redis.compression.ValueCompressor;
+import redis.clients.jedis.UnifiedJedis;
 import redis.clients.jedis.commands.KeyBinaryCommands;
 import redis.clients.jedis.params.GetExParams;
 import redis.clients.jedis.params.LCSParams;
 import redis.clients.jedis.params.SetParams;
 import redis.clients.jedis.resps.LCSMatchResult;
+import redis.clients.jedis.util.SafeEncoder;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
+/**
+ * When a {@link ValueCompressor} is configured the value reading and writing commands transparently compress
+ * large values. Range, append and length commands operate on the stored bytes and should not be used on values
+ * that may have been compressed.
+ * <p>
+ * When a {@link NearCache} is configured {@link #get(String)} is served from it, the writes issued through this
+ * group drop their keys from it right away and writes of other clients are reported by the server.
+ */
 public class StringCommands {
 
-    private final JedisPooled jedis;
+    private final UnifiedJedis jedis;
+    private final ValueCompressor compressor;
+    private final NearCache nearCache;
+    private final ArgumentChunker chunker;
 
-    public StringCommands(JedisPooled jedis) {
+    public StringCommands(UnifiedJedis jedis) {
+        this(jedis, null, null, null);
+    }
+
+    /**
+     * @param chunker splits {@link #mget(String...)} calls with many keys or keys of several cluster slots and
+     *                {@link #mset(String...)} calls with keys of several cluster slots, may be null like the
+     *                compressor and near cache
+     */
+    public StringCommands(UnifiedJedis jedis, ValueCompressor compressor, NearCache nearCache, ArgumentChunker chunker) {
         this.jedis = jedis;
+        this.compressor = compressor;
+        this.nearCache = nearCache;
+        this.chunker = chunker;
     }
 
 
@@ -29,7 +57,10 @@ public class StringCommands {
      * @return OK
      */
     public String set(String key, String value) {
-        return jedis.set(key, value);
+        if (compressor == null) {
+            return invalidated(key, jedis.set(key, value));
+        }
+        return invalidated(key, jedis.set(SafeEncoder.encode(key), compressor.compress(value)));
     }
 
     /**
@@ -46,7 +77,10 @@ public class StringCommands {
      * but the condition was not met.
      */
     public String set(String key, String value, SetParams params) {
-        return jedis.set(key, value, params);
+        if (compressor == null) {
+            return invalidated(key, jedis.set(key, value, params));
+        }
+        return invalidated(key, jedis.set(SafeEncoder.encode(key), compressor.compress(value), params));
     }
 
     /**
@@ -61,15 +95,31 @@ public class StringCommands {
      * @return The value stored in key
      */
     public String get(String key) {
-        return jedis.get(key);
+        if (nearCache != null) {
+            return nearCache.get(key, this::load);
+        }
+        return load(key);
+    }
+
+    private String load(String key) {
+        if (compressor == null) {
+            return jedis.get(key);
+        }
+        return compressor.decompressString(jedis.get(SafeEncoder.encode(key)));
     }
 
     public String setGet(String key, String value) {
-        return jedis.setGet(key, value);
+        if (compressor == null) {
+            return invalidated(key, jedis.setGet(key, value));
+        }
+        return invalidated(key, compressor.decompressString(jedis.setGet(SafeEncoder.encode(key), compressor.compress(value))));
     }
 
     public String setGet(String key, String value, SetParams params) {
-        return jedis.setGet(key, value, params);
+        if (compressor == null) {
+            return invalidated(key, jedis.setGet(key, value, params));
+        }
+        return invalidated(key, compressor.decompressString(jedis.setGet(SafeEncoder.encode(key), compressor.compress(value), params)));
     }
 
     /**
@@ -83,7 +133,10 @@ public class StringCommands {
      * @return The value stored in key
      */
     public String getDel(String key) {
-        return jedis.getDel(key);
+        if (compressor == null) {
+            return invalidated(key, jedis.getDel(key));
+        }
+        return invalidated(key, compressor.decompressString(jedis.getDel(SafeEncoder.encode(key))));
     }
 
     /**
@@ -103,7 +156,10 @@ public class StringCommands {
      * @return The value stored in key
      */
     public String getEx(String key, GetExParams params) {
-        return jedis.getEx(key, params);
+        if (compressor == null) {
+            return jedis.getEx(key, params);
+        }
+        return compressor.decompressString(jedis.getEx(SafeEncoder.encode(key), params));
     }
 
     /**
@@ -121,7 +177,7 @@ public class StringCommands {
      * @return The length of the string after it was modified by the command
      */
     public long setrange(String key, long offset, String value) {
-        return jedis.setrange(key, offset, value);
+        return invalidated(key, jedis.setrange(key, offset, value));
     }
 
     /**
@@ -153,7 +209,10 @@ public class StringCommands {
      * @return The old value that was stored in key
      */
     public String getSet(String key, String value) {
-        return jedis.getSet(key, value);
+        if (compressor == null) {
+            return invalidated(key, jedis.getSet(key, value));
+        }
+        return invalidated(key, compressor.decompressString(jedis.getSet(SafeEncoder.encode(key), compressor.compress(value))));
     }
 
     /**
@@ -168,7 +227,10 @@ public class StringCommands {
      * @return 1 if the key was set, 0 otherwise
      */
     public long setnx(String key, String value) {
-        return jedis.setnx(key, value);
+        if (compressor == null) {
+            return invalidated(key, jedis.setnx(key, value));
+        }
+        return invalidated(key, jedis.setnx(SafeEncoder.encode(key), compressor.compress(value)));
     }
 
     /**
@@ -185,7 +247,10 @@ public class StringCommands {
      * @return OK
      */
     public String setex(String key, long seconds, String value) {
-        return jedis.setex(key, seconds, value);
+        if (compressor == null) {
+            return invalidated(key, jedis.setex(key, seconds, value));
+        }
+        return invalidated(key, jedis.setex(SafeEncoder.encode(key), seconds, compressor.compress(value)));
     }
 
     /**
@@ -201,7 +266,10 @@ public class StringCommands {
      * @return OK
      */
     public String psetex(String key, long milliseconds, String value) {
-        return jedis.psetex(key, milliseconds, value);
+        if (compressor == null) {
+            return invalidated(key, jedis.psetex(key, milliseconds, value));
+        }
+        return invalidated(key, jedis.psetex(SafeEncoder.encode(key), milliseconds, compressor.compress(value)));
     }
 
     /**
@@ -216,7 +284,29 @@ public class StringCommands {
      * @return Multi bulk reply
      */
     public List<String> mget(String... keys) {
-        return jedis.mget(keys);
+        List<ArgumentChunker.Chunk> chunks = chunker == null ? null : chunker.splitKeys(keys);
+        if (chunks != null) {
+            List<List<byte[]>> replies = chunker.execute(chunks, (pipeline, chunk) -> pipeline.mget(SafeEncoder.encodeMany(chunk)));
+            String[] result = new String[keys.length];
+            for (int i = 0; i < chunks.size(); i++) {
+                int[] positions = chunks.get(i).positions();
+                List<byte[]> values = replies.get(i);
+                for (int j = 0; j < positions.length; j++) {
+                    byte[] value = values.get(j);
+                    result[positions[j]] = compressor != null ? compressor.decompressString(value) : value == null ? null : SafeEncoder.encode(value);
+                }
+            }
+            return Arrays.asList(result);
+        }
+        if (compressor == null) {
+            return jedis.mget(keys);
+        }
+        List<byte[]> values = jedis.mget(SafeEncoder.encodeMany(keys));
+        List<String> result = new ArrayList<>(values.size());
+        for (byte[] value : values) {
+            result.add(compressor.decompressString(value));
+        }
+        return result;
     }
 
     /**
@@ -231,14 +321,28 @@ public class StringCommands {
      * <p>
      * Both MSET and MSETNX are atomic operations. This means that for instance if the keys A and B
      * are modified, another connection talking to Redis can either see the changes to both A and B at
-     * once, or no modification at all.
+     * once, or no modification at all. In cluster mode keys of different hash slots are set by one MSET
+     * per slot, which is not atomic as a whole; use hash tags to keep such keys in one slot.
      *
      * @param keysvalues pairs of keys and their values
      *                   e.g mset("foo", "foovalue", "bar", "barvalue")
      * @return OK
      */
     public String mset(String... keysvalues) {
-        return jedis.mset(keysvalues);
+        List<ArgumentChunker.Chunk> chunks = chunker == null ? null : chunker.splitPairs(keysvalues);
+        String reply;
+        if (chunks != null) {
+            chunker.execute(chunks, (pipeline, chunk) -> compressor == null ? pipeline.mset(chunk) : pipeline.mset(compressKeysValues(chunk)));
+            reply = "OK";
+        } else {
+            reply = compressor == null ? jedis.mset(keysvalues) : jedis.mset(compressKeysValues(keysvalues));
+        }
+        if (nearCache != null) {
+            for (int i = 0; i < keysvalues.length; i += 2) {
+                nearCache.invalidate(keysvalues[i]);
+            }
+        }
+        return reply;
     }
 
     /**
@@ -260,7 +364,13 @@ public class StringCommands {
      * @return 1 if the all the keys were set, 0 if no key was set (at least one key already existed)
      */
     public long msetnx(String... keysvalues) {
-        return jedis.msetnx(keysvalues);
+        long reply = compressor == null ? jedis.msetnx(keysvalues) : jedis.msetnx(compressKeysValues(keysvalues));
+        if (nearCache != null) {
+            for (int i = 0; i < keysvalues.length; i += 2) {
+                nearCache.invalidate(keysvalues[i]);
+            }
+        }
+        return reply;
     }
 
     /**
@@ -280,7 +390,7 @@ public class StringCommands {
      * @return The value of the key after the increment
      */
     public long incr(String key) {
-        return jedis.incr(key);
+        return invalidated(key, jedis.incr(key));
     }
 
     /**
@@ -301,7 +411,7 @@ public class StringCommands {
      * @return The value of the key after the increment
      */
     public long incrBy(String key, long increment) {
-        return jedis.incrBy(key, increment);
+        return invalidated(key, jedis.incrBy(key, increment));
     }
 
     /**
@@ -323,7 +433,7 @@ public class StringCommands {
      * @return The value of the key after the increment
      */
     public double incrByFloat(String key, double increment) {
-        return jedis.incrByFloat(key, increment);
+        return invalidated(key, jedis.incrByFloat(key, increment));
     }
 
     /**
@@ -343,7 +453,7 @@ public class StringCommands {
      * @return The value of the key after the decrement
      */
     public long decr(String key) {
-        return jedis.decr(key);
+        return invalidated(key, jedis.decr(key));
     }
 
     /**
@@ -364,7 +474,7 @@ public class StringCommands {
      * @return The value of the key after the decrement
      */
     public long decrBy(String key, long decrement) {
-        return jedis.decrBy(key, decrement);
+        return invalidated(key, jedis.decrBy(key, decrement));
     }
 
     /**
@@ -382,7 +492,7 @@ public class StringCommands {
      * @return The total length of the string after the append operation.
      */
     public long append(String key, String value) {
-        return jedis.append(key, value);
+        return invalidated(key, jedis.append(key, value));
     }
 
     /**
@@ -430,5 +540,33 @@ public class StringCommands {
         return jedis.lcs(keyA, keyB, params);
     }
 
+    private <T> T invalidated(String key, T reply) {
+        if (nearCache != null) {
+            nearCache.invalidate(key);
+        }
+        return reply;
+    }
+
+    private long invalidated(String key, long reply) {
+        if (nearCache != null) {
+            nearCache.invalidate(key);
+        }
+        return reply;
+    }
+
+    private double invalidated(String key, double reply) {
+        if (nearCache != null) {
+            nearCache.invalidate(key);
+        }
+        return reply;
+    }
+
+    private byte[][] compressKeysValues(String... keysvalues) {
+        byte[][] result = new byte[keysvalues.length][];
+        for (int i = 0; i < keysvalues.length; i++) {
+            result[i] = i % 2 == 0 ? SafeEncoder.encode(keysvalues[i]) : compressor.compress(keysvalues[i]);
+        }
+        return result;
+    }
 
 }
@@ -1,6 +1,6 @@
 package com.github.rabbitnoteeth.bedrock.data.nosql.redis.commands;
 
-import redis.clients.jedis.JedisPooled;
+import redis.clients.jedis.UnifiedJedis;
 import redis.clients.jedis.args.SortedSetOption;
 import redis.clients.jedis.commands.SortedSetCommands;
 import redis.clients.jedis.params.*;
@@ -11,12 +11,13 @@ import redis.clients.jedis.util.KeyValue;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.stream.Stream;
 
 public class ZSetCommands {
 
-    private final JedisPooled jedis;
+    private final UnifiedJedis jedis;
 
-    public ZSetCommands(JedisPooled jedis) {
+    public ZSetCommands(UnifiedJedis jedis) {
         this.jedis = jedis;
     }
 
@@ -840,6 +841,18 @@ public class ZSetCommands {
         return jedis.zscan(key, cursor, params);
     }
 
+    /**
+     * Lazily iterate the members and scores with ZSCAN, fetching the next page while the current one is consumed.
+     * Close the stream when it is not consumed to the end.
+     *
+     * @param pattern glob-style pattern, or {@code null} for every member
+     * @param count   hint of the number of members per page, 0 for the server default
+     */
+    public Stream<Tuple> scanStream(String key, String pattern, int count) {
+        ScanParams params = ScanIterator.scanParams(pattern, count);
+        return new ScanIterator<Tuple>(cursor -> jedis.zscan(key, cursor, params)).stream();
+    }
+
     /**
      * The blocking version of {@link SortedSetCommands#zpopmax(String) ZPOPMAX}
      *
@@ -0,0 +1,100 @@
+package com.github.rabbitnoteeth.bedrock.data.nosql.redis.compression;
+
+import java.io.ByteArrayOutputStream;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Builds a deflate preset dictionary from sample values. Samples are cut into fixed size segments which are
+ * scored by how many samples share their content; the best segments are concatenated with the most valuable
+ * ones last, since deflate encodes short back references more cheaply.
+ */
+public final class CompressionDictionary {
+
+    /**
+     * Deflate can not reference further back than its 32K window.
+     */
+    public static final int MAX_SIZE = 32 * 1024;
+    private static final int GRAM = 8;
+    private static final int SEGMENT = 64;
+
+    private CompressionDictionary() {
+    }
+
+    public static byte[] train(Collection<byte[]> samples) {
+        return train(samples, MAX_SIZE);
+    }
+
+    public static byte[] train(Collection<byte[]> samples, int maxSize) {
+        if (maxSize <= 0 || maxSize > MAX_SIZE) {
+            throw new IllegalArgumentException("dictionary size must be between 1 and " + MAX_SIZE);
+        }
+        // document frequency of every gram, a gram repeated inside one sample is already handled by deflate itself
+        Map<Long, Integer> frequencies = new HashMap<>();
+        for (byte[] sample : samples) {
+            Set<Long> seen = new HashSet<>();
+            for (int i = 0; i + GRAM <= sample.length; i++) {
+                long gram = gram(sample, i);
+                if (seen.add(gram)) {
+                    frequencies.merge(gram, 1, Integer::sum);
+                }
+            }
+        }
+        List<Segment> segments = new ArrayList<>();
+        for (byte[] sample : samples) {
+            for (int offset = 0; offset < sample.length; offset += SEGMENT) {
+                int length = Math.min(SEGMENT, sample.length - offset);
+                long score = 0;
+                for (int i = offset; i + GRAM <= offset + length; i++) {
+                    int frequency = frequencies.getOrDefault(gram(sample, i), 1);
+                    if (frequency > 1) {
+                        score += frequency;
+                    }
+                }
+                if (score > 0) {
+                    segments.add(new Segment(sample, offset, length, score));
+                }
+            }
+        }
+        segments.sort((a, b) -> Long.compare(b.score, a.score));
+        List<Segment> selected = new ArrayList<>();
+        Set<Long> usedGrams = new HashSet<>();
+        int size = 0;
+        for (Segment segment : segments) {
+            if (size + segment.length > maxSize) {
+                continue;
+            }
+            // skip segments whose content is already covered by a better one
+            if (segment.length >= GRAM && !usedGrams.add(gram(segment.sample, segment.offset))) {
+                continue;
+            }
+            selected.add(segment);
+            size += segment.length;
+            if (size == maxSize) {
+                break;
+            }
+        }
+        ByteArrayOutputStream dictionary = new ByteArrayOutputStream(size);
+        for (int i = selected.size() - 1; i >= 0; i--) {
+            Segment segment = selected.get(i);
+            dictionary.write(segment.sample, segment.offset, segment.length);
+        }
+        return dictionary.toByteArray();
+    }
+
+    private static long gram(byte[] bytes, int offset) {
+        long value = 0;
+        for (int i = 0; i < GRAM; i++) {
+            value = (value << 8) | (bytes[offset + i] & 0xFF);
+        }
+        return value;
+    }
+
+    private record Segment(byte[] sample, int offset, int length, long score) {
+    }
+}
@@ -0,0 +1,94 @@
+package com.github.rabbitnoteeth.bedrock.data.nosql.redis.compression;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counters of a {@link ValueCompressor}, used to tune the compression threshold. Ratios are computed over the
+ * values that were actually compressed.
+ */
+public final class CompressionStats {
+
+    private final LongAdder compressed = new LongAdder();
+    private final LongAdder skipped = new LongAdder();
+    private final LongAdder decompressed = new LongAdder();
+    private final LongAdder rawBytes = new LongAdder();
+    private final LongAdder compressedBytes = new LongAdder();
+    private final LongAdder compressNanos = new LongAdder();
+    private final LongAdder decompressNanos = new LongAdder();
+
+    void recordCompressed(int rawLength, int compressedLength, long nanos) {
+        compressed.increment();
+        rawBytes.add(rawLength);
+        compressedBytes.add(compressedLength);
+        compressNanos.add(nanos);
+    }
+
+    void recordSkipped(long nanos) {
+        skipped.increment();
+        compressNanos.add(nanos);
+    }
+
+    void recordDecompressed(long nanos) {
+        decompressed.increment();
+        decompressNanos.add(nanos);
+    }
+
+    /**
+     * Values that were written compressed.
+     */
+    public long getCompressedCount() {
+        return compressed.sum();
+    }
+
+    /**
+     * Values above the threshold that were written raw because compression did not make them smaller.
+     */
+    public long getSkippedCount() {
+        return skipped.sum();
+    }
+
+    public long getDecompressedCount() {
+        return decompressed.sum();
+    }
+
+    public long getRawBytes() {
+        return rawBytes.sum();
+    }
+
+    public long getCompressedBytes() {
+        return compressedBytes.sum();
+    }
+
+    /**
+     * Compressed size divided by raw size, 1 when nothing has been compressed yet.
+     */
+    public double getCompressionRatio() {
+        long raw = rawBytes.sum();
+        return raw == 0 ? 1 : (double) compressedBytes.sum() / raw;
+    }
+
+    /**
+     * CPU time spent deflating, including attempts that were skipped.
+     */
+    public long getCompressNanos() {
+        return compressNanos.sum();
+    }
+
+    public long getDecompressNanos() {
+        return decompressNanos.sum();
+    }
+
+    @Override
+    public String toString() {
+        return "CompressionStats{" +
+            "compressed=" + getCompressedCount() +
+            ", skipped=" + getSkippedCount() +
+            ", decompressed=" + getDecompressedCount() +
+            ", rawBytes=" + getRawBytes() +
+            ", compressedBytes=" + getCompressedBytes() +
+            ", compressionRatio=" + getCompressionRatio() +
+            ", compressNanos=" + getCompressNanos() +
+            ", decompressNanos=" + getDecompressNanos() +
+            '}';
+    }
+}
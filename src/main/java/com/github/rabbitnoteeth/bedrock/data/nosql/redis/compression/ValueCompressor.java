@@ -0,0 +1,160 @@
+package com.github.rabbitnoteeth.bedrock.data.nosql.redis.compression;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.zip.Adler32;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * Deflates values above a size threshold and marks them with a leading {@link #HEADER} byte. The header can never
+ * start a UTF-8 encoded string, so values written raw (and values written before compression was enabled) are
+ * read back unchanged. When a preset dictionary is configured its id is carried by the zlib stream itself, values
+ * compressed with another dictionary are rejected on read. Values never inflate past the 512 MB redis allows for a
+ * string, a stream claiming more is rejected instead of exhausting the heap.
+ */
+public final class ValueCompressor {
+
+    public static final byte HEADER = (byte) 0xFF;
+    public static final int MAX_DECOMPRESSED_SIZE = 512 * 1024 * 1024;
+    private static final int MAX_POOLED = Runtime.getRuntime().availableProcessors() * 2;
+
+    private final int threshold;
+    private final int level;
+    private final byte[] dictionary;
+    private final long dictionaryId;
+    private final CompressionStats stats = new CompressionStats();
+    private final Queue<Deflater> deflaters = new ConcurrentLinkedQueue<>();
+    private final Queue<Inflater> inflaters = new ConcurrentLinkedQueue<>();
+
+    public ValueCompressor(int threshold, int level, byte[] dictionary) {
+        this.threshold = threshold;
+        this.level = level;
+        this.dictionary = dictionary;
+        if (dictionary == null) {
+            this.dictionaryId = -1;
+        } else {
+            Adler32 adler32 = new Adler32();
+            adler32.update(dictionary);
+            this.dictionaryId = adler32.getValue();
+        }
+    }
+
+    public byte[] compress(byte[] value) {
+        if (value == null || value.length < threshold || value.length < 2) {
+            return value;
+        }
+        long start = System.nanoTime();
+        Deflater deflater = borrowDeflater();
+        try {
+            // the compressed form is only kept when it is strictly smaller, header included
+            byte[] output = new byte[value.length];
+            output[0] = HEADER;
+            deflater.setInput(value);
+            deflater.finish();
+            int length = 1;
+            while (!deflater.finished() && length < output.length) {
+                length += deflater.deflate(output, length, output.length - length);
+            }
+            if (!deflater.finished() || length >= value.length) {
+                stats.recordSkipped(System.nanoTime() - start);
+                return value;
+            }
+            stats.recordCompressed(value.length, length, System.nanoTime() - start);
+            return Arrays.copyOf(output, length);
+        } finally {
+            releaseDeflater(deflater);
+        }
+    }
+
+    public byte[] decompress(byte[] value) {
+        if (value == null || value.length == 0 || value[0] != HEADER) {
+            return value;
+        }
+        long start = System.nanoTime();
+        Inflater inflater = borrowInflater();
+        try {
+            inflater.setInput(value, 1, value.length - 1);
+            byte[] output = new byte[(int) Math.min((long) value.length * 4, MAX_DECOMPRESSED_SIZE)];
+            int length = 0;
+            while (!inflater.finished()) {
+                if (length == output.length) {
+                    if (length == MAX_DECOMPRESSED_SIZE) {
+                        throw new IllegalStateException("Decompressed value exceeds " + MAX_DECOMPRESSED_SIZE + " bytes");
+                    }
+                    output = Arrays.copyOf(output, (int) Math.min((long) output.length * 2, MAX_DECOMPRESSED_SIZE));
+                }
+                int n = inflater.inflate(output, length, output.length - length);
+                if (n == 0) {
+                    if (inflater.needsDictionary()) {
+                        if (inflater.getAdler() != dictionaryId) {
+                            throw new IllegalStateException("Value was compressed with an unknown dictionary [" + inflater.getAdler() + "]");
+                        }
+                        inflater.setDictionary(dictionary);
+                    } else if (inflater.needsInput()) {
+                        throw new IllegalStateException("Compressed value is truncated");
+                    }
+                }
+                length += n;
+            }
+            stats.recordDecompressed(System.nanoTime() - start);
+            return length == output.length ? output : Arrays.copyOf(output, length);
+        } catch (DataFormatException e) {
+            throw new IllegalStateException("Failed to decompress value", e);
+        } finally {
+            releaseInflater(inflater);
+        }
+    }
+
+    public byte[] compress(String value) {
+        return value == null ? null : compress(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public String decompressString(byte[] value) {
+        return value == null ? null : new String(decompress(value), StandardCharsets.UTF_8);
+    }
+
+    public CompressionStats getStats() {
+        return stats;
+    }
+
+    private Deflater borrowDeflater() {
+        Deflater deflater = deflaters.poll();
+        if (deflater == null) {
+            deflater = new Deflater(level);
+            if (dictionary != null) {
+                deflater.setDictionary(dictionary);
+            }
+        }
+        return deflater;
+    }
+
+    private void releaseDeflater(Deflater deflater) {
+        if (deflaters.size() >= MAX_POOLED) {
+            deflater.end();
+            return;
+        }
+        deflater.reset();
+        if (dictionary != null) {
+            deflater.setDictionary(dictionary);
+        }
+        deflaters.offer(deflater);
+    }
+
+    private Inflater borrowInflater() {
+        Inflater inflater = inflaters.poll();
+        return inflater == null ? new Inflater() : inflater;
+    }
+
+    private void releaseInflater(Inflater inflater) {
+        if (inflaters.size() >= MAX_POOLED) {
+            inflater.end();
+            return;
+        }
+        inflater.reset();
+        inflaters.offer(inflater);
+    }
+}
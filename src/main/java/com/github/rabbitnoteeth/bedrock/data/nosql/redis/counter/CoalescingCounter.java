@@ -0,0 +1,255 @@
+package com.github.rabbitnoteeth.bedrock.data.nosql.redis.counter;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import redis.clients.jedis.AbstractPipeline;
+import redis.clients.jedis.Response;
+import redis.clients.jedis.exceptions.JedisException;
+
+import java.io.Closeable;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * Coalesces INCRBY, HINCRBY and ZINCRBY calls locally and writes the summed deltas in one pipeline, every flush
+ * interval or as soon as about flushThreshold increments are pending. Increments are fire and forget: they return
+ * before reaching Redis, so readers see the counters up to one flush interval late.
+ * <p>
+ * Each key, hash field or sorted set member has its own {@link LongAdder}, entries left untouched for a whole flush
+ * interval are dropped. A flush that could not get a connection keeps its deltas for the next one, a flush that
+ * failed while writing drops them since some of them may have been applied. A delta rejected by Redis, for instance
+ * on a key of the wrong type, is dropped alone. Dropped deltas are counted in the dropped increments. Closing the
+ * counter flushes what is pending.
+ */
+public final class CoalescingCounter implements Closeable {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(CoalescingCounter.class);
+
+    private static final int THRESHOLD_CHECK_INTERVAL = 64;
+
+    private final String name;
+    private final Supplier<? extends AbstractPipeline> pipelines;
+    private final long flushIntervalNanos;
+    private final long flushThreshold;
+    private final Map<Slot, Delta> deltas = new ConcurrentHashMap<>();
+    private final LongAdder pending = new LongAdder();
+    private final ReentrantLock flushLock = new ReentrantLock();
+    private final LongAdder increments = new LongAdder();
+    private final LongAdder commands = new LongAdder();
+    private final LongAdder flushes = new LongAdder();
+    private final LongAdder droppedIncrements = new LongAdder();
+    private final Thread flusher;
+    private volatile boolean closed;
+
+    public CoalescingCounter(String name, Supplier<? extends AbstractPipeline> pipelines, long flushIntervalMillis, long flushThreshold) {
+        this.name = name;
+        this.pipelines = pipelines;
+        this.flushIntervalNanos = TimeUnit.MILLISECONDS.toNanos(flushIntervalMillis);
+        this.flushThreshold = flushThreshold;
+        this.flusher = Thread.ofPlatform().name(name + "-counter-flusher").daemon().start(this::run);
+    }
+
+    /**
+     * INCRBY key delta, coalesced.
+     */
+    public void incrBy(String key, long delta) {
+        add(new Slot(Kind.STRING, key, null), delta);
+    }
+
+    /**
+     * HINCRBY key field delta, coalesced.
+     */
+    public void hincrBy(String key, String field, long delta) {
+        add(new Slot(Kind.HASH, key, field), delta);
+    }
+
+    /**
+     * ZINCRBY key delta member, coalesced.
+     */
+    public void zincrBy(String key, String member, long delta) {
+        add(new Slot(Kind.ZSET, key, member), delta);
+    }
+
+    /**
+     * Write the pending deltas now, waits for a flush already running.
+     */
+    public void flush() {
+        flushLock.lock();
+        try {
+            flushPending();
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    public long getIncrements() {
+        return increments.sum();
+    }
+
+    /**
+     * @return commands written to Redis, compare with {@link #getIncrements()} for the coalescing ratio
+     */
+    public long getCommands() {
+        return commands.sum();
+    }
+
+    public long getFlushes() {
+        return flushes.sum();
+    }
+
+    /**
+     * @return sum of the absolute deltas lost in flushes that failed while writing
+     */
+    public long getDroppedIncrements() {
+        return droppedIncrements.sum();
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+        LockSupport.unpark(flusher);
+        try {
+            flusher.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        // increments racing with close
+        flush();
+    }
+
+    private void add(Slot slot, long delta) {
+        if (closed) {
+            throw new JedisException("coalescing counter is closed");
+        }
+        increments.increment();
+        addDelta(slot, delta);
+        pending.increment();
+        if (ThreadLocalRandom.current().nextInt(THRESHOLD_CHECK_INTERVAL) == 0 && pending.sum() >= flushThreshold) {
+            LockSupport.unpark(flusher);
+        }
+    }
+
+    private void addDelta(Slot slot, long delta) {
+        Delta current = deltas.computeIfAbsent(slot, s -> new Delta());
+        current.add(delta);
+        if (current.retired) {
+            // the entry was dropped concurrently, what the flusher did not drain is moved to a live entry
+            long leftover;
+            synchronized (current) {
+                leftover = current.sumThenReset();
+            }
+            if (leftover != 0) {
+                addDelta(slot, leftover);
+            }
+        }
+    }
+
+    private void run() {
+        while (!closed) {
+            LockSupport.parkNanos(this, flushIntervalNanos);
+            try {
+                flush();
+            } catch (RuntimeException e) {
+                LOGGER.warn("Counter [{}] failed to flush", name, e);
+            }
+        }
+    }
+
+    private void flushPending() {
+        pending.reset();
+        List<Slot> slots = new ArrayList<>();
+        List<Long> values = new ArrayList<>();
+        for (Map.Entry<Slot, Delta> entry : deltas.entrySet()) {
+            Delta delta = entry.getValue();
+            long value = delta.sumThenReset();
+            if (value == 0) {
+                if (!delta.idle) {
+                    delta.idle = true;
+                    continue;
+                }
+                deltas.remove(entry.getKey(), delta);
+                synchronized (delta) {
+                    delta.retired = true;
+                    value = delta.sumThenReset();
+                }
+                if (value == 0) {
+                    continue;
+                }
+            } else {
+                delta.idle = false;
+            }
+            slots.add(entry.getKey());
+            values.add(value);
+        }
+        if (slots.isEmpty()) {
+            return;
+        }
+        AbstractPipeline pipeline;
+        try {
+            pipeline = pipelines.get();
+        } catch (RuntimeException e) {
+            for (int i = 0; i < slots.size(); i++) {
+                addDelta(slots.get(i), values.get(i));
+            }
+            throw e;
+        }
+        List<Response<?>> replies = new ArrayList<>(slots.size());
+        try (pipeline) {
+            for (int i = 0; i < slots.size(); i++) {
+                Slot slot = slots.get(i);
+                long value = values.get(i);
+                replies.add(switch (slot.kind) {
+                    case STRING -> pipeline.incrBy(slot.key, value);
+                    case HASH -> pipeline.hincrBy(slot.key, slot.member, value);
+                    case ZSET -> pipeline.zincrby(slot.key, value, slot.member);
+                });
+            }
+            pipeline.sync();
+            commands.add(slots.size());
+            flushes.increment();
+        } catch (RuntimeException e) {
+            long dropped = 0;
+            for (long value : values) {
+                dropped += Math.abs(value);
+            }
+            droppedIncrements.add(dropped);
+            LOGGER.warn("Counter [{}] dropped {} deltas after a failed flush", name, slots.size());
+            throw e;
+        }
+        for (int i = 0; i < replies.size(); i++) {
+            try {
+                replies.get(i).get();
+            } catch (RuntimeException e) {
+                droppedIncrements.add(Math.abs(values.get(i)));
+                Slot slot = slots.get(i);
+                LOGGER.warn("Counter [{}] dropped a delta of {} on key [{}] rejected by Redis", name, values.get(i), slot.key, e);
+            }
+        }
+    }
+
+    private enum Kind {
+        STRING, HASH, ZSET
+    }
+
+    private record Slot(Kind kind, String key, String member) {
+    }
+
+    private static final class Delta extends LongAdder {
+
+        private static final long serialVersionUID = 1L;
+
+        // written by the flusher under the flush lock only
+        private boolean idle;
+        private volatile boolean retired;
+
+    }
+
+}
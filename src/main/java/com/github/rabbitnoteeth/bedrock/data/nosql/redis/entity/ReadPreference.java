@@ -0,0 +1,16 @@
+package com.github.rabbitnoteeth.bedrock.data.nosql.redis.entity;
+
+public enum ReadPreference {
+    /**
+     * Every command goes to the primary.
+     */
+    PRIMARY,
+    /**
+     * Read-only commands are spread over the healthy replicas, the primary serves them when none is healthy.
+     */
+    REPLICA_PREFERRED,
+    /**
+     * Read-only commands go to the healthy node, primary included, with the lowest measured round trip.
+     */
+    NEAREST
+}
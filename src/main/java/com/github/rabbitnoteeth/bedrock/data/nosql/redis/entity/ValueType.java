@@ -6,5 +6,6 @@ public enum ValueType {
     LIST,
     HASH,
     ZSET,
-    SET
+    SET,
+    STREAM
 }
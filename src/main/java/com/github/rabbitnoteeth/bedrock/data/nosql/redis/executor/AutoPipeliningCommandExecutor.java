@@ -0,0 +1,243 @@
+package com.github.rabbitnoteeth.bedrock.data.nosql.redis.executor;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import redis.clients.jedis.CommandArguments;
+import redis.clients.jedis.CommandObject;
+import redis.clients.jedis.Connection;
+import redis.clients.jedis.HostAndPort;
+import redis.clients.jedis.JedisClientConfig;
+import redis.clients.jedis.Protocol;
+import redis.clients.jedis.commands.ProtocolCommand;
+import redis.clients.jedis.exceptions.JedisConnectionException;
+import redis.clients.jedis.exceptions.JedisDataException;
+import redis.clients.jedis.exceptions.JedisException;
+import redis.clients.jedis.executors.CommandExecutor;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Executes the commands of all calling threads over a few shared connections. Each connection is owned by one
+ * flushing thread which drains the commands queued by callers, writes them in a single batch and hands every
+ * reply back to the thread waiting for it. Blocking commands, including XREAD and XREADGROUP with BLOCK, would
+ * stall every caller sharing a connection, so they are delegated to the pooled executor instead.
+ */
+public class AutoPipeliningCommandExecutor implements CommandExecutor {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(AutoPipeliningCommandExecutor.class);
+    private static final Set<ProtocolCommand> BLOCKING_COMMANDS = Set.of(
+        Protocol.Command.BLPOP, Protocol.Command.BRPOP, Protocol.Command.BRPOPLPUSH, Protocol.Command.BLMOVE,
+        Protocol.Command.BLMPOP, Protocol.Command.BZPOPMAX, Protocol.Command.BZPOPMIN, Protocol.Command.BZMPOP,
+        Protocol.Command.WAIT);
+    private static final int QUEUE_CAPACITY_PER_BATCH = 64;
+    private static final long IDLE_POLL_MILLIS = 100;
+
+    private final CommandExecutor fallback;
+    private final Lane[] lanes;
+    private final AtomicInteger next = new AtomicInteger();
+    private volatile boolean closed;
+
+    public AutoPipeliningCommandExecutor(String name, HostAndPort hostAndPort, JedisClientConfig clientConfig, CommandExecutor fallback,
+                                         int connections, int batchSize, long flushIntervalMicros) {
+        this.fallback = fallback;
+        this.lanes = new Lane[connections];
+        for (int i = 0; i < connections; i++) {
+            this.lanes[i] = new Lane(name + "-auto-pipeline-" + i, hostAndPort, clientConfig, batchSize, TimeUnit.MICROSECONDS.toNanos(flushIntervalMicros));
+        }
+    }
+
+    @Override
+    public <T> T executeCommand(CommandObject<T> commandObject) {
+        CommandArguments arguments = commandObject.getArguments();
+        // XREAD and XREADGROUP only block with BLOCK, which marks their arguments as blocking
+        if (BLOCKING_COMMANDS.contains(arguments.getCommand()) || arguments.isBlocking()) {
+            return fallback.executeCommand(commandObject);
+        }
+        try {
+            return submit(commandObject).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new JedisException(e.getCause());
+        }
+    }
+
+    /**
+     * Queue the command on one of the shared connections without waiting for its reply.
+     */
+    public <T> CompletableFuture<T> submit(CommandObject<T> commandObject) {
+        PendingCommand<T> command = new PendingCommand<>(commandObject);
+        if (closed) {
+            command.completeExceptionally(new JedisException("auto pipelining executor is closed"));
+            return command;
+        }
+        Lane lane = lanes[Math.floorMod(next.getAndIncrement(), lanes.length)];
+        try {
+            while (!lane.queue.offer(command, IDLE_POLL_MILLIS, TimeUnit.MILLISECONDS)) {
+                if (closed) {
+                    command.completeExceptionally(new JedisException("auto pipelining executor is closed"));
+                    return command;
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            command.completeExceptionally(new JedisException("interrupted while queueing command", e));
+            return command;
+        }
+        // the lane may have exited between the check above and the offer, nobody would flush the command then
+        if (closed) {
+            lane.abortQueued();
+        }
+        return command;
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+        for (Lane lane : lanes) {
+            lane.thread.interrupt();
+        }
+        try {
+            for (Lane lane : lanes) {
+                lane.thread.join();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            LOGGER.warn("Interrupted while waiting for the auto pipelining connections to close");
+        }
+        try {
+            fallback.close();
+        } catch (Exception e) {
+            LOGGER.warn("Failed to close the fallback executor of auto pipelining", e);
+        }
+    }
+
+    private static final class PendingCommand<T> extends CompletableFuture<T> {
+
+        private final CommandObject<T> commandObject;
+
+        private PendingCommand(CommandObject<T> commandObject) {
+            this.commandObject = commandObject;
+        }
+
+        private void reply(Object data) {
+            if (data instanceof JedisDataException e) {
+                completeExceptionally(e);
+                return;
+            }
+            try {
+                complete(commandObject.getBuilder().build(data));
+            } catch (RuntimeException e) {
+                completeExceptionally(e);
+            }
+        }
+    }
+
+    private final class Lane implements Runnable {
+
+        private final HostAndPort hostAndPort;
+        private final JedisClientConfig clientConfig;
+        private final int batchSize;
+        private final long flushIntervalNanos;
+        private final BlockingQueue<PendingCommand<?>> queue;
+        private final Thread thread;
+        private Connection connection;
+
+        private Lane(String name, HostAndPort hostAndPort, JedisClientConfig clientConfig, int batchSize, long flushIntervalNanos) {
+            this.hostAndPort = hostAndPort;
+            this.clientConfig = clientConfig;
+            this.batchSize = batchSize;
+            this.flushIntervalNanos = flushIntervalNanos;
+            this.queue = new ArrayBlockingQueue<>(batchSize * QUEUE_CAPACITY_PER_BATCH);
+            this.thread = Thread.ofPlatform().name(name).daemon().start(this);
+        }
+
+        @Override
+        public void run() {
+            List<PendingCommand<?>> batch = new ArrayList<>(batchSize);
+            try {
+                while (!closed) {
+                    PendingCommand<?> first = queue.poll(IDLE_POLL_MILLIS, TimeUnit.MILLISECONDS);
+                    if (first == null) {
+                        continue;
+                    }
+                    batch.add(first);
+                    collect(batch);
+                    flush(batch);
+                    batch.clear();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                batch.forEach(command -> command.completeExceptionally(new JedisException("auto pipelining executor is closed")));
+                abortQueued();
+                if (connection != null) {
+                    connection.close();
+                }
+            }
+        }
+
+        /**
+         * Fail every command still queued, called once the executor is closed.
+         */
+        private void abortQueued() {
+            PendingCommand<?> command;
+            while ((command = queue.poll()) != null) {
+                command.completeExceptionally(new JedisException("auto pipelining executor is closed"));
+            }
+        }
+
+        private void collect(List<PendingCommand<?>> batch) throws InterruptedException {
+            queue.drainTo(batch, batchSize - batch.size());
+            if (flushIntervalNanos <= 0) {
+                return;
+            }
+            long deadline = System.nanoTime() + flushIntervalNanos;
+            while (batch.size() < batchSize) {
+                long remaining = deadline - System.nanoTime();
+                if (remaining <= 0) {
+                    return;
+                }
+                PendingCommand<?> command = queue.poll(remaining, TimeUnit.NANOSECONDS);
+                if (command == null) {
+                    return;
+                }
+                batch.add(command);
+                queue.drainTo(batch, batchSize - batch.size());
+            }
+        }
+
+        private void flush(List<PendingCommand<?>> batch) {
+            try {
+                if (connection == null || connection.isBroken()) {
+                    if (connection != null) {
+                        connection.close();
+                        connection = null;
+                    }
+                    connection = new Connection(hostAndPort, clientConfig);
+                }
+                for (PendingCommand<?> command : batch) {
+                    connection.sendCommand(command.commandObject.getArguments());
+                }
+                List<Object> replies = connection.getMany(batch.size());
+                for (int i = 0; i < batch.size(); i++) {
+                    batch.get(i).reply(replies.get(i));
+                }
+            } catch (JedisConnectionException e) {
+                LOGGER.warn("Auto pipelining connection to [{}] failed, {} queued commands are aborted", hostAndPort, batch.size());
+                batch.forEach(command -> command.completeExceptionally(e));
+            } catch (RuntimeException e) {
+                batch.forEach(command -> command.completeExceptionally(e));
+            }
+        }
+    }
+}
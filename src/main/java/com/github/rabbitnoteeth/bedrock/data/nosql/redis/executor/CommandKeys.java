@@ -0,0 +1,191 @@
+package com.github.rabbitnoteeth.bedrock.data.nosql.redis.executor;
+
+import redis.clients.jedis.CommandArguments;
+import redis.clients.jedis.Protocol;
+import redis.clients.jedis.args.Rawable;
+import redis.clients.jedis.commands.ProtocolCommand;
+import redis.clients.jedis.util.SafeEncoder;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * Finds the keys among the arguments of a command already built, for executors routing or sampling commands by key.
+ * <p>
+ * The positions follow the key specs of the Redis commands, a command not listed takes its first argument as key.
+ * Keys only given after an option, like the STORE destination of SORT or GEORADIUS, are not reported.
+ */
+public final class CommandKeys {
+
+    private static final byte[] STREAMS = SafeEncoder.encode("STREAMS");
+    private static final Map<Protocol.Command, Layout> LAYOUTS = new EnumMap<>(Protocol.Command.class);
+
+    static {
+        layout(Layout.NONE, Protocol.Command.PING, Protocol.Command.ECHO, Protocol.Command.INFO, Protocol.Command.SCAN,
+            Protocol.Command.KEYS, Protocol.Command.DBSIZE, Protocol.Command.RANDOMKEY, Protocol.Command.FLUSHDB,
+            Protocol.Command.FLUSHALL, Protocol.Command.SWAPDB, Protocol.Command.SELECT, Protocol.Command.SCRIPT,
+            Protocol.Command.FUNCTION, Protocol.Command.PUBLISH, Protocol.Command.PUBSUB, Protocol.Command.SUBSCRIBE,
+            Protocol.Command.PSUBSCRIBE, Protocol.Command.UNSUBSCRIBE, Protocol.Command.PUNSUBSCRIBE,
+            Protocol.Command.CLUSTER, Protocol.Command.CONFIG, Protocol.Command.TIME, Protocol.Command.MULTI,
+            Protocol.Command.EXEC, Protocol.Command.DISCARD, Protocol.Command.UNWATCH, Protocol.Command.WAIT,
+            Protocol.Command.WAITAOF, Protocol.Command.CLIENT, Protocol.Command.AUTH, Protocol.Command.HELLO,
+            Protocol.Command.SAVE, Protocol.Command.BGSAVE, Protocol.Command.BGREWRITEAOF,
+            Protocol.Command.LASTSAVE, Protocol.Command.SHUTDOWN, Protocol.Command.SLOWLOG, Protocol.Command.COMMAND,
+            Protocol.Command.LATENCY, Protocol.Command.MODULE, Protocol.Command.ACL, Protocol.Command.ROLE,
+            Protocol.Command.READONLY, Protocol.Command.READWRITE, Protocol.Command.REPLICAOF,
+            Protocol.Command.SLAVEOF, Protocol.Command.MONITOR, Protocol.Command.FAILOVER, Protocol.Command.MIGRATE);
+        layout(Layout.SECOND, Protocol.Command.MEMORY, Protocol.Command.OBJECT, Protocol.Command.XINFO,
+            Protocol.Command.XGROUP);
+        layout(Layout.FIRST_TWO, Protocol.Command.SMOVE, Protocol.Command.LMOVE, Protocol.Command.BLMOVE,
+            Protocol.Command.RPOPLPUSH, Protocol.Command.BRPOPLPUSH, Protocol.Command.COPY, Protocol.Command.RENAME,
+            Protocol.Command.RENAMENX, Protocol.Command.LCS, Protocol.Command.ZRANGESTORE,
+            Protocol.Command.GEOSEARCHSTORE);
+        layout(Layout.ALL, Protocol.Command.DEL, Protocol.Command.UNLINK, Protocol.Command.EXISTS, Protocol.Command.TOUCH,
+            Protocol.Command.MGET, Protocol.Command.WATCH, Protocol.Command.SINTER, Protocol.Command.SUNION,
+            Protocol.Command.SDIFF, Protocol.Command.SINTERSTORE, Protocol.Command.SUNIONSTORE,
+            Protocol.Command.SDIFFSTORE, Protocol.Command.PFCOUNT, Protocol.Command.PFMERGE);
+        layout(Layout.ALL_AFTER_FIRST, Protocol.Command.BITOP);
+        layout(Layout.ALL_BUT_LAST, Protocol.Command.BLPOP, Protocol.Command.BRPOP, Protocol.Command.BZPOPMIN,
+            Protocol.Command.BZPOPMAX);
+        layout(Layout.EVERY_OTHER, Protocol.Command.MSET, Protocol.Command.MSETNX);
+        layout(Layout.NUMKEYS_FIRST, Protocol.Command.ZUNION, Protocol.Command.ZINTER, Protocol.Command.ZDIFF,
+            Protocol.Command.SINTERCARD, Protocol.Command.ZINTERCARD, Protocol.Command.LMPOP, Protocol.Command.ZMPOP);
+        layout(Layout.NUMKEYS_SECOND, Protocol.Command.EVAL, Protocol.Command.EVALSHA, Protocol.Command.EVAL_RO,
+            Protocol.Command.EVALSHA_RO, Protocol.Command.FCALL, Protocol.Command.FCALL_RO, Protocol.Command.BLMPOP,
+            Protocol.Command.BZMPOP);
+        layout(Layout.STORE_NUMKEYS_SECOND, Protocol.Command.ZUNIONSTORE, Protocol.Command.ZINTERSTORE,
+            Protocol.Command.ZDIFFSTORE);
+        layout(Layout.STREAMS, Protocol.Command.XREAD);
+        layout(Layout.GROUP_STREAMS, Protocol.Command.XREADGROUP);
+    }
+
+    private CommandKeys() {
+    }
+
+    /**
+     * Visit every argument of the command in order, the command name excluded.
+     */
+    public static void forEach(CommandArguments arguments, ArgumentVisitor visitor) {
+        ProtocolCommand command = arguments.getCommand();
+        Layout layout = command instanceof Protocol.Command known ? LAYOUTS.getOrDefault(known, Layout.FIRST) : Layout.FIRST;
+        int size = arguments.size();
+        // keys are the arguments from (inclusive) to (exclusive) every step, layouts with a key count or a STREAMS
+        // option have no key until that argument is reached
+        int from = size;
+        int to = size;
+        int step = 1;
+        switch (layout) {
+            case FIRST -> {
+                from = 1;
+                to = 2;
+            }
+            case SECOND -> {
+                from = 2;
+                to = 3;
+            }
+            case FIRST_TWO -> {
+                from = 1;
+                to = 3;
+            }
+            case ALL -> from = 1;
+            case ALL_AFTER_FIRST -> from = 2;
+            case ALL_BUT_LAST -> {
+                from = 1;
+                to = size - 1;
+            }
+            case EVERY_OTHER -> {
+                from = 1;
+                step = 2;
+            }
+            case STORE_NUMKEYS_SECOND -> {
+                from = 1;
+                to = 2;
+            }
+            default -> {
+            }
+        }
+        int index = 0;
+        for (Rawable argument : arguments) {
+            if (index > 0) {
+                visitor.visit(argument, index >= from && index < to && (index - from) % step == 0);
+                switch (layout) {
+                    case NUMKEYS_FIRST -> {
+                        if (index == 1) {
+                            from = 2;
+                            to = Math.min(size, from + count(argument));
+                        }
+                    }
+                    case NUMKEYS_SECOND, STORE_NUMKEYS_SECOND -> {
+                        if (index == 2) {
+                            from = 3;
+                            to = Math.min(size, from + count(argument));
+                        }
+                    }
+                    case STREAMS, GROUP_STREAMS -> {
+                        // XREADGROUP starts with GROUP group consumer, a group named streams is not the option
+                        if (from == size && index > (layout == Layout.STREAMS ? 0 : 3) && isStreams(argument)) {
+                            from = index + 1;
+                            to = from + (size - from) / 2;
+                        }
+                    }
+                    default -> {
+                    }
+                }
+            }
+            index++;
+        }
+    }
+
+    /**
+     * Visit the keys of the command in order.
+     */
+    public static void forEachKey(CommandArguments arguments, Consumer<byte[]> keys) {
+        forEach(arguments, (argument, key) -> {
+            if (key) {
+                keys.accept(argument.getRaw());
+            }
+        });
+    }
+
+    private static int count(Rawable argument) {
+        try {
+            return Math.max(0, Integer.parseInt(SafeEncoder.encode(argument.getRaw())));
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+    }
+
+    private static boolean isStreams(Rawable argument) {
+        byte[] raw = argument.getRaw();
+        if (raw.length != STREAMS.length) {
+            return false;
+        }
+        for (int i = 0; i < raw.length; i++) {
+            if ((raw[i] & ~0x20) != STREAMS[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static void layout(Layout layout, Protocol.Command... commands) {
+        for (Protocol.Command command : commands) {
+            LAYOUTS.put(command, layout);
+        }
+    }
+
+    @FunctionalInterface
+    public interface ArgumentVisitor {
+
+        /**
+         * @param key whether the argument is a key of the command
+         */
+        void visit(Rawable argument, boolean key);
+    }
+
+    private enum Layout {
+        NONE, FIRST, SECOND, FIRST_TWO, ALL, ALL_AFTER_FIRST, ALL_BUT_LAST, EVERY_OTHER, NUMKEYS_FIRST, NUMKEYS_SECOND,
+        STORE_NUMKEYS_SECOND, STREAMS, GROUP_STREAMS
+    }
+}
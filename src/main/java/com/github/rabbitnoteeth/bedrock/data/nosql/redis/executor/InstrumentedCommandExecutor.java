@@ -0,0 +1,94 @@
+package com.github.rabbitnoteeth.bedrock.data.nosql.redis.executor;
+
+import com.github.rabbitnoteeth.bedrock.data.nosql.redis.hotkey.HotKeyDetector;
+import com.github.rabbitnoteeth.bedrock.data.nosql.redis.metrics.CommandMetrics;
+import com.github.rabbitnoteeth.bedrock.data.nosql.redis.metrics.PoolWait;
+import com.github.rabbitnoteeth.bedrock.data.nosql.redis.metrics.SlowCommandLog;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import redis.clients.jedis.CommandObject;
+import redis.clients.jedis.executors.CommandExecutor;
+
+/**
+ * Records the latency and the failures of every command run by the delegate, the latency includes the time spent
+ * waiting for a connection or for an auto pipelining batch. Commands slower than the threshold of the slow log are
+ * also described there. The keys of every command are offered to the hot key detector, which samples them.
+ */
+public class InstrumentedCommandExecutor implements CommandExecutor {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(InstrumentedCommandExecutor.class);
+
+    private final CommandExecutor delegate;
+    private final CommandMetrics metrics;
+    private final SlowCommandLog slowLog;
+    private final HotKeyDetector hotKeys;
+
+    /**
+     * @param metrics per command metrics, or null
+     * @param slowLog slow log, or null
+     * @param hotKeys hot key detector, or null
+     */
+    public InstrumentedCommandExecutor(CommandExecutor delegate, CommandMetrics metrics, SlowCommandLog slowLog, HotKeyDetector hotKeys) {
+        this.delegate = delegate;
+        this.metrics = metrics;
+        this.slowLog = slowLog;
+        this.hotKeys = hotKeys;
+    }
+
+    @Override
+    public <T> T executeCommand(CommandObject<T> commandObject) {
+        if (hotKeys != null) {
+            hotKeys.record(commandObject.getArguments());
+        }
+        long start = start();
+        boolean error = true;
+        try {
+            T reply = delegate.executeCommand(commandObject);
+            error = false;
+            return reply;
+        } finally {
+            record(commandObject, System.nanoTime() - start, error);
+        }
+    }
+
+    @Override
+    public <T> T broadcastCommand(CommandObject<T> commandObject) {
+        long start = start();
+        boolean error = true;
+        try {
+            T reply = delegate.broadcastCommand(commandObject);
+            error = false;
+            return reply;
+        } finally {
+            record(commandObject, System.nanoTime() - start, error);
+        }
+    }
+
+    private long start() {
+        if (slowLog != null) {
+            PoolWait.reset();
+        }
+        return System.nanoTime();
+    }
+
+    private void record(CommandObject<?> commandObject, long nanos, boolean error) {
+        if (metrics != null) {
+            metrics.record(commandObject.getArguments().getCommand(), nanos, error);
+        }
+        if (slowLog != null) {
+            slowLog.record(commandObject.getArguments(), nanos, PoolWait.lastNanos(), error);
+        }
+    }
+
+    @Override
+    public void close() {
+        try {
+            delegate.close();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            LOGGER.warn("Interrupted while closing the instrumented executor");
+        } catch (Exception e) {
+            LOGGER.warn("Failed to close the instrumented executor", e);
+        }
+    }
+}
@@ -0,0 +1,244 @@
+package com.github.rabbitnoteeth.bedrock.data.nosql.redis.executor;
+
+import com.github.rabbitnoteeth.bedrock.data.nosql.redis.entity.ReadPreference;
+import com.github.rabbitnoteeth.bedrock.data.nosql.redis.metrics.TimedConnectionProvider;
+import org.apache.commons.pool2.impl.GenericObjectPoolConfig;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import redis.clients.jedis.CommandObject;
+import redis.clients.jedis.Connection;
+import redis.clients.jedis.HostAndPort;
+import redis.clients.jedis.JedisClientConfig;
+import redis.clients.jedis.Protocol;
+import redis.clients.jedis.commands.ProtocolCommand;
+import redis.clients.jedis.exceptions.JedisConnectionException;
+import redis.clients.jedis.exceptions.JedisException;
+import redis.clients.jedis.executors.CommandExecutor;
+import redis.clients.jedis.executors.DefaultCommandExecutor;
+import redis.clients.jedis.providers.ConnectionProvider;
+import redis.clients.jedis.providers.PooledConnectionProvider;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Sends read-only commands to replica pools according to a read preference, every other command goes to the
+ * primary executor. A probing thread pings every node to keep a smoothed round trip time and a health flag, a
+ * replica failing with a connection error is marked unhealthy and the command is retried on the primary.
+ * <p>
+ * Replicas are updated asynchronously, reads routed to them may not observe the latest writes. This includes KEYS and
+ * DUMP, a lagging replica may list keys already deleted on the primary or dump an outdated value. SCAN, HSCAN, SSCAN
+ * and ZSCAN are always sent to the primary, since a cursor is only valid on the node that issued it and the next call
+ * could be routed elsewhere.
+ * <p>
+ * With {@code timePoolWaits} the borrows from the replica pools are timed like those from the primary pool, so the
+ * wait shows up in the slow command log whichever node served the command.
+ */
+public class ReadRoutingCommandExecutor implements CommandExecutor {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ReadRoutingCommandExecutor.class);
+    private static final Set<ProtocolCommand> READ_ONLY_COMMANDS = Set.of(
+        Protocol.Command.GET, Protocol.Command.MGET, Protocol.Command.STRLEN, Protocol.Command.GETRANGE,
+        Protocol.Command.SUBSTR, Protocol.Command.LCS, Protocol.Command.GETBIT, Protocol.Command.BITCOUNT,
+        Protocol.Command.BITPOS, Protocol.Command.EXISTS, Protocol.Command.TYPE, Protocol.Command.TTL,
+        Protocol.Command.PTTL, Protocol.Command.EXPIRETIME, Protocol.Command.PEXPIRETIME, Protocol.Command.DUMP,
+        Protocol.Command.KEYS, Protocol.Command.RANDOMKEY, Protocol.Command.SORT_RO,
+        Protocol.Command.HGET, Protocol.Command.HMGET, Protocol.Command.HGETALL, Protocol.Command.HKEYS,
+        Protocol.Command.HVALS, Protocol.Command.HLEN, Protocol.Command.HEXISTS, Protocol.Command.HSTRLEN,
+        Protocol.Command.HRANDFIELD, Protocol.Command.LRANGE, Protocol.Command.LLEN,
+        Protocol.Command.LINDEX, Protocol.Command.LPOS, Protocol.Command.SMEMBERS, Protocol.Command.SISMEMBER,
+        Protocol.Command.SMISMEMBER, Protocol.Command.SCARD, Protocol.Command.SRANDMEMBER, Protocol.Command.SINTER,
+        Protocol.Command.SINTERCARD, Protocol.Command.SUNION, Protocol.Command.SDIFF,
+        Protocol.Command.ZRANGE, Protocol.Command.ZRANGEBYSCORE, Protocol.Command.ZREVRANGE,
+        Protocol.Command.ZREVRANGEBYSCORE, Protocol.Command.ZRANGEBYLEX, Protocol.Command.ZREVRANGEBYLEX,
+        Protocol.Command.ZSCORE, Protocol.Command.ZMSCORE, Protocol.Command.ZCARD, Protocol.Command.ZCOUNT,
+        Protocol.Command.ZLEXCOUNT, Protocol.Command.ZRANK, Protocol.Command.ZREVRANK, Protocol.Command.ZRANDMEMBER,
+        Protocol.Command.ZINTER, Protocol.Command.ZINTERCARD, Protocol.Command.ZUNION, Protocol.Command.ZDIFF);
+    private static final double LATENCY_SMOOTHING = 0.2;
+
+    private final CommandExecutor primary;
+    private final Node primaryNode;
+    private final List<Node> replicas;
+    private final ReadPreference defaultPreference;
+    private final ThreadLocal<ReadPreference> preference = new ThreadLocal<>();
+    private final AtomicInteger next = new AtomicInteger();
+    private final long probeIntervalMillis;
+    private final Thread prober;
+    private volatile boolean closed;
+
+    public ReadRoutingCommandExecutor(String name, CommandExecutor primary, HostAndPort primaryHostAndPort, List<HostAndPort> replicas,
+                                      JedisClientConfig clientConfig, GenericObjectPoolConfig<Connection> poolConfig,
+                                      boolean timePoolWaits, ReadPreference defaultPreference, long probeIntervalMillis) {
+        this.primary = primary;
+        this.primaryNode = new Node(primaryHostAndPort, clientConfig, null, false);
+        this.replicas = new ArrayList<>(replicas.size());
+        for (HostAndPort replica : replicas) {
+            this.replicas.add(new Node(replica, clientConfig, new PooledConnectionProvider(replica, clientConfig, poolConfig),
+                timePoolWaits));
+        }
+        this.defaultPreference = defaultPreference;
+        this.probeIntervalMillis = probeIntervalMillis;
+        this.prober = Thread.ofPlatform().name(name + "-replica-prober").daemon().start(this::probe);
+    }
+
+    /**
+     * Run the reads of the calling thread with the given preference instead of the default one.
+     */
+    public <T> T withPreference(ReadPreference readPreference, Supplier<T> reads) {
+        ReadPreference previous = preference.get();
+        preference.set(readPreference);
+        try {
+            return reads.get();
+        } finally {
+            if (previous == null) {
+                preference.remove();
+            } else {
+                preference.set(previous);
+            }
+        }
+    }
+
+    @Override
+    public <T> T executeCommand(CommandObject<T> commandObject) {
+        if (!READ_ONLY_COMMANDS.contains(commandObject.getArguments().getCommand())) {
+            return primary.executeCommand(commandObject);
+        }
+        ReadPreference readPreference = preference.get();
+        Node node = select(readPreference == null ? defaultPreference : readPreference);
+        if (node == null) {
+            return primary.executeCommand(commandObject);
+        }
+        try {
+            return node.executor.executeCommand(commandObject);
+        } catch (JedisConnectionException e) {
+            node.healthy = false;
+            LOGGER.warn("Replica [{}] failed, reading from the primary until it answers again", node.hostAndPort, e);
+            return primary.executeCommand(commandObject);
+        }
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+        prober.interrupt();
+        try {
+            prober.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            LOGGER.warn("Interrupted while waiting for the replica prober to stop");
+        }
+        for (Node replica : replicas) {
+            close(replica.pool, replica.hostAndPort);
+        }
+        close(primary, primaryNode.hostAndPort);
+    }
+
+    private static void close(AutoCloseable closeable, HostAndPort hostAndPort) {
+        try {
+            closeable.close();
+        } catch (Exception e) {
+            LOGGER.warn("Failed to close the connections of [{}]", hostAndPort, e);
+        }
+    }
+
+    /**
+     * @return the replica to read from, or null for the primary
+     */
+    private Node select(ReadPreference readPreference) {
+        switch (readPreference) {
+            case REPLICA_PREFERRED -> {
+                int size = replicas.size();
+                int start = Math.floorMod(next.getAndIncrement(), size);
+                for (int i = 0; i < size; i++) {
+                    Node replica = replicas.get((start + i) % size);
+                    if (replica.healthy) {
+                        return replica;
+                    }
+                }
+                return null;
+            }
+            case NEAREST -> {
+                Node nearest = null;
+                double latency = primaryNode.healthy ? primaryNode.latencyNanos : Double.MAX_VALUE;
+                for (Node replica : replicas) {
+                    if (replica.healthy && replica.latencyNanos < latency) {
+                        nearest = replica;
+                        latency = replica.latencyNanos;
+                    }
+                }
+                return nearest;
+            }
+            default -> {
+                return null;
+            }
+        }
+    }
+
+    private void probe() {
+        try {
+            while (!closed) {
+                primaryNode.probe();
+                for (Node replica : replicas) {
+                    replica.probe();
+                }
+                Thread.sleep(probeIntervalMillis);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            primaryNode.closeProbe();
+            replicas.forEach(Node::closeProbe);
+        }
+    }
+
+    private static final class Node {
+
+        private final HostAndPort hostAndPort;
+        private final JedisClientConfig clientConfig;
+        private final PooledConnectionProvider pool;
+        private final CommandExecutor executor;
+        private volatile boolean healthy = true;
+        private volatile double latencyNanos;
+        private Connection probe;
+
+        private Node(HostAndPort hostAndPort, JedisClientConfig clientConfig, PooledConnectionProvider pool, boolean timed) {
+            this.hostAndPort = hostAndPort;
+            this.clientConfig = clientConfig;
+            this.pool = pool;
+            if (pool == null) {
+                this.executor = null;
+            } else {
+                // the timed provider does not close its delegate, the pool is closed with the router
+                ConnectionProvider provider = timed ? new TimedConnectionProvider(pool) : pool;
+                this.executor = new DefaultCommandExecutor(provider);
+            }
+        }
+
+        private void probe() {
+            try {
+                if (probe == null || probe.isBroken()) {
+                    closeProbe();
+                    probe = new Connection(hostAndPort, clientConfig);
+                }
+                long start = System.nanoTime();
+                probe.ping();
+                long elapsed = System.nanoTime() - start;
+                latencyNanos = latencyNanos == 0 ? elapsed : latencyNanos + LATENCY_SMOOTHING * (elapsed - latencyNanos);
+                healthy = true;
+            } catch (JedisException e) {
+                healthy = false;
+                closeProbe();
+            }
+        }
+
+        private void closeProbe() {
+            if (probe != null) {
+                probe.close();
+                probe = null;
+            }
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package com.github.rabbitnoteeth.bedrock.data.nosql.redis.executor;
+
+import redis.clients.jedis.ClusterCommandArguments;
+import redis.clients.jedis.CommandArguments;
+import redis.clients.jedis.CommandObject;
+import redis.clients.jedis.Protocol;
+import redis.clients.jedis.args.Rawable;
+import redis.clients.jedis.commands.ProtocolCommand;
+import redis.clients.jedis.executors.ClusterCommandExecutor;
+import redis.clients.jedis.executors.CommandExecutor;
+import redis.clients.jedis.util.JedisClusterHashTag;
+import redis.clients.jedis.util.SafeEncoder;
+
+import java.util.Arrays;
+
+/**
+ * Runs commands built without a hash slot on a {@link ClusterCommandExecutor}, which finds the node of a command
+ * from the slot recorded in its {@link ClusterCommandArguments}. The arguments are copied into cluster arguments
+ * whose slot is computed from the keys found by {@link CommandKeys}. As with JedisCluster, KEYS and SCAN are only
+ * accepted with a pattern whose hash tag selects a single slot, and commands whose keys span slots fail.
+ */
+public class SlotRoutingCommandExecutor implements CommandExecutor {
+
+    private static final byte[] MATCH = SafeEncoder.encode("MATCH");
+
+    private final ClusterCommandExecutor delegate;
+
+    public SlotRoutingCommandExecutor(ClusterCommandExecutor delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    public <T> T executeCommand(CommandObject<T> commandObject) {
+        return delegate.executeCommand(route(commandObject));
+    }
+
+    @Override
+    public <T> T broadcastCommand(CommandObject<T> commandObject) {
+        // sent to every primary, the slot is not used
+        return delegate.broadcastCommand(commandObject);
+    }
+
+    @Override
+    public void close() {
+        delegate.close();
+    }
+
+    private static <T> CommandObject<T> route(CommandObject<T> commandObject) {
+        CommandArguments arguments = commandObject.getArguments();
+        if (arguments instanceof ClusterCommandArguments) {
+            return commandObject;
+        }
+        ProtocolCommand command = arguments.getCommand();
+        SlotArguments routed = new SlotArguments(command);
+        if (command == Protocol.Command.KEYS || command == Protocol.Command.SCAN) {
+            routePattern(arguments, routed);
+        } else {
+            CommandKeys.forEach(arguments, routed::add);
+        }
+        if (arguments.isBlocking()) {
+            routed.blocking();
+        }
+        return new CommandObject<>(routed, commandObject.getBuilder());
+    }
+
+    /**
+     * KEYS and SCAN run on the node of the slot of their pattern.
+     */
+    private static void routePattern(CommandArguments arguments, SlotArguments routed) {
+        boolean keys = arguments.getCommand() == Protocol.Command.KEYS;
+        byte[] pattern = null;
+        Rawable previous = null;
+        int index = 0;
+        for (Rawable argument : arguments) {
+            if (index > 0) {
+                boolean isPattern = keys ? index == 1 : previous != null && Arrays.equals(previous.getRaw(), MATCH);
+                if (isPattern) {
+                    pattern = argument.getRaw();
+                }
+                routed.add(argument);
+                previous = argument;
+            }
+            index++;
+        }
+        if (pattern == null || !JedisClusterHashTag.isClusterCompliantMatchPattern(pattern)) {
+            throw new IllegalArgumentException("Cluster mode only supports " + arguments.getCommand()
+                + " with a pattern whose hash tag selects a single slot");
+        }
+        routed.slotOf(pattern);
+    }
+
+    private static final class SlotArguments extends ClusterCommandArguments {
+
+        private SlotArguments(ProtocolCommand command) {
+            super(command);
+        }
+
+        private void add(Rawable argument, boolean key) {
+            add(argument);
+            if (key) {
+                processKey(argument.getRaw());
+            }
+        }
+
+        private void slotOf(byte[] key) {
+            processKey(key);
+        }
+    }
+}
@@ -0,0 +1,9 @@
+package com.github.rabbitnoteeth.bedrock.data.nosql.redis.hotkey;
+
+/**
+ * @param key   the key
+ * @param count estimated sampled accesses since the last decays, an over-estimate
+ * @param share estimated fraction of the sampled accesses going to the key
+ */
+public record HotKey(String key, long count, double share) {
+}
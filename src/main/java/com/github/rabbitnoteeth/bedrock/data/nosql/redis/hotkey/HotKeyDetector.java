@@ -0,0 +1,333 @@
+package com.github.rabbitnoteeth.bedrock.data.nosql.redis.hotkey;
+
+import com.github.rabbitnoteeth.bedrock.data.nosql.redis.executor.CommandKeys;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import redis.clients.jedis.CommandArguments;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+/**
+ * Finds the keys taking a large share of the traffic. A sample of the accessed keys is counted in a count-min sketch
+ * striped by thread, so that concurrent callers rarely touch the same counters, and the keys whose estimate enters
+ * the top K are tracked by name. Every decay interval all counts are halved, so the view follows the recent traffic.
+ * <p>
+ * The tracked keys are published as an immutable hash table, an access to a key already tracked increments its count
+ * without locking or allocating. Other keys only read the stripe of the caller: a key whose count reaches the top K
+ * is at least that hot in one stripe times the number of stripes, only then all stripes are summed under the lock to
+ * decide whether it enters the top K, which rebuilds the table.
+ * <p>
+ * Listeners are called on a virtual thread the first time a key exceeds the configured share of the sampled traffic
+ * within a decay interval.
+ */
+public final class HotKeyDetector {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(HotKeyDetector.class);
+    private static final int DEPTH = 4;
+    private static final int WIDTH = 2048;
+    private static final long MIN_SAMPLES = 1000;
+
+    private final double sampleRate;
+    private final int topK;
+    private final double shareThreshold;
+    private final long decayIntervalNanos;
+    private final AtomicLongArray[] stripes;
+    private final int stripeMask;
+    private final LongAdder samples = new LongAdder();
+    private final AtomicLong lastDecay = new AtomicLong(System.nanoTime());
+    private final Consumer<byte[]> counter = this::count;
+    // guarded by itself, the tables below are rebuilt from it on every change
+    private final Map<String, Tracked> top = new HashMap<>();
+    private final int tableMask;
+    private volatile Tracked[] table;
+    private volatile Map<String, Tracked> tracked = Map.of();
+    private final List<Consumer<HotKey>> listeners = new CopyOnWriteArrayList<>();
+    private volatile long topMinimum;
+    private volatile long decayedSamples;
+
+    /**
+     * @param sampleRate         fraction of the accesses counted
+     * @param topK               number of hottest keys tracked by name
+     * @param shareThreshold     share of the sampled accesses above which listeners are called
+     * @param decayIntervalMillis interval between two halvings of the counts
+     */
+    public HotKeyDetector(double sampleRate, int topK, double shareThreshold, long decayIntervalMillis) {
+        this.sampleRate = sampleRate;
+        this.topK = topK;
+        this.shareThreshold = shareThreshold;
+        this.decayIntervalNanos = decayIntervalMillis * 1_000_000;
+        int stripeCount = Integer.highestOneBit(Math.max(1, Runtime.getRuntime().availableProcessors() - 1)) << 1;
+        this.stripes = new AtomicLongArray[stripeCount];
+        for (int i = 0; i < stripeCount; i++) {
+            this.stripes[i] = new AtomicLongArray(DEPTH * WIDTH);
+        }
+        this.stripeMask = stripeCount - 1;
+        // at most half full, so probes stay short
+        int tableSize = Integer.highestOneBit(Math.max(1, topK) * 2 - 1) << 1;
+        this.tableMask = tableSize - 1;
+        this.table = new Tracked[tableSize];
+    }
+
+    /**
+     * Call the listener with the keys going over the share threshold.
+     */
+    public void addListener(Consumer<HotKey> listener) {
+        listeners.add(listener);
+    }
+
+    /**
+     * Count an access to every key of the command if it is sampled.
+     */
+    public void record(CommandArguments arguments) {
+        if (sampled()) {
+            CommandKeys.forEachKey(arguments, counter);
+        }
+    }
+
+    /**
+     * Count an access to the key if it is sampled.
+     */
+    public void record(byte[] key) {
+        if (sampled()) {
+            count(key);
+        }
+    }
+
+    /**
+     * The hottest keys, hottest first.
+     */
+    public List<HotKey> hottest(int limit) {
+        long total = Math.max(1, totalSamples());
+        List<HotKey> keys = new ArrayList<>();
+        for (Tracked entry : tracked.values()) {
+            long count = entry.count.get();
+            keys.add(new HotKey(entry.name, count, (double) count / total));
+        }
+        keys.sort(Comparator.comparingLong(HotKey::count).reversed());
+        return keys.size() > limit ? new ArrayList<>(keys.subList(0, limit)) : keys;
+    }
+
+    /**
+     * Whether the key is currently among the hottest keys.
+     */
+    public boolean isHot(String key) {
+        return tracked.containsKey(key);
+    }
+
+    private boolean sampled() {
+        return sampleRate >= 1 || ThreadLocalRandom.current().nextDouble() < sampleRate;
+    }
+
+    private void count(byte[] key) {
+        decayIfDue();
+        long hash = hash(key);
+        AtomicLongArray stripe = stripes[(int) Thread.currentThread().threadId() & stripeMask];
+        for (int row = 0; row < DEPTH; row++) {
+            stripe.incrementAndGet(index(hash, row));
+        }
+        samples.increment();
+        Tracked entry = find(table, key, hash);
+        long count;
+        if (entry != null) {
+            count = entry.count.incrementAndGet();
+        } else {
+            if (estimate(stripe, hash) * stripes.length < topMinimum) {
+                return;
+            }
+            entry = offer(key, hash);
+            if (entry == null) {
+                return;
+            }
+            count = entry.count.get();
+        }
+        long total = totalSamples();
+        if (total >= MIN_SAMPLES && count >= shareThreshold * total && !entry.reported.get()
+            && entry.reported.compareAndSet(false, true) && !listeners.isEmpty()) {
+            HotKey event = new HotKey(entry.name, count, (double) count / total);
+            Thread.ofVirtual().start(() -> notifyListeners(event));
+        }
+    }
+
+    /**
+     * Track a key whose estimate over all stripes reached the coldest tracked key, evicting that one when the top K is
+     * full.
+     *
+     * @return the entry of the key, or null when it is not hot enough
+     */
+    private Tracked offer(byte[] key, long hash) {
+        synchronized (top) {
+            Tracked entry = find(table, key, hash);
+            if (entry != null) {
+                return entry;
+            }
+            long estimate = estimate(hash);
+            if (top.size() >= topK) {
+                Tracked coldest = null;
+                for (Tracked candidate : top.values()) {
+                    if (coldest == null || candidate.count.get() < coldest.count.get()) {
+                        coldest = candidate;
+                    }
+                }
+                if (coldest.count.get() >= estimate) {
+                    topMinimum = coldest.count.get();
+                    return null;
+                }
+                top.remove(coldest.name);
+            }
+            entry = new Tracked(new String(key, StandardCharsets.UTF_8), key.clone(), hash, estimate);
+            top.put(entry.name, entry);
+            publish();
+            return entry;
+        }
+    }
+
+    /**
+     * Rebuild the lock-free views and the minimum from {@link #top}, called under its lock.
+     */
+    private void publish() {
+        Tracked[] rebuilt = new Tracked[tableMask + 1];
+        long minimum = Long.MAX_VALUE;
+        for (Tracked entry : top.values()) {
+            int slot = slot(entry.hash);
+            while (rebuilt[slot] != null) {
+                slot = (slot + 1) & tableMask;
+            }
+            rebuilt[slot] = entry;
+            minimum = Math.min(minimum, entry.count.get());
+        }
+        table = rebuilt;
+        tracked = Map.copyOf(top);
+        topMinimum = top.size() < topK ? 0 : minimum;
+    }
+
+    private Tracked find(Tracked[] snapshot, byte[] key, long hash) {
+        int slot = slot(hash);
+        Tracked entry;
+        while ((entry = snapshot[slot]) != null) {
+            if (entry.hash == hash && Arrays.equals(entry.key, key)) {
+                return entry;
+            }
+            slot = (slot + 1) & tableMask;
+        }
+        return null;
+    }
+
+    private int slot(long hash) {
+        return (int) (hash ^ (hash >>> 32)) & tableMask;
+    }
+
+    private void notifyListeners(HotKey key) {
+        for (Consumer<HotKey> listener : listeners) {
+            try {
+                listener.accept(key);
+            } catch (RuntimeException e) {
+                LOGGER.warn("Hot key listener failed for key [{}]", key.key(), e);
+            }
+        }
+    }
+
+    private long totalSamples() {
+        return samples.sum() - decayedSamples;
+    }
+
+    private void decayIfDue() {
+        long last = lastDecay.get();
+        long now = System.nanoTime();
+        if (now - last < decayIntervalNanos || !lastDecay.compareAndSet(last, now)) {
+            return;
+        }
+        for (AtomicLongArray stripe : stripes) {
+            for (int i = 0; i < stripe.length(); i++) {
+                stripe.getAndUpdate(i, count -> count >> 1);
+            }
+        }
+        synchronized (top) {
+            decayedSamples += totalSamples() / 2;
+            for (Tracked entry : top.values()) {
+                entry.count.getAndUpdate(count -> count >> 1);
+                entry.reported.set(false);
+            }
+            publish();
+        }
+    }
+
+    /**
+     * Count of the key in a single stripe.
+     */
+    private static long estimate(AtomicLongArray stripe, long hash) {
+        long estimate = Long.MAX_VALUE;
+        for (int row = 0; row < DEPTH; row++) {
+            estimate = Math.min(estimate, stripe.get(index(hash, row)));
+        }
+        return estimate;
+    }
+
+    /**
+     * Count of the key summed over all stripes.
+     */
+    private long estimate(long hash) {
+        long estimate = Long.MAX_VALUE;
+        for (int row = 0; row < DEPTH; row++) {
+            int index = index(hash, row);
+            long sum = 0;
+            for (AtomicLongArray stripe : stripes) {
+                sum += stripe.get(index);
+            }
+            estimate = Math.min(estimate, sum);
+        }
+        return estimate;
+    }
+
+    /**
+     * Position of the key in a row of a stripe, the row hashes are derived from the two halves of the key hash.
+     */
+    private static int index(long hash, int row) {
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        return row * WIDTH + (((h1 + row * h2) >>> 1) & (WIDTH - 1));
+    }
+
+    private static final class Tracked {
+
+        private final String name;
+        private final byte[] key;
+        private final long hash;
+        private final AtomicLong count;
+        // whether the listeners were called for the key since the last decay
+        private final AtomicBoolean reported = new AtomicBoolean();
+
+        private Tracked(String name, byte[] key, long hash, long count) {
+            this.name = name;
+            this.key = key;
+            this.hash = hash;
+            this.count = new AtomicLong(count);
+        }
+    }
+
+    /**
+     * FNV-1a followed by a 64 bit finalizer.
+     */
+    private static long hash(byte[] key) {
+        long hash = 0xcbf29ce484222325L;
+        for (byte b : key) {
+            hash = (hash ^ (b & 0xFF)) * 0x100000001b3L;
+        }
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+}
@@ -0,0 +1,10 @@
+package com.github.rabbitnoteeth.bedrock.data.nosql.redis.metrics;
+
+import java.util.Map;
+
+/**
+ * @param commands metrics by command name
+ * @param pool     metrics of the connection pool
+ */
+public record ClientMetricsSnapshot(String clientId, Map<String, CommandSnapshot> commands, PoolSnapshot pool) {
+}
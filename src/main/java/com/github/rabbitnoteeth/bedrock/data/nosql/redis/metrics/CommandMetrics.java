@@ -0,0 +1,68 @@
+package com.github.rabbitnoteeth.bedrock.data.nosql.redis.metrics;
+
+import redis.clients.jedis.Protocol;
+import redis.clients.jedis.commands.ProtocolCommand;
+import redis.clients.jedis.util.SafeEncoder;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Latency and errors of the commands of one client, per command name. The metrics of a command are created the first
+ * time it runs, afterwards recording does not allocate.
+ */
+public final class CommandMetrics {
+
+    private static final Protocol.Command[] COMMANDS = Protocol.Command.values();
+
+    private final AtomicReferenceArray<Metric> builtIn = new AtomicReferenceArray<>(COMMANDS.length);
+    private final Map<ProtocolCommand, Metric> others = new ConcurrentHashMap<>();
+
+    public void record(ProtocolCommand command, long nanos, boolean error) {
+        Metric metric = metric(command);
+        metric.latency.record(nanos);
+        if (error) {
+            metric.errors.increment();
+        }
+    }
+
+    private Metric metric(ProtocolCommand command) {
+        if (command instanceof Protocol.Command builtInCommand) {
+            int index = builtInCommand.ordinal();
+            Metric metric = builtIn.get(index);
+            if (metric == null) {
+                builtIn.compareAndSet(index, null, new Metric());
+                metric = builtIn.get(index);
+            }
+            return metric;
+        }
+        return others.computeIfAbsent(command, c -> new Metric());
+    }
+
+    /**
+     * Snapshot of every command that ran at least once, by command name.
+     */
+    public Map<String, CommandSnapshot> snapshot() {
+        Map<String, CommandSnapshot> snapshot = new LinkedHashMap<>();
+        for (int i = 0; i < COMMANDS.length; i++) {
+            Metric metric = builtIn.get(i);
+            if (metric != null) {
+                snapshot.put(COMMANDS[i].name(), metric.snapshot());
+            }
+        }
+        others.forEach((command, metric) -> snapshot.put(SafeEncoder.encode(command.getRaw()).toUpperCase(), metric.snapshot()));
+        return snapshot;
+    }
+
+    private static final class Metric {
+        private final LatencyHistogram latency = new LatencyHistogram();
+        private final LongAdder errors = new LongAdder();
+
+        CommandSnapshot snapshot() {
+            return new CommandSnapshot(latency.snapshot(), errors.sum());
+        }
+    }
+}
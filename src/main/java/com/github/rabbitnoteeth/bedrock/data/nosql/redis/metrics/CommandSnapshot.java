@@ -0,0 +1,8 @@
+package com.github.rabbitnoteeth.bedrock.data.nosql.redis.metrics;
+
+/**
+ * @param latency latency of every call, failed calls included
+ * @param errors  calls that failed, with a server error or a connection failure
+ */
+public record CommandSnapshot(LatencySnapshot latency, long errors) {
+}
@@ -0,0 +1,63 @@
+package com.github.rabbitnoteeth.bedrock.data.nosql.redis.metrics;
+
+public final class LatencySnapshot {
+
+    private final long count;
+    private final long sumNanos;
+    private final long maxNanos;
+    private final long[] buckets;
+
+    LatencySnapshot(long count, long sumNanos, long maxNanos, long[] buckets) {
+        this.count = count;
+        this.sumNanos = sumNanos;
+        this.maxNanos = maxNanos;
+        this.buckets = buckets;
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public long getSumNanos() {
+        return sumNanos;
+    }
+
+    public long getMaxNanos() {
+        return maxNanos;
+    }
+
+    public double getMeanNanos() {
+        return count == 0 ? 0 : (double) sumNanos / count;
+    }
+
+    /**
+     * @param quantile between 0 and 1
+     * @return the latency below which this quantile of the records falls, 0 when nothing was recorded
+     */
+    public long getPercentileNanos(double quantile) {
+        if (count == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(quantile * count));
+        long seen = 0;
+        for (int i = 0; i < buckets.length; i++) {
+            seen += buckets[i];
+            if (seen >= rank) {
+                return Math.min(LatencyHistogram.value(i), maxNanos);
+            }
+        }
+        return maxNanos;
+    }
+
+    @Override
+    public String toString() {
+        return "LatencySnapshot{" +
+            "count=" + count +
+            ", meanNanos=" + (long) getMeanNanos() +
+            ", p50Nanos=" + getPercentileNanos(0.5) +
+            ", p99Nanos=" + getPercentileNanos(0.99) +
+            ", p999Nanos=" + getPercentileNanos(0.999) +
+            ", maxNanos=" + maxNanos +
+            '}';
+    }
+}
@@ -0,0 +1,13 @@
+package com.github.rabbitnoteeth.bedrock.data.nosql.redis.metrics;
+
+/**
+ * Connection pool counters, summed over the node pools in cluster mode. The wait times are those of the last 100
+ * borrows of every pool.
+ *
+ * @param borrowed             connections borrowed since the pool was created
+ * @param meanBorrowWaitMillis mean time waited for a connection
+ * @param maxBorrowWaitMillis  longest time waited for a connection
+ */
+public record PoolSnapshot(long borrowed, long meanBorrowWaitMillis, long maxBorrowWaitMillis, int active, int idle,
+                           int waiters) {
+}
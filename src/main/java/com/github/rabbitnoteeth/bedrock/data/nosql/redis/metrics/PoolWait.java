@@ -0,0 +1,32 @@
+package com.github.rabbitnoteeth.bedrock.data.nosql.redis.metrics;
+
+/**
+ * Time the current thread last waited to borrow a pooled connection, set by the timed connection providers and read
+ * once the command is done.
+ */
+public final class PoolWait {
+
+    private static final ThreadLocal<long[]> LAST_WAIT_NANOS = ThreadLocal.withInitial(() -> new long[]{-1});
+
+    private PoolWait() {
+    }
+
+    /**
+     * Forget the previous wait before running a command.
+     */
+    public static void reset() {
+        LAST_WAIT_NANOS.get()[0] = -1;
+    }
+
+    static void record(long nanos) {
+        LAST_WAIT_NANOS.get()[0] = nanos;
+    }
+
+    /**
+     * @return the wait of the last borrow since {@link #reset()}, or -1 when no connection was borrowed from a timed
+     * pool, e.g. by auto pipelined or replica commands
+     */
+    public static long lastNanos() {
+        return LAST_WAIT_NANOS.get()[0];
+    }
+}
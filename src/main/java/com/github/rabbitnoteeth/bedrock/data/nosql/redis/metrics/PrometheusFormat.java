@@ -0,0 +1,71 @@
+package com.github.rabbitnoteeth.bedrock.data.nosql.redis.metrics;
+
+import java.util.Map;
+
+/**
+ * Writes metrics snapshots in the Prometheus text exposition format.
+ */
+public final class PrometheusFormat {
+
+    private static final double[] QUANTILES = {0.5, 0.9, 0.99, 0.999};
+    private static final double NANOS_PER_SECOND = 1e9;
+
+    private PrometheusFormat() {
+    }
+
+    public static String format(Map<String, ClientMetricsSnapshot> clients) {
+        StringBuilder out = new StringBuilder();
+        header(out, "redis_client_command_duration_seconds", "summary", "Latency of the commands, failed calls included.");
+        clients.values().forEach(client -> client.commands().forEach((command, snapshot) -> {
+            String labels = "client=\"" + escape(client.clientId()) + "\",command=\"" + escape(command) + "\"";
+            LatencySnapshot latency = snapshot.latency();
+            for (double quantile : QUANTILES) {
+                sample(out, "redis_client_command_duration_seconds", labels + ",quantile=\"" + quantile + "\"",
+                    latency.getPercentileNanos(quantile) / NANOS_PER_SECOND);
+            }
+            sample(out, "redis_client_command_duration_seconds_sum", labels, latency.getSumNanos() / NANOS_PER_SECOND);
+            sample(out, "redis_client_command_duration_seconds_count", labels, latency.getCount());
+        }));
+        header(out, "redis_client_command_errors_total", "counter", "Commands that failed.");
+        clients.values().forEach(client -> client.commands().forEach((command, snapshot) ->
+            sample(out, "redis_client_command_errors_total",
+                "client=\"" + escape(client.clientId()) + "\",command=\"" + escape(command) + "\"", snapshot.errors())));
+        header(out, "redis_client_pool_borrowed_total", "counter", "Connections borrowed from the pool.");
+        clients.values().forEach(client -> sample(out, "redis_client_pool_borrowed_total", clientLabel(client), client.pool().borrowed()));
+        header(out, "redis_client_pool_borrow_wait_mean_seconds", "gauge", "Mean wait for a pooled connection over the recent borrows.");
+        clients.values().forEach(client -> sample(out, "redis_client_pool_borrow_wait_mean_seconds", clientLabel(client),
+            client.pool().meanBorrowWaitMillis() / 1000.0));
+        header(out, "redis_client_pool_borrow_wait_max_seconds", "gauge", "Longest wait for a pooled connection.");
+        clients.values().forEach(client -> sample(out, "redis_client_pool_borrow_wait_max_seconds", clientLabel(client),
+            client.pool().maxBorrowWaitMillis() / 1000.0));
+        header(out, "redis_client_pool_connections", "gauge", "Pooled connections by state.");
+        clients.values().forEach(client -> {
+            sample(out, "redis_client_pool_connections", clientLabel(client) + ",state=\"active\"", client.pool().active());
+            sample(out, "redis_client_pool_connections", clientLabel(client) + ",state=\"idle\"", client.pool().idle());
+        });
+        header(out, "redis_client_pool_waiters", "gauge", "Threads waiting for a pooled connection.");
+        clients.values().forEach(client -> sample(out, "redis_client_pool_waiters", clientLabel(client), client.pool().waiters()));
+        return out.toString();
+    }
+
+    private static void header(StringBuilder out, String name, String type, String help) {
+        out.append("# HELP ").append(name).append(' ').append(help).append('\n');
+        out.append("# TYPE ").append(name).append(' ').append(type).append('\n');
+    }
+
+    private static void sample(StringBuilder out, String name, String labels, double value) {
+        out.append(name).append('{').append(labels).append("} ").append(value).append('\n');
+    }
+
+    private static void sample(StringBuilder out, String name, String labels, long value) {
+        out.append(name).append('{').append(labels).append("} ").append(value).append('\n');
+    }
+
+    private static String clientLabel(ClientMetricsSnapshot client) {
+        return "client=\"" + escape(client.clientId()) + "\"";
+    }
+
+    private static String escape(String value) {
+        return value.replace("\\", "\\\\").replace("\"", "\\\"").replace("\n", "\\n");
+    }
+}
@@ -0,0 +1,19 @@
+package com.github.rabbitnoteeth.bedrock.data.nosql.redis.metrics;
+
+/**
+ * A command slower than the slow log threshold. The latency is measured on the client and includes the pool wait, the
+ * network round trip and the server time; subtracting the pool wait and the server time reported by SLOWLOG tells
+ * where the time went.
+ *
+ * @param sequence        position of the command in the slow log
+ * @param timestampMillis when the command completed
+ * @param key             first key of the command found by CommandKeys, truncated to 128 bytes, null for commands
+ *                        without key
+ * @param argumentSizes   size in bytes of every argument, the command name excluded
+ * @param thread          name of the calling thread
+ * @param poolWaitNanos   time waited for a pooled connection, -1 when unknown
+ * @param error           whether the command failed
+ */
+public record SlowCommand(long sequence, long timestampMillis, String command, String key, int[] argumentSizes,
+                          String thread, long latencyNanos, long poolWaitNanos, boolean error) {
+}
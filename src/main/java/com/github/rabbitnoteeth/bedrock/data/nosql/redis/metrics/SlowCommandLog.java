@@ -0,0 +1,92 @@
+package com.github.rabbitnoteeth.bedrock.data.nosql.redis.metrics;
+
+import com.github.rabbitnoteeth.bedrock.data.nosql.redis.executor.CommandKeys;
+import redis.clients.jedis.CommandArguments;
+import redis.clients.jedis.util.SafeEncoder;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Predicate;
+
+/**
+ * Bounded lock free ring of the most recent slow commands. Fast commands only cost a comparison, slow commands are
+ * sampled before being described, and writers claim their slot with a single increment.
+ */
+public final class SlowCommandLog {
+
+    private static final int MAX_KEY_LENGTH = 128;
+
+    private final long thresholdNanos;
+    private final double sampleRate;
+    private final AtomicReferenceArray<SlowCommand> slots;
+    private final int mask;
+    private final AtomicLong sequence = new AtomicLong();
+
+    public SlowCommandLog(long thresholdMicros, double sampleRate, int capacity) {
+        this.thresholdNanos = TimeUnit.MICROSECONDS.toNanos(thresholdMicros);
+        this.sampleRate = sampleRate;
+        this.slots = new AtomicReferenceArray<>(capacity == 1 ? 1 : Integer.highestOneBit(capacity - 1) << 1);
+        this.mask = slots.length() - 1;
+    }
+
+    public void record(CommandArguments arguments, long latencyNanos, long poolWaitNanos, boolean error) {
+        if (latencyNanos < thresholdNanos || sampleRate < 1 && ThreadLocalRandom.current().nextDouble() >= sampleRate) {
+            return;
+        }
+        String command = SafeEncoder.encode(arguments.getCommand().getRaw()).toUpperCase();
+        String[] key = new String[1];
+        int[] sizes = new int[Math.max(0, arguments.size() - 1)];
+        int[] index = new int[1];
+        CommandKeys.forEach(arguments, (argument, isKey) -> {
+            byte[] raw = argument.getRaw();
+            if (isKey && key[0] == null) {
+                key[0] = SafeEncoder.encode(raw.length > MAX_KEY_LENGTH ? Arrays.copyOf(raw, MAX_KEY_LENGTH) : raw);
+            }
+            sizes[index[0]++] = raw.length;
+        });
+        long next = sequence.getAndIncrement();
+        slots.set((int) (next & mask), new SlowCommand(next, System.currentTimeMillis(), command, key[0], sizes,
+            Thread.currentThread().getName(), latencyNanos, poolWaitNanos, error));
+    }
+
+    /**
+     * The most recent slow commands, most recent first.
+     */
+    public List<SlowCommand> recent(int limit) {
+        return query(command -> true, limit);
+    }
+
+    /**
+     * The most recent slow commands accepted by the filter, most recent first.
+     */
+    public List<SlowCommand> query(Predicate<SlowCommand> filter, int limit) {
+        List<SlowCommand> commands = new ArrayList<>();
+        for (int i = 0; i < slots.length(); i++) {
+            SlowCommand command = slots.get(i);
+            if (command != null && filter.test(command)) {
+                commands.add(command);
+            }
+        }
+        commands.sort(Comparator.comparingLong(SlowCommand::sequence).reversed());
+        return commands.size() > limit ? new ArrayList<>(commands.subList(0, limit)) : commands;
+    }
+
+    /**
+     * Number of slow commands recorded since the client started, including those overwritten since.
+     */
+    public long total() {
+        return sequence.get();
+    }
+
+    public void clear() {
+        for (int i = 0; i < slots.length(); i++) {
+            slots.set(i, null);
+        }
+    }
+}
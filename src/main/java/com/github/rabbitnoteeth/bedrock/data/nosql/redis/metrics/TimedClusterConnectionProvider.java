@@ -0,0 +1,30 @@
+package com.github.rabbitnoteeth.bedrock.data.nosql.redis.metrics;
+
+import org.apache.commons.pool2.impl.GenericObjectPoolConfig;
+import redis.clients.jedis.CommandArguments;
+import redis.clients.jedis.Connection;
+import redis.clients.jedis.HostAndPort;
+import redis.clients.jedis.JedisClientConfig;
+import redis.clients.jedis.providers.ClusterConnectionProvider;
+
+import java.util.Set;
+
+/**
+ * Cluster provider recording how long the borrow of the first attempt of every command waits into {@link PoolWait},
+ * borrows following a redirection are not timed.
+ */
+public class TimedClusterConnectionProvider extends ClusterConnectionProvider {
+
+    public TimedClusterConnectionProvider(Set<HostAndPort> clusterNodes, JedisClientConfig clientConfig,
+                                          GenericObjectPoolConfig<Connection> poolConfig) {
+        super(clusterNodes, clientConfig, poolConfig);
+    }
+
+    @Override
+    public Connection getConnection(CommandArguments args) {
+        long start = System.nanoTime();
+        Connection connection = super.getConnection(args);
+        PoolWait.record(System.nanoTime() - start);
+        return connection;
+    }
+}
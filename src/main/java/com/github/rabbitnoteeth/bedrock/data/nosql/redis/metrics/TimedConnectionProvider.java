@@ -0,0 +1,38 @@
+package com.github.rabbitnoteeth.bedrock.data.nosql.redis.metrics;
+
+import redis.clients.jedis.CommandArguments;
+import redis.clients.jedis.Connection;
+import redis.clients.jedis.providers.ConnectionProvider;
+
+/**
+ * Records how long every borrow from the delegate waits into {@link PoolWait}.
+ */
+public class TimedConnectionProvider implements ConnectionProvider {
+
+    private final ConnectionProvider delegate;
+
+    public TimedConnectionProvider(ConnectionProvider delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    public Connection getConnection() {
+        long start = System.nanoTime();
+        Connection connection = delegate.getConnection();
+        PoolWait.record(System.nanoTime() - start);
+        return connection;
+    }
+
+    @Override
+    public Connection getConnection(CommandArguments args) {
+        long start = System.nanoTime();
+        Connection connection = delegate.getConnection(args);
+        PoolWait.record(System.nanoTime() - start);
+        return connection;
+    }
+
+    @Override
+    public void close() {
+        // the delegate is owned and closed by the client
+    }
+}
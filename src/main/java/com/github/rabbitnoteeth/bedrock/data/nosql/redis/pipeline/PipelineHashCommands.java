@@ -0,0 +1,105 @@
+package com.github.rabbitnoteeth.bedrock.data.nosql.redis.pipeline;
+
+import redis.clients.jedis.Response;
+import redis.clients.jedis.commands.HashPipelineCommands;
+import redis.clients.jedis.params.ScanParams;
+import redis.clients.jedis.resps.ScanResult;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Queued counterpart of {@link com.github.rabbitnoteeth.bedrock.data.nosql.redis.commands.HashCommands}. Every method only
+ * appends the command to the owning {@link RedisPipeline}, the returned {@link Response} is filled in on
+ * {@link RedisPipeline#sync()}.
+ */
+public class PipelineHashCommands {
+
+    private final HashPipelineCommands pipeline;
+
+    public PipelineHashCommands(HashPipelineCommands pipeline) {
+        this.pipeline = pipeline;
+    }
+
+    public Response<Long> set(String key, String field, String value) {
+        return pipeline.hset(key, field, value);
+    }
+
+    public Response<Long> set(String key, Map<String, String> hash) {
+        return pipeline.hset(key, hash);
+    }
+
+    public Response<String> get(String key, String field) {
+        return pipeline.hget(key, field);
+    }
+
+    public Response<Long> setnx(String key, String field, String value) {
+        return pipeline.hsetnx(key, field, value);
+    }
+
+    public Response<String> mset(String key, Map<String, String> hash) {
+        return pipeline.hmset(key, hash);
+    }
+
+    public Response<List<String>> mget(String key, String... fields) {
+        return pipeline.hmget(key, fields);
+    }
+
+    public Response<Long> incrBy(String key, String field, long value) {
+        return pipeline.hincrBy(key, field, value);
+    }
+
+    public Response<Double> incrByFloat(String key, String field, double value) {
+        return pipeline.hincrByFloat(key, field, value);
+    }
+
+    public Response<Boolean> exists(String key, String field) {
+        return pipeline.hexists(key, field);
+    }
+
+    public Response<Long> del(String key, String... field) {
+        return pipeline.hdel(key, field);
+    }
+
+    public Response<Long> len(String key) {
+        return pipeline.hlen(key);
+    }
+
+    public Response<Set<String>> keys(String key) {
+        return pipeline.hkeys(key);
+    }
+
+    public Response<List<String>> vals(String key) {
+        return pipeline.hvals(key);
+    }
+
+    public Response<Map<String, String>> getAll(String key) {
+        return pipeline.hgetAll(key);
+    }
+
+    public Response<String> randfield(String key) {
+        return pipeline.hrandfield(key);
+    }
+
+    public Response<List<String>> randfield(String key, long count) {
+        return pipeline.hrandfield(key, count);
+    }
+
+    public Response<List<Map.Entry<String, String>>> randfieldWithValues(String key, long count) {
+        return pipeline.hrandfieldWithValues(key, count);
+    }
+
+    public Response<ScanResult<Map.Entry<String, String>>> scan(String key, String cursor) {
+        return scan(key, cursor, new ScanParams());
+    }
+
+    public Response<ScanResult<Map.Entry<String, String>>> scan(String key, String cursor, ScanParams params) {
+        return pipeline.hscan(key, cursor, params);
+    }
+
+    public Response<Long> strlen(String key, String field) {
+        return pipeline.hstrlen(key, field);
+    }
+
+}
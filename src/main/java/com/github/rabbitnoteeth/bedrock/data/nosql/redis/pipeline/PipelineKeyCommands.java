@@ -0,0 +1,227 @@
+package com.github.rabbitnoteeth.bedrock.data.nosql.redis.pipeline;
+
+import redis.clients.jedis.Response;
+import redis.clients.jedis.args.ExpiryOption;
+import redis.clients.jedis.commands.KeyPipelineBinaryCommands;
+import redis.clients.jedis.commands.KeyPipelineCommands;
+import redis.clients.jedis.params.MigrateParams;
+import redis.clients.jedis.params.RestoreParams;
+import redis.clients.jedis.params.ScanParams;
+import redis.clients.jedis.params.SortingParams;
+import redis.clients.jedis.resps.ScanResult;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Queued counterpart of {@link com.github.rabbitnoteeth.bedrock.data.nosql.redis.commands.KeyCommands}. Every method only
+ * appends the command to the owning {@link RedisPipeline}, the returned {@link Response} is filled in on
+ * {@link RedisPipeline#sync()}. DUMP, PTTL and RESTORE also take raw keys, for copying keys that are not valid UTF-8.
+ */
+public class PipelineKeyCommands {
+
+    private final KeyPipelineCommands pipeline;
+    private final KeyPipelineBinaryCommands binaryPipeline;
+
+    public PipelineKeyCommands(KeyPipelineCommands pipeline, KeyPipelineBinaryCommands binaryPipeline) {
+        this.pipeline = pipeline;
+        this.binaryPipeline = binaryPipeline;
+    }
+
+    public Response<Boolean> exists(String key) {
+        return pipeline.exists(key);
+    }
+
+    public Response<Long> exists(String... keys) {
+        return pipeline.exists(keys);
+    }
+
+    public Response<Long> persist(String key) {
+        return pipeline.persist(key);
+    }
+
+    public Response<String> type(String key) {
+        return pipeline.type(key);
+    }
+
+    public Response<byte[]> dump(String key) {
+        return pipeline.dump(key);
+    }
+
+    public Response<String> restore(String key, long ttl, byte[] serializedValue) {
+        return pipeline.restore(key, ttl, serializedValue);
+    }
+
+    public Response<String> restore(String key, long ttl, byte[] serializedValue, RestoreParams params) {
+        return pipeline.restore(key, ttl, serializedValue, params);
+    }
+
+    public Response<byte[]> dump(byte[] key) {
+        return binaryPipeline.dump(key);
+    }
+
+    public Response<String> restore(byte[] key, long ttl, byte[] serializedValue, RestoreParams params) {
+        return binaryPipeline.restore(key, ttl, serializedValue, params);
+    }
+
+    public Response<Long> expire(String key, long seconds) {
+        return pipeline.expire(key, seconds);
+    }
+
+    public Response<Long> expire(String key, long seconds, ExpiryOption expiryOption) {
+        return pipeline.expire(key, seconds, expiryOption);
+    }
+
+    public Response<Long> pexpire(String key, long milliseconds) {
+        return pipeline.pexpire(key, milliseconds);
+    }
+
+    public Response<Long> pexpire(String key, long milliseconds, ExpiryOption expiryOption) {
+        return pipeline.pexpire(key, milliseconds, expiryOption);
+    }
+
+    public Response<Long> expireTime(String key) {
+        return pipeline.expireTime(key);
+    }
+
+    public Response<Long> pexpireTime(String key) {
+        return pipeline.pexpireTime(key);
+    }
+
+    public Response<Long> expireAt(String key, long unixTime) {
+        return pipeline.expireAt(key, unixTime);
+    }
+
+    public Response<Long> expireAt(String key, long unixTime, ExpiryOption expiryOption) {
+        return pipeline.expireAt(key, unixTime, expiryOption);
+    }
+
+    public Response<Long> pexpireAt(String key, long millisecondsTimestamp) {
+        return pipeline.pexpireAt(key, millisecondsTimestamp);
+    }
+
+    public Response<Long> pexpireAt(String key, long millisecondsTimestamp, ExpiryOption expiryOption) {
+        return pipeline.pexpireAt(key, millisecondsTimestamp, expiryOption);
+    }
+
+    public Response<Long> ttl(String key) {
+        return pipeline.ttl(key);
+    }
+
+    public Response<Long> pttl(String key) {
+        return pipeline.pttl(key);
+    }
+
+    public Response<Long> pttl(byte[] key) {
+        return binaryPipeline.pttl(key);
+    }
+
+    public Response<Long> touch(String key) {
+        return pipeline.touch(key);
+    }
+
+    public Response<Long> touch(String... keys) {
+        return pipeline.touch(keys);
+    }
+
+    public Response<List<String>> sort(String key) {
+        return pipeline.sort(key);
+    }
+
+    public Response<Long> sort(String key, String dstkey) {
+        return pipeline.sort(key, dstkey);
+    }
+
+    public Response<List<String>> sort(String key, SortingParams sortingParameters) {
+        return pipeline.sort(key, sortingParameters);
+    }
+
+    public Response<Long> sort(String key, SortingParams sortingParameters, String dstkey) {
+        return pipeline.sort(key, sortingParameters, dstkey);
+    }
+
+    public Response<List<String>> sortReadonly(String key, SortingParams sortingParams) {
+        return pipeline.sortReadonly(key, sortingParams);
+    }
+
+    public Response<Long> del(String key) {
+        return pipeline.del(key);
+    }
+
+    public Response<Long> del(String... keys) {
+        return pipeline.del(keys);
+    }
+
+    public Response<Long> unlink(String key) {
+        return pipeline.unlink(key);
+    }
+
+    public Response<Long> unlink(String... keys) {
+        return pipeline.unlink(keys);
+    }
+
+    public Response<Boolean> copy(String srcKey, String dstKey, boolean replace) {
+        return pipeline.copy(srcKey, dstKey, replace);
+    }
+
+    public Response<String> rename(String oldkey, String newkey) {
+        return pipeline.rename(oldkey, newkey);
+    }
+
+    public Response<Long> renamenx(String oldkey, String newkey) {
+        return pipeline.renamenx(oldkey, newkey);
+    }
+
+    public Response<Long> memoryUsage(String key) {
+        return pipeline.memoryUsage(key);
+    }
+
+    public Response<Long> memoryUsage(String key, int samples) {
+        return pipeline.memoryUsage(key, samples);
+    }
+
+    public Response<Long> objectRefcount(String key) {
+        return pipeline.objectRefcount(key);
+    }
+
+    public Response<String> objectEncoding(String key) {
+        return pipeline.objectEncoding(key);
+    }
+
+    public Response<Long> objectIdletime(String key) {
+        return pipeline.objectIdletime(key);
+    }
+
+    public Response<Long> objectFreq(String key) {
+        return pipeline.objectFreq(key);
+    }
+
+    public Response<String> migrate(String host, int port, String key, int timeout) {
+        return pipeline.migrate(host, port, key, timeout);
+    }
+
+    public Response<String> migrate(String host, int port, int timeout, MigrateParams params, String... keys) {
+        return pipeline.migrate(host, port, timeout, params, keys);
+    }
+
+    public Response<Set<String>> keys(String pattern) {
+        return pipeline.keys(pattern);
+    }
+
+    public Response<ScanResult<String>> scan(String cursor) {
+        return pipeline.scan(cursor);
+    }
+
+    public Response<ScanResult<String>> scan(String cursor, ScanParams params) {
+        return pipeline.scan(cursor, params);
+    }
+
+    public Response<ScanResult<String>> scan(String cursor, ScanParams params, String type) {
+        return pipeline.scan(cursor, params, type);
+    }
+
+    public Response<String> randomKey() {
+        return pipeline.randomKey();
+    }
+
+}
@@ -0,0 +1,113 @@
+package com.github.rabbitnoteeth.bedrock.data.nosql.redis.pipeline;
+
+import redis.clients.jedis.Response;
+import redis.clients.jedis.args.ListDirection;
+import redis.clients.jedis.args.ListPosition;
+import redis.clients.jedis.commands.ListPipelineCommands;
+import redis.clients.jedis.params.LPosParams;
+import redis.clients.jedis.util.KeyValue;
+
+import java.util.List;
+
+/**
+ * Queued counterpart of {@link com.github.rabbitnoteeth.bedrock.data.nosql.redis.commands.ListCommands}. Every method only
+ * appends the command to the owning {@link RedisPipeline}, the returned {@link Response} is filled in on
+ * {@link RedisPipeline#sync()}.
+ */
+public class PipelineListCommands {
+
+    private final ListPipelineCommands pipeline;
+
+    public PipelineListCommands(ListPipelineCommands pipeline) {
+        this.pipeline = pipeline;
+    }
+
+    public Response<Long> rpush(String key, String... strings) {
+        return pipeline.rpush(key, strings);
+    }
+
+    public Response<Long> lpush(String key, String... strings) {
+        return pipeline.lpush(key, strings);
+    }
+
+    public Response<Long> len(String key) {
+        return pipeline.llen(key);
+    }
+
+    public Response<List<String>> range(String key, long start, long stop) {
+        return pipeline.lrange(key, start, stop);
+    }
+
+    public Response<String> trim(String key, long start, long stop) {
+        return pipeline.ltrim(key, start, stop);
+    }
+
+    public Response<String> index(String key, long index) {
+        return pipeline.lindex(key, index);
+    }
+
+    public Response<String> set(String key, long index, String value) {
+        return pipeline.lset(key, index, value);
+    }
+
+    public Response<Long> rem(String key, long count, String value) {
+        return pipeline.lrem(key, count, value);
+    }
+
+    public Response<String> lpop(String key) {
+        return pipeline.lpop(key);
+    }
+
+    public Response<List<String>> lpop(String key, int count) {
+        return pipeline.lpop(key, count);
+    }
+
+    public Response<Long> pos(String key, String element) {
+        return pipeline.lpos(key, element);
+    }
+
+    public Response<Long> pos(String key, String element, LPosParams params) {
+        return pipeline.lpos(key, element, params);
+    }
+
+    public Response<List<Long>> pos(String key, String element, LPosParams params, long count) {
+        return pipeline.lpos(key, element, params, count);
+    }
+
+    public Response<String> rpop(String key) {
+        return pipeline.rpop(key);
+    }
+
+    public Response<List<String>> rpop(String key, int count) {
+        return pipeline.rpop(key, count);
+    }
+
+    public Response<Long> insert(String key, ListPosition where, String pivot, String value) {
+        return pipeline.linsert(key, where, pivot, value);
+    }
+
+    public Response<Long> lpushx(String key, String... strings) {
+        return pipeline.lpushx(key, strings);
+    }
+
+    public Response<Long> rpushx(String key, String... strings) {
+        return pipeline.rpushx(key, strings);
+    }
+
+    public Response<String> rpoplpush(String srckey, String dstkey) {
+        return pipeline.rpoplpush(srckey, dstkey);
+    }
+
+    public Response<String> move(String srcKey, String dstKey, ListDirection from, ListDirection to) {
+        return pipeline.lmove(srcKey, dstKey, from, to);
+    }
+
+    public Response<KeyValue<String, List<String>>> lmpop(ListDirection direction, String... keys) {
+        return pipeline.lmpop(direction, keys);
+    }
+
+    public Response<KeyValue<String, List<String>>> lmpop(ListDirection direction, int count, String... keys) {
+        return pipeline.lmpop(direction, count, keys);
+    }
+
+}
@@ -0,0 +1,104 @@
+package com.github.rabbitnoteeth.bedrock.data.nosql.redis.pipeline;
+
+import redis.clients.jedis.Response;
+import redis.clients.jedis.commands.SetPipelineCommands;
+import redis.clients.jedis.params.ScanParams;
+import redis.clients.jedis.resps.ScanResult;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Queued counterpart of {@link com.github.rabbitnoteeth.bedrock.data.nosql.redis.commands.SetCommands}. Every method only
+ * appends the command to the owning {@link RedisPipeline}, the returned {@link Response} is filled in on
+ * {@link RedisPipeline#sync()}.
+ */
+public class PipelineSetCommands {
+
+    private final SetPipelineCommands pipeline;
+
+    public PipelineSetCommands(SetPipelineCommands pipeline) {
+        this.pipeline = pipeline;
+    }
+
+    public Response<Long> add(String key, String... members) {
+        return pipeline.sadd(key, members);
+    }
+
+    public Response<Set<String>> members(String key) {
+        return pipeline.smembers(key);
+    }
+
+    public Response<Long> rem(String key, String... members) {
+        return pipeline.srem(key, members);
+    }
+
+    public Response<String> pop(String key) {
+        return pipeline.spop(key);
+    }
+
+    public Response<Set<String>> pop(String key, long count) {
+        return pipeline.spop(key, count);
+    }
+
+    public Response<Long> card(String key) {
+        return pipeline.scard(key);
+    }
+
+    public Response<Boolean> ismember(String key, String member) {
+        return pipeline.sismember(key, member);
+    }
+
+    public Response<List<Boolean>> mismember(String key, String... members) {
+        return pipeline.smismember(key, members);
+    }
+
+    public Response<String> randmember(String key) {
+        return pipeline.srandmember(key);
+    }
+
+    public Response<List<String>> randmember(String key, int count) {
+        return pipeline.srandmember(key, count);
+    }
+
+    public Response<ScanResult<String>> scan(String key, String cursor) {
+        return scan(key, cursor, new ScanParams());
+    }
+
+    public Response<ScanResult<String>> scan(String key, String cursor, ScanParams params) {
+        return pipeline.sscan(key, cursor, params);
+    }
+
+    public Response<Set<String>> diff(String... keys) {
+        return pipeline.sdiff(keys);
+    }
+
+    public Response<Set<String>> inter(String... keys) {
+        return pipeline.sinter(keys);
+    }
+
+    public Response<Long> interstore(String dstkey, String... keys) {
+        return pipeline.sinterstore(dstkey, keys);
+    }
+
+    public Response<Long> intercard(String... keys) {
+        return pipeline.sintercard(keys);
+    }
+
+    public Response<Long> intercard(int limit, String... keys) {
+        return pipeline.sintercard(limit, keys);
+    }
+
+    public Response<Set<String>> union(String... keys) {
+        return pipeline.sunion(keys);
+    }
+
+    public Response<Long> unionstore(String dstkey, String... keys) {
+        return pipeline.sunionstore(dstkey, keys);
+    }
+
+    public Response<Long> move(String srckey, String dstkey, String member) {
+        return pipeline.smove(srckey, dstkey, member);
+    }
+
+}
@@ -0,0 +1,125 @@
+package com.github.rabbitnoteeth.bedrock.data.nosql.redis.pipeline;
+
+import redis.clients.jedis.Response;
+import redis.clients.jedis.commands.StringPipelineCommands;
+import redis.clients.jedis.params.GetExParams;
+import redis.clients.jedis.params.LCSParams;
+import redis.clients.jedis.params.SetParams;
+import redis.clients.jedis.resps.LCSMatchResult;
+
+import java.util.List;
+
+/**
+ * Queued counterpart of {@link com.github.rabbitnoteeth.bedrock.data.nosql.redis.commands.StringCommands}. Every method only
+ * appends the command to the owning {@link RedisPipeline}, the returned {@link Response} is filled in on
+ * {@link RedisPipeline#sync()}.
+ */
+public class PipelineStringCommands {
+
+    private final StringPipelineCommands pipeline;
+
+    public PipelineStringCommands(StringPipelineCommands pipeline) {
+        this.pipeline = pipeline;
+    }
+
+    public Response<String> set(String key, String value) {
+        return pipeline.set(key, value);
+    }
+
+    public Response<String> set(String key, String value, SetParams params) {
+        return pipeline.set(key, value, params);
+    }
+
+    public Response<String> get(String key) {
+        return pipeline.get(key);
+    }
+
+    public Response<String> setGet(String key, String value) {
+        return pipeline.setGet(key, value, new SetParams());
+    }
+
+    public Response<String> setGet(String key, String value, SetParams params) {
+        return pipeline.setGet(key, value, params);
+    }
+
+    public Response<String> getDel(String key) {
+        return pipeline.getDel(key);
+    }
+
+    public Response<String> getEx(String key, GetExParams params) {
+        return pipeline.getEx(key, params);
+    }
+
+    public Response<Long> setrange(String key, long offset, String value) {
+        return pipeline.setrange(key, offset, value);
+    }
+
+    public Response<String> getrange(String key, long startOffset, long endOffset) {
+        return pipeline.getrange(key, startOffset, endOffset);
+    }
+
+    public Response<String> getSet(String key, String value) {
+        return pipeline.getSet(key, value);
+    }
+
+    public Response<Long> setnx(String key, String value) {
+        return pipeline.setnx(key, value);
+    }
+
+    public Response<String> setex(String key, long seconds, String value) {
+        return pipeline.setex(key, seconds, value);
+    }
+
+    public Response<String> psetex(String key, long milliseconds, String value) {
+        return pipeline.psetex(key, milliseconds, value);
+    }
+
+    public Response<List<String>> mget(String... keys) {
+        return pipeline.mget(keys);
+    }
+
+    public Response<String> mset(String... keysvalues) {
+        return pipeline.mset(keysvalues);
+    }
+
+    public Response<Long> msetnx(String... keysvalues) {
+        return pipeline.msetnx(keysvalues);
+    }
+
+    public Response<Long> incr(String key) {
+        return pipeline.incr(key);
+    }
+
+    public Response<Long> incrBy(String key, long increment) {
+        return pipeline.incrBy(key, increment);
+    }
+
+    public Response<Double> incrByFloat(String key, double increment) {
+        return pipeline.incrByFloat(key, increment);
+    }
+
+    public Response<Long> decr(String key) {
+        return pipeline.decr(key);
+    }
+
+    public Response<Long> decrBy(String key, long decrement) {
+        return pipeline.decrBy(key, decrement);
+    }
+
+    public Response<Long> append(String key, String value) {
+        return pipeline.append(key, value);
+    }
+
+    public Response<String> substr(String key, int start, int end) {
+        return pipeline.substr(key, start, end);
+    }
+
+    public Response<Long> strlen(String key) {
+        return pipeline.strlen(key);
+    }
+
+    public Response<LCSMatchResult> lcs(String keyA, String keyB, LCSParams params) {
+        return pipeline.lcs(keyA, keyB, params);
+    }
+
+}
@@ -0,0 +1,323 @@
+package com.github.rabbitnoteeth.bedrock.data.nosql.redis.pipeline;
+
+import redis.clients.jedis.Response;
+import redis.clients.jedis.args.SortedSetOption;
+import redis.clients.jedis.commands.SortedSetPipelineCommands;
+import redis.clients.jedis.params.ScanParams;
+import redis.clients.jedis.params.ZAddParams;
+import redis.clients.jedis.params.ZIncrByParams;
+import redis.clients.jedis.params.ZParams;
+import redis.clients.jedis.params.ZRangeParams;
+import redis.clients.jedis.resps.ScanResult;
+import redis.clients.jedis.resps.Tuple;
+import redis.clients.jedis.util.KeyValue;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Queued counterpart of {@link com.github.rabbitnoteeth.bedrock.data.nosql.redis.commands.ZSetCommands}. Every method only
+ * appends the command to the owning {@link RedisPipeline}, the returned {@link Response} is filled in on
+ * {@link RedisPipeline#sync()}.
+ */
+public class PipelineZSetCommands {
+
+    private final SortedSetPipelineCommands pipeline;
+
+    public PipelineZSetCommands(SortedSetPipelineCommands pipeline) {
+        this.pipeline = pipeline;
+    }
+
+    public Response<Long> add(String key, double score, String member) {
+        return pipeline.zadd(key, score, member);
+    }
+
+    public Response<Long> add(String key, double score, String member, ZAddParams params) {
+        return pipeline.zadd(key, score, member, params);
+    }
+
+    public Response<Long> add(String key, Map<String, Double> scoreMembers) {
+        return pipeline.zadd(key, scoreMembers);
+    }
+
+    public Response<Long> add(String key, Map<String, Double> scoreMembers, ZAddParams params) {
+        return pipeline.zadd(key, scoreMembers, params);
+    }
+
+    public Response<Double> addIncr(String key, double score, String member, ZAddParams params) {
+        return pipeline.zaddIncr(key, score, member, params);
+    }
+
+    public Response<Long> rem(String key, String... members) {
+        return pipeline.zrem(key, members);
+    }
+
+    public Response<Double> incrby(String key, double increment, String member) {
+        return pipeline.zincrby(key, increment, member);
+    }
+
+    public Response<Double> incrby(String key, double increment, String member, ZIncrByParams params) {
+        return pipeline.zincrby(key, increment, member, params);
+    }
+
+    public Response<Long> rank(String key, String member) {
+        return pipeline.zrank(key, member);
+    }
+
+    public Response<Long> revrank(String key, String member) {
+        return pipeline.zrevrank(key, member);
+    }
+
+    public Response<KeyValue<Long, Double>> rankWithScore(String key, String member) {
+        return pipeline.zrankWithScore(key, member);
+    }
+
+    public Response<KeyValue<Long, Double>> revrankWithScore(String key, String member) {
+        return pipeline.zrevrankWithScore(key, member);
+    }
+
+    public Response<List<String>> range(String key, long start, long stop) {
+        return pipeline.zrange(key, start, stop);
+    }
+
+    public Response<List<String>> revrange(String key, long start, long stop) {
+        return pipeline.zrevrange(key, start, stop);
+    }
+
+    public Response<List<Tuple>> rangeWithScores(String key, long start, long stop) {
+        return pipeline.zrangeWithScores(key, start, stop);
+    }
+
+    public Response<List<Tuple>> revrangeWithScores(String key, long start, long stop) {
+        return pipeline.zrevrangeWithScores(key, start, stop);
+    }
+
+    public Response<List<String>> range(String key, ZRangeParams zRangeParams) {
+        return pipeline.zrange(key, zRangeParams);
+    }
+
+    public Response<List<Tuple>> rangeWithScores(String key, ZRangeParams zRangeParams) {
+        return pipeline.zrangeWithScores(key, zRangeParams);
+    }
+
+    public Response<Long> rangestore(String dest, String src, ZRangeParams zRangeParams) {
+        return pipeline.zrangestore(dest, src, zRangeParams);
+    }
+
+    public Response<String> randmember(String key) {
+        return pipeline.zrandmember(key);
+    }
+
+    public Response<List<String>> randmember(String key, long count) {
+        return pipeline.zrandmember(key, count);
+    }
+
+    public Response<List<Tuple>> randmemberWithScores(String key, long count) {
+        return pipeline.zrandmemberWithScores(key, count);
+    }
+
+    public Response<Long> card(String key) {
+        return pipeline.zcard(key);
+    }
+
+    public Response<Double> score(String key, String member) {
+        return pipeline.zscore(key, member);
+    }
+
+    public Response<List<Double>> mscore(String key, String... members) {
+        return pipeline.zmscore(key, members);
+    }
+
+    public Response<Tuple> popmax(String key) {
+        return pipeline.zpopmax(key);
+    }
+
+    public Response<List<Tuple>> popmax(String key, int count) {
+        return pipeline.zpopmax(key, count);
+    }
+
+    public Response<Tuple> popmin(String key) {
+        return pipeline.zpopmin(key);
+    }
+
+    public Response<List<Tuple>> popmin(String key, int count) {
+        return pipeline.zpopmin(key, count);
+    }
+
+    public Response<Long> count(String key, double min, double max) {
+        return pipeline.zcount(key, min, max);
+    }
+
+    public Response<Long> count(String key, String min, String max) {
+        return pipeline.zcount(key, min, max);
+    }
+
+    public Response<List<String>> rangeByScore(String key, double min, double max) {
+        return pipeline.zrangeByScore(key, min, max);
+    }
+
+    public Response<List<String>> rangeByScore(String key, String min, String max) {
+        return pipeline.zrangeByScore(key, min, max);
+    }
+
+    public Response<List<String>> revrangeByScore(String key, double max, double min) {
+        return pipeline.zrevrangeByScore(key, max, min);
+    }
+
+    public Response<List<String>> rangeByScore(String key, double min, double max, int offset, int count) {
+        return pipeline.zrangeByScore(key, min, max, offset, count);
+    }
+
+    public Response<List<String>> revrangeByScore(String key, String max, String min) {
+        return pipeline.zrevrangeByScore(key, max, min);
+    }
+
+    public Response<List<String>> rangeByScore(String key, String min, String max, int offset, int count) {
+        return pipeline.zrangeByScore(key, min, max, offset, count);
+    }
+
+    public Response<List<String>> revrangeByScore(String key, double max, double min, int offset, int count) {
+        return pipeline.zrevrangeByScore(key, max, min, offset, count);
+    }
+
+    public Response<List<Tuple>> rangeByScoreWithScores(String key, double min, double max) {
+        return pipeline.zrangeByScoreWithScores(key, min, max);
+    }
+
+    public Response<List<Tuple>> revrangeByScoreWithScores(String key, double max, double min) {
+        return pipeline.zrevrangeByScoreWithScores(key, max, min);
+    }
+
+    public Response<List<Tuple>> rangeByScoreWithScores(String key, double min, double max, int offset, int count) {
+        return pipeline.zrangeByScoreWithScores(key, min, max, offset, count);
+    }
+
+    public Response<List<String>> revrangeByScore(String key, String max, String min, int offset, int count) {
+        return pipeline.zrevrangeByScore(key, max, min, offset, count);
+    }
+
+    public Response<List<Tuple>> rangeByScoreWithScores(String key, String min, String max) {
+        return pipeline.zrangeByScoreWithScores(key, min, max);
+    }
+
+    public Response<List<Tuple>> revrangeByScoreWithScores(String key, String max, String min) {
+        return pipeline.zrevrangeByScoreWithScores(key, max, min);
+    }
+
+    public Response<List<Tuple>> rangeByScoreWithScores(String key, String min, String max, int offset, int count) {
+        return pipeline.zrangeByScoreWithScores(key, min, max, offset, count);
+    }
+
+    public Response<List<Tuple>> revrangeByScoreWithScores(String key, double max, double min, int offset, int count) {
+        return pipeline.zrevrangeByScoreWithScores(key, max, min, offset, count);
+    }
+
+    public Response<List<Tuple>> revrangeByScoreWithScores(String key, String max, String min, int offset, int count) {
+        return pipeline.zrevrangeByScoreWithScores(key, max, min, offset, count);
+    }
+
+    public Response<Long> remrangeByRank(String key, long start, long stop) {
+        return pipeline.zremrangeByRank(key, start, stop);
+    }
+
+    public Response<Long> remrangeByScore(String key, double min, double max) {
+        return pipeline.zremrangeByScore(key, min, max);
+    }
+
+    public Response<Long> remrangeByScore(String key, String min, String max) {
+        return pipeline.zremrangeByScore(key, min, max);
+    }
+
+    public Response<Long> lexcount(String key, String min, String max) {
+        return pipeline.zlexcount(key, min, max);
+    }
+
+    public Response<List<String>> rangeByLex(String key, String min, String max) {
+        return pipeline.zrangeByLex(key, min, max);
+    }
+
+    public Response<List<String>> rangeByLex(String key, String min, String max, int offset, int count) {
+        return pipeline.zrangeByLex(key, min, max, offset, count);
+    }
+
+    public Response<List<String>> revrangeByLex(String key, String max, String min) {
+        return pipeline.zrevrangeByLex(key, max, min);
+    }
+
+    public Response<List<String>> revrangeByLex(String key, String max, String min, int offset, int count) {
+        return pipeline.zrevrangeByLex(key, max, min, offset, count);
+    }
+
+    public Response<Long> remrangeByLex(String key, String min, String max) {
+        return pipeline.zremrangeByLex(key, min, max);
+    }
+
+    public Response<ScanResult<Tuple>> scan(String key, String cursor) {
+        return scan(key, cursor, new ScanParams());
+    }
+
+    public Response<ScanResult<Tuple>> scan(String key, String cursor, ScanParams params) {
+        return pipeline.zscan(key, cursor, params);
+    }
+
+    public Response<List<String>> diff(String... keys) {
+        return pipeline.zdiff(keys);
+    }
+
+    public Response<List<Tuple>> diffWithScores(String... keys) {
+        return pipeline.zdiffWithScores(keys);
+    }
+
+    public Response<Long> diffstore(String dstkey, String... keys) {
+        return pipeline.zdiffstore(dstkey, keys);
+    }
+
+    public Response<List<String>> inter(ZParams params, String... keys) {
+        return pipeline.zinter(params, keys);
+    }
+
+    public Response<List<Tuple>> interWithScores(ZParams params, String... keys) {
+        return pipeline.zinterWithScores(params, keys);
+    }
+
+    public Response<Long> interstore(String dstkey, String... sets) {
+        return pipeline.zinterstore(dstkey, sets);
+    }
+
+    public Response<Long> interstore(String dstkey, ZParams params, String... sets) {
+        return pipeline.zinterstore(dstkey, params, sets);
+    }
+
+    public Response<Long> intercard(String... keys) {
+        return pipeline.zintercard(keys);
+    }
+
+    public Response<Long> intercard(long limit, String... keys) {
+        return pipeline.zintercard(limit, keys);
+    }
+
+    public Response<List<String>> union(ZParams params, String... keys) {
+        return pipeline.zunion(params, keys);
+    }
+
+    public Response<List<Tuple>> unionWithScores(ZParams params, String... keys) {
+        return pipeline.zunionWithScores(params, keys);
+    }
+
+    public Response<Long> unionstore(String dstkey, String... sets) {
+        return pipeline.zunionstore(dstkey, sets);
+    }
+
+    public Response<Long> unionstore(String dstkey, ZParams params, String... sets) {
+        return pipeline.zunionstore(dstkey, params, sets);
+    }
+
+    public Response<KeyValue<String, List<Tuple>>> mpop(SortedSetOption option, String... keys) {
+        return pipeline.zmpop(option, keys);
+    }
+
+    public Response<KeyValue<String, List<Tuple>>> mpop(SortedSetOption option, int count, String... keys) {
+        return pipeline.zmpop(option, count, keys);
+    }
+
+}
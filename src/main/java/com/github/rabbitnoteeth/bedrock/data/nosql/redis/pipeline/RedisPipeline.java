@@ -0,0 +1,75 @@
+package com.github.rabbitnoteeth.bedrock.data.nosql.redis.pipeline;
+
+import redis.clients.jedis.AbstractPipeline;
+
+import java.io.Closeable;
+
+/**
+ * Queues commands on a single pooled connection and writes them in one flush. Responses returned by the
+ * command groups can only be read after {@link #sync()} or {@link #close()}. {@link #sync()} keeps the
+ * connection so that the pipeline can be reused, only {@link #close()} returns it to the pool, so the
+ * pipeline should always be opened in a try-with-resources block. In cluster mode the commands are queued
+ * per node and every node is flushed in parallel. Values are queued and returned as stored, compression configured on
+ * the client is bypassed.
+ */
+public final class RedisPipeline implements Closeable {
+
+    private final AbstractPipeline pipeline;
+    private final PipelineKeyCommands keyCommands;
+    private final PipelineStringCommands stringCommands;
+    private final PipelineListCommands listCommands;
+    private final PipelineHashCommands hashCommands;
+    private final PipelineSetCommands setCommands;
+    private final PipelineZSetCommands zSetCommands;
+
+    public RedisPipeline(AbstractPipeline pipeline) {
+        this.pipeline = pipeline;
+        this.keyCommands = new PipelineKeyCommands(pipeline, pipeline);
+        this.stringCommands = new PipelineStringCommands(pipeline);
+        this.listCommands = new PipelineListCommands(pipeline);
+        this.hashCommands = new PipelineHashCommands(pipeline);
+        this.setCommands = new PipelineSetCommands(pipeline);
+        this.zSetCommands = new PipelineZSetCommands(pipeline);
+    }
+
+    public PipelineKeyCommands key() {
+        return this.keyCommands;
+    }
+
+    public PipelineStringCommands string() {
+        return this.stringCommands;
+    }
+
+    public PipelineListCommands list() {
+        return this.listCommands;
+    }
+
+    public PipelineHashCommands hash() {
+        return this.hashCommands;
+    }
+
+    public PipelineSetCommands set() {
+        return this.setCommands;
+    }
+
+    public PipelineZSetCommands zset() {
+        return this.zSetCommands;
+    }
+
+    /**
+     * Flush all queued commands and read their replies. The connection is kept, the pipeline can be reused
+     * afterwards and still has to be closed.
+     */
+    public void sync() {
+        pipeline.sync();
+    }
+
+    /**
+     * Sync the queued commands and release the connection.
+     */
+    @Override
+    public void close() {
+        pipeline.close();
+    }
+
+}
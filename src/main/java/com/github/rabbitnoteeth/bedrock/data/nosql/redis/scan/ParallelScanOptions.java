@@ -0,0 +1,153 @@
+package com.github.rabbitnoteeth.bedrock.data.nosql.redis.scan;
+
+import com.github.rabbitnoteeth.bedrock.data.nosql.redis.exception.RedisClientException;
+
+import java.util.function.Consumer;
+
+public final class ParallelScanOptions {
+
+    private final String pattern;
+    private final String type;
+    private final int count;
+    private final int scansPerNode;
+    private final int workers;
+    private final int queueCapacity;
+    private final long reportIntervalMillis;
+    private final Consumer<ScanProgress> progressListener;
+
+    private ParallelScanOptions(Builder builder) {
+        this.pattern = builder.pattern;
+        this.type = builder.type;
+        this.count = builder.count;
+        this.scansPerNode = builder.scansPerNode;
+        this.workers = builder.workers;
+        this.queueCapacity = builder.queueCapacity;
+        this.reportIntervalMillis = builder.reportIntervalMillis;
+        this.progressListener = builder.progressListener;
+    }
+
+    public String getPattern() {
+        return pattern;
+    }
+
+    public String getType() {
+        return type;
+    }
+
+    public int getCount() {
+        return count;
+    }
+
+    public int getScansPerNode() {
+        return scansPerNode;
+    }
+
+    public int getWorkers() {
+        return workers;
+    }
+
+    public int getQueueCapacity() {
+        return queueCapacity;
+    }
+
+    public long getReportIntervalMillis() {
+        return reportIntervalMillis;
+    }
+
+    public Consumer<ScanProgress> getProgressListener() {
+        return progressListener;
+    }
+
+    public static class Builder {
+        private static final int DEFAULT_COUNT = 1000;
+        private static final int DEFAULT_WORKERS = 16;
+        private static final int DEFAULT_QUEUE_CAPACITY = 64;
+        private static final long DEFAULT_REPORT_INTERVAL_MILLIS = 10000;
+
+        private String pattern;
+        private String type;
+        private int count = DEFAULT_COUNT;
+        private int scansPerNode = 1;
+        private int workers = DEFAULT_WORKERS;
+        private int queueCapacity = DEFAULT_QUEUE_CAPACITY;
+        private long reportIntervalMillis = DEFAULT_REPORT_INTERVAL_MILLIS;
+        private Consumer<ScanProgress> progressListener;
+
+        /**
+         * Glob-style pattern of the keys, null for every key.
+         */
+        public Builder setPattern(String pattern) {
+            this.pattern = pattern;
+            return this;
+        }
+
+        /**
+         * Type of the keys, null for every type.
+         */
+        public Builder setType(String type) {
+            this.type = type;
+            return this;
+        }
+
+        /**
+         * COUNT hint of every SCAN call.
+         */
+        public Builder setCount(int count) {
+            this.count = count;
+            return this;
+        }
+
+        /**
+         * Independent cursors per node, a power of two. Each cursor walks its own share of the hash table. Cluster
+         * nodes encode the slot in the cursor, so in cluster mode it must stay 1 and every primary is walked by one
+         * cursor.
+         */
+        public Builder setScansPerNode(int scansPerNode) {
+            this.scansPerNode = scansPerNode;
+            return this;
+        }
+
+        /**
+         * Virtual threads running the key handler.
+         */
+        public Builder setWorkers(int workers) {
+            this.workers = workers;
+            return this;
+        }
+
+        /**
+         * Pages waiting for a worker before the cursors pause.
+         */
+        public Builder setQueueCapacity(int queueCapacity) {
+            this.queueCapacity = queueCapacity;
+            return this;
+        }
+
+        public Builder setReportIntervalMillis(long reportIntervalMillis) {
+            this.reportIntervalMillis = reportIntervalMillis;
+            return this;
+        }
+
+        /**
+         * Receives the progress every report interval and once at the end, by default it is logged.
+         */
+        public Builder setProgressListener(Consumer<ScanProgress> progressListener) {
+            this.progressListener = progressListener;
+            return this;
+        }
+
+        public ParallelScanOptions build() throws RedisClientException {
+            try {
+                if (count <= 0 || workers <= 0 || queueCapacity <= 0 || reportIntervalMillis <= 0) {
+                    throw new IllegalArgumentException("count, workers, queue capacity and report interval must be positive");
+                }
+                if (scansPerNode <= 0 || Integer.bitCount(scansPerNode) != 1) {
+                    throw new IllegalArgumentException("scans per node must be a power of two");
+                }
+                return new ParallelScanOptions(this);
+            } catch (Throwable e) {
+                throw new RedisClientException(e);
+            }
+        }
+    }
+}
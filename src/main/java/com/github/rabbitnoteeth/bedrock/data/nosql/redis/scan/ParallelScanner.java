@@ -0,0 +1,171 @@
+package com.github.rabbitnoteeth.bedrock.data.nosql.redis.scan;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import redis.clients.jedis.exceptions.JedisException;
+import redis.clients.jedis.params.ScanParams;
+import redis.clients.jedis.resps.ScanResult;
+
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+/**
+ * Walks a keyspace with several SCAN cursors at once. Every cursor runs on its own virtual thread and feeds its pages
+ * into a bounded queue drained by the workers, a full queue pauses the cursors.
+ * <p>
+ * A node can be split between several cursors: SCAN visits the buckets of the hash table in the order of their
+ * reversed index, so the reversed cursor only grows. The reversed cursor space is cut into equal ranges, each
+ * cursor starts at the beginning of its range and stops once it passes the end. Like SCAN itself keys may be
+ * handled more than once, notably while the table is resized. This only holds for standalone nodes, cluster nodes
+ * encode the slot in the cursor and must be walked by a single cursor.
+ *
+ * @param <K> type of the keys, {@code String} or {@code byte[]}
+ */
+public final class ParallelScanner<K> {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ParallelScanner.class);
+
+    // empty pages are never queued, so the empty list marks the end for the workers
+    private final List<K> end = List.of();
+    private final String id;
+    private final List<ScanSource<K>> sources;
+    private final ParallelScanOptions options;
+
+    /**
+     * @param sources one source per node
+     */
+    public ParallelScanner(String id, List<ScanSource<K>> sources, ParallelScanOptions options) {
+        this.id = id;
+        this.sources = sources;
+        this.options = options;
+    }
+
+    /**
+     * Run the scan, blocks until every key has been handled. The handler is called concurrently by the workers.
+     *
+     * @return the final progress
+     */
+    public ScanProgress run(Consumer<K> handler) {
+        return runPages(page -> {
+            for (K key : page) {
+                handler.accept(key);
+            }
+        });
+    }
+
+    /**
+     * Run the scan handing whole pages to the handler, for handlers batching their own commands.
+     *
+     * @see #run(Consumer)
+     */
+    public ScanProgress runPages(Consumer<List<K>> handler) {
+        ScanParams params = new ScanParams().count(options.getCount());
+        if (options.getPattern() != null) {
+            params.match(options.getPattern());
+        }
+        int split = options.getScansPerNode();
+        int cursors = sources.size() * split;
+        BlockingQueue<List<K>> queue = new ArrayBlockingQueue<>(options.getQueueCapacity());
+        LongAdder keys = new LongAdder();
+        LongAdder pages = new LongAdder();
+        AtomicInteger runningCursors = new AtomicInteger(cursors);
+        CountDownLatch workersDone = new CountDownLatch(options.getWorkers());
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        long start = System.nanoTime();
+        LOGGER.info("Start parallel scan of RedisClient with id [{}] with {} cursors", id, cursors);
+        ExecutorService executor = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name(id + "-scan-", 0).factory());
+        try {
+            for (ScanSource<K> source : sources) {
+                for (int range = 0; range < split; range++) {
+                    int from = range;
+                    executor.execute(() -> {
+                        try {
+                            walk(source, params, from, split, queue, pages);
+                            if (runningCursors.decrementAndGet() == 0) {
+                                for (int i = 0; i < options.getWorkers(); i++) {
+                                    queue.put(end);
+                                }
+                            }
+                        } catch (Throwable e) {
+                            fail(failure, e, executor);
+                        }
+                    });
+                }
+            }
+            for (int i = 0; i < options.getWorkers(); i++) {
+                executor.execute(() -> {
+                    try {
+                        for (List<K> page = queue.take(); page != end; page = queue.take()) {
+                            handler.accept(page);
+                            keys.add(page.size());
+                        }
+                    } catch (Throwable e) {
+                        fail(failure, e, executor);
+                    } finally {
+                        workersDone.countDown();
+                    }
+                });
+            }
+            while (!workersDone.await(options.getReportIntervalMillis(), TimeUnit.MILLISECONDS)) {
+                report(new ScanProgress(keys.sum(), pages.sum(), cursors - runningCursors.get(), cursors, System.nanoTime() - start));
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            fail(failure, e, executor);
+        } finally {
+            executor.shutdownNow();
+            executor.close();
+        }
+        Throwable e = failure.get();
+        if (e instanceof RuntimeException runtime) {
+            throw runtime;
+        }
+        if (e != null) {
+            throw new JedisException("parallel scan failed", e);
+        }
+        ScanProgress progress = new ScanProgress(keys.sum(), pages.sum(), cursors, cursors, System.nanoTime() - start);
+        report(progress);
+        return progress;
+    }
+
+    private void walk(ScanSource<K> source, ScanParams params, int range, int split, BlockingQueue<List<K>> queue,
+                      LongAdder pages) throws InterruptedException {
+        int shift = Long.numberOfTrailingZeros(split);
+        // bounds of the range in the reversed cursor space, the last range ends with the scan
+        long from = split == 1 ? 0 : (long) range << (64 - shift);
+        long to = range == split - 1 ? 0 : (long) (range + 1) << (64 - shift);
+        long cursor = Long.reverse(from);
+        do {
+            ScanResult<K> result = source.scan(Long.toUnsignedString(cursor), params, options.getType());
+            pages.increment();
+            if (!result.getResult().isEmpty()) {
+                queue.put(result.getResult());
+            }
+            cursor = Long.parseUnsignedLong(result.getCursor());
+        } while (cursor != 0 && (to == 0 || Long.compareUnsigned(Long.reverse(cursor), to) < 0));
+    }
+
+    private void fail(AtomicReference<Throwable> failure, Throwable e, ExecutorService executor) {
+        if (failure.compareAndSet(null, e)) {
+            LOGGER.warn("Parallel scan of RedisClient with id [{}] failed", id, e);
+            executor.shutdownNow();
+        }
+    }
+
+    private void report(ScanProgress progress) {
+        if (options.getProgressListener() != null) {
+            options.getProgressListener().accept(progress);
+        } else {
+            LOGGER.info("Parallel scan of RedisClient with id [{}]: {}", id, progress);
+        }
+    }
+}
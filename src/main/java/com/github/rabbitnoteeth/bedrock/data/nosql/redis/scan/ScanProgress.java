@@ -0,0 +1,62 @@
+package com.github.rabbitnoteeth.bedrock.data.nosql.redis.scan;
+
+/**
+ * Snapshot of a running or finished parallel scan.
+ */
+public final class ScanProgress {
+
+    private final long keys;
+    private final long pages;
+    private final int completedCursors;
+    private final int cursors;
+    private final long elapsedNanos;
+
+    ScanProgress(long keys, long pages, int completedCursors, int cursors, long elapsedNanos) {
+        this.keys = keys;
+        this.pages = pages;
+        this.completedCursors = completedCursors;
+        this.cursors = cursors;
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    /**
+     * Keys handled by the workers.
+     */
+    public long getKeys() {
+        return keys;
+    }
+
+    /**
+     * Pages returned by the server.
+     */
+    public long getPages() {
+        return pages;
+    }
+
+    public int getCompletedCursors() {
+        return completedCursors;
+    }
+
+    public int getCursors() {
+        return cursors;
+    }
+
+    public long getElapsedMillis() {
+        return elapsedNanos / 1_000_000;
+    }
+
+    public double getKeysPerSecond() {
+        return elapsedNanos == 0 ? 0 : keys * 1e9 / elapsedNanos;
+    }
+
+    @Override
+    public String toString() {
+        return "ScanProgress{" +
+            "keys=" + keys +
+            ", pages=" + pages +
+            ", cursors=" + completedCursors + "/" + cursors +
+            ", elapsedMillis=" + getElapsedMillis() +
+            ", keysPerSecond=" + String.format("%.1f", getKeysPerSecond()) +
+            '}';
+    }
+}
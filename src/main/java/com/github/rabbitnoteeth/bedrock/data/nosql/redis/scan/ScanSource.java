@@ -0,0 +1,18 @@
+package com.github.rabbitnoteeth.bedrock.data.nosql.redis.scan;
+
+import redis.clients.jedis.params.ScanParams;
+import redis.clients.jedis.resps.ScanResult;
+
+/**
+ * Runs SCAN against one node.
+ *
+ * @param <K> type of the keys, {@code String} or {@code byte[]}
+ */
+@FunctionalInterface
+public interface ScanSource<K> {
+
+    /**
+     * @param type type of the keys, or {@code null} for every type
+     */
+    ScanResult<K> scan(String cursor, ScanParams params, String type);
+}
@@ -0,0 +1,22 @@
+package com.github.rabbitnoteeth.bedrock.data.nosql.redis.script;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+/**
+ * A Lua script and its SHA1 digest, computed locally so that the first call can already go through EVALSHA.
+ */
+public record RedisScript(String name, String source, String sha1) {
+
+    public static RedisScript of(String name, String source) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-1").digest(source.getBytes(StandardCharsets.UTF_8));
+            return new RedisScript(name, source, HexFormat.of().formatHex(digest));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+}
@@ -0,0 +1,207 @@
+package com.github.rabbitnoteeth.bedrock.data.nosql.redis.script;
+
+import com.github.rabbitnoteeth.bedrock.data.nosql.redis.cache.NearCache;
+import redis.clients.jedis.UnifiedJedis;
+import redis.clients.jedis.exceptions.JedisNoScriptException;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Registry of Lua scripts called through EVALSHA. A script missing from the server script cache (after a restart, a
+ * failover or SCRIPT FLUSH) is sent once with EVAL, which caches it again, so callers never see NOSCRIPT.
+ * <p>
+ * The built-in helpers turn read-modify-write sequences into a single round trip. They read and write raw string
+ * values and must not be used on values written with compression. In cluster mode all the keys of one call must hash
+ * to the same slot, use hash tags.
+ * <p>
+ * When a {@link NearCache} is configured the keys passed to {@link #eval} and to the writing helpers are dropped from
+ * it, the script may have modified them.
+ */
+public class ScriptCommands {
+
+    private static final RedisScript COMPARE_AND_SET = RedisScript.of("bedrock:compare-and-set", """
+        local current = redis.call('GET', KEYS[1])
+        if ARGV[1] == '0' then
+          if current then return 0 end
+        elseif current ~= ARGV[2] then
+          return 0
+        end
+        redis.call('SET', KEYS[1], ARGV[3], 'KEEPTTL')
+        return 1
+        """);
+
+    private static final RedisScript HASH_COMPARE_AND_SET = RedisScript.of("bedrock:hash-compare-and-set", """
+        local current = redis.call('HGET', KEYS[1], ARGV[1])
+        if ARGV[2] == '0' then
+          if current then return 0 end
+        elseif current ~= ARGV[3] then
+          return 0
+        end
+        redis.call('HSET', KEYS[1], ARGV[1], ARGV[4])
+        return 1
+        """);
+
+    private static final RedisScript GET_AND_EXPIRE = RedisScript.of("bedrock:get-and-expire", """
+        local result = {}
+        for i, key in ipairs(KEYS) do
+          local value = redis.call('GET', key)
+          if value then redis.call('EXPIRE', key, ARGV[1]) end
+          result[i] = value
+        end
+        return result
+        """);
+
+    private static final RedisScript PUSH_AND_TRIM = RedisScript.of("bedrock:push-and-trim", """
+        for i = 2, #ARGV, 1000 do
+          redis.call('RPUSH', KEYS[1], unpack(ARGV, i, math.min(i + 999, #ARGV)))
+        end
+        redis.call('LTRIM', KEYS[1], -tonumber(ARGV[1]), -1)
+        return redis.call('LLEN', KEYS[1])
+        """);
+
+    private final UnifiedJedis jedis;
+    private final NearCache nearCache;
+    private final Map<String, RedisScript> scripts = new ConcurrentHashMap<>();
+    private final LongAdder reloads = new LongAdder();
+
+    public ScriptCommands(UnifiedJedis jedis, NearCache nearCache) {
+        this.jedis = jedis;
+        this.nearCache = nearCache;
+        for (RedisScript script : List.of(COMPARE_AND_SET, HASH_COMPARE_AND_SET, GET_AND_EXPIRE, PUSH_AND_TRIM)) {
+            scripts.put(script.name(), script);
+        }
+    }
+
+    /**
+     * Register a script under a name, registering the same source again returns the existing script.
+     *
+     * @throws IllegalArgumentException when another source is already registered under the name
+     */
+    public RedisScript register(String name, String source) {
+        RedisScript script = scripts.computeIfAbsent(name, n -> RedisScript.of(n, source));
+        if (!script.source().equals(source)) {
+            throw new IllegalArgumentException("script [" + name + "] is already registered with another source");
+        }
+        return script;
+    }
+
+    /**
+     * @return the script registered under the name, null if none
+     */
+    public RedisScript get(String name) {
+        return scripts.get(name);
+    }
+
+    public Collection<RedisScript> scripts() {
+        return Collections.unmodifiableCollection(scripts.values());
+    }
+
+    /**
+     * Run the script registered under the name.
+     *
+     * @throws IllegalArgumentException when no script is registered under the name
+     */
+    public Object eval(String name, List<String> keys, List<String> args) {
+        RedisScript script = scripts.get(name);
+        if (script == null) {
+            throw new IllegalArgumentException("no script registered as [" + name + "]");
+        }
+        return eval(script, keys, args);
+    }
+
+    public Object eval(RedisScript script, List<String> keys, List<String> args) {
+        Object reply = run(script, keys, args);
+        invalidate(keys);
+        return reply;
+    }
+
+    /**
+     * Set the string value if the current value equals the expected one, the TTL of the key is kept.
+     *
+     * @param expected the expected value, null to only set a missing key
+     * @return whether the value was set
+     */
+    public boolean compareAndSet(String key, String expected, String value) {
+        Object reply = run(COMPARE_AND_SET, List.of(key), List.of(expected == null ? "0" : "1", expected == null ? "" : expected, value));
+        invalidate(key);
+        return Long.valueOf(1).equals(reply);
+    }
+
+    /**
+     * Set the hash field if its current value equals the expected one.
+     *
+     * @param expected the expected value, null to only set a missing field
+     * @return whether the field was set
+     */
+    public boolean hashCompareAndSet(String key, String field, String expected, String value) {
+        Object reply = run(HASH_COMPARE_AND_SET, List.of(key), List.of(field, expected == null ? "0" : "1", expected == null ? "" : expected, value));
+        invalidate(key);
+        return Long.valueOf(1).equals(reply);
+    }
+
+    /**
+     * Get the values of the keys and reset the expiration of the existing ones.
+     *
+     * @return the values in the order of the keys, null for the missing keys
+     */
+    @SuppressWarnings("unchecked")
+    public List<String> getAndExpire(long seconds, String... keys) {
+        if (keys.length == 0) {
+            return List.of();
+        }
+        return (List<String>) run(GET_AND_EXPIRE, Arrays.asList(keys), List.of(String.valueOf(seconds)));
+    }
+
+    /**
+     * Append the values to the tail of the list and trim it to its last maxLength elements.
+     *
+     * @return the length of the list after the trim
+     */
+    public long pushAndTrim(String key, long maxLength, String... values) {
+        if (maxLength <= 0) {
+            throw new IllegalArgumentException("max length must be positive");
+        }
+        List<String> args = new ArrayList<>(values.length + 1);
+        args.add(String.valueOf(maxLength));
+        Collections.addAll(args, values);
+        Object reply = run(PUSH_AND_TRIM, List.of(key), args);
+        invalidate(key);
+        return (Long) reply;
+    }
+
+    /**
+     * @return how many times a script had to be sent again with EVAL after a NOSCRIPT reply
+     */
+    public long reloads() {
+        return reloads.sum();
+    }
+
+    private Object run(RedisScript script, List<String> keys, List<String> args) {
+        try {
+            return jedis.evalsha(script.sha1(), keys, args);
+        } catch (JedisNoScriptException e) {
+            reloads.increment();
+            return jedis.eval(script.source(), keys, args);
+        }
+    }
+
+    private void invalidate(List<String> keys) {
+        if (nearCache != null) {
+            keys.forEach(nearCache::invalidate);
+        }
+    }
+
+    private void invalidate(String key) {
+        if (nearCache != null) {
+            nearCache.invalidate(key);
+        }
+    }
+
+}
@@ -0,0 +1,129 @@
+package com.github.rabbitnoteeth.bedrock.data.nosql.redis.sharding;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Consistent hash ring: every shard is placed at {@code virtualNodes} points, a key belongs to the shard owning the
+ * first point at or after its hash. Adding or removing one of N shards therefore only moves about 1/N of the keys.
+ * When a key contains a non empty hash tag {@code {...}} only the tag is hashed, so keys sharing a tag live together.
+ */
+public final class ConsistentHashRing {
+
+    private final long[] points;
+    private final int[] owners;
+
+    /**
+     * @param shardNames stable names of the shards, a shard keeps its keys as long as it keeps its name
+     */
+    public ConsistentHashRing(List<String> shardNames, int virtualNodes) {
+        int size = shardNames.size() * virtualNodes;
+        long[] hashes = new long[size];
+        int[] shards = new int[size];
+        for (int shard = 0, i = 0; shard < shardNames.size(); shard++) {
+            for (int v = 0; v < virtualNodes; v++, i++) {
+                hashes[i] = hash(bytes(shardNames.get(shard) + "#" + v));
+                shards[i] = shard;
+            }
+        }
+        // sort the points and their owners together
+        Integer[] order = new Integer[size];
+        for (int i = 0; i < size; i++) {
+            order[i] = i;
+        }
+        Arrays.sort(order, (a, b) -> Long.compare(hashes[a], hashes[b]));
+        this.points = new long[size];
+        this.owners = new int[size];
+        for (int i = 0; i < size; i++) {
+            points[i] = hashes[order[i]];
+            owners[i] = shards[order[i]];
+        }
+    }
+
+    public int shardOf(String key) {
+        return shardOf(bytes(key));
+    }
+
+    public int shardOf(byte[] key) {
+        int index = Arrays.binarySearch(points, hash(key, tagStart(key), tagEnd(key)));
+        if (index < 0) {
+            index = -index - 1;
+        }
+        return owners[index == points.length ? 0 : index];
+    }
+
+    private static int tagStart(byte[] key) {
+        int open = indexOf(key, (byte) '{', 0);
+        if (open < 0) {
+            return 0;
+        }
+        int close = indexOf(key, (byte) '}', open + 1);
+        return close > open + 1 ? open + 1 : 0;
+    }
+
+    private static int tagEnd(byte[] key) {
+        int open = indexOf(key, (byte) '{', 0);
+        if (open < 0) {
+            return key.length;
+        }
+        int close = indexOf(key, (byte) '}', open + 1);
+        return close > open + 1 ? close : key.length;
+    }
+
+    private static int indexOf(byte[] bytes, byte value, int from) {
+        for (int i = from; i < bytes.length; i++) {
+            if (bytes[i] == value) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static long hash(byte[] data) {
+        return hash(data, 0, data.length);
+    }
+
+    /**
+     * MurmurHash64A.
+     */
+    private static long hash(byte[] data, int from, int to) {
+        final long m = 0xc6a4a7935bd1e995L;
+        final int r = 47;
+        int length = to - from;
+        long h = 0x1234ABCDL ^ (length * m);
+        int blocks = length / 8;
+        for (int i = 0; i < blocks; i++) {
+            int offset = from + i * 8;
+            long k = (data[offset] & 0xFFL)
+                | (data[offset + 1] & 0xFFL) << 8
+                | (data[offset + 2] & 0xFFL) << 16
+                | (data[offset + 3] & 0xFFL) << 24
+                | (data[offset + 4] & 0xFFL) << 32
+                | (data[offset + 5] & 0xFFL) << 40
+                | (data[offset + 6] & 0xFFL) << 48
+                | (data[offset + 7] & 0xFFL) << 56;
+            k *= m;
+            k ^= k >>> r;
+            k *= m;
+            h ^= k;
+            h *= m;
+        }
+        int tail = from + blocks * 8;
+        int remaining = to - tail;
+        if (remaining > 0) {
+            for (int i = remaining - 1; i >= 0; i--) {
+                h ^= (data[tail + i] & 0xFFL) << (8 * i);
+            }
+            h *= m;
+        }
+        h ^= h >>> r;
+        h *= m;
+        h ^= h >>> r;
+        return h;
+    }
+}
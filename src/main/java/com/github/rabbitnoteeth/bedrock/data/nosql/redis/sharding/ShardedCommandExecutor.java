@@ -0,0 +1,176 @@
+package com.github.rabbitnoteeth.bedrock.data.nosql.redis.sharding;
+
+import com.github.rabbitnoteeth.bedrock.data.nosql.redis.RedisClient;
+import com.github.rabbitnoteeth.bedrock.data.nosql.redis.executor.CommandKeys;
+import redis.clients.jedis.CommandArguments;
+import redis.clients.jedis.CommandObject;
+import redis.clients.jedis.Protocol;
+import redis.clients.jedis.commands.ProtocolCommand;
+import redis.clients.jedis.exceptions.JedisException;
+import redis.clients.jedis.executors.CommandExecutor;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+/**
+ * Runs every command on the client of the shard owning its keys, found with {@link CommandKeys}. All keys of a
+ * command have to belong to the same shard, except for MGET, MSET, DEL, UNLINK, EXISTS and TOUCH: their keys are
+ * split by shard, one command per shard runs in parallel and the replies are merged. A split MSET is not atomic as
+ * a whole.
+ */
+public class ShardedCommandExecutor implements CommandExecutor {
+
+    private static final Set<ProtocolCommand> SPLIT_COMMANDS = Set.of(Protocol.Command.MGET, Protocol.Command.MSET,
+        Protocol.Command.DEL, Protocol.Command.UNLINK, Protocol.Command.EXISTS, Protocol.Command.TOUCH);
+
+    private final List<RedisClient> shards;
+    private final ConsistentHashRing ring;
+    private final ExecutorService executor;
+
+    /**
+     * @param executor runs the commands of a split call, owned and closed by the caller
+     */
+    public ShardedCommandExecutor(List<RedisClient> shards, ConsistentHashRing ring, ExecutorService executor) {
+        this.shards = shards;
+        this.ring = ring;
+        this.executor = executor;
+    }
+
+    @Override
+    public <T> T executeCommand(CommandObject<T> commandObject) {
+        CommandArguments arguments = commandObject.getArguments();
+        // 0 or more: the single shard of the keys, -1: no key, -2: keys of several shards
+        int[] shard = {-1};
+        CommandKeys.forEachKey(arguments, key -> {
+            int keyShard = ring.shardOf(key);
+            if (shard[0] == -1) {
+                shard[0] = keyShard;
+            } else if (shard[0] != keyShard) {
+                shard[0] = -2;
+            }
+        });
+        if (shard[0] == -1) {
+            throw new JedisException("Command " + arguments.getCommand() + " has no key to select a shard, run it on one of the shards");
+        }
+        if (shard[0] >= 0) {
+            return shards.get(shard[0]).executeCommand(commandObject);
+        }
+        if (!SPLIT_COMMANDS.contains(arguments.getCommand())) {
+            throw new JedisException("Keys of command " + arguments.getCommand() + " belong to different shards, use hash tags to keep them together");
+        }
+        List<ShardCommand> groups = split(arguments);
+        return merge(arguments.getCommand(), groups, execute(groups, commandObject));
+    }
+
+    @Override
+    public void close() {
+        // the shard clients are owned and closed by the sharded client
+    }
+
+    /**
+     * Group the keys by shard, a value follows its key. Shards keep the order of their first key.
+     */
+    private List<ShardCommand> split(CommandArguments arguments) {
+        ShardCommand[] byShard = new ShardCommand[shards.size()];
+        List<ShardCommand> groups = new ArrayList<>();
+        ShardCommand[] current = new ShardCommand[1];
+        int[] position = {0};
+        CommandKeys.forEach(arguments, (argument, key) -> {
+            if (key) {
+                int keyShard = ring.shardOf(argument.getRaw());
+                if (byShard[keyShard] == null) {
+                    byShard[keyShard] = new ShardCommand(keyShard, new CommandArguments(arguments.getCommand()));
+                    groups.add(byShard[keyShard]);
+                }
+                current[0] = byShard[keyShard];
+                current[0].addPosition(position[0]++);
+            }
+            current[0].arguments.add(argument);
+        });
+        return groups;
+    }
+
+    /**
+     * Run the command of every group in parallel.
+     *
+     * @return the reply of every group, in group order
+     */
+    private <T> List<T> execute(List<ShardCommand> groups, CommandObject<T> commandObject) {
+        List<Future<T>> futures = new ArrayList<>(groups.size());
+        for (ShardCommand group : groups) {
+            CommandObject<T> shardCommand = new CommandObject<>(group.arguments, commandObject.getBuilder());
+            futures.add(executor.submit(() -> shards.get(group.shard).executeCommand(shardCommand)));
+        }
+        List<T> replies = new ArrayList<>(groups.size());
+        try {
+            for (Future<T> future : futures) {
+                replies.add(future.get());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new JedisException("interrupted while waiting for the shards", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new JedisException(e.getCause());
+        } finally {
+            futures.forEach(future -> future.cancel(true));
+        }
+        return replies;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T merge(ProtocolCommand command, List<ShardCommand> groups, List<T> replies) {
+        if (command == Protocol.Command.MSET) {
+            return replies.get(0);
+        }
+        if (command == Protocol.Command.MGET) {
+            // values back in the order of the keys
+            int count = 0;
+            for (ShardCommand group : groups) {
+                count += group.size;
+            }
+            Object[] values = new Object[count];
+            for (int g = 0; g < groups.size(); g++) {
+                ShardCommand group = groups.get(g);
+                List<?> reply = (List<?>) replies.get(g);
+                for (int i = 0; i < group.size; i++) {
+                    values[group.positions[i]] = reply.get(i);
+                }
+            }
+            return (T) Arrays.asList(values);
+        }
+        long total = 0;
+        for (T reply : replies) {
+            total += (Long) reply;
+        }
+        return (T) Long.valueOf(total);
+    }
+
+    private static final class ShardCommand {
+
+        private final int shard;
+        private final CommandArguments arguments;
+        // index in the original command of each key sent to the shard
+        private int[] positions = new int[8];
+        private int size;
+
+        private ShardCommand(int shard, CommandArguments arguments) {
+            this.shard = shard;
+            this.arguments = arguments;
+        }
+
+        private void addPosition(int position) {
+            if (size == positions.length) {
+                positions = Arrays.copyOf(positions, size * 2);
+            }
+            positions[size++] = position;
+        }
+    }
+}
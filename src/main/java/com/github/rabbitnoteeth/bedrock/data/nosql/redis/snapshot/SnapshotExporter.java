@@ -0,0 +1,122 @@
+package com.github.rabbitnoteeth.bedrock.data.nosql.redis.snapshot;
+
+import com.github.rabbitnoteeth.bedrock.data.nosql.redis.RedisClient;
+import com.github.rabbitnoteeth.bedrock.data.nosql.redis.pipeline.RedisPipeline;
+import com.github.rabbitnoteeth.bedrock.data.nosql.redis.scan.ParallelScanOptions;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import redis.clients.jedis.Response;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Writes the keys of a client to a snapshot file, see {@link SnapshotFormat}. The keyspace is walked by
+ * {@link RedisClient#scanKeyspaceBinaryPages}, every scanned page is dumped with one pipeline of DUMP and PTTL and
+ * appended to the file as a whole, so only the pages in flight are held in memory. Keys are handled as raw bytes, so
+ * keys that are not valid UTF-8 are copied unchanged. The snapshot is not a point in time copy:
+ * keys written during the export may or may not be included.
+ * <p>
+ * Expiries are stored as unix times computed with the clock of this process, keys keep their expiry across the import
+ * as long as the clocks of the exporting process and of the importing server agree.
+ */
+public final class SnapshotExporter {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(SnapshotExporter.class);
+
+    private final RedisClient client;
+
+    public SnapshotExporter(RedisClient client) {
+        this.client = client;
+    }
+
+    /**
+     * Export the keys selected by the scan options, an existing file is replaced.
+     */
+    public SnapshotStats export(Path file, ParallelScanOptions options) throws IOException {
+        long start = System.nanoTime();
+        LOGGER.info("Start export snapshot to [{}]", file);
+        LongAdder keys = new LongAdder();
+        LongAdder skipped = new LongAdder();
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+            StandardOpenOption.TRUNCATE_EXISTING)) {
+            ByteBuffer header = ByteBuffer.allocate(SnapshotFormat.HEADER_BYTES)
+                .putLong(SnapshotFormat.MAGIC)
+                .putInt(SnapshotFormat.VERSION)
+                .flip();
+            writeFully(channel, header);
+            try {
+                client.scanKeyspaceBinaryPages(options, page -> {
+                    ByteBuffer records = dump(page, keys, skipped);
+                    try {
+                        synchronized (channel) {
+                            writeFully(channel, records);
+                        }
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            }
+            channel.force(true);
+            SnapshotStats stats = new SnapshotStats(keys.sum(), skipped.sum(), channel.size(), (System.nanoTime() - start) / 1_000_000);
+            LOGGER.info("Succeed in exporting snapshot to [{}]: {}", file, stats);
+            return stats;
+        }
+    }
+
+    private ByteBuffer dump(List<byte[]> page, LongAdder keys, LongAdder skipped) {
+        List<Response<byte[]>> dumps = new ArrayList<>(page.size());
+        List<Response<Long>> ttls = new ArrayList<>(page.size());
+        // taken before the PTTLs run, so the stored expiry is never later than the real one
+        long now = System.currentTimeMillis();
+        try (RedisPipeline pipeline = client.pipeline()) {
+            for (byte[] key : page) {
+                dumps.add(pipeline.key().dump(key));
+                ttls.add(pipeline.key().pttl(key));
+            }
+            pipeline.sync();
+        }
+        boolean[] kept = new boolean[page.size()];
+        int size = 0;
+        for (int i = 0; i < page.size(); i++) {
+            byte[] value = dumps.get(i).get();
+            long ttl = ttls.get(i).get();
+            // -2 and 0: the key is gone or expires right now
+            if (value == null || ttl == -2 || ttl == 0) {
+                continue;
+            }
+            kept[i] = true;
+            size += SnapshotFormat.RECORD_OVERHEAD + page.get(i).length + value.length;
+        }
+        ByteBuffer records = ByteBuffer.allocate(size);
+        for (int i = 0; i < page.size(); i++) {
+            if (!kept[i]) {
+                skipped.increment();
+                continue;
+            }
+            byte[] name = page.get(i);
+            byte[] value = dumps.get(i).get();
+            long ttl = ttls.get(i).get();
+            records.putInt(name.length).put(name)
+                .putLong(ttl > 0 ? now + ttl : 0)
+                .putInt(value.length).put(value);
+            keys.increment();
+        }
+        return records.flip();
+    }
+
+    private static void writeFully(FileChannel channel, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+}
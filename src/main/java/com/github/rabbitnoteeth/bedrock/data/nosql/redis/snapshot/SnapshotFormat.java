@@ -0,0 +1,20 @@
+package com.github.rabbitnoteeth.bedrock.data.nosql.redis.snapshot;
+
+/**
+ * Layout of a snapshot file: a header made of {@link #MAGIC} and {@link #VERSION}, followed by one record per key
+ * until the end of the file. A record is the key length (int), the key bytes, the expiry as a unix time in milliseconds
+ * (long, 0 when the key does not expire), the DUMP payload length (int) and the DUMP payload. Numbers are big endian.
+ * <p>
+ * Version 1 stored the remaining ttl instead of the expiry, which restored keys with the time spent between export and
+ * import added to their life, it is no longer read.
+ */
+final class SnapshotFormat {
+
+    static final long MAGIC = 0x4244524B534E4150L;
+    static final int VERSION = 2;
+    static final int HEADER_BYTES = Long.BYTES + Integer.BYTES;
+    static final int RECORD_OVERHEAD = Integer.BYTES + Long.BYTES + Integer.BYTES;
+
+    private SnapshotFormat() {
+    }
+}
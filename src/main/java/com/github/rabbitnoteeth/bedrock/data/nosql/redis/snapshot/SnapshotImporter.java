@@ -0,0 +1,185 @@
+package com.github.rabbitnoteeth.bedrock.data.nosql.redis.snapshot;
+
+import com.github.rabbitnoteeth.bedrock.data.nosql.redis.RedisClient;
+import com.github.rabbitnoteeth.bedrock.data.nosql.redis.pipeline.RedisPipeline;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import redis.clients.jedis.Response;
+import redis.clients.jedis.params.RestoreParams;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Restores a snapshot file written by {@link SnapshotExporter} with RESTORE REPLACE ABSTTL, so keys expire at the time
+ * they would have expired on the exported server. Keys already expired when they are read are skipped. The file is
+ * read through memory mapped windows and cut into batches, each batch is restored with one pipeline on a virtual
+ * thread. At most {@code parallelism} batches are in flight, so memory stays bounded whatever the size of the file.
+ */
+public final class SnapshotImporter {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(SnapshotImporter.class);
+    private static final long WINDOW_BYTES = 64L * 1024 * 1024;
+    private static final long BATCH_BYTES = 8L * 1024 * 1024;
+
+    private final RedisClient client;
+    private final int parallelism;
+    private final int batchSize;
+
+    /**
+     * @param parallelism maximum number of batches restored at once
+     * @param batchSize   maximum number of keys of a batch, a batch is also cut at 8MB of payload
+     */
+    public SnapshotImporter(RedisClient client, int parallelism, int batchSize) {
+        if (parallelism <= 0 || batchSize <= 0) {
+            throw new IllegalArgumentException("parallelism and batch size must be positive");
+        }
+        this.client = client;
+        this.parallelism = parallelism;
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * Restore every key of the file not expired yet, existing keys are replaced. Keys restored before a failure are
+     * kept.
+     */
+    public SnapshotStats importFrom(Path file) throws IOException {
+        long start = System.nanoTime();
+        LOGGER.info("Start import snapshot from [{}]", file);
+        Semaphore permits = new Semaphore(parallelism);
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        LongAdder restored = new LongAdder();
+        long skipped = 0;
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ);
+             ExecutorService executor = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("redis-snapshot-import-", 0).factory())) {
+            Reader reader = new Reader(channel);
+            ByteBuffer header = reader.read(SnapshotFormat.HEADER_BYTES);
+            if (header.getLong() != SnapshotFormat.MAGIC || header.getInt() != SnapshotFormat.VERSION) {
+                throw new IOException("[" + file + "] is not a snapshot file of version " + SnapshotFormat.VERSION);
+            }
+            List<Record> batch = new ArrayList<>(batchSize);
+            long batchBytes = 0;
+            while (reader.hasRemaining() && failure.get() == null) {
+                Record record = reader.record();
+                if (record.expiresAt() > 0 && record.expiresAt() <= System.currentTimeMillis()) {
+                    skipped++;
+                    continue;
+                }
+                batch.add(record);
+                batchBytes += record.value().length;
+                if (batch.size() == batchSize || batchBytes >= BATCH_BYTES) {
+                    submit(batch, executor, permits, failure, restored);
+                    batch = new ArrayList<>(batchSize);
+                    batchBytes = 0;
+                }
+            }
+            if (!batch.isEmpty()) {
+                submit(batch, executor, permits, failure, restored);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("interrupted while importing [" + file + "]", e);
+        }
+        Throwable e = failure.get();
+        if (e != null) {
+            throw new IOException("failed to import [" + file + "]", e);
+        }
+        SnapshotStats stats = new SnapshotStats(restored.sum(), skipped, file.toFile().length(), (System.nanoTime() - start) / 1_000_000);
+        LOGGER.info("Succeed in importing snapshot from [{}]: {}", file, stats);
+        return stats;
+    }
+
+    private void submit(List<Record> batch, ExecutorService executor, Semaphore permits, AtomicReference<Throwable> failure,
+                        LongAdder restored) throws InterruptedException {
+        permits.acquire();
+        executor.execute(() -> {
+            try {
+                restore(batch);
+                restored.add(batch.size());
+            } catch (Throwable e) {
+                failure.compareAndSet(null, e);
+            } finally {
+                permits.release();
+            }
+        });
+    }
+
+    private void restore(List<Record> batch) {
+        List<Response<String>> replies = new ArrayList<>(batch.size());
+        try (RedisPipeline pipeline = client.pipeline()) {
+            for (Record record : batch) {
+                replies.add(pipeline.key().restore(record.key(), record.expiresAt(), record.value(),
+                    RestoreParams.restoreParams().replace().absTtl()));
+            }
+            pipeline.sync();
+        }
+        for (Response<String> reply : replies) {
+            // surfaces the error of a failed RESTORE
+            reply.get();
+        }
+    }
+
+    /**
+     * @param expiresAt unix time in milliseconds, 0 when the key does not expire
+     */
+    private record Record(byte[] key, long expiresAt, byte[] value) {
+    }
+
+    /**
+     * Sequential reads over a window of the file mapped in memory, the window moves forward as the file is read and
+     * grows for records larger than it.
+     */
+    private static final class Reader {
+
+        private final FileChannel channel;
+        private final long size;
+        private MappedByteBuffer window;
+        private long windowStart;
+        private long position;
+
+        Reader(FileChannel channel) throws IOException {
+            this.channel = channel;
+            this.size = channel.size();
+        }
+
+        boolean hasRemaining() {
+            return position < size;
+        }
+
+        Record record() throws IOException {
+            byte[] key = new byte[read(Integer.BYTES).getInt()];
+            read(key.length).get(key);
+            long expiresAt = read(Long.BYTES).getLong();
+            byte[] value = new byte[read(Integer.BYTES).getInt()];
+            read(value.length).get(value);
+            return new Record(key, expiresAt, value);
+        }
+
+        /**
+         * @return the window positioned on the next {@code length} bytes of the file
+         */
+        ByteBuffer read(int length) throws IOException {
+            if (length < 0 || position + length > size) {
+                throw new IOException("truncated snapshot file at offset " + position);
+            }
+            if (window == null || position + length > windowStart + window.capacity()) {
+                windowStart = position;
+                window = channel.map(FileChannel.MapMode.READ_ONLY, position, Math.min(size - position, Math.max(WINDOW_BYTES, length)));
+            }
+            window.position((int) (position - windowStart));
+            position += length;
+            return window;
+        }
+    }
+}
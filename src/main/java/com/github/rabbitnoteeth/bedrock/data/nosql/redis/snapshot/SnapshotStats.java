@@ -0,0 +1,55 @@
+package com.github.rabbitnoteeth.bedrock.data.nosql.redis.snapshot;
+
+/**
+ * Outcome of an export or an import.
+ */
+public final class SnapshotStats {
+
+    private final long keys;
+    private final long skipped;
+    private final long bytes;
+    private final long elapsedMillis;
+
+    SnapshotStats(long keys, long skipped, long bytes, long elapsedMillis) {
+        this.keys = keys;
+        this.skipped = skipped;
+        this.bytes = bytes;
+        this.elapsedMillis = elapsedMillis;
+    }
+
+    /**
+     * Keys written to the file, or restored from it.
+     */
+    public long getKeys() {
+        return keys;
+    }
+
+    /**
+     * Keys scanned but deleted or expired before they could be dumped, or for an import the keys of the file already
+     * expired when they were read.
+     */
+    public long getSkipped() {
+        return skipped;
+    }
+
+    /**
+     * Size of the file.
+     */
+    public long getBytes() {
+        return bytes;
+    }
+
+    public long getElapsedMillis() {
+        return elapsedMillis;
+    }
+
+    @Override
+    public String toString() {
+        return "SnapshotStats{" +
+            "keys=" + keys +
+            ", skipped=" + skipped +
+            ", bytes=" + bytes +
+            ", elapsedMillis=" + elapsedMillis +
+            '}';
+    }
+}
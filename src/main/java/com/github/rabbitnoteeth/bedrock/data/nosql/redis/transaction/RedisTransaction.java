@@ -0,0 +1,192 @@
+package com.github.rabbitnoteeth.bedrock.data.nosql.redis.transaction;
+
+import com.github.rabbitnoteeth.bedrock.data.nosql.redis.commands.HashCommands;
+import com.github.rabbitnoteeth.bedrock.data.nosql.redis.commands.KeyCommands;
+import com.github.rabbitnoteeth.bedrock.data.nosql.redis.commands.ListCommands;
+import com.github.rabbitnoteeth.bedrock.data.nosql.redis.commands.SetCommands;
+import com.github.rabbitnoteeth.bedrock.data.nosql.redis.commands.StringCommands;
+import com.github.rabbitnoteeth.bedrock.data.nosql.redis.commands.ZSetCommands;
+import com.github.rabbitnoteeth.bedrock.data.nosql.redis.pipeline.PipelineHashCommands;
+import com.github.rabbitnoteeth.bedrock.data.nosql.redis.pipeline.PipelineKeyCommands;
+import com.github.rabbitnoteeth.bedrock.data.nosql.redis.pipeline.PipelineListCommands;
+import com.github.rabbitnoteeth.bedrock.data.nosql.redis.pipeline.PipelineSetCommands;
+import com.github.rabbitnoteeth.bedrock.data.nosql.redis.pipeline.PipelineStringCommands;
+import com.github.rabbitnoteeth.bedrock.data.nosql.redis.pipeline.PipelineZSetCommands;
+import redis.clients.jedis.BuilderFactory;
+import redis.clients.jedis.CommandArguments;
+import redis.clients.jedis.CommandObject;
+import redis.clients.jedis.Connection;
+import redis.clients.jedis.Protocol;
+import redis.clients.jedis.Transaction;
+import redis.clients.jedis.UnifiedJedis;
+import redis.clients.jedis.exceptions.JedisException;
+import redis.clients.jedis.executors.CommandExecutor;
+
+import java.util.List;
+
+/**
+ * One attempt of an optimistic transaction, bound to the connection holding the WATCH.
+ * <p>
+ * The read groups ({@link #readKey()}, {@link #readString()}, ...) run their commands immediately and must be used
+ * before the first command is queued. The queue groups ({@link #key()}, {@link #string()}, ...) send MULTI on first use
+ * and queue their commands, the returned responses are filled in once the transaction has committed. Values are read
+ * and written as stored, compression and the near cache are bypassed.
+ */
+public final class RedisTransaction {
+
+    private final Connection connection;
+    private final UnifiedJedis reader;
+    private Transaction transaction;
+    private boolean done;
+
+    private KeyCommands keyReads;
+    private StringCommands stringReads;
+    private ListCommands listReads;
+    private HashCommands hashReads;
+    private SetCommands setReads;
+    private ZSetCommands zSetReads;
+
+    private PipelineKeyCommands keyCommands;
+    private PipelineStringCommands stringCommands;
+    private PipelineListCommands listCommands;
+    private PipelineHashCommands hashCommands;
+    private PipelineSetCommands setCommands;
+    private PipelineZSetCommands zSetCommands;
+
+    RedisTransaction(Connection connection) {
+        this.connection = connection;
+        this.reader = new UnifiedJedis(new CommandExecutor() {
+
+            @Override
+            public <T> T executeCommand(CommandObject<T> commandObject) {
+                if (done || transaction != null) {
+                    throw new JedisException("Reads must be issued before the first queued command of the transaction");
+                }
+                return connection.executeCommand(commandObject);
+            }
+
+            @Override
+            public void close() {
+            }
+
+        });
+    }
+
+    public KeyCommands readKey() {
+        if (keyReads == null) {
+            keyReads = new KeyCommands(reader);
+        }
+        return keyReads;
+    }
+
+    public StringCommands readString() {
+        if (stringReads == null) {
+            stringReads = new StringCommands(reader);
+        }
+        return stringReads;
+    }
+
+    public ListCommands readList() {
+        if (listReads == null) {
+            listReads = new ListCommands(reader);
+        }
+        return listReads;
+    }
+
+    public HashCommands readHash() {
+        if (hashReads == null) {
+            hashReads = new HashCommands(reader);
+        }
+        return hashReads;
+    }
+
+    public SetCommands readSet() {
+        if (setReads == null) {
+            setReads = new SetCommands(reader);
+        }
+        return setReads;
+    }
+
+    public ZSetCommands readZset() {
+        if (zSetReads == null) {
+            zSetReads = new ZSetCommands(reader);
+        }
+        return zSetReads;
+    }
+
+    public PipelineKeyCommands key() {
+        return multi().keyCommands;
+    }
+
+    public PipelineStringCommands string() {
+        return multi().stringCommands;
+    }
+
+    public PipelineListCommands list() {
+        return multi().listCommands;
+    }
+
+    public PipelineHashCommands hash() {
+        return multi().hashCommands;
+    }
+
+    public PipelineSetCommands set() {
+        return multi().setCommands;
+    }
+
+    public PipelineZSetCommands zset() {
+        return multi().zSetCommands;
+    }
+
+    private RedisTransaction multi() {
+        if (done) {
+            throw new JedisException("The transaction is already finished");
+        }
+        if (transaction == null) {
+            transaction = new Transaction(connection, true);
+            keyCommands = new PipelineKeyCommands(transaction, transaction);
+            stringCommands = new PipelineStringCommands(transaction);
+            listCommands = new PipelineListCommands(transaction);
+            hashCommands = new PipelineHashCommands(transaction);
+            setCommands = new PipelineSetCommands(transaction);
+            zSetCommands = new PipelineZSetCommands(transaction);
+        }
+        return this;
+    }
+
+    /**
+     * @return false when a watched key was modified and nothing was applied
+     */
+    boolean exec() {
+        done = true;
+        if (transaction == null) {
+            unwatch();
+            return true;
+        }
+        List<Object> replies = transaction.exec();
+        return replies != null;
+    }
+
+    /**
+     * Leave the connection clean when the body failed before EXEC.
+     */
+    void abandon() {
+        if (done) {
+            return;
+        }
+        done = true;
+        if (connection.isBroken()) {
+            return;
+        }
+        if (transaction != null) {
+            transaction.discard();
+        } else {
+            unwatch();
+        }
+    }
+
+    private void unwatch() {
+        connection.executeCommand(new CommandObject<>(new CommandArguments(Protocol.Command.UNWATCH), BuilderFactory.STRING));
+    }
+
+}
@@ -0,0 +1,104 @@
+package com.github.rabbitnoteeth.bedrock.data.nosql.redis.transaction;
+
+import com.github.rabbitnoteeth.bedrock.data.nosql.redis.cache.NearCache;
+import redis.clients.jedis.BuilderFactory;
+import redis.clients.jedis.ClusterCommandArguments;
+import redis.clients.jedis.CommandArguments;
+import redis.clients.jedis.CommandObject;
+import redis.clients.jedis.Connection;
+import redis.clients.jedis.Protocol;
+import redis.clients.jedis.exceptions.JedisException;
+import redis.clients.jedis.providers.ClusterConnectionProvider;
+import redis.clients.jedis.providers.ConnectionProvider;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Runs optimistic transactions: WATCH the keys, run the body, EXEC, and start over with a new WATCH when EXEC was
+ * aborted. Between two attempts the caller sleeps a random time between 0 and an exponentially growing cap (full
+ * jitter), so that contending clients spread out instead of colliding again.
+ */
+public final class TransactionRunner {
+
+    private final ConnectionProvider provider;
+    private final NearCache nearCache;
+    private final int maxAttempts;
+    private final long backoffNanos;
+    private final long maxBackoffNanos;
+    private final TransactionStats stats = new TransactionStats();
+
+    public TransactionRunner(ConnectionProvider provider, NearCache nearCache, int maxAttempts, long backoffMillis, long maxBackoffMillis) {
+        this.provider = provider;
+        this.nearCache = nearCache;
+        this.maxAttempts = maxAttempts;
+        this.backoffNanos = TimeUnit.MILLISECONDS.toNanos(backoffMillis);
+        this.maxBackoffNanos = TimeUnit.MILLISECONDS.toNanos(maxBackoffMillis);
+    }
+
+    /**
+     * The body may run several times and must not have side effects outside the transaction.
+     *
+     * @return what the last attempt of the body returned
+     * @throws JedisException when every attempt was aborted
+     */
+    public <T> T execute(List<String> keys, Function<RedisTransaction, T> body) {
+        if (keys.isEmpty()) {
+            throw new IllegalArgumentException("at least one key must be watched");
+        }
+        Object[] watched = keys.toArray();
+        for (int attempt = 1; ; attempt++) {
+            T result;
+            boolean committed;
+            CommandArguments watch = provider instanceof ClusterConnectionProvider
+                ? new ClusterCommandArguments(Protocol.Command.WATCH).keys(watched)
+                : new CommandArguments(Protocol.Command.WATCH).keys(watched);
+            try (Connection connection = provider instanceof ClusterConnectionProvider cluster
+                ? cluster.getConnection(watch)
+                : provider.getConnection()) {
+                connection.executeCommand(new CommandObject<>(watch, BuilderFactory.STRING));
+                RedisTransaction transaction = new RedisTransaction(connection);
+                try {
+                    result = body.apply(transaction);
+                    committed = transaction.exec();
+                } finally {
+                    transaction.abandon();
+                }
+            }
+            if (committed) {
+                stats.recordCommit();
+                if (nearCache != null) {
+                    keys.forEach(nearCache::invalidate);
+                }
+                return result;
+            }
+            stats.recordAbort();
+            if (attempt >= maxAttempts) {
+                stats.recordFailure();
+                throw new JedisException("Transaction on keys " + keys + " aborted " + attempt + " times");
+            }
+            stats.recordRetry();
+            backoff(attempt);
+        }
+    }
+
+    public TransactionStats getStats() {
+        return stats;
+    }
+
+    private void backoff(int attempt) {
+        long cap = Math.min(maxBackoffNanos, backoffNanos << Math.min(attempt - 1, 20));
+        if (cap <= 0) {
+            return;
+        }
+        try {
+            TimeUnit.NANOSECONDS.sleep(ThreadLocalRandom.current().nextLong(cap + 1));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new JedisException("Interrupted while backing off a transaction", e);
+        }
+    }
+
+}
@@ -0,0 +1,63 @@
+package com.github.rabbitnoteeth.bedrock.data.nosql.redis.transaction;
+
+import java.util.concurrent.atomic.LongAdder;
+
+public final class TransactionStats {
+
+    private final LongAdder commits = new LongAdder();
+    private final LongAdder aborts = new LongAdder();
+    private final LongAdder retries = new LongAdder();
+    private final LongAdder failures = new LongAdder();
+
+    void recordCommit() {
+        commits.increment();
+    }
+
+    void recordAbort() {
+        aborts.increment();
+    }
+
+    void recordRetry() {
+        retries.increment();
+    }
+
+    void recordFailure() {
+        failures.increment();
+    }
+
+    /**
+     * @return transactions applied, read-only transactions included
+     */
+    public long getCommits() {
+        return commits.sum();
+    }
+
+    /**
+     * @return EXEC replies aborted because a watched key was modified
+     */
+    public long getAborts() {
+        return aborts.sum();
+    }
+
+    public long getRetries() {
+        return retries.sum();
+    }
+
+    /**
+     * @return transactions given up after the last attempt was aborted
+     */
+    public long getFailures() {
+        return failures.sum();
+    }
+
+    @Override
+    public String toString() {
+        return "TransactionStats{" +
+            "commits=" + getCommits() +
+            ", aborts=" + getAborts() +
+            ", retries=" + getRetries() +
+            ", failures=" + getFailures() +
+            '}';
+    }
+
+}
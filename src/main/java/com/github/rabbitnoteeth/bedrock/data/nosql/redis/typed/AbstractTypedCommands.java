@@ -0,0 +1,106 @@
+package com.github.rabbitnoteeth.bedrock.data.nosql.redis.typed;
+
+import com.github.rabbitnoteeth.bedrock.data.nosql.redis.codec.Codec;
+import redis.clients.jedis.UnifiedJedis;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+abstract class AbstractTypedCommands<K, V> {
+
+    protected final UnifiedJedis jedis;
+    protected final Codec<K, V> codec;
+
+    AbstractTypedCommands(UnifiedJedis jedis, Codec<K, V> codec) {
+        this.jedis = jedis;
+        this.codec = codec;
+    }
+
+    protected byte[] key(K key) {
+        return codec.encodeKey(key);
+    }
+
+    /**
+     * Encode the keys of a varargs method, the array is only read so that passing it here from a {@link SafeVarargs}
+     * method can not pollute the heap.
+     */
+    protected byte[][] keys(K[] keys) {
+        byte[][] result = new byte[keys.length][];
+        for (int i = 0; i < keys.length; i++) {
+            result[i] = codec.encodeKey(keys[i]);
+        }
+        return result;
+    }
+
+    protected byte[] value(V value) {
+        return codec.encodeValue(value);
+    }
+
+    /**
+     * Encode the values of a varargs method, see {@link #keys(Object[])}.
+     */
+    protected byte[][] values(V[] values) {
+        byte[][] result = new byte[values.length][];
+        for (int i = 0; i < values.length; i++) {
+            result[i] = codec.encodeValue(values[i]);
+        }
+        return result;
+    }
+
+    protected V decode(byte[] bytes) {
+        return codec.decodeValue(bytes);
+    }
+
+    protected List<V> decodeList(Collection<byte[]> values) {
+        if (values == null) {
+            return null;
+        }
+        List<V> result = new ArrayList<>(values.size());
+        for (byte[] value : values) {
+            result.add(codec.decodeValue(value));
+        }
+        return result;
+    }
+
+    protected Set<V> decodeSet(Collection<byte[]> values) {
+        if (values == null) {
+            return null;
+        }
+        Set<V> result = new LinkedHashSet<>(values.size() * 2);
+        for (byte[] value : values) {
+            result.add(codec.decodeValue(value));
+        }
+        return result;
+    }
+
+    protected Set<K> decodeKeySet(Collection<byte[]> keys) {
+        if (keys == null) {
+            return null;
+        }
+        Set<K> result = new LinkedHashSet<>(keys.size() * 2);
+        for (byte[] key : keys) {
+            result.add(codec.decodeKey(key));
+        }
+        return result;
+    }
+
+    protected Map<byte[], byte[]> encodeMap(Map<K, V> map) {
+        Map<byte[], byte[]> result = new LinkedHashMap<>(map.size() * 2);
+        map.forEach((k, v) -> result.put(codec.encodeKey(k), codec.encodeValue(v)));
+        return result;
+    }
+
+    protected Map<K, V> decodeMap(Map<byte[], byte[]> map) {
+        if (map == null) {
+            return null;
+        }
+        Map<K, V> result = new LinkedHashMap<>(map.size() * 2);
+        map.forEach((k, v) -> result.put(codec.decodeKey(k), codec.decodeValue(v)));
+        return result;
+    }
+}
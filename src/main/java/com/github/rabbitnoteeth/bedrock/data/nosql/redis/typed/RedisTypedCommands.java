@@ -0,0 +1,48 @@
+package com.github.rabbitnoteeth.bedrock.data.nosql.redis.typed;
+
+import com.github.rabbitnoteeth.bedrock.data.nosql.redis.codec.Codec;
+import redis.clients.jedis.UnifiedJedis;
+
+/**
+ * Entry point of the command groups whose keys and values are converted by a {@link Codec}. The codec sees the values
+ * as stored, compression configured on the client is bypassed.
+ *
+ * @param <K> key type
+ * @param <V> value type
+ */
+public final class RedisTypedCommands<K, V> {
+
+    private final TypedStringCommands<K, V> stringCommands;
+    private final TypedListCommands<K, V> listCommands;
+    private final TypedHashCommands<K, V> hashCommands;
+    private final TypedSetCommands<K, V> setCommands;
+    private final TypedZSetCommands<K, V> zSetCommands;
+
+    public RedisTypedCommands(UnifiedJedis jedis, Codec<K, V> codec) {
+        this.stringCommands = new TypedStringCommands<>(jedis, codec);
+        this.listCommands = new TypedListCommands<>(jedis, codec);
+        this.hashCommands = new TypedHashCommands<>(jedis, codec);
+        this.setCommands = new TypedSetCommands<>(jedis, codec);
+        this.zSetCommands = new TypedZSetCommands<>(jedis, codec);
+    }
+
+    public TypedStringCommands<K, V> string() {
+        return this.stringCommands;
+    }
+
+    public TypedListCommands<K, V> list() {
+        return this.listCommands;
+    }
+
+    public TypedHashCommands<K, V> hash() {
+        return this.hashCommands;
+    }
+
+    public TypedSetCommands<K, V> set() {
+        return this.setCommands;
+    }
+
+    public TypedZSetCommands<K, V> zset() {
+        return this.zSetCommands;
+    }
+}
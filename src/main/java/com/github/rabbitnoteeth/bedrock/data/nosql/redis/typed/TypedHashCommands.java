@@ -0,0 +1,68 @@
+package com.github.rabbitnoteeth.bedrock.data.nosql.redis.typed;
+
+import com.github.rabbitnoteeth.bedrock.data.nosql.redis.codec.Codec;
+import redis.clients.jedis.UnifiedJedis;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Hash fields are encoded with the key side of the codec.
+ */
+public class TypedHashCommands<K, V> extends AbstractTypedCommands<K, V> {
+
+    public TypedHashCommands(UnifiedJedis jedis, Codec<K, V> codec) {
+        super(jedis, codec);
+    }
+
+    public long set(K key, K field, V value) {
+        return jedis.hset(key(key), key(field), value(value));
+    }
+
+    public long set(K key, Map<K, V> hash) {
+        return jedis.hset(key(key), encodeMap(hash));
+    }
+
+    public V get(K key, K field) {
+        return decode(jedis.hget(key(key), key(field)));
+    }
+
+    public long setnx(K key, K field, V value) {
+        return jedis.hsetnx(key(key), key(field), value(value));
+    }
+
+    @SafeVarargs
+
+    @SuppressWarnings("varargs")
+    public final List<V> mget(K key, K... fields) {
+        return decodeList(jedis.hmget(key(key), keys(fields)));
+    }
+
+    public boolean exists(K key, K field) {
+        return jedis.hexists(key(key), key(field));
+    }
+
+    @SafeVarargs
+
+    @SuppressWarnings("varargs")
+    public final long del(K key, K... fields) {
+        return jedis.hdel(key(key), keys(fields));
+    }
+
+    public long len(K key) {
+        return jedis.hlen(key(key));
+    }
+
+    public Set<K> keys(K key) {
+        return decodeKeySet(jedis.hkeys(key(key)));
+    }
+
+    public List<V> vals(K key) {
+        return decodeList(jedis.hvals(key(key)));
+    }
+
+    public Map<K, V> getAll(K key) {
+        return decodeMap(jedis.hgetAll(key(key)));
+    }
+}
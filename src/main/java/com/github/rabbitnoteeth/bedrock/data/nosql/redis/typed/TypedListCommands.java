@@ -0,0 +1,81 @@
+package com.github.rabbitnoteeth.bedrock.data.nosql.redis.typed;
+
+import com.github.rabbitnoteeth.bedrock.data.nosql.redis.codec.Codec;
+import redis.clients.jedis.UnifiedJedis;
+
+import java.util.List;
+
+public class TypedListCommands<K, V> extends AbstractTypedCommands<K, V> {
+
+    public TypedListCommands(UnifiedJedis jedis, Codec<K, V> codec) {
+        super(jedis, codec);
+    }
+
+    @SafeVarargs
+
+    @SuppressWarnings("varargs")
+    public final long rpush(K key, V... values) {
+        return jedis.rpush(key(key), values(values));
+    }
+
+    @SafeVarargs
+
+    @SuppressWarnings("varargs")
+    public final long lpush(K key, V... values) {
+        return jedis.lpush(key(key), values(values));
+    }
+
+    @SafeVarargs
+
+    @SuppressWarnings("varargs")
+    public final long rpushx(K key, V... values) {
+        return jedis.rpushx(key(key), values(values));
+    }
+
+    @SafeVarargs
+
+    @SuppressWarnings("varargs")
+    public final long lpushx(K key, V... values) {
+        return jedis.lpushx(key(key), values(values));
+    }
+
+    public long len(K key) {
+        return jedis.llen(key(key));
+    }
+
+    public List<V> range(K key, long start, long stop) {
+        return decodeList(jedis.lrange(key(key), start, stop));
+    }
+
+    public String trim(K key, long start, long stop) {
+        return jedis.ltrim(key(key), start, stop);
+    }
+
+    public V index(K key, long index) {
+        return decode(jedis.lindex(key(key), index));
+    }
+
+    public String set(K key, long index, V value) {
+        return jedis.lset(key(key), index, value(value));
+    }
+
+    public long rem(K key, long count, V value) {
+        return jedis.lrem(key(key), count, value(value));
+    }
+
+    public V lpop(K key) {
+        return decode(jedis.lpop(key(key)));
+    }
+
+    public List<V> lpop(K key, int count) {
+        return decodeList(jedis.lpop(key(key), count));
+    }
+
+    public V rpop(K key) {
+        return decode(jedis.rpop(key(key)));
+    }
+
+    public List<V> rpop(K key, int count) {
+        return decodeList(jedis.rpop(key(key), count));
+    }
+}
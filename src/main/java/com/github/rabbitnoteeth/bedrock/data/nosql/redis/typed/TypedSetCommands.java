@@ -0,0 +1,84 @@
+package com.github.rabbitnoteeth.bedrock.data.nosql.redis.typed;
+
+import com.github.rabbitnoteeth.bedrock.data.nosql.redis.codec.Codec;
+import redis.clients.jedis.UnifiedJedis;
+
+import java.util.List;
+import java.util.Set;
+
+public class TypedSetCommands<K, V> extends AbstractTypedCommands<K, V> {
+
+    public TypedSetCommands(UnifiedJedis jedis, Codec<K, V> codec) {
+        super(jedis, codec);
+    }
+
+    @SafeVarargs
+
+    @SuppressWarnings("varargs")
+    public final long add(K key, V... members) {
+        return jedis.sadd(key(key), values(members));
+    }
+
+    public Set<V> members(K key) {
+        return decodeSet(jedis.smembers(key(key)));
+    }
+
+    @SafeVarargs
+
+    @SuppressWarnings("varargs")
+    public final long rem(K key, V... members) {
+        return jedis.srem(key(key), values(members));
+    }
+
+    public V pop(K key) {
+        return decode(jedis.spop(key(key)));
+    }
+
+    public Set<V> pop(K key, long count) {
+        return decodeSet(jedis.spop(key(key), count));
+    }
+
+    public long card(K key) {
+        return jedis.scard(key(key));
+    }
+
+    public boolean ismember(K key, V member) {
+        return jedis.sismember(key(key), value(member));
+    }
+
+    @SafeVarargs
+
+    @SuppressWarnings("varargs")
+    public final List<Boolean> mismember(K key, V... members) {
+        return jedis.smismember(key(key), values(members));
+    }
+
+    public V randmember(K key) {
+        return decode(jedis.srandmember(key(key)));
+    }
+
+    public List<V> randmember(K key, int count) {
+        return decodeList(jedis.srandmember(key(key), count));
+    }
+
+    @SafeVarargs
+
+    @SuppressWarnings("varargs")
+    public final Set<V> diff(K... keys) {
+        return decodeSet(jedis.sdiff(keys(keys)));
+    }
+
+    @SafeVarargs
+
+    @SuppressWarnings("varargs")
+    public final Set<V> inter(K... keys) {
+        return decodeSet(jedis.sinter(keys(keys)));
+    }
+
+    @SafeVarargs
+
+    @SuppressWarnings("varargs")
+    public final Set<V> union(K... keys) {
+        return decodeSet(jedis.sunion(keys(keys)));
+    }
+}
@@ -0,0 +1,85 @@
+package com.github.rabbitnoteeth.bedrock.data.nosql.redis.typed;
+
+import com.github.rabbitnoteeth.bedrock.data.nosql.redis.codec.Codec;
+import redis.clients.jedis.UnifiedJedis;
+import redis.clients.jedis.params.GetExParams;
+import redis.clients.jedis.params.SetParams;
+
+import java.util.List;
+import java.util.Map;
+
+public class TypedStringCommands<K, V> extends AbstractTypedCommands<K, V> {
+
+    public TypedStringCommands(UnifiedJedis jedis, Codec<K, V> codec) {
+        super(jedis, codec);
+    }
+
+    public String set(K key, V value) {
+        return jedis.set(key(key), value(value));
+    }
+
+    public String set(K key, V value, SetParams params) {
+        return jedis.set(key(key), value(value), params);
+    }
+
+    public V get(K key) {
+        return decode(jedis.get(key(key)));
+    }
+
+    public V setGet(K key, V value) {
+        return decode(jedis.setGet(key(key), value(value)));
+    }
+
+    public V getDel(K key) {
+        return decode(jedis.getDel(key(key)));
+    }
+
+    public V getEx(K key, GetExParams params) {
+        return decode(jedis.getEx(key(key), params));
+    }
+
+    public V getSet(K key, V value) {
+        return decode(jedis.getSet(key(key), value(value)));
+    }
+
+    public long setnx(K key, V value) {
+        return jedis.setnx(key(key), value(value));
+    }
+
+    public String setex(K key, long seconds, V value) {
+        return jedis.setex(key(key), seconds, value(value));
+    }
+
+    public String psetex(K key, long milliseconds, V value) {
+        return jedis.psetex(key(key), milliseconds, value(value));
+    }
+
+    @SafeVarargs
+
+    @SuppressWarnings("varargs")
+    public final List<V> mget(K... keys) {
+        return decodeList(jedis.mget(keys(keys)));
+    }
+
+    public String mset(Map<K, V> keysvalues) {
+        return jedis.mset(flatten(keysvalues));
+    }
+
+    public long msetnx(Map<K, V> keysvalues) {
+        return jedis.msetnx(flatten(keysvalues));
+    }
+
+    public long strlen(K key) {
+        return jedis.strlen(key(key));
+    }
+
+    private byte[][] flatten(Map<K, V> keysvalues) {
+        byte[][] result = new byte[keysvalues.size() * 2][];
+        int i = 0;
+        for (Map.Entry<K, V> entry : keysvalues.entrySet()) {
+            result[i++] = key(entry.getKey());
+            result[i++] = value(entry.getValue());
+        }
+        return result;
+    }
+}
@@ -0,0 +1,90 @@
+package com.github.rabbitnoteeth.bedrock.data.nosql.redis.typed;
+
+import com.github.rabbitnoteeth.bedrock.data.nosql.redis.codec.Codec;
+import redis.clients.jedis.UnifiedJedis;
+import redis.clients.jedis.resps.Tuple;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+public class TypedZSetCommands<K, V> extends AbstractTypedCommands<K, V> {
+
+    public TypedZSetCommands(UnifiedJedis jedis, Codec<K, V> codec) {
+        super(jedis, codec);
+    }
+
+    public long add(K key, double score, V member) {
+        return jedis.zadd(key(key), score, value(member));
+    }
+
+    public long add(K key, Map<V, Double> scoreMembers) {
+        Map<byte[], Double> encoded = new LinkedHashMap<>(scoreMembers.size() * 2);
+        scoreMembers.forEach((member, score) -> encoded.put(value(member), score));
+        return jedis.zadd(key(key), encoded);
+    }
+
+    @SafeVarargs
+
+    @SuppressWarnings("varargs")
+    public final long rem(K key, V... members) {
+        return jedis.zrem(key(key), values(members));
+    }
+
+    public double incrby(K key, double increment, V member) {
+        return jedis.zincrby(key(key), increment, value(member));
+    }
+
+    public Long rank(K key, V member) {
+        return jedis.zrank(key(key), value(member));
+    }
+
+    public Long revrank(K key, V member) {
+        return jedis.zrevrank(key(key), value(member));
+    }
+
+    public List<V> range(K key, long start, long stop) {
+        return decodeList(jedis.zrange(key(key), start, stop));
+    }
+
+    public List<V> revrange(K key, long start, long stop) {
+        return decodeList(jedis.zrevrange(key(key), start, stop));
+    }
+
+    public List<Map.Entry<V, Double>> rangeWithScores(K key, long start, long stop) {
+        return decodeTuples(jedis.zrangeWithScores(key(key), start, stop));
+    }
+
+    public List<Map.Entry<V, Double>> revrangeWithScores(K key, long start, long stop) {
+        return decodeTuples(jedis.zrevrangeWithScores(key(key), start, stop));
+    }
+
+    public List<V> rangeByScore(K key, double min, double max) {
+        return decodeList(jedis.zrangeByScore(key(key), min, max));
+    }
+
+    public List<V> revrangeByScore(K key, double max, double min) {
+        return decodeList(jedis.zrevrangeByScore(key(key), max, min));
+    }
+
+    public long card(K key) {
+        return jedis.zcard(key(key));
+    }
+
+    public long count(K key, double min, double max) {
+        return jedis.zcount(key(key), min, max);
+    }
+
+    public Double score(K key, V member) {
+        return jedis.zscore(key(key), value(member));
+    }
+
+    private List<Map.Entry<V, Double>> decodeTuples(List<Tuple> tuples) {
+        List<Map.Entry<V, Double>> result = new ArrayList<>(tuples.size());
+        for (Tuple tuple : tuples) {
+            result.add(Map.entry(decode(tuple.getBinaryElement()), tuple.getScore()));
+        }
+        return result;
+    }
+}
@@ -0,0 +1,23 @@
+package com.github.rabbitnoteeth.bedrock.data.nosql.redis.benchmark;
+
+import com.github.rabbitnoteeth.bedrock.data.nosql.redis.RedisClient;
+import com.github.rabbitnoteeth.bedrock.data.nosql.redis.RedisClientConfig;
+import com.github.rabbitnoteeth.bedrock.data.nosql.redis.exception.RedisClientException;
+
+/**
+ * Clients of the benchmarks, connected to the server given by the {@code redis.host} and {@code redis.port} system
+ * properties.
+ */
+final class BenchmarkClients {
+
+    private BenchmarkClients() {
+    }
+
+    static RedisClient create(String id, RedisClientConfig.Builder builder) throws RedisClientException {
+        RedisClientConfig config = builder
+            .setHost(System.getProperty("redis.host", "localhost"))
+            .setPort(Integer.getInteger("redis.port", 6379))
+            .build();
+        return new RedisClient(id, config);
+    }
+}
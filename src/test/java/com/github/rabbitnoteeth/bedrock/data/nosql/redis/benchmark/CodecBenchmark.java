@@ -0,0 +1,61 @@
+package com.github.rabbitnoteeth.bedrock.data.nosql.redis.benchmark;
+
+import com.github.rabbitnoteeth.bedrock.data.nosql.redis.RedisClient;
+import com.github.rabbitnoteeth.bedrock.data.nosql.redis.RedisClientConfig;
+import com.github.rabbitnoteeth.bedrock.data.nosql.redis.codec.LongCodec;
+import com.github.rabbitnoteeth.bedrock.data.nosql.redis.typed.TypedStringCommands;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares writing and reading a {@code long} through the String command group, converting it by hand as services do
+ * today, with the same round trip through {@link RedisClient#typed} and {@link LongCodec}. Needs a Redis server, set
+ * with {@code -Dredis.host} and {@code -Dredis.port}; the allocation difference is reported by running it with the gc
+ * profiler ({@code -prof gc}).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CodecBenchmark {
+
+    private static final String KEY = "benchmark:codec";
+
+    private RedisClient client;
+    private TypedStringCommands<String, Long> longs;
+    private long value;
+
+    @Setup
+    public void setup() throws Exception {
+        client = BenchmarkClients.create("codec-benchmark", new RedisClientConfig.Builder());
+        longs = client.typed(LongCodec.INSTANCE).string();
+    }
+
+    @TearDown
+    public void tearDown() {
+        client.key().del(KEY);
+        client.close();
+    }
+
+    @Benchmark
+    public long stringPath() {
+        client.string().set(KEY, Long.toString(++value));
+        return Long.parseLong(client.string().get(KEY));
+    }
+
+    @Benchmark
+    public long codecPath() {
+        longs.set(KEY, ++value);
+        return longs.get(KEY);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(CodecBenchmark.class.getSimpleName()).build()).run();
+    }
+}
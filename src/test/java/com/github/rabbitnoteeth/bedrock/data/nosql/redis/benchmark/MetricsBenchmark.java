@@ -0,0 +1,78 @@
+package com.github.rabbitnoteeth.bedrock.data.nosql.redis.benchmark;
+
+import com.github.rabbitnoteeth.bedrock.data.nosql.redis.RedisClient;
+import com.github.rabbitnoteeth.bedrock.data.nosql.redis.RedisClientConfig;
+import com.github.rabbitnoteeth.bedrock.data.nosql.redis.metrics.CommandMetrics;
+import com.github.rabbitnoteeth.bedrock.data.nosql.redis.metrics.SlowCommandLog;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import redis.clients.jedis.CommandArguments;
+import redis.clients.jedis.Protocol;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures what recording metrics costs a command: a GET on a client without metrics, the same GET with the metrics
+ * and the slow log enabled (with a threshold no GET reaches, so only the timing and the pool wait are paid), and the
+ * recording alone without a server. Needs a Redis server for the first two, set with {@code -Dredis.host} and
+ * {@code -Dredis.port}; run with several threads ({@code -t}) to see the contention on the shared counters.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MetricsBenchmark {
+
+    private static final String KEY = "benchmark:metrics";
+    private static final long SLOW_LOG_THRESHOLD_MICROS = 1_000_000;
+
+    private RedisClient plain;
+    private RedisClient instrumented;
+    private CommandMetrics metrics;
+    private SlowCommandLog slowLog;
+    private CommandArguments arguments;
+
+    @Setup
+    public void setup() throws Exception {
+        plain = BenchmarkClients.create("metrics-benchmark-plain", new RedisClientConfig.Builder().setMetrics(false));
+        instrumented = BenchmarkClients.create("metrics-benchmark-instrumented", new RedisClientConfig.Builder()
+            .setMetrics(true)
+            .setSlowLogThresholdMicros(SLOW_LOG_THRESHOLD_MICROS));
+        plain.string().set(KEY, "value");
+        metrics = new CommandMetrics();
+        slowLog = new SlowCommandLog(SLOW_LOG_THRESHOLD_MICROS, 1.0, 1024);
+        arguments = new CommandArguments(Protocol.Command.GET).key(KEY);
+    }
+
+    @TearDown
+    public void tearDown() {
+        plain.key().del(KEY);
+        plain.close();
+        instrumented.close();
+    }
+
+    @Benchmark
+    public String plainGet() {
+        return plain.string().get(KEY);
+    }
+
+    @Benchmark
+    public String instrumentedGet() {
+        return instrumented.string().get(KEY);
+    }
+
+    @Benchmark
+    public void recordOnly() {
+        long nanos = 50_000;
+        metrics.record(Protocol.Command.GET, nanos, false);
+        slowLog.record(arguments, nanos, 0, false);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(MetricsBenchmark.class.getSimpleName()).build()).run();
+    }
+}
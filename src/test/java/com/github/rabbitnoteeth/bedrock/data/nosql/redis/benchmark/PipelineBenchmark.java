@@ -0,0 +1,76 @@
+package com.github.rabbitnoteeth.bedrock.data.nosql.redis.benchmark;
+
+import com.github.rabbitnoteeth.bedrock.data.nosql.redis.RedisClient;
+import com.github.rabbitnoteeth.bedrock.data.nosql.redis.RedisClientConfig;
+import com.github.rabbitnoteeth.bedrock.data.nosql.redis.pipeline.RedisPipeline;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import redis.clients.jedis.Response;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares a request issuing {@code commands} GETs one call at a time with the same GETs sent through
+ * {@link RedisClient#pipeline()}. Needs a Redis server, set with {@code -Dredis.host} and {@code -Dredis.port}
+ * (localhost:6379 by default).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PipelineBenchmark {
+
+    @Param({"20", "80"})
+    private int commands;
+
+    private RedisClient client;
+    private String[] keys;
+
+    @Setup
+    public void setup() throws Exception {
+        client = BenchmarkClients.create("pipeline-benchmark", new RedisClientConfig.Builder());
+        keys = new String[commands];
+        for (int i = 0; i < commands; i++) {
+            keys[i] = "benchmark:pipeline:" + i;
+            client.string().set(keys[i], "value-" + i);
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        client.key().del(keys);
+        client.close();
+    }
+
+    @Benchmark
+    public void oneCallAtATime(Blackhole blackhole) {
+        for (String key : keys) {
+            blackhole.consume(client.string().get(key));
+        }
+    }
+
+    @Benchmark
+    public void pipelined(Blackhole blackhole) {
+        List<Response<String>> responses = new ArrayList<>(commands);
+        try (RedisPipeline pipeline = client.pipeline()) {
+            for (String key : keys) {
+                responses.add(pipeline.string().get(key));
+            }
+            pipeline.sync();
+        }
+        for (Response<String> response : responses) {
+            blackhole.consume(response.get());
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(PipelineBenchmark.class.getSimpleName()).build()).run();
+    }
+}
@@ -0,0 +1,76 @@
+package com.github.rabbitnoteeth.bedrock.data.nosql.redis.sharding;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ConsistentHashRingTest {
+
+    private static final int SHARDS = 10;
+    private static final int VIRTUAL_NODES = 160;
+    private static final int KEYS = 100_000;
+
+    @Test
+    void addingAShardOnlyMovesKeysToIt() {
+        List<String> names = names(SHARDS);
+        ConsistentHashRing before = new ConsistentHashRing(names, VIRTUAL_NODES);
+        names.add("10.0.0." + SHARDS + ":6379/0");
+        ConsistentHashRing after = new ConsistentHashRing(names, VIRTUAL_NODES);
+        int moved = 0;
+        for (int i = 0; i < KEYS; i++) {
+            String key = "key:" + i;
+            int shard = after.shardOf(key);
+            if (shard != before.shardOf(key)) {
+                assertEquals(SHARDS, shard, "a key moved between two existing shards");
+                moved++;
+            }
+        }
+        assertMovedAbout(moved, 1.0 / (SHARDS + 1));
+    }
+
+    @Test
+    void removingAShardOnlyMovesItsKeys() {
+        List<String> names = names(SHARDS);
+        ConsistentHashRing before = new ConsistentHashRing(names, VIRTUAL_NODES);
+        List<String> remaining = new ArrayList<>(names);
+        String removed = remaining.remove(3);
+        ConsistentHashRing after = new ConsistentHashRing(remaining, VIRTUAL_NODES);
+        int moved = 0;
+        for (int i = 0; i < KEYS; i++) {
+            String key = "key:" + i;
+            String owner = names.get(before.shardOf(key));
+            if (!owner.equals(remaining.get(after.shardOf(key)))) {
+                assertEquals(removed, owner, "a key of a remaining shard moved");
+                moved++;
+            }
+        }
+        assertMovedAbout(moved, 1.0 / SHARDS);
+    }
+
+    @Test
+    void keysSharingAHashTagStayTogether() {
+        ConsistentHashRing ring = new ConsistentHashRing(names(SHARDS), VIRTUAL_NODES);
+        int shard = ring.shardOf("{user:42}:profile");
+        for (int i = 0; i < 100; i++) {
+            assertEquals(shard, ring.shardOf("{user:42}:" + i));
+        }
+    }
+
+    private static void assertMovedAbout(int moved, double expectedShare) {
+        double share = (double) moved / KEYS;
+        assertTrue(share > expectedShare / 2 && share < expectedShare * 1.5,
+            "moved " + share + " of the keys, expected about " + expectedShare);
+    }
+
+    private static List<String> names(int shards) {
+        List<String> names = new ArrayList<>(shards);
+        for (int i = 0; i < shards; i++) {
+            names.add("10.0.0." + i + ":6379/0");
+        }
+        return names;
+    }
+}